@@ -1,5 +1,6 @@
 package com.coremedia.labs.translation.gcc.facade.def;
 
+import com.coremedia.labs.translation.gcc.facade.GCCircuitBreaker;
 import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
 import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
 import com.coremedia.labs.translation.gcc.facade.GCExchangeFacadeSessionProvider;
@@ -11,7 +12,9 @@ import com.coremedia.labs.translation.gcc.facade.GCFacadeException;
 import com.coremedia.labs.translation.gcc.facade.GCFacadeFileTypeConfigException;
 import com.coremedia.labs.translation.gcc.facade.GCFacadeIOException;
 import com.coremedia.labs.translation.gcc.facade.GCFacadeSubmissionNotFoundException;
+import com.coremedia.labs.translation.gcc.facade.GCFacadeUnavailableException;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionModel;
+import com.coremedia.labs.translation.gcc.facade.GCSubmissionSnapshot;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionState;
 import com.coremedia.labs.translation.gcc.facade.GCTaskModel;
 import com.coremedia.labs.translation.gcc.facade.config.GCSubmissionInstruction;
@@ -19,7 +22,7 @@ import com.coremedia.labs.translation.gcc.facade.config.GCSubmissionName;
 import com.coremedia.labs.translation.gcc.util.Settings;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
-import com.google.common.base.Suppliers;
+import com.google.common.base.Throwables;
 import com.google.common.collect.Sets;
 import com.google.common.io.ByteStreams;
 import org.gs4tr.gcc.restclient.GCConfig;
@@ -42,30 +45,52 @@ import org.gs4tr.gcc.restclient.request.UploadFileRequest;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.IllformedLocaleException;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toUnmodifiableSet;
 import static org.gs4tr.gcc.restclient.model.TaskStatus.Cancelled;
 import static org.gs4tr.gcc.restclient.model.TaskStatus.Completed;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -83,34 +108,119 @@ import static org.slf4j.LoggerFactory.getLogger;
 public class DefaultGCExchangeFacade implements GCExchangeFacade {
   private static final Logger LOG = getLogger(lookup().lookupClass());
   private static final Integer HTTP_OK = 200;
+  private static final int HTTP_SERVER_ERROR = 500;
+  /**
+   * Maximum length of arrays supported by common JVMs.
+   */
+  private static final long MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8L;
+  private static final int BUFFER_SIZE = 8192;
 
   private final Boolean isSendSubmitter;
   private final GCExchange delegate;
+  /**
+   * Provides the file type for uploads. Resolved on each upload via the
+   * shared connector metadata cache, so that changes of the file types
+   * supported by the connector are recognized by long living facades, too.
+   */
   private final Supplier<String> fileTypeSupplier;
   private final GCSubmissionName submissionName;
   private final GCSubmissionInstruction submissionInstruction;
+  private final GCConnectorMetadataCache connectorMetadataCache;
+  private final Duration connectorCacheTtl;
+  private final int downloadParallelism;
+  private final int confirmationParallelism;
+  private final GCSubmissionStatusPoller statusPoller;
+  private final Duration statusMaxAge;
+  private final int statusPageSize;
+  private final int statusMaxPages;
+  private final Duration statusTasksMaxAge;
+  private final GCRateLimiter rateLimiter;
+  private final GCRateLimiter.Limits rateLimits;
+  private final @Nullable GCConnectionKey connectionKey;
+  private final GCUploadMemoryBudget uploadMemoryBudget;
+  private final GCUploadMemoryBudget.Limits uploadLimits;
+  private final GCCircuitBreaker circuitBreaker;
+  private final GCCircuitBreaker.Config circuitBreakerConfig;
+  private final String apiUrl;
 
   /**
-   * Constructor.
+   * Creates a facade, that shares process-wide state, such as caches and
+   * limits, with all other facades created this way.
    *
-   * @param config configuration using keys as provided in {@link GCConfigProperty}.
+   * @param config          configuration using keys as provided in {@link GCConfigProperty}.
+   * @param exchangeFactory provides the {@link GCExchange} for the configured
+   *                        connection, such as a pooled one shared with other
+   *                        facades (see {@link GCExchangeFacadePool})
+   * @return facade
    * @throws GCFacadeConfigException        if configuration is incomplete
    * @throws GCFacadeCommunicationException if connection to GCC failed.
    */
-  DefaultGCExchangeFacade(Settings config) {
-    this(config, GCExchange::new);
+  static DefaultGCExchangeFacade create(Settings config, Function<GCConfig, GCExchange> exchangeFactory) {
+    return new DefaultGCExchangeFacade(config, exchangeFactory, GCConnectorMetadataCache.getInstance(), GCSubmissionStatusPoller.getInstance(), GCRateLimiter.getInstance(), GCUploadMemoryBudget.getInstance(), GCCircuitBreaker.getInstance());
   }
 
+  /**
+   * Constructor for testing purpose. Uses a connector metadata cache, a
+   * submission status poller, a rate limiter, and an upload memory budget
+   * bound to this instance, so that no state is shared with other instances.
+   * Only the circuit breaker is shared, which is disabled, unless
+   * configured.
+   *
+   * @param config          configuration using keys as provided in {@link GCConfigProperty}
+   * @param exchangeFactory factory for the {@link GCExchange} to use
+   */
   @VisibleForTesting
   DefaultGCExchangeFacade(Settings config,
                           Function<GCConfig, GCExchange> exchangeFactory) {
+    this(config,
+      exchangeFactory,
+      new GCConnectorMetadataCache(Runnable::run, Clock.systemUTC()),
+      new GCSubmissionStatusPoller(GCSubmissionStatusPoller.DEFAULT_TRACKING_TIMEOUT, Clock.systemUTC()),
+      new GCRateLimiter(Clock.systemUTC(), Thread::sleep),
+      new GCUploadMemoryBudget(),
+      GCCircuitBreaker.getInstance());
+  }
+
+  @VisibleForTesting
+  DefaultGCExchangeFacade(Settings config,
+                          Function<GCConfig, GCExchange> exchangeFactory,
+                          GCConnectorMetadataCache connectorMetadataCache,
+                          GCSubmissionStatusPoller statusPoller,
+                          GCRateLimiter rateLimiter,
+                          GCUploadMemoryBudget uploadMemoryBudget,
+                          GCCircuitBreaker circuitBreaker) {
     GCConfig gcConfig = GCConfigUtil.fromGlobalLinkConfig(config);
+    apiUrl = gcConfig.getApiUrl();
+    this.circuitBreaker = circuitBreaker;
+    circuitBreakerConfig = GCCircuitBreaker.Config.fromGlobalLinkConfig(config);
+    this.connectorMetadataCache = connectorMetadataCache;
+    this.statusPoller = statusPoller;
+    this.rateLimiter = rateLimiter;
+    this.uploadMemoryBudget = uploadMemoryBudget;
+    rateLimits = GCConfigUtil.findRateLimits(config);
+    uploadLimits = GCConfigUtil.findUploadLimits(config);
+    connectionKey = GCConnectionKey.of(gcConfig);
+    statusMaxAge = GCConfigUtil.findDuration(config, GCConfigProperty.KEY_STATUS_POLLING, GCConfigProperty.KEY_MAX_AGE)
+      .orElse(GCSubmissionStatusPoller.DEFAULT_MAX_AGE);
+    statusPageSize = GCConfigUtil.findInteger(config, GCConfigProperty.KEY_STATUS_POLLING, GCConfigProperty.KEY_PAGE_SIZE)
+      .filter(pageSize -> pageSize > 0)
+      .orElse(GCSubmissionStatusPoller.DEFAULT_PAGE_SIZE);
+    statusMaxPages = GCConfigUtil.findInteger(config, GCConfigProperty.KEY_STATUS_POLLING, GCConfigProperty.KEY_MAX_PAGES)
+      .filter(maxPages -> maxPages > 0)
+      .orElse(GCSubmissionStatusPoller.DEFAULT_MAX_PAGES);
+    statusTasksMaxAge = GCConfigUtil.findDuration(config, GCConfigProperty.KEY_STATUS_POLLING, GCConfigProperty.KEY_TASKS_MAX_AGE)
+      .orElse(GCSubmissionStatusPoller.DEFAULT_TASKS_MAX_AGE);
+    connectorCacheTtl = GCConfigUtil.findDuration(config, GCConfigProperty.KEY_CONNECTOR_CACHE_TTL)
+      .orElse(GCConnectorMetadataCache.DEFAULT_TTL);
+    downloadParallelism = GCConfigUtil.findParallelism(config, GCConfigProperty.KEY_DOWNLOAD);
+    confirmationParallelism = GCConfigUtil.findParallelism(config, GCConfigProperty.KEY_CONFIRMATION);
     isSendSubmitter = config.at(GCConfigProperty.KEY_IS_SEND_SUBMITTER).map(o -> Boolean.valueOf(String.valueOf(o))).orElse(false);
     submissionName = GCSubmissionName.fromGlobalLinkConfig(config);
     submissionInstruction = GCSubmissionInstruction.fromGlobalLinkConfig(config);
     LOG.debug("Will connect to GCC endpoint: {}", gcConfig.getApiUrl());
     try {
-      delegate = exchangeFactory.apply(gcConfig);
+      // Creating the exchange authenticates against GCC.
+      delegate = send(() -> exchangeFactory.apply(gcConfig));
       validateConnectorKey(delegate);
     } catch (GCFacadeException e) {
       throw e;
@@ -119,11 +229,10 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
     } catch (IllegalAccessError e) {
       throw new GCFacadeAccessException(e, "Cannot authenticate with API key.");
     }
-    fileTypeSupplier = Suppliers.memoize(() -> config.at(GCConfigProperty.KEY_FILE_TYPE)
+    @Nullable String configuredFileType = config.at(GCConfigProperty.KEY_FILE_TYPE)
       .map(String::valueOf)
-      .map(this::getSupportedFileType)
-      .orElseGet(() -> getSupportedFileType(null))
-    );
+      .orElse(null);
+    fileTypeSupplier = () -> getSupportedFileType(configuredFileType);
   }
 
   @VisibleForTesting
@@ -133,6 +242,24 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
     isSendSubmitter = false;
     submissionName = GCSubmissionName.DEFAULT;
     submissionInstruction = GCSubmissionInstruction.DEFAULT;
+    connectorMetadataCache = GCConnectorMetadataCache.getInstance();
+    connectorCacheTtl = Duration.ZERO;
+    downloadParallelism = GCConfigUtil.DEFAULT_PARALLELISM;
+    confirmationParallelism = GCConfigUtil.DEFAULT_PARALLELISM;
+    statusPoller = GCSubmissionStatusPoller.getInstance();
+    statusMaxAge = Duration.ZERO;
+    statusPageSize = GCSubmissionStatusPoller.DEFAULT_PAGE_SIZE;
+    statusMaxPages = GCSubmissionStatusPoller.DEFAULT_MAX_PAGES;
+    statusTasksMaxAge = GCSubmissionStatusPoller.DEFAULT_TASKS_MAX_AGE;
+    rateLimiter = GCRateLimiter.getInstance();
+    rateLimits = GCRateLimiter.Limits.DISABLED;
+    connectionKey = null;
+    uploadMemoryBudget = GCUploadMemoryBudget.getInstance();
+    uploadLimits = GCUploadMemoryBudget.Limits.DISABLED;
+    circuitBreaker = GCCircuitBreaker.getInstance();
+    circuitBreakerConfig = GCCircuitBreaker.Config.DISABLED;
+    // Circuit breaker is disabled, thus, the URL is only used for messages.
+    apiUrl = "";
   }
 
   /**
@@ -142,12 +269,29 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
    * <p>
    * This validation is meant to fail-fast and to prevent unexpected, hard to
    * debug states.
+   * <p>
+   * Available connector keys are cached. If the configured key is not found
+   * within the cached keys, they are loaded again once, so that connectors just
+   * added in GCC are not rejected until the cache expires.
    *
    * @param gcExchange GCC exchange instance to validate
    */
-  private static void validateConnectorKey(GCExchange gcExchange) {
-    String configuredKey = gcExchange.getConfig().getConnectorKey();
-    List<String> availableConnectorKeys = gcExchange.getConnectors().stream().map(Connector::getConnectorKey).toList();
+  private void validateConnectorKey(GCExchange gcExchange) {
+    GCConfig gcConfig = gcExchange.getConfig();
+    String configuredKey = gcConfig.getConnectorKey();
+    AtomicBoolean loaded = new AtomicBoolean();
+    Supplier<Set<String>> loader = () -> {
+      loaded.set(true);
+      return send(gcExchange::getConnectors).stream()
+        .map(Connector::getConnectorKey)
+        .filter(Objects::nonNull)
+        .collect(toUnmodifiableSet());
+    };
+    Set<String> availableConnectorKeys = connectorMetadataCache.getConnectorKeys(gcConfig, connectorCacheTtl, loader);
+    if (!availableConnectorKeys.contains(configuredKey) && !loaded.get()) {
+      connectorMetadataCache.invalidateConnectorKeys(gcConfig);
+      availableConnectorKeys = connectorMetadataCache.getConnectorKeys(gcConfig, connectorCacheTtl, loader);
+    }
     if (!availableConnectorKeys.contains(configuredKey)) {
       throw new GCFacadeConnectorKeyConfigException("Connector key is unavailable in GCC (url=%s).", gcExchange.getConfig().getApiUrl());
     }
@@ -155,25 +299,119 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
 
   @Override
   public String uploadContent(String fileName, Resource resource, @Nullable Locale sourceLocale) {
-    byte[] bytes;
-    try (InputStream stream = resource.getInputStream()) {
-      bytes = ByteStreams.toByteArray(stream);
-    } catch (IOException e) {
-      throw new GCFacadeIOException(e, "Failed to read resource: fileName=%s, resourceFileName=%s", fileName, resource.getFilename());
+    long contentLength = knownContentLength(resource);
+    if (contentLength < 0L && uploadLimits.isEnabled()) {
+      return uploadSpilledContent(fileName, resource, sourceLocale);
+    }
+    // The GCC REST client requires the contents as byte array. Large
+    // uploads reserve their size from the shared memory budget, until GCC
+    // received them.
+    try (GCUploadMemoryBudget.Reservation ignored = uploadMemoryBudget.reserve(fileName, contentLength, uploadLimits)) {
+      byte[] bytes;
+      if (resource instanceof ByteArrayResource byteArrayResource) {
+        // Already in memory, thus, upload it without copying.
+        bytes = byteArrayResource.getByteArray();
+      } else {
+        try (InputStream stream = resource.getInputStream()) {
+          bytes = readContent(stream, contentLength);
+        } catch (IOException e) {
+          throw new GCFacadeIOException(e, "Failed to read resource: fileName=%s, resourceFileName=%s", fileName, resource.getFilename());
+        }
+      }
+      try {
+        UploadFileRequest request = new UploadFileRequest(bytes, fileName, fileTypeSupplier.get());
+        if (sourceLocale != null) {
+          request.setSourceLocale(sourceLocale.toLanguageTag());
+        }
+        return send(() -> delegate.uploadContent(request));
+      } catch (GCFacadeException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        throw new GCFacadeCommunicationException(e, "Failed to upload content: %s", fileName);
+      }
     }
+  }
+
+  /**
+   * Uploads a resource of unknown length. It is copied to a temporary file
+   * first, so that its size is known and reserved from the memory budget
+   * before reading it into memory.
+   *
+   * @param fileName     file name to upload the resource as
+   * @param resource     resource of unknown length
+   * @param sourceLocale source locale of the contents
+   * @return file ID
+   */
+  private String uploadSpilledContent(String fileName, Resource resource, @Nullable Locale sourceLocale) {
+    Path file = null;
     try {
-      UploadFileRequest request = new UploadFileRequest(bytes, fileName, fileTypeSupplier.get());
-      if (sourceLocale != null) {
-        request.setSourceLocale(sourceLocale.toLanguageTag());
+      try (InputStream stream = resource.getInputStream()) {
+        file = Files.createTempFile("gcc-upload-", ".tmp");
+        Files.copy(stream, file, StandardCopyOption.REPLACE_EXISTING);
+      } catch (IOException e) {
+        throw new GCFacadeIOException(e, "Failed to read resource: fileName=%s, resourceFileName=%s", fileName, resource.getFilename());
       }
-      return delegate.uploadContent(request);
-    } catch (GCFacadeException e) {
-      throw e;
-    } catch (RuntimeException e) {
-      throw new GCFacadeCommunicationException(e, "Failed to upload content: %s", fileName);
+      return uploadContent(fileName, new FileSystemResource(file), sourceLocale);
+    } finally {
+      DownloadedTask.deleteQuietly(file);
     }
   }
 
+  /**
+   * Determines the length of the given resource, if it can be determined
+   * without reading it.
+   *
+   * @param resource resource to upload
+   * @return length in bytes; {@code -1}, if unknown
+   */
+  private static long knownContentLength(Resource resource) {
+    if (!(resource instanceof ByteArrayResource) && !resource.isFile()) {
+      // Other resources may need to read the whole stream to determine
+      // their length, which may not be possible twice.
+      return -1L;
+    }
+    try {
+      return resource.contentLength();
+    } catch (IOException e) {
+      LOG.trace("Unable to determine content length of resource: {}", resource, e);
+      return -1L;
+    }
+  }
+
+  /**
+   * Reads the contents of the given stream. If the length is known upfront,
+   * the contents are read directly into an array of the expected size, so
+   * that no intermediate buffers are required, which would double the
+   * memory required for large files temporarily.
+   *
+   * @param stream        stream to read
+   * @param contentLength expected length in bytes; negative, if unknown
+   * @return contents
+   * @throws IOException if reading fails
+   */
+  @VisibleForTesting
+  static byte[] readContent(InputStream stream, long contentLength) throws IOException {
+    if (contentLength <= 0L || contentLength > MAX_ARRAY_LENGTH) {
+      return ByteStreams.toByteArray(stream);
+    }
+    byte[] bytes = new byte[(int) contentLength];
+    int read = ByteStreams.read(stream, bytes, 0, bytes.length);
+    if (read < bytes.length) {
+      // Resource shrunk meanwhile.
+      return Arrays.copyOf(bytes, read);
+    }
+    int next = stream.read();
+    if (next == -1) {
+      return bytes;
+    }
+    // Resource grew meanwhile.
+    ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length + BUFFER_SIZE);
+    out.write(bytes);
+    out.write(next);
+    stream.transferTo(out);
+    return out.toByteArray();
+  }
+
   @Override
   public long submitSubmission(@Nullable String subject, @Nullable String comment, ZonedDateTime dueDate,
                                @Nullable String workflow, @Nullable String submitter, Locale sourceLocale,
@@ -209,8 +447,10 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
     }
 
     try {
-      SubmissionSubmit.SubmissionSubmitResponseData response = delegate.submitSubmission(request);
+      SubmissionSubmit.SubmissionSubmitResponseData response = send(() -> delegate.submitSubmission(request));
       return response.getSubmissionId();
+    } catch (GCFacadeException e) {
+      throw e;
     } catch (RuntimeException e) {
       throw new GCFacadeCommunicationException(e, "Failed to create submission: subject=%s, source-locale=%s",
         subject, sourceLocale.toLanguageTag());
@@ -219,8 +459,9 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
 
   @Override
   public int cancelSubmission(long submissionId) {
+    invalidateSubmissionStatus(submissionId);
     try {
-      MessageResponse response = delegate.cancelSubmission(submissionId);
+      MessageResponse response = send(() -> delegate.cancelSubmission(submissionId));
       if (LOG.isWarnEnabled() && !HTTP_OK.equals(response.getStatus())) {
         LOG.warn("Cannot cancel submission {}: {}", submissionId, gcResponseToString(response));
       }
@@ -230,6 +471,8 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
       // into Studio's resource bundles, the http result is the only useful data
       // here.
       return response.getStatus();
+    } catch (GCFacadeException e) {
+      throw e;
     } catch (RuntimeException e) {
       throw new GCFacadeCommunicationException(e, "Failed to cancel submission: id=%d", submissionId);
     }
@@ -275,7 +518,54 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
 
     LOG.debug("Completed Task IDs of submission {}: {}", submissionId, completedTasks);
 
-    completedTasks.forEach(task -> downloadTask(task, taskDataConsumer));
+    downloadTasks(submissionId, completedTasks, 1, taskDataConsumer);
+  }
+
+  @Override
+  public void downloadCompletedTasks(GCSubmissionSnapshot snapshot, BiPredicate<? super InputStream, ? super GCTaskModel> taskDataConsumer) {
+    if (!snapshot.isTasksIncluded()) {
+      downloadCompletedTasks(snapshot.getSubmissionId(), taskDataConsumer);
+      return;
+    }
+    Set<GCTaskModel> completedTasks = snapshot.getCompletedTasks();
+
+    LOG.debug("Completed Task IDs of submission {} (from snapshot): {}", snapshot.getSubmissionId(), completedTasks);
+
+    downloadTasks(snapshot.getSubmissionId(), completedTasks, 1, taskDataConsumer);
+  }
+
+  @Override
+  public void downloadCompletedTasks(GCSubmissionSnapshot snapshot,
+                                     int consumerParallelism,
+                                     BiPredicate<? super InputStream, ? super GCTaskModel> taskDataConsumer) {
+    Set<GCTaskModel> completedTasks = snapshot.isTasksIncluded()
+      ? snapshot.getCompletedTasks()
+      : getTasksByState(snapshot.getSubmissionId(), Completed).getOrDefault(Completed, emptySet());
+
+    LOG.debug("Completed Task IDs of submission {} (consumer parallelism {}): {}", snapshot.getSubmissionId(), consumerParallelism, completedTasks);
+
+    downloadTasks(snapshot.getSubmissionId(), completedTasks, consumerParallelism, taskDataConsumer);
+  }
+
+  private void downloadTasks(long submissionId,
+                             Collection<GCTaskModel> tasks,
+                             int consumerParallelism,
+                             BiPredicate<? super InputStream, ? super GCTaskModel> taskDataConsumer) {
+    if (tasks.isEmpty()) {
+      return;
+    }
+    try {
+      if (consumerParallelism > 1 && tasks.size() > 1) {
+        downloadAndConsumeTasksConcurrently(submissionId, tasks, consumerParallelism, taskDataConsumer);
+      } else if (downloadParallelism > 1 && tasks.size() > 1) {
+        downloadTasksConcurrently(submissionId, tasks, taskDataConsumer);
+      } else {
+        tasks.forEach(task -> downloadTask(task, taskDataConsumer));
+      }
+    } finally {
+      // Confirmed tasks may have changed the submission state.
+      invalidateSubmissionStatus(submissionId);
+    }
   }
 
   @Override
@@ -285,25 +575,200 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
 
     LOG.debug("Completed Task IDs of submission {}: {}", submissionId, completedTasks);
 
+    List<Long> taskIds = new ArrayList<>(completedTasks.size());
     for (GCTaskModel task : completedTasks) {
-      try {
-        completedLocales.add(task.getTaskLocale());
-        delegate.confirmTask(task.getTaskId());
-        LOG.debug("Confirmed delivery for the task {} of submission {}", task.getTaskId(), submissionId);
-      } catch (RuntimeException e) {
-        throw new GCFacadeCommunicationException(e, "Failed to confirm delivery for the task %s", task.getTaskId());
-      }
+      completedLocales.add(task.getTaskLocale());
+      taskIds.add(task.getTaskId());
     }
+
+    GCTaskBatch.Outcome outcome = GCTaskBatch.run(taskIds, confirmationParallelism, "gcc-confirm-" + submissionId + "-", taskId -> {
+      sendRun(() -> delegate.confirmTask(taskId));
+      LOG.debug("Confirmed delivery for the task {} of submission {}", taskId, submissionId);
+    });
+    if (!outcome.succeeded().isEmpty()) {
+      invalidateSubmissionStatus(submissionId);
+    }
+    outcome.throwOnFailure("Failed to confirm delivery for the tasks %s of submission %d (confirmed: %s)",
+      outcome.failures().keySet(), submissionId, outcome.succeeded());
   }
 
   private void downloadTask(GCTaskModel task, BiPredicate<? super InputStream, ? super GCTaskModel> taskDataConsumer) {
     long taskId = task.getTaskId();
-    try (InputStream is = delegate.downloadTask(taskId)) {
+    try (InputStream is = send(() -> delegate.downloadTask(taskId))) {
       if (taskDataConsumer.test(is, task)) {
-        delegate.confirmTask(taskId);
+        sendRun(() -> delegate.confirmTask(taskId));
+      }
+    } catch (IOException | RuntimeException e) {
+      throw new GCFacadeCommunicationException(e, "Failed to download and confirm delivery for the task %s", taskId);
+    }
+  }
+
+  /**
+   * Downloads the given tasks concurrently, bounded by the configured
+   * download parallelism.
+   * <p>
+   * Downloads are buffered in temporary files. The task data consumer is
+   * called sequentially from the calling thread, in the order the downloads
+   * finish. A task is only confirmed after the consumer accepted it.
+   * Failures of single tasks do not stop processing the other tasks. They
+   * are reported once all tasks have been processed.
+   *
+   * @param submissionId     submission the tasks belong to (for logging)
+   * @param tasks            tasks to download
+   * @param taskDataConsumer consumer for the downloaded task data
+   * @throws GCFacadeCommunicationException if any task failed to be
+   *                                        downloaded, processed, or confirmed;
+   *                                        further failures are added as
+   *                                        suppressed exceptions
+   */
+  private void downloadTasksConcurrently(long submissionId,
+                                         Collection<GCTaskModel> tasks,
+                                         BiPredicate<? super InputStream, ? super GCTaskModel> taskDataConsumer) {
+    LOG.debug("Downloading {} tasks of submission {} with parallelism {}.", tasks.size(), submissionId, downloadParallelism);
+    List<GCFacadeCommunicationException> failures = new ArrayList<>();
+    ExecutorService executor = Executors.newFixedThreadPool(
+      Math.min(downloadParallelism, tasks.size()),
+      Thread.ofVirtual().name("gcc-download-" + submissionId + "-", 0L).factory()
+    );
+    CompletionService<DownloadedTask> downloads = new ExecutorCompletionService<>(executor);
+    int pending = 0;
+    try {
+      for (GCTaskModel task : tasks) {
+        downloads.submit(() -> DownloadedTask.download(taskId -> send(() -> delegate.downloadTask(taskId)), task));
+        pending++;
+      }
+      while (pending > 0) {
+        Future<DownloadedTask> download = downloads.take();
+        pending--;
+        try {
+          consumeDownloadedTask(download.get(), taskDataConsumer);
+        } catch (ExecutionException e) {
+          failures.add(new GCFacadeCommunicationException(Objects.requireNonNullElse(e.getCause(), e), "Failed to download task of submission %d.", submissionId));
+        } catch (GCFacadeCommunicationException e) {
+          failures.add(e);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GCFacadeCommunicationException(e, "Interrupted while downloading tasks of submission %d.", submissionId);
+    } finally {
+      executor.shutdownNow();
+      executor.close();
+      // Clean up downloads not consumed because of interruption.
+      for (Future<DownloadedTask> download = downloads.poll(); download != null; download = downloads.poll()) {
+        deleteDownload(download);
+      }
+    }
+    if (!failures.isEmpty()) {
+      GCFacadeCommunicationException failure = failures.getFirst();
+      failures.stream().skip(1L).forEach(failure::addSuppressed);
+      throw failure;
+    }
+  }
+
+  /**
+   * Downloads the given tasks and passes them to the task data consumer
+   * concurrently, bounded by the given parallelism. Each task is streamed
+   * directly to the consumer and confirmed, once the consumer accepted it.
+   * Failures of single tasks do not stop processing the other tasks. They
+   * are reported once all tasks have been processed.
+   *
+   * @param submissionId        submission the tasks belong to (for logging)
+   * @param tasks               tasks to download
+   * @param consumerParallelism maximum number of tasks to process concurrently
+   * @param taskDataConsumer    thread-safe consumer for the downloaded task data
+   * @throws GCFacadeCommunicationException if any task failed to be
+   *                                        downloaded, processed, or confirmed;
+   *                                        further failures are added as
+   *                                        suppressed exceptions
+   */
+  private void downloadAndConsumeTasksConcurrently(long submissionId,
+                                                   Collection<GCTaskModel> tasks,
+                                                   int consumerParallelism,
+                                                   BiPredicate<? super InputStream, ? super GCTaskModel> taskDataConsumer) {
+    Map<Long, GCTaskModel> tasksById = tasks.stream()
+      .collect(toMap(GCTaskModel::getTaskId, Function.identity()));
+    GCTaskBatch.Outcome outcome = GCTaskBatch.run(tasksById.keySet(), consumerParallelism, "gcc-download-" + submissionId + "-",
+      taskId -> downloadTask(Objects.requireNonNull(tasksById.get(taskId)), taskDataConsumer));
+    outcome.throwOnFailure("Failed to download and confirm delivery for the tasks %s of submission %d (confirmed: %s)",
+      outcome.failures().keySet(), submissionId, outcome.succeeded());
+  }
+
+  private static void deleteDownload(Future<DownloadedTask> download) {
+    try {
+      download.get().delete();
+    } catch (ExecutionException | CancellationException e) {
+      LOG.trace("No download to clean up.", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void consumeDownloadedTask(DownloadedTask downloadedTask,
+                                     BiPredicate<? super InputStream, ? super GCTaskModel> taskDataConsumer) {
+    long taskId = downloadedTask.task().getTaskId();
+    try (InputStream is = downloadedTask.open()) {
+      if (taskDataConsumer.test(is, downloadedTask.task())) {
+        sendRun(() -> delegate.confirmTask(taskId));
       }
     } catch (IOException | RuntimeException e) {
       throw new GCFacadeCommunicationException(e, "Failed to download and confirm delivery for the task %s", taskId);
+    } finally {
+      downloadedTask.delete();
+    }
+  }
+
+  /**
+   * Task data downloaded into a temporary file.
+   *
+   * @param task    the downloaded task
+   * @param file    temporary file holding the task data; {@code null} on
+   *                failure
+   * @param failure failure during download; {@code null} on success
+   */
+  private record DownloadedTask(GCTaskModel task, @Nullable Path file, @Nullable Exception failure) {
+    private static DownloadedTask download(LongFunction<InputStream> downloader, GCTaskModel task) {
+      long taskId = task.getTaskId();
+      @Nullable Path file = null;
+      try (InputStream is = downloader.apply(taskId)) {
+        file = Files.createTempFile("gcc-task-" + taskId + "-", ".tmp");
+        Files.copy(is, file, StandardCopyOption.REPLACE_EXISTING);
+        return new DownloadedTask(task, file, null);
+      } catch (IOException | RuntimeException e) {
+        deleteQuietly(file);
+        return new DownloadedTask(task, null, e);
+      }
+    }
+
+    /**
+     * Opens the downloaded data.
+     *
+     * @return stream of the downloaded data
+     * @throws IOException if the download failed or the data cannot be read
+     */
+    private InputStream open() throws IOException {
+      if (failure instanceof IOException ioException) {
+        throw ioException;
+      }
+      if (failure instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      return Files.newInputStream(Objects.requireNonNull(file));
+    }
+
+    private void delete() {
+      deleteQuietly(file);
+    }
+
+    private static void deleteQuietly(@Nullable Path file) {
+      if (file == null) {
+        return;
+      }
+      try {
+        Files.deleteIfExists(file);
+      } catch (IOException e) {
+        LOG.debug("Failed to delete temporary file {}.", file, e);
+      }
     }
   }
 
@@ -322,26 +787,53 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
       .collect(toList());
 
     LOG.debug("Canceling Task IDs of submission {}: {}", submissionId, taskIds);
-    confirmTaskCancellations(taskIds);
+    confirmTaskCancellations(submissionId, taskIds);
   }
 
-  private void confirmTaskCancellations(List<Long> taskIds) {
+  @Override
+  public void confirmCancelledTasks(GCSubmissionSnapshot snapshot) {
+    if (!snapshot.isTasksIncluded()) {
+      confirmCancelledTasks(snapshot.getSubmissionId());
+      return;
+    }
+    List<Long> taskIds = snapshot.getUnconfirmedCancelledTasks().stream()
+      .map(GCTaskModel::getTaskId)
+      .sorted()
+      .collect(toList());
+
+    LOG.debug("Canceling Task IDs of submission {} (from snapshot): {}", snapshot.getSubmissionId(), taskIds);
+    confirmTaskCancellations(snapshot.getSubmissionId(), taskIds);
+  }
+
+  /**
+   * Confirms the cancellation of the given tasks. Confirmation is requested
+   * for all tasks, even if some of them fail. As tasks with confirmed
+   * cancellation are not requested again, only the failed tasks are
+   * retried on next invocation.
+   *
+   * @param submissionId submission the tasks belong to
+   * @param taskIds      tasks to confirm the cancellation for
+   * @throws GCFacadeCommunicationException if confirmation failed for any
+   *                                        task
+   */
+  private void confirmTaskCancellations(long submissionId, List<Long> taskIds) {
     if (taskIds.isEmpty()) {
       // We must not send a request with empty list of task IDs.
       return;
     }
 
-    for (Long taskId : taskIds) {
-      try {
-        MessageResponse messageResponse = delegate.confirmTaskCancellation(taskId);
-        if (!HTTP_OK.equals(messageResponse.getStatus())) {
-          LOG.debug("Failed to confirm task cancellation for the task {}. Will retry. Failed confirmation information: {}", taskId, messageResponse.getMessage());
-          throw new GCFacadeCommunicationException("Failed to confirm the canceled task %d", taskId);
-        }
-      } catch (RuntimeException e) {
-        throw new GCFacadeCommunicationException(e, "Failed to confirm the canceled task: %d", taskId);
+    GCTaskBatch.Outcome outcome = GCTaskBatch.run(taskIds, confirmationParallelism, "gcc-confirm-cancel-" + submissionId + "-", taskId -> {
+      MessageResponse messageResponse = send(() -> delegate.confirmTaskCancellation(taskId));
+      if (!HTTP_OK.equals(messageResponse.getStatus())) {
+        LOG.debug("Failed to confirm task cancellation for the task {}. Will retry. Failed confirmation information: {}", taskId, messageResponse.getMessage());
+        throw new GCFacadeCommunicationException("Failed to confirm the canceled task %d", taskId);
       }
+    });
+    if (!outcome.succeeded().isEmpty()) {
+      invalidateSubmissionStatus(submissionId);
     }
+    outcome.throwOnFailure("Failed to confirm the canceled tasks %s of submission %d (confirmed: %s)",
+      outcome.failures().keySet(), submissionId, outcome.succeeded());
   }
 
   /**
@@ -425,22 +917,30 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
    */
   private PageableResponseData executeRequest(TaskListRequest request, Map<TaskStatus, Set<GCTaskModel>> tasksByState) {
     return executeRequest(request, t ->
-    {
-      try {
-        Locale localeFromGCCTask = new Locale.Builder().setLanguageTag(t.getTargetLocale().getLocale()).build();
-        GCTaskModel gcTaskModel = new GCTaskModel(t.getTaskId(), localeFromGCCTask);
-        tasksByState.merge(TaskStatus.valueOf(t.getState()), Sets.newHashSet(gcTaskModel),
-          (oldValue, newValue) -> {
-            oldValue.addAll(newValue);
-            return oldValue;
-          }
-        );
-      } catch (IllformedLocaleException exception) {
-        LOG.error("Failed to convert LanguageTag tag from GCCTask with ID {}", t.getTaskId());
-        throw exception;
-      }
+      tasksByState.merge(TaskStatus.valueOf(t.getState()), Sets.newHashSet(toTaskModel(t)),
+        (oldValue, newValue) -> {
+          oldValue.addAll(newValue);
+          return oldValue;
+        }
+      )
+    );
+  }
 
-    });
+  /**
+   * Converts the given task as returned by GCC to a task model.
+   *
+   * @param task task to convert
+   * @return task model
+   * @throws IllformedLocaleException if the target locale of the task is invalid
+   */
+  private static GCTaskModel toTaskModel(GCTask task) {
+    try {
+      Locale localeFromGCCTask = new Locale.Builder().setLanguageTag(task.getTargetLocale().getLocale()).build();
+      return new GCTaskModel(task.getTaskId(), localeFromGCCTask);
+    } catch (IllformedLocaleException exception) {
+      LOG.error("Failed to convert LanguageTag tag from GCCTask with ID {}", task.getTaskId());
+      throw exception;
+    }
   }
 
   /**
@@ -452,7 +952,7 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
    * @return {@code PageableResponseData} to retrieve the total number of pages.
    */
   private PageableResponseData executeRequest(TaskListRequest request, Consumer<? super GCTask> taskConsumer) {
-    Tasks.TasksResponseData taskData = delegate.getTasksList(request);
+    Tasks.TasksResponseData taskData = send(() -> delegate.getTasksList(request));
 
     if (taskData == null) {
       taskData = new Tasks.TasksResponseData();
@@ -472,10 +972,69 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
 
   @Override
   public GCSubmissionModel getSubmission(long submissionId) {
-    GCSubmission submission = getSubmissionById(submissionId);
-    if (submission == null) {
-      throw new GCFacadeSubmissionNotFoundException("Submission not found for ID %d", submissionId);
+    GCSubmission submission = requireSubmissionById(submissionId);
+    return toSubmissionModel(submissionId, submission, () -> areAllSubmissionTasksDone(submissionId));
+  }
+
+  /**
+   * Retrieves the submission and all its tasks in one traversal. The state
+   * of the tasks is used to derive the submission state, so that, other than
+   * for {@link #getSubmission(long)}, no additional requests are required for
+   * canceled submissions.
+   * <p>
+   * If polling of submission states is enabled, the snapshot may be cached
+   * along with the polled submission, so that the tasks are not listed again,
+   * as long as the submission did not get polled again and the snapshot is
+   * younger than {@link GCConfigProperty#KEY_TASKS_MAX_AGE}.
+   */
+  @Override
+  public GCSubmissionSnapshot getSubmissionSnapshot(long submissionId) {
+    GCSubmission submission = requireSubmissionById(submissionId);
+    if (isSnapshotCachingEnabled()) {
+      GCSubmissionSnapshot cached = statusPoller.findSnapshot(delegate.getConfig(), submissionId, submission, statusTasksMaxAge);
+      if (cached != null) {
+        LOG.debug("Reusing cached snapshot of submission {}: state={}", submissionId, cached.getState());
+        return cached;
+      }
+    }
+    Map<TaskStatus, Set<GCTaskModel>> tasksByStatus = new EnumMap<>(TaskStatus.class);
+    Set<GCTaskModel> unconfirmedCancelledTasks = new HashSet<>();
+    AtomicBoolean allDone = new AtomicBoolean(true);
+    GCUtil.processAllPages(
+      () -> createTaskListRequestBase(submissionId),
+      r -> executeRequest(r, t -> {
+        TaskStatus status = TaskStatus.valueOf(t.getState());
+        GCTaskModel task = toTaskModel(t);
+        tasksByStatus.computeIfAbsent(status, s -> new HashSet<>()).add(task);
+        if (status == Cancelled && !Boolean.TRUE.equals(t.getIsCancelConfirmed())) {
+          unconfirmedCancelledTasks.add(task);
+        }
+        if (!isTaskDone(submissionId, t, status)) {
+          allDone.set(false);
+        }
+      })
+    );
+    GCSubmissionModel model = toSubmissionModel(submissionId, submission, allDone::get);
+    LOG.debug("Retrieved snapshot of submission {}: state={}, tasks={}", submissionId, model.getState(), tasksByStatus);
+    GCSubmissionSnapshot snapshot = new GCSubmissionSnapshot(model, tasksByStatus, unconfirmedCancelledTasks);
+    if (isSnapshotCachingEnabled()) {
+      statusPoller.putSnapshot(delegate.getConfig(), submissionId, submission, snapshot);
     }
+    return snapshot;
+  }
+
+  /**
+   * Converts the given submission to a submission model.
+   *
+   * @param submissionId  ID of the submission
+   * @param submission    submission as returned by GCC
+   * @param allTasksDone  provides, if all tasks of the submission are done;
+   *                      only requested for canceled submissions
+   * @return submission model
+   */
+  private static GCSubmissionModel toSubmissionModel(long submissionId,
+                                                     GCSubmission submission,
+                                                     BooleanSupplier allTasksDone) {
     GCSubmissionState state = GCSubmissionState.fromSubmissionState(submission.getStatus());
     // Fallback check on gcc-restclient update 2.4.0: Both ways to check for cancellation
     // seem to be appropriate.
@@ -489,7 +1048,7 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
        * either by confirming their cancellation or by downloading their
        * results.
        */
-      if (areAllSubmissionTasksDone(submissionId)) {
+      if (allTasksDone.getAsBoolean()) {
         state = GCSubmissionState.CANCELLATION_CONFIRMED;
       } else {
         // Interpret the canceled flag of submission as state. May be obsolete since gcc-restclient 2.4.0.
@@ -518,18 +1077,8 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
     GCUtil.processAllPages(
       () -> createTaskListRequestBase(submissionId),
       r -> executeRequest(r, t -> {
-        TaskStatus status = TaskStatus.valueOf(t.getState());
-        LOG.debug("Retrieved status \"{}\" of task {} of submission {}", status.text(), t.getTaskId(), submissionId);
-        switch (status) {
-          case Delivered -> {
-          }
-          case Cancelled -> {
-            LOG.debug("Verifying cancellation of task {} got confirmed -> {}", t.getTaskId(), t.getIsCancelConfirmed());
-            // Logical AND: Only use confirmed state, if value
-            // is still true. Otherwise, keep false state.
-            allDone.compareAndSet(true, t.getIsCancelConfirmed());
-          }
-          default -> allDone.set(false);
+        if (!isTaskDone(submissionId, t, TaskStatus.valueOf(t.getState()))) {
+          allDone.set(false);
         }
       })
     );
@@ -537,20 +1086,114 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
     return allDone.get();
   }
 
+  /**
+   * A task is considered done if it is either delivered, or its
+   * cancellation got confirmed.
+   *
+   * @param submissionId ID of submission (for logging)
+   * @param task         task to check
+   * @param status       state of the task
+   * @return {@code true} if the task is considered done; {@code false} otherwise
+   */
+  private static boolean isTaskDone(long submissionId, GCTask task, TaskStatus status) {
+    LOG.debug("Retrieved status \"{}\" of task {} of submission {}", status.text(), task.getTaskId(), submissionId);
+    return switch (status) {
+      case Delivered -> true;
+      case Cancelled -> {
+        LOG.debug("Verifying cancellation of task {} got confirmed -> {}", task.getTaskId(), task.getIsCancelConfirmed());
+        yield Boolean.TRUE.equals(task.getIsCancelConfirmed());
+      }
+      default -> false;
+    };
+  }
+
   /**
    * Retrieves the submission by ID.
    *
    * @param submissionId ID of the submission
+   * @return submission found
+   * @throws GCFacadeSubmissionNotFoundException if the submission could not be found
+   * @throws GCFacadeCommunicationException      if unable to retrieve.
+   */
+  private GCSubmission requireSubmissionById(long submissionId) {
+    GCSubmission submission = getSubmissionById(submissionId);
+    if (submission == null) {
+      throw new GCFacadeSubmissionNotFoundException("Submission not found for ID %d", submissionId);
+    }
+    return submission;
+  }
+
+  /**
+   * Retrieves the submission by ID. If polling of submission states is
+   * enabled, the submission is provided by the shared
+   * {@link GCSubmissionStatusPoller}.
+   *
+   * @param submissionId ID of the submission
    * @return submission found; {@code null} if not found
    * @throws GCFacadeCommunicationException if unable to retrieve.
    */
   private @Nullable GCSubmission getSubmissionById(long submissionId) {
+    if (!isStatusPollingEnabled()) {
+      return fetchSubmissionById(submissionId);
+    }
+    return statusPoller.getSubmission(delegate.getConfig(), submissionId, statusMaxAge, statusMaxPages, this::listSubmissions, this::fetchSubmissionById);
+  }
+
+  private boolean isStatusPollingEnabled() {
+    return !statusMaxAge.isNegative() && !statusMaxAge.isZero();
+  }
+
+  private boolean isSnapshotCachingEnabled() {
+    return isStatusPollingEnabled() && !statusTasksMaxAge.isNegative() && !statusTasksMaxAge.isZero();
+  }
+
+  /**
+   * Removes the submission from the cache of polled submission states, so
+   * that a state change triggered by this facade is visible immediately.
+   *
+   * @param submissionId ID of the submission
+   */
+  private void invalidateSubmissionStatus(long submissionId) {
+    if (isStatusPollingEnabled()) {
+      statusPoller.invalidate(delegate.getConfig(), submissionId);
+    }
+  }
+
+  /**
+   * Lists one page of the submissions of the connector. The list is not
+   * filtered by state, as the REST client does not document filtering the
+   * submission list we could rely on. The poller filters tracked submissions
+   * on the client side instead and bounds the number of pages.
+   *
+   * @param pageNumber number of page to retrieve
+   * @return response for the page
+   * @throws GCFacadeCommunicationException if unable to retrieve.
+   */
+  private Submissions.SubmissionsResponseData listSubmissions(long pageNumber) {
+    SubmissionsListRequest request = new SubmissionsListRequest();
+    request.setPageNumber(pageNumber);
+    request.setPageSize((long) statusPageSize);
+    try {
+      return send(() -> delegate.getSubmissionsList(request));
+    } catch (RuntimeException e) {
+      throw new GCFacadeCommunicationException(e, "Failed to retrieve page %d of submission list.", pageNumber);
+    }
+  }
+
+  /**
+   * Retrieves the submission by ID directly from GCC.
+   *
+   * @param submissionId ID of the submission
+   * @return submission found; {@code null} if not found
+   * @throws GCFacadeCommunicationException if unable to retrieve.
+   */
+  private @Nullable GCSubmission fetchSubmissionById(long submissionId) {
     SubmissionsListRequest request = new SubmissionsListRequest();
     request.setSubmissionId(submissionId);
     request.setPageSize(1L);
     Submissions.SubmissionsResponseData responseData;
     try {
-      responseData = delegate.getSubmissionsList(request);
+      responseData = send(() -> delegate.getSubmissionsList(request));
     } catch (RuntimeException e) {
       throw new GCFacadeCommunicationException(e, "Failed to retrieve submission list for submission ID %d", submissionId);
     }
@@ -572,16 +1215,7 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
   private String getSupportedFileType(@Nullable String configuredFileType) {
     String apiUrl = delegate.getConfig().getApiUrl();
 
-    List<String> supportedFileTypes;
-    try {
-      supportedFileTypes = delegate.getConnectorsConfig().getFileTypes();
-    } catch (RuntimeException e) {
-      throw new GCFacadeCommunicationException(e, "Failed to get GlobalLink connector configuration from %s.", apiUrl);
-    }
-
-    if (supportedFileTypes == null || supportedFileTypes.isEmpty()) {
-      throw new GCFacadeCommunicationException("No supported file types in GlobalLink connector config for %s", apiUrl);
-    }
+    List<String> supportedFileTypes = connectorMetadataCache.getFileTypes(delegate.getConfig(), connectorCacheTtl, this::loadSupportedFileTypes);
 
     String result;
     if (configuredFileType == null) {
@@ -595,10 +1229,114 @@ public class DefaultGCExchangeFacade implements GCExchangeFacade {
         "connection at %s", configuredFileType, supportedFileTypes, apiUrl);
     }
 
-    LOG.info("Using file type '{}' for uploading data to GlobalLink at {}", result, apiUrl);
+    LOG.debug("Using file type '{}' for uploading data to GlobalLink at {}", result, apiUrl);
     return result;
   }
 
+  /**
+   * Loads the file types supported by the connector from GCC.
+   *
+   * @return supported file types; never empty
+   * @throws GCFacadeCommunicationException if the connector configuration
+   *                                        cannot be retrieved or does not
+   *                                        provide any file types
+   */
+  private List<String> loadSupportedFileTypes() {
+    String apiUrl = delegate.getConfig().getApiUrl();
+
+    List<String> supportedFileTypes;
+    try {
+      supportedFileTypes = send(delegate::getConnectorsConfig).getFileTypes();
+    } catch (RuntimeException e) {
+      throw new GCFacadeCommunicationException(e, "Failed to get GlobalLink connector configuration from %s.", apiUrl);
+    }
+
+    if (supportedFileTypes == null || supportedFileTypes.isEmpty()) {
+      throw new GCFacadeCommunicationException("No supported file types in GlobalLink connector config for %s", apiUrl);
+    }
+    return List.copyOf(supportedFileTypes);
+  }
+
+  /**
+   * Sends the given single request to GCC, guarded by the shared circuit
+   * breaker and respecting the shared rate limit of the connection, if
+   * enabled.
+   * <p>
+   * Only requests, that could not be transported to GCC, and responses
+   * signaling a server error count as failure of the circuit breaker. Any
+   * other failure, like a rejection by the rate limit, or any failure while
+   * processing the response, does not.
+   *
+   * @param request request to send
+   * @param <T>     type of the response
+   * @return response
+   * @throws GCFacadeUnavailableException   if GCC is unavailable or the
+   *                                        circuit is open
+   * @throws GCFacadeCommunicationException if the rate limit does not permit
+   *                                        the request in time
+   */
+  private <T extends @Nullable Object> T send(Supplier<T> request) {
+    return circuitBreaker.call(apiUrl, circuitBreakerConfig,
+      () -> rateLimited(() -> sendUnguarded(request)),
+      DefaultGCExchangeFacade::isServerError);
+  }
+
+  /**
+   * Sends the given single request to GCC.
+   *
+   * @param request request to send
+   * @throws GCFacadeUnavailableException   if GCC is unavailable or the
+   *                                        circuit is open
+   * @throws GCFacadeCommunicationException if the rate limit does not permit
+   *                                        the request in time
+   * @see #send(Supplier)
+   */
+  private void sendRun(Runnable request) {
+    send(() -> {
+      request.run();
+      return null;
+    });
+  }
+
+  private <T extends @Nullable Object> T rateLimited(Supplier<T> request) {
+    if (connectionKey == null) {
+      return request.get();
+    }
+    return rateLimiter.call(connectionKey, rateLimits, request);
+  }
+
+  /**
+   * Sends the given request, signaling transport failures by a
+   * {@link GCFacadeUnavailableException}. The GCC REST client reports them
+   * as runtime exceptions caused by an {@link IOException}.
+   */
+  private <T extends @Nullable Object> T sendUnguarded(Supplier<T> request) {
+    try {
+      return request.get();
+    } catch (RuntimeException e) {
+      if (Throwables.getCausalChain(e).stream().anyMatch(IOException.class::isInstance)) {
+        throw new GCFacadeUnavailableException(e, "Failed to reach GCC at %s.", apiUrl);
+      }
+      throw e;
+    }
+  }
+
+  private static boolean isServerError(@Nullable Object response) {
+    @Nullable Integer status = statusOf(response);
+    return status != null && status >= HTTP_SERVER_ERROR;
+  }
+
+  /**
+   * Provides the HTTP status of the given response, as signaled by its
+   * status field.
+   *
+   * @param response response to check
+   * @return HTTP status; {@code null}, if the response provides none
+   */
+  private static @Nullable Integer statusOf(@Nullable Object response) {
+    return response instanceof GCResponse gcResponse ? gcResponse.getStatus() : null;
+  }
+
   @Override
   public GCExchange getDelegate() {
     return delegate;
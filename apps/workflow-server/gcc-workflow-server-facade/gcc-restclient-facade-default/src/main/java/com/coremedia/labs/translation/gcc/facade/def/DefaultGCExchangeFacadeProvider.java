@@ -19,9 +19,17 @@ public class DefaultGCExchangeFacadeProvider implements GCExchangeFacadeProvider
     return true;
   }
 
+  /**
+   * Provides a facade for the given settings. Connections to GCC are pooled
+   * and reused as long as the connection settings do not change (see
+   * {@link GCExchangeFacadePool}).
+   *
+   * @param settings settings to create the facade with
+   * @return facade for the given settings
+   */
   @Override
   public GCExchangeFacade getFacade(Settings settings) {
-    return new DefaultGCExchangeFacade(settings);
+    return GCExchangeFacadePool.getInstance().getFacade(settings);
   }
 
 }
@@ -3,6 +3,7 @@ package com.coremedia.labs.translation.gcc.facade.def;
 import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
 import com.coremedia.labs.translation.gcc.facade.GCFacadeConfigException;
 import com.coremedia.labs.translation.gcc.util.Settings;
+import com.coremedia.labs.translation.gcc.util.SettingsParser;
 import com.google.common.annotations.VisibleForTesting;
 import org.gs4tr.gcc.restclient.GCConfig;
 import org.gs4tr.gcc.restclient.GCExchange;
@@ -10,6 +11,7 @@ import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import static java.lang.invoke.MethodHandles.lookup;
@@ -35,6 +37,19 @@ enum GCConfigUtil {
   @VisibleForTesting
   static final String USER_AGENT = lookup().lookupClass().getPackage().getName();
 
+  /**
+   * Default parallelism, denoting sequential processing.
+   */
+  @VisibleForTesting
+  static final int DEFAULT_PARALLELISM = 1;
+
+  /**
+   * Upper bound for configurable parallelism, to protect GCC from too many
+   * concurrent requests.
+   */
+  @VisibleForTesting
+  static final int MAX_PARALLELISM = 16;
+
   /**
    * Returns the provider for GCConfig based on the given
    * {@link GCConfig} configuration (sub-struct).
@@ -114,15 +129,125 @@ enum GCConfigUtil {
    * an empty Optional if the key is not present or if the value cannot be
    * parsed as an integer.
    *
-   * @param config the config to search in
-   * @param key    the key to search for
+   * @param config     the config to search in
+   * @param key        the key to search for
+   * @param nestedKeys optional keys to search for within nested structs
    * @return an Optional containing the integer value if found and parsable, or
    * an empty Optional if not found or not parsable
    */
   @SuppressWarnings("NullableProblems") // false-positive in IntelliJ Idea
-  private static Optional<Integer> findInteger(Settings config, String key) {
-    return config.at(key)
-      .map(GCConfigUtil::tryParse);
+  static Optional<Integer> findInteger(Settings config, String key, String... nestedKeys) {
+    return SettingsParser.findInteger(config, key, nestedKeys);
+  }
+
+  /**
+   * Determines the parallelism configured within the given struct. Values
+   * are saturated to be within {@link #DEFAULT_PARALLELISM} and
+   * {@link #MAX_PARALLELISM}. Missing or unparsable values result in
+   * {@link #DEFAULT_PARALLELISM}.
+   *
+   * @param config    the config to search in
+   * @param structKey the key of the struct containing
+   *                  {@link GCConfigProperty#KEY_PARALLELISM}
+   * @return parallelism to apply
+   * @since 2512.1.0-1
+   */
+  static int findParallelism(Settings config, String structKey) {
+    int parallelism = findInteger(config, structKey, GCConfigProperty.KEY_PARALLELISM)
+      .orElse(DEFAULT_PARALLELISM);
+    return Math.clamp(parallelism, DEFAULT_PARALLELISM, MAX_PARALLELISM);
+  }
+
+  /**
+   * Determines the rate limits configured within
+   * {@link GCConfigProperty#KEY_RATE_LIMIT}. Missing, unparsable, or
+   * non-positive requests per second disable rate limiting. The burst
+   * defaults to the requests per second, the maximum wait time to
+   * {@link GCRateLimiter#DEFAULT_MAX_WAIT}.
+   *
+   * @param config the config to search in
+   * @return rate limits to apply
+   * @since 2512.1.0-1
+   */
+  static GCRateLimiter.Limits findRateLimits(Settings config) {
+    int requestsPerSecond = findInteger(config, GCConfigProperty.KEY_RATE_LIMIT, GCConfigProperty.KEY_REQUESTS_PER_SECOND)
+      .orElse(0);
+    if (requestsPerSecond <= 0) {
+      return GCRateLimiter.Limits.DISABLED;
+    }
+    int burst = findInteger(config, GCConfigProperty.KEY_RATE_LIMIT, GCConfigProperty.KEY_BURST)
+      .filter(value -> value > 0)
+      .orElse(requestsPerSecond);
+    Duration maxWait = findDuration(config, GCConfigProperty.KEY_RATE_LIMIT, GCConfigProperty.KEY_MAX_WAIT)
+      .filter(value -> !value.isNegative())
+      .orElse(GCRateLimiter.DEFAULT_MAX_WAIT);
+    return new GCRateLimiter.Limits(requestsPerSecond, burst, maxWait);
+  }
+
+  /**
+   * Determines the upload limits configured within
+   * {@link GCConfigProperty#KEY_UPLOAD}. Missing, unparsable, or
+   * non-positive memory budgets disable the limits. The in-memory threshold
+   * defaults to {@link GCUploadMemoryBudget#DEFAULT_IN_MEMORY_THRESHOLD},
+   * the maximum wait time to {@link GCUploadMemoryBudget#DEFAULT_MAX_WAIT}.
+   *
+   * @param config the config to search in
+   * @return upload limits to apply
+   * @since 2512.1.0-1
+   */
+  static GCUploadMemoryBudget.Limits findUploadLimits(Settings config) {
+    long budget = findDataSize(config, GCConfigProperty.KEY_UPLOAD, GCConfigProperty.KEY_MEMORY_BUDGET)
+      .orElse(0L);
+    if (budget <= 0L) {
+      return GCUploadMemoryBudget.Limits.DISABLED;
+    }
+    long inMemoryThreshold = findDataSize(config, GCConfigProperty.KEY_UPLOAD, GCConfigProperty.KEY_IN_MEMORY_THRESHOLD)
+      .filter(value -> value >= 0L)
+      .orElse(GCUploadMemoryBudget.DEFAULT_IN_MEMORY_THRESHOLD);
+    Duration maxWait = findDuration(config, GCConfigProperty.KEY_UPLOAD, GCConfigProperty.KEY_MAX_WAIT)
+      .filter(value -> !value.isNegative())
+      .orElse(GCUploadMemoryBudget.DEFAULT_MAX_WAIT);
+    return new GCUploadMemoryBudget.Limits(inMemoryThreshold, budget, maxWait);
+  }
+
+  /**
+   * Try to find a data size in bytes for the given key in the given config.
+   * Returns an empty Optional if the key is not present or if the value
+   * cannot be parsed as a data size.
+   * <p>
+   * Numbers are interpreted as bytes. Strings may either denote a number
+   * of bytes or a data size with unit like {@code 16MB}.
+   *
+   * @param config     the config to search in
+   * @param key        the key to search for
+   * @param nestedKeys optional keys to search for within nested structs
+   * @return an Optional containing the number of bytes if found and
+   * parsable, or an empty Optional if not found or not parsable
+   * @since 2512.1.0-1
+   */
+  @SuppressWarnings("NullableProblems") // false-positive in IntelliJ Idea
+  static Optional<Long> findDataSize(Settings config, String key, String... nestedKeys) {
+    return SettingsParser.findDataSize(config, key, nestedKeys);
+  }
+
+  /**
+   * Try to find a duration value for the given key in the given config.
+   * Returns an empty Optional if the key is not present or if the value
+   * cannot be parsed as a duration.
+   * <p>
+   * Numbers are interpreted as seconds. Strings may either denote a number
+   * of seconds or a duration with unit like {@code 10m} or {@code 1h}.
+   *
+   * @param config     the config to search in
+   * @param key        the key to search for
+   * @param nestedKeys optional keys to search for within nested structs
+   * @return an Optional containing the duration if found and parsable, or
+   * an empty Optional if not found or not parsable
+   * @since 2512.1.0-1
+   */
+  @SuppressWarnings("NullableProblems") // false-positive in IntelliJ Idea
+  static Optional<Duration> findDuration(Settings config, String key, String... nestedKeys) {
+    return SettingsParser.findDuration(config, key, nestedKeys);
   }
 
   /**
@@ -136,25 +261,6 @@ enum GCConfigUtil {
    */
   @VisibleForTesting
   static @Nullable Integer tryParse(@Nullable Object value) {
-    switch (value) {
-      case null -> {
-        return null;
-      }
-      case Integer intValue -> {
-        return intValue;
-      }
-      case String stringValue -> {
-        try {
-          return Integer.parseInt(stringValue);
-        } catch (NumberFormatException e) {
-          LOG.trace("Unable to parse integer from string {}.", stringValue, e);
-          return null;
-        }
-      }
-      default -> {
-        LOG.trace("Unexpected type {} to parse integer from value: {}.", value.getClass(), value);
-        return null;
-      }
-    }
+    return SettingsParser.parseInteger(value);
   }
 }
@@ -0,0 +1,43 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.google.common.hash.Hashing;
+import org.gs4tr.gcc.restclient.GCConfig;
+import org.jspecify.annotations.NullMarked;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Identifies a connection to GCC for process-wide caches shared among
+ * facades.
+ * <p>
+ * The API key is part of the key (as hash), so that a facade created with
+ * different credentials never succeeds based on data fetched with other
+ * credentials.
+ *
+ * @param apiUrl       API URL of the GCC endpoint
+ * @param connectorKey connector key
+ * @param apiKeyHash   hash of the API key
+ * @since 2512.1.0-1
+ */
+@NullMarked
+record GCConnectionKey(String apiUrl, String connectorKey, String apiKeyHash) {
+  /**
+   * Creates the key for the given configuration.
+   *
+   * @param config configuration of the connection
+   * @return key
+   */
+  static GCConnectionKey of(GCConfig config) {
+    return new GCConnectionKey(
+      String.valueOf(config.getApiUrl()),
+      String.valueOf(config.getConnectorKey()),
+      Hashing.sha256().hashString(String.valueOf(config.getApiKey()), StandardCharsets.UTF_8).toString()
+    );
+  }
+
+  @Override
+  public String toString() {
+    // Do not expose the API key hash via logging.
+    return "%s[apiUrl=%s, connectorKey=%s]".formatted(getClass().getSimpleName(), apiUrl, connectorKey);
+  }
+}
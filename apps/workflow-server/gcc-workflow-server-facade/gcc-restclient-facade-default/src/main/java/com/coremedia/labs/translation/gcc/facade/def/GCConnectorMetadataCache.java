@@ -0,0 +1,236 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.gs4tr.gcc.restclient.GCConfig;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Process-wide cache for connector metadata, that rarely changes, but is
+ * required by every new facade: The connector keys available in GCC (to
+ * validate the configured connector key) and the file types supported by
+ * the connector.
+ * <p>
+ * Entries are cached per API URL and connector key. The API key is part of
+ * the cache key, too (as hash), so that a facade created with different
+ * credentials never succeeds based on metadata fetched with other
+ * credentials.
+ * <p>
+ * Entries live for a given time to live (TTL). Once an entry reached
+ * {@link #REFRESH_AHEAD_FACTOR} of its TTL, the next access triggers a
+ * refresh in background, while still answering with the cached value. This
+ * keeps the metadata calls off the critical path of upload and download
+ * actions. Failures are never cached: A failed synchronous load is
+ * propagated to the caller, a failed background refresh keeps the current
+ * entry until it expires.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class GCConnectorMetadataCache {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  /**
+   * Default time to live for cached entries.
+   */
+  @VisibleForTesting
+  static final Duration DEFAULT_TTL = Duration.ofMinutes(10L);
+
+  /**
+   * Fraction of the time to live, after which an entry gets refreshed in
+   * background on next access.
+   */
+  @VisibleForTesting
+  static final double REFRESH_AHEAD_FACTOR = 0.8d;
+
+  private static final GCConnectorMetadataCache INSTANCE = new GCConnectorMetadataCache(
+    Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+      .setNameFormat("gcc-connector-metadata-refresh-%d")
+      .setDaemon(true)
+      .build()),
+    Clock.systemUTC()
+  );
+
+  private final ConcurrentMap<GCConnectionKey, Entry<Set<String>>> connectorKeys = new ConcurrentHashMap<>();
+  private final ConcurrentMap<GCConnectionKey, Entry<List<String>>> fileTypes = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder refreshes = new LongAdder();
+  private final LongAdder refreshFailures = new LongAdder();
+  private final Executor refreshExecutor;
+  private final Clock clock;
+
+  @VisibleForTesting
+  GCConnectorMetadataCache(Executor refreshExecutor, Clock clock) {
+    this.refreshExecutor = requireNonNull(refreshExecutor);
+    this.clock = requireNonNull(clock);
+  }
+
+  /**
+   * Returns the process-wide cache instance.
+   *
+   * @return cache instance
+   */
+  static GCConnectorMetadataCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the connector keys available in GCC.
+   *
+   * @param config configuration of the connection, used as cache key
+   * @param ttl    time to live for a newly loaded entry; zero or negative
+   *               durations bypass the cache
+   * @param loader loader to retrieve the connector keys from GCC
+   * @return available connector keys
+   */
+  Set<String> getConnectorKeys(GCConfig config, Duration ttl, Supplier<? extends Set<String>> loader) {
+    return get(connectorKeys, GCConnectionKey.of(config), ttl, loader);
+  }
+
+  /**
+   * Removes the cached connector keys for the given configuration, so that
+   * the next request loads them again.
+   *
+   * @param config configuration of the connection, used as cache key
+   */
+  void invalidateConnectorKeys(GCConfig config) {
+    connectorKeys.remove(GCConnectionKey.of(config));
+  }
+
+  /**
+   * Returns the file types supported by the connector.
+   *
+   * @param config configuration of the connection, used as cache key
+   * @param ttl    time to live for a newly loaded entry; zero or negative
+   *               durations bypass the cache
+   * @param loader loader to retrieve the supported file types from GCC
+   * @return supported file types
+   */
+  List<String> getFileTypes(GCConfig config, Duration ttl, Supplier<? extends List<String>> loader) {
+    return get(fileTypes, GCConnectionKey.of(config), ttl, loader);
+  }
+
+  /**
+   * Returns a snapshot of the cache statistics.
+   *
+   * @return cache statistics
+   */
+  Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), refreshes.sum(), refreshFailures.sum());
+  }
+
+  /**
+   * Removes all entries and resets the statistics.
+   */
+  @VisibleForTesting
+  void clear() {
+    connectorKeys.clear();
+    fileTypes.clear();
+    hits.reset();
+    misses.reset();
+    refreshes.reset();
+    refreshFailures.reset();
+  }
+
+  private <V> V get(ConcurrentMap<GCConnectionKey, Entry<V>> entries, GCConnectionKey key, Duration ttl, Supplier<? extends V> loader) {
+    if (ttl.isNegative() || ttl.isZero()) {
+      return loader.get();
+    }
+    Instant now = clock.instant();
+    Entry<V> entry = entries.get(key);
+    if (entry != null && entry.isValidAt(now)) {
+      hits.increment();
+      if (entry.isRefreshDueAt(now)) {
+        refreshAhead(entries, key, entry, ttl, loader);
+      }
+      return entry.value;
+    }
+    misses.increment();
+    V value = loader.get();
+    entries.put(key, new Entry<>(value, now, ttl));
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Loaded connector metadata for {} ({}).", key.apiUrl(), stats());
+    }
+    return value;
+  }
+
+  private <V> void refreshAhead(ConcurrentMap<GCConnectionKey, Entry<V>> entries,
+                                GCConnectionKey key,
+                                Entry<V> entry,
+                                Duration ttl,
+                                Supplier<? extends V> loader) {
+    if (!entry.refreshing.compareAndSet(false, true)) {
+      // Some other request already triggered the refresh.
+      return;
+    }
+    try {
+      refreshExecutor.execute(() -> {
+        try {
+          V value = loader.get();
+          entries.replace(key, entry, new Entry<>(value, clock.instant(), ttl));
+          refreshes.increment();
+        } catch (RuntimeException | IllegalAccessError e) {
+          refreshFailures.increment();
+          entry.refreshing.set(false);
+          LOG.debug("Failed to refresh connector metadata for {}. Keeping current entry until it expires.", key.apiUrl(), e);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      entry.refreshing.set(false);
+      LOG.debug("Failed to schedule refresh of connector metadata for {}.", key.apiUrl(), e);
+    }
+  }
+
+  /**
+   * Statistics of the cache.
+   *
+   * @param hits            number of requests answered from the cache
+   * @param misses          number of requests that required to load the
+   *                        metadata from GCC
+   * @param refreshes       number of successful background refreshes
+   * @param refreshFailures number of failed background refreshes
+   */
+  record Stats(long hits, long misses, long refreshes, long refreshFailures) {
+  }
+
+  private static final class Entry<V> {
+    private final V value;
+    private final Instant refreshAt;
+    private final Instant expiresAt;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private Entry(V value, Instant loadedAt, Duration ttl) {
+      this.value = value;
+      refreshAt = loadedAt.plusMillis(Math.round(ttl.toMillis() * REFRESH_AHEAD_FACTOR));
+      expiresAt = loadedAt.plus(ttl);
+    }
+
+    private boolean isValidAt(Instant instant) {
+      return instant.isBefore(expiresAt);
+    }
+
+    private boolean isRefreshDueAt(Instant instant) {
+      return !instant.isBefore(refreshAt);
+    }
+  }
+}
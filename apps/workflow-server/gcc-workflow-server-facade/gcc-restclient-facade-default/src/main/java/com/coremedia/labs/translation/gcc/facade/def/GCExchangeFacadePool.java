@@ -0,0 +1,285 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
+import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
+import com.coremedia.labs.translation.gcc.facade.GCFacadeAccessException;
+import com.coremedia.labs.translation.gcc.facade.GCFacadeConnectorKeyConfigException;
+import com.coremedia.labs.translation.gcc.util.Settings;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import org.gs4tr.gcc.restclient.GCConfig;
+import org.gs4tr.gcc.restclient.GCExchange;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Pool of connections to GCC, keyed by a fingerprint of the connection
+ * settings.
+ * <p>
+ * Creating a {@link DefaultGCExchangeFacade} is expensive, as setting up the
+ * {@link GCExchange} authenticates against GCC. As workflow actions open a
+ * session on each execution, the exchange is reused as long as the
+ * connection settings do not change. The fingerprint only covers the
+ * connection settings, that is, the API URL, the API key, the connector key,
+ * and the retry settings of the REST client (see {@link #CONNECTION_KEYS}).
+ * Each request gets a new facade on top of the pooled exchange, so that
+ * changes to any other settings take effect immediately.
+ * <p>
+ * Exchanges are evicted from the pool, if not requested for the idle timeout,
+ * or once they reached the maximum age, regardless of their use. They are
+ * evicted immediately, if creating a facade signals an invalid connector key
+ * ({@link GCFacadeConnectorKeyConfigException}) or a failed authentication
+ * ({@link GCFacadeAccessException}), so that the next request connects
+ * again.
+ * <p>
+ * Exchanges are created outside any lock of the pool, so that connecting
+ * does not block requests for other settings. Concurrent requests for the
+ * same connection wait for the pending exchange instead of creating another
+ * one. Exchanges that fail to be created are not pooled.
+ * <p>
+ * Pooled exchanges are used by concurrent facades. The GCC REST client does
+ * not document, that {@link GCExchange} is thread-safe, and nothing within
+ * this project verifies it. Sharing relies on the client sending each
+ * request independently, based on the configuration it got created with.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class GCExchangeFacadePool {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  /**
+   * Time after which exchanges not requested anymore are evicted from the
+   * pool.
+   */
+  @VisibleForTesting
+  static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofHours(1L);
+
+  /**
+   * Time after which exchanges are evicted from the pool, regardless of
+   * their use.
+   */
+  @VisibleForTesting
+  static final Duration DEFAULT_MAX_AGE = Duration.ofHours(8L);
+
+  /**
+   * Settings, that make up the fingerprint of a connection.
+   */
+  @VisibleForTesting
+  static final List<String> CONNECTION_KEYS = List.of(
+    GCConfigProperty.KEY_URL,
+    GCConfigProperty.KEY_API_KEY,
+    GCConfigProperty.KEY_KEY,
+    GCConfigProperty.KEY_MAX_RETRIES_ON_SERVICE_UNAVAILABLE,
+    GCConfigProperty.KEY_MAX_RETRIES_ON_REQUEST_ERRORS
+  );
+
+  private static final GCExchangeFacadePool INSTANCE =
+    new GCExchangeFacadePool(DefaultGCExchangeFacade::create, GCExchange::new, DEFAULT_IDLE_TIMEOUT, DEFAULT_MAX_AGE, Clock.systemUTC());
+
+  /**
+   * Length of the fingerprint prefix used for logging.
+   */
+  private static final int FINGERPRINT_LOG_LENGTH = 8;
+
+  private final ConcurrentMap<String, PooledExchange> exchanges = new ConcurrentHashMap<>();
+  private final BiFunction<? super Settings, Function<GCConfig, GCExchange>, ? extends GCExchangeFacade> facadeFactory;
+  private final Function<GCConfig, GCExchange> exchangeFactory;
+  private final Duration idleTimeout;
+  private final Duration maxAge;
+  private final Clock clock;
+
+  /**
+   * Constructor.
+   *
+   * @param facadeFactory   creates a facade for the given settings, using
+   *                        the given provider for the exchange
+   * @param exchangeFactory creates a new exchange for the given configuration
+   * @param idleTimeout     time after which unused exchanges are evicted
+   * @param maxAge          time after which exchanges are evicted, regardless
+   *                        of their use
+   * @param clock           clock to determine idle and expired exchanges
+   */
+  @VisibleForTesting
+  GCExchangeFacadePool(BiFunction<? super Settings, Function<GCConfig, GCExchange>, ? extends GCExchangeFacade> facadeFactory,
+                       Function<GCConfig, GCExchange> exchangeFactory,
+                       Duration idleTimeout,
+                       Duration maxAge,
+                       Clock clock) {
+    this.facadeFactory = requireNonNull(facadeFactory);
+    this.exchangeFactory = requireNonNull(exchangeFactory);
+    this.idleTimeout = requireNonNull(idleTimeout);
+    this.maxAge = requireNonNull(maxAge);
+    this.clock = requireNonNull(clock);
+  }
+
+  /**
+   * Returns the process-wide pool instance.
+   *
+   * @return pool instance
+   */
+  static GCExchangeFacadePool getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Provides a facade for the given settings. If an exchange for equal
+   * connection settings is available in the pool, the facade uses it.
+   * Otherwise, a new exchange is created and added to the pool.
+   *
+   * @param settings settings to create the facade with
+   * @return facade for the given settings
+   * @throws com.coremedia.labs.translation.gcc.facade.GCFacadeException
+   *         if the facade cannot be created
+   */
+  GCExchangeFacade getFacade(Settings settings) {
+    Instant now = clock.instant();
+    evictExpired(now);
+    String fingerprint = fingerprint(settings);
+    try {
+      return facadeFactory.apply(settings, gcConfig -> getExchange(fingerprint, gcConfig, now));
+    } catch (GCFacadeConnectorKeyConfigException | GCFacadeAccessException e) {
+      if (exchanges.remove(fingerprint) != null) {
+        LOG.debug("Evicting exchange for settings fingerprint {}, as the connection got rejected: {}",
+          abbreviate(fingerprint), e.getMessage());
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Removes all exchanges from the pool.
+   */
+  @VisibleForTesting
+  void clear() {
+    exchanges.clear();
+  }
+
+  /**
+   * Number of exchanges currently held in the pool.
+   *
+   * @return number of pooled exchanges
+   */
+  @VisibleForTesting
+  int size() {
+    return exchanges.size();
+  }
+
+  private GCExchange getExchange(String fingerprint, GCConfig gcConfig, Instant now) {
+    PooledExchange created = new PooledExchange(now);
+    PooledExchange existing = exchanges.putIfAbsent(fingerprint, created);
+    if (existing != null) {
+      existing.touch(now);
+      return existing.await();
+    }
+    LOG.debug("Creating new exchange for settings fingerprint {}.", abbreviate(fingerprint));
+    try {
+      GCExchange exchange = exchangeFactory.apply(gcConfig);
+      created.exchange.complete(exchange);
+      return exchange;
+    } catch (RuntimeException | Error e) {
+      exchanges.remove(fingerprint, created);
+      created.exchange.completeExceptionally(e);
+      throw e;
+    }
+  }
+
+  private void evictExpired(Instant now) {
+    Instant idleThreshold = now.minus(idleTimeout);
+    Instant ageThreshold = now.minus(maxAge);
+    exchanges.entrySet().removeIf(entry -> {
+      PooledExchange pooled = entry.getValue();
+      boolean expired = pooled.isIdleSince(idleThreshold) || pooled.isCreatedBefore(ageThreshold);
+      if (expired) {
+        LOG.debug("Evicting expired exchange for settings fingerprint {}.", abbreviate(entry.getKey()));
+      }
+      return expired;
+    });
+  }
+
+  /**
+   * Calculates a fingerprint of the connection settings within the given
+   * settings. Equal connection settings result in the same fingerprint,
+   * regardless of any other settings.
+   * <p>
+   * A hash is used rather than the settings themselves, so that
+   * credentials do not leak via logging.
+   *
+   * @param settings settings to calculate the fingerprint for
+   * @return fingerprint
+   */
+  @VisibleForTesting
+  static String fingerprint(Settings settings) {
+    Map<String, String> connection = new TreeMap<>();
+    for (String key : CONNECTION_KEYS) {
+      settings.at(key).ifPresent(value -> connection.put(key, String.valueOf(value)));
+    }
+    return Hashing.sha256()
+      .hashString(String.valueOf(connection), StandardCharsets.UTF_8)
+      .toString();
+  }
+
+  private static String abbreviate(String fingerprint) {
+    return fingerprint.substring(0, Math.min(FINGERPRINT_LOG_LENGTH, fingerprint.length()));
+  }
+
+  private static final class PooledExchange {
+    /**
+     * Completed by the thread creating the exchange.
+     */
+    private final CompletableFuture<GCExchange> exchange = new CompletableFuture<>();
+    private final Instant createdAt;
+    private volatile Instant lastAccess;
+
+    private PooledExchange(Instant createdAt) {
+      this.createdAt = createdAt;
+      lastAccess = createdAt;
+    }
+
+    private GCExchange await() {
+      try {
+        return exchange.join();
+      } catch (CompletionException e) {
+        // Signal the same failure as the creating thread, such as an
+        // IllegalAccessError for an invalid API key.
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        if (e.getCause() instanceof Error cause) {
+          throw cause;
+        }
+        throw e;
+      }
+    }
+
+    private void touch(Instant now) {
+      lastAccess = now;
+    }
+
+    private boolean isIdleSince(Instant threshold) {
+      return lastAccess.isBefore(threshold);
+    }
+
+    private boolean isCreatedBefore(Instant threshold) {
+      return createdAt.isBefore(threshold);
+    }
+  }
+}
@@ -0,0 +1,276 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import com.google.common.annotations.VisibleForTesting;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Process-wide, client-side rate limiter for requests to GCC.
+ * <p>
+ * All GlobalLink workflow actions communicate with GCC independently of each
+ * other. Especially after a restart of the Workflow Server, many of them
+ * send their requests at the same time. This limiter coordinates the
+ * requests of all facades connecting to the same API URL with the same
+ * connector key using a token bucket: Up to {@code burst} requests pass
+ * immediately, further requests are delayed to match the configured
+ * {@code requestsPerSecond}. Requests that would have to wait longer than
+ * {@code maxWait} fail fast with a {@link GCFacadeCommunicationException},
+ * so that the workflow retries them later instead of blocking its thread.
+ * <p>
+ * The limiter is a plain throttle, configured to stay below the quota
+ * granted by GCC. It does not react to GCC signaling too many requests, as
+ * the GCC REST client exposes neither response headers nor the HTTP status
+ * of failed requests.
+ * <p>
+ * Whenever requests get delayed or rejected, the statistics are logged at
+ * {@code INFO} level, at most once per {@link #REPORT_INTERVAL}.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class GCRateLimiter {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  /**
+   * Minimum time between two reports of the statistics.
+   */
+  @VisibleForTesting
+  static final Duration REPORT_INTERVAL = Duration.ofMinutes(5L);
+
+  /**
+   * Default maximum time to wait for a permit, before failing fast.
+   */
+  static final Duration DEFAULT_MAX_WAIT = Duration.ofMinutes(1L);
+
+  private static final GCRateLimiter INSTANCE = new GCRateLimiter(Clock.systemUTC(), Thread::sleep);
+
+  private final ConcurrentMap<GCConnectionKey, Bucket> buckets = new ConcurrentHashMap<>();
+  private final LongAdder permits = new LongAdder();
+  private final LongAdder delayed = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+  private final AtomicReference<@Nullable Instant> lastReport = new AtomicReference<>();
+  private final Clock clock;
+  private final Sleeper sleeper;
+
+  @VisibleForTesting
+  GCRateLimiter(Clock clock, Sleeper sleeper) {
+    this.clock = requireNonNull(clock);
+    this.sleeper = requireNonNull(sleeper);
+  }
+
+  /**
+   * Returns the process-wide rate limiter instance.
+   *
+   * @return rate limiter instance
+   */
+  static GCRateLimiter getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Sends the given request, once permitted by the rate limit of the given
+   * connection.
+   *
+   * @param key     connection to send the request for
+   * @param limits  limits to apply; requests are sent immediately, if
+   *                disabled
+   * @param request request to send
+   * @param <T>     type of the response
+   * @return response of the request
+   * @throws GCFacadeCommunicationException if the request would need to wait
+   *                                        longer than the maximum wait time,
+   *                                        or if interrupted while waiting
+   */
+  <T extends @Nullable Object> T call(GCConnectionKey key, Limits limits, Supplier<T> request) {
+    if (!limits.isEnabled()) {
+      return request.get();
+    }
+    acquire(key, limits);
+    return request.get();
+  }
+
+  /**
+   * Returns the number of requests currently waiting for a permit of the
+   * given connection.
+   *
+   * @param key connection
+   * @return number of waiting requests
+   */
+  int queueDepth(GCConnectionKey key) {
+    Bucket bucket = buckets.get(key);
+    return bucket == null ? 0 : bucket.waiting.get();
+  }
+
+  /**
+   * Returns a snapshot of the rate limiter statistics.
+   *
+   * @return rate limiter statistics
+   */
+  Stats stats() {
+    int queueDepth = buckets.values().stream().mapToInt(bucket -> bucket.waiting.get()).sum();
+    return new Stats(permits.sum(), delayed.sum(), rejected.sum(), queueDepth, Duration.ofNanos(waitNanos.sum()));
+  }
+
+  /**
+   * Removes all buckets and resets the statistics.
+   */
+  @VisibleForTesting
+  void clear() {
+    buckets.clear();
+    permits.reset();
+    delayed.reset();
+    rejected.reset();
+    waitNanos.reset();
+    lastReport.set(null);
+  }
+
+  private Bucket bucket(GCConnectionKey key) {
+    return buckets.computeIfAbsent(key, k -> new Bucket());
+  }
+
+  private void acquire(GCConnectionKey key, Limits limits) {
+    Bucket bucket = bucket(key);
+    Duration wait = bucket.reserve(limits, clock.instant());
+    if (wait == null) {
+      rejected.increment();
+      report();
+      throw new GCFacadeCommunicationException("Rate limit for %s exceeded: Request would need to wait longer than %s.", key, limits.maxWait());
+    }
+    permits.increment();
+    if (wait.isZero()) {
+      return;
+    }
+    delayed.increment();
+    waitNanos.add(wait.toNanos());
+    int queueDepth = bucket.waiting.incrementAndGet();
+    LOG.debug("Delaying request to {} by {} (queue depth: {}).", key, wait, queueDepth);
+    report();
+    try {
+      sleeper.sleep(wait);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GCFacadeCommunicationException(e, "Interrupted while waiting for rate limit of %s.", key);
+    } finally {
+      bucket.waiting.decrementAndGet();
+    }
+  }
+
+  /**
+   * Logs the statistics after a delayed or rejected request, unless reported
+   * within the report interval.
+   */
+  private void report() {
+    Instant now = clock.instant();
+    @Nullable Instant last = lastReport.get();
+    if (last != null && now.isBefore(last.plus(REPORT_INTERVAL))) {
+      return;
+    }
+    if (lastReport.compareAndSet(last, now)) {
+      LOG.info("Rate limiting requests to GCC: {}", stats());
+    }
+  }
+
+  /**
+   * Sleeps for a given duration.
+   */
+  @FunctionalInterface
+  interface Sleeper {
+    /**
+     * Sleeps for the given duration.
+     *
+     * @param duration duration to sleep
+     * @throws InterruptedException if interrupted while sleeping
+     */
+    void sleep(Duration duration) throws InterruptedException;
+  }
+
+  /**
+   * Limits to apply per connection.
+   *
+   * @param requestsPerSecond sustained number of requests per second;
+   *                          {@code 0} or less disables rate limiting
+   * @param burst             number of requests, that may be sent at once;
+   *                          at least {@code 1}
+   * @param maxWait           maximum time to wait for a permit
+   */
+  record Limits(int requestsPerSecond, int burst, Duration maxWait) {
+    /**
+     * Limits, that disable rate limiting.
+     */
+    static final Limits DISABLED = new Limits(0, 1, DEFAULT_MAX_WAIT);
+
+    Limits {
+      burst = Math.max(1, burst);
+      requireNonNull(maxWait);
+    }
+
+    boolean isEnabled() {
+      return requestsPerSecond > 0;
+    }
+
+    private Duration emissionInterval() {
+      return Duration.ofSeconds(1L).dividedBy(requestsPerSecond);
+    }
+  }
+
+  /**
+   * Statistics of the rate limiter.
+   *
+   * @param permits       number of requests permitted
+   * @param delayed       number of permitted requests, that had to wait
+   * @param rejected      number of requests rejected, as they would have
+   *                      had to wait too long
+   * @param queueDepth    number of requests currently waiting
+   * @param totalWaitTime accumulated time requests had to wait
+   */
+  record Stats(long permits, long delayed, long rejected, int queueDepth, Duration totalWaitTime) {
+  }
+
+  /**
+   * Token bucket of one connection, implemented by tracking the theoretical
+   * arrival time of the next request: A request arriving before this time
+   * consumes one of the burst tokens; once all are consumed, it has to wait.
+   */
+  private static final class Bucket {
+    private final AtomicInteger waiting = new AtomicInteger();
+    private @Nullable Instant theoreticalArrival;
+
+    /**
+     * Reserves a permit.
+     *
+     * @param limits limits to apply
+     * @param now    current time
+     * @return time to wait until the permit is valid; {@code null}, if this
+     * exceeds the maximum wait time, thus, no permit got reserved
+     */
+    private synchronized @Nullable Duration reserve(Limits limits, Instant now) {
+      Duration interval = limits.emissionInterval();
+      Duration tolerance = interval.multipliedBy(limits.burst() - 1L);
+      Instant arrival = theoreticalArrival == null || theoreticalArrival.isBefore(now) ? now : theoreticalArrival;
+      Instant permittedAt = arrival.minus(tolerance);
+      Duration wait = permittedAt.isAfter(now) ? Duration.between(now, permittedAt) : Duration.ZERO;
+      if (wait.compareTo(limits.maxWait()) > 0) {
+        return null;
+      }
+      theoreticalArrival = arrival.plus(interval);
+      return wait;
+    }
+  }
+}
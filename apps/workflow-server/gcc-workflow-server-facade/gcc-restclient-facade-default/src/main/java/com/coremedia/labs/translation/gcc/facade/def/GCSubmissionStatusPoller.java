@@ -0,0 +1,390 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.coremedia.labs.translation.gcc.facade.GCSubmissionSnapshot;
+import com.google.common.annotations.VisibleForTesting;
+import org.gs4tr.gcc.restclient.GCConfig;
+import org.gs4tr.gcc.restclient.model.GCSubmission;
+import org.gs4tr.gcc.restclient.operation.Submissions;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Process-wide poller for the state of submissions.
+ * <p>
+ * Without this poller, each workflow polling for its submission requests
+ * the submission on its own, which results in one request per submission
+ * and poll cycle. The poller instead tracks all submissions requested
+ * recently per connection (API URL and connector key), and retrieves their
+ * state with paged list requests, shared among all facades. Requests for a
+ * submission are answered from the cache, as long as the entry is not older
+ * than the given maximum age.
+ * <p>
+ * Only tracked submissions, thus, submissions workflows are still polling
+ * for, are cached. The lister lists all submissions of the connection,
+ * filtering them is up to this poller. Paging stops as soon as all tracked submissions have been found, or
+ * after the given maximum number of pages. Submissions not found within the
+ * list are requested one by one as fallback, just as a failing list request
+ * falls back to requesting the submission directly. As they are typically
+ * finished, they are not tracked anymore, so that they do not trigger paging
+ * through all submissions again. Tracked submissions not requested anymore
+ * for {@link #DEFAULT_TRACKING_TIMEOUT} are dropped, just as submissions not
+ * found within the list are tracked again after this timeout.
+ * <p>
+ * Along with a cached submission, a snapshot of its tasks may be cached, so
+ * that the tasks do not need to be listed again. As GCC provides no
+ * indicator for changed tasks, a snapshot is only reused while it is younger
+ * than a maximum age of its own, and while the submission it got derived from
+ * is still the one cached.
+ * <p>
+ * Facades must {@link #invalidate(GCConfig, long) invalidate} entries as
+ * soon as they triggered a state change, such as by canceling a submission
+ * or confirming its tasks.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class GCSubmissionStatusPoller {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  /**
+   * Default maximum age of cached submissions. Caching is disabled by
+   * default.
+   */
+  static final Duration DEFAULT_MAX_AGE = Duration.ZERO;
+
+  /**
+   * Default number of submissions to request per page.
+   */
+  static final int DEFAULT_PAGE_SIZE = 100;
+
+  /**
+   * Default maximum number of pages to request per poll.
+   */
+  static final int DEFAULT_MAX_PAGES = 10;
+
+  /**
+   * Default maximum age of cached snapshots of tasks. Reusing snapshots is
+   * disabled by default.
+   */
+  static final Duration DEFAULT_TASKS_MAX_AGE = Duration.ZERO;
+
+  /**
+   * Time after which submissions not requested anymore are no longer
+   * tracked.
+   */
+  @VisibleForTesting
+  static final Duration DEFAULT_TRACKING_TIMEOUT = Duration.ofHours(1L);
+
+  private static final GCSubmissionStatusPoller INSTANCE =
+    new GCSubmissionStatusPoller(DEFAULT_TRACKING_TIMEOUT, Clock.systemUTC());
+
+  private final ConcurrentMap<GCConnectionKey, Connection> connections = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder pageRequests = new LongAdder();
+  private final LongAdder fallbackRequests = new LongAdder();
+  private final Duration trackingTimeout;
+  private final Clock clock;
+
+  @VisibleForTesting
+  GCSubmissionStatusPoller(Duration trackingTimeout, Clock clock) {
+    this.trackingTimeout = requireNonNull(trackingTimeout);
+    this.clock = requireNonNull(clock);
+  }
+
+  /**
+   * Returns the process-wide poller instance.
+   *
+   * @return poller instance
+   */
+  static GCSubmissionStatusPoller getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Provides the submission with the given ID. If the cached submission is
+   * older than the given maximum age, the states of all tracked
+   * submissions of the connection are polled.
+   *
+   * @param config       configuration of the connection, used as cache key
+   * @param submissionId ID of the submission
+   * @param maxAge       maximum age of a cached submission; zero or negative
+   *                     durations bypass the cache
+   * @param maxPages     maximum number of pages to request per poll
+   * @param lister       lists one page of submissions of the connection
+   * @param loader       retrieves a single submission; used if the cache is
+   *                     bypassed or the submission is not found by the lister
+   * @return submission; {@code null} if not found
+   */
+  @Nullable GCSubmission getSubmission(GCConfig config,
+                                       long submissionId,
+                                       Duration maxAge,
+                                       int maxPages,
+                                       SubmissionLister lister,
+                                       LongFunction<? extends @Nullable GCSubmission> loader) {
+    if (maxAge.isNegative() || maxAge.isZero()) {
+      return loader.apply(submissionId);
+    }
+    Connection connection = connections.computeIfAbsent(GCConnectionKey.of(config), Connection::new);
+    Instant now = clock.instant();
+    boolean listed = !connection.isUnlisted(submissionId, now.minus(trackingTimeout));
+    if (listed) {
+      connection.tracked.put(submissionId, now);
+    }
+    GCSubmission cached = connection.findFresh(submissionId, now, maxAge);
+    if (cached != null) {
+      hits.increment();
+      return cached;
+    }
+    if (listed) {
+      connection.pollLock.lock();
+      try {
+        // Another thread may have polled, while we waited for the lock.
+        cached = connection.findFresh(submissionId, clock.instant(), maxAge);
+        if (cached != null) {
+          hits.increment();
+          return cached;
+        }
+        misses.increment();
+        poll(connection, maxPages, lister);
+        cached = connection.findFresh(submissionId, clock.instant(), maxAge);
+        if (cached != null) {
+          return cached;
+        }
+      } finally {
+        connection.pollLock.unlock();
+      }
+    }
+    fallbackRequests.increment();
+    GCSubmission submission = loader.apply(submissionId);
+    if (submission != null) {
+      connection.entries.put(submissionId, new Entry(submission, clock.instant()));
+    }
+    return submission;
+  }
+
+  /**
+   * Provides the snapshot of the tasks cached along with the given
+   * submission. The snapshot is only provided, if the submission is still
+   * the one cached, thus, if it did not get polled again since the snapshot
+   * got cached, and if the snapshot is younger than the given maximum age.
+   * The latter bounds reusing the snapshot independent of polling, as tasks
+   * may change while the submission does not.
+   *
+   * @param config       configuration of the connection, used as cache key
+   * @param submissionId ID of the submission
+   * @param submission   submission as provided by
+   *                     {@link #getSubmission(GCConfig, long, Duration, int, SubmissionLister, LongFunction)}
+   * @param maxAge       maximum age of the snapshot; zero or negative
+   *                     durations bypass the cache
+   * @return snapshot; {@code null} if none is cached for the submission
+   */
+  @Nullable GCSubmissionSnapshot findSnapshot(GCConfig config, long submissionId, GCSubmission submission, Duration maxAge) {
+    Connection connection = connections.get(GCConnectionKey.of(config));
+    Entry entry = connection == null ? null : connection.entries.get(submissionId);
+    // Identity check: Any poll replaces the cached submission.
+    if (entry == null || entry.submission() != submission) {
+      return null;
+    }
+    Instant snapshotAt = entry.snapshotAt();
+    if (snapshotAt == null || !clock.instant().isBefore(snapshotAt.plus(maxAge))) {
+      return null;
+    }
+    return entry.snapshot();
+  }
+
+  /**
+   * Caches the snapshot of the tasks along with the given submission, as long
+   * as the submission is still the one cached.
+   *
+   * @param config       configuration of the connection, used as cache key
+   * @param submissionId ID of the submission
+   * @param submission   submission, the snapshot got derived from
+   * @param snapshot     snapshot to cache
+   */
+  void putSnapshot(GCConfig config, long submissionId, GCSubmission submission, GCSubmissionSnapshot snapshot) {
+    Connection connection = connections.get(GCConnectionKey.of(config));
+    if (connection != null) {
+      connection.entries.computeIfPresent(submissionId, (id, entry) ->
+        entry.submission() == submission ? new Entry(submission, entry.fetchedAt(), snapshot, clock.instant()) : entry);
+    }
+  }
+
+  /**
+   * Removes the cached state of the given submission, along with the
+   * snapshot of its tasks, so that the next request retrieves it again. The
+   * submission is still tracked.
+   *
+   * @param config       configuration of the connection, used as cache key
+   * @param submissionId ID of the submission
+   */
+  void invalidate(GCConfig config, long submissionId) {
+    Connection connection = connections.get(GCConnectionKey.of(config));
+    if (connection != null) {
+      connection.entries.remove(submissionId);
+    }
+  }
+
+  /**
+   * Returns a snapshot of the poller statistics.
+   *
+   * @return poller statistics
+   */
+  Stats stats() {
+    return new Stats(hits.sum(), misses.sum(), pageRequests.sum(), fallbackRequests.sum());
+  }
+
+  /**
+   * Removes all entries and resets the statistics.
+   */
+  @VisibleForTesting
+  void clear() {
+    connections.clear();
+    hits.reset();
+    misses.reset();
+    pageRequests.reset();
+    fallbackRequests.reset();
+  }
+
+  private void poll(Connection connection, int maxPages, SubmissionLister lister) {
+    Instant now = clock.instant();
+    Instant trackingThreshold = now.minus(trackingTimeout);
+    connection.tracked.entrySet().removeIf(e -> {
+      boolean expired = e.getValue().isBefore(trackingThreshold);
+      if (expired) {
+        connection.entries.remove(e.getKey());
+      }
+      return expired;
+    });
+    connection.unlisted.values().removeIf(droppedAt -> droppedAt.isBefore(trackingThreshold));
+    Set<Long> remaining = new HashSet<>(connection.tracked.keySet());
+    int trackedCount = remaining.size();
+    long pageNumber = 1L;
+    Long totalPageNumber;
+    boolean listed = false;
+    try {
+      do {
+        Submissions.SubmissionsResponseData response = lister.list(pageNumber);
+        pageRequests.increment();
+        List<GCSubmission> submissions = response.getSubmissions();
+        if (submissions != null) {
+          for (GCSubmission submission : submissions) {
+            Long submissionId = submission.getSubmissionId();
+            if (submissionId != null && remaining.remove(submissionId)) {
+              connection.entries.put(submissionId, new Entry(submission, now));
+            }
+          }
+        }
+        totalPageNumber = response.getTotalResultPagesCount();
+        pageNumber++;
+      } while (!remaining.isEmpty() && totalPageNumber != null && pageNumber <= totalPageNumber && pageNumber <= maxPages);
+      listed = true;
+    } catch (RuntimeException e) {
+      // Submissions not updated yet, will be requested one by one.
+      LOG.debug("Failed to poll submissions for {} on page {}.", connection.key, pageNumber, e);
+    }
+    if (listed && !remaining.isEmpty()) {
+      // Typically finished submissions, or submissions beyond the last page.
+      // Requested one by one, until tracked again after the timeout.
+      LOG.debug("Not tracking submissions {} for {} anymore, as not found within {} pages.",
+        remaining, connection.key, pageNumber - 1L);
+      for (Long submissionId : remaining) {
+        connection.tracked.remove(submissionId);
+        connection.unlisted.put(submissionId, now);
+      }
+    }
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Polled {} of {} tracked submissions for {} with {} page requests ({}).",
+        trackedCount - remaining.size(), trackedCount, connection.key, pageNumber - 1L, stats());
+    }
+  }
+
+  /**
+   * Lists one page of submissions.
+   */
+  @FunctionalInterface
+  interface SubmissionLister {
+    /**
+     * Lists the given page of submissions.
+     *
+     * @param pageNumber number of the page, starting at {@code 1}
+     * @return response for the page
+     */
+    Submissions.SubmissionsResponseData list(long pageNumber);
+  }
+
+  /**
+   * Statistics of the poller.
+   *
+   * @param hits             number of requests answered from the cache
+   * @param misses           number of requests that triggered polling
+   * @param pageRequests     number of list requests sent to GCC
+   * @param fallbackRequests number of submissions requested one by one,
+   *                         as they have not been found by polling
+   */
+  record Stats(long hits, long misses, long pageRequests, long fallbackRequests) {
+  }
+
+  private record Entry(GCSubmission submission,
+                       Instant fetchedAt,
+                       @Nullable GCSubmissionSnapshot snapshot,
+                       @Nullable Instant snapshotAt) {
+    private Entry(GCSubmission submission, Instant fetchedAt) {
+      this(submission, fetchedAt, null, null);
+    }
+  }
+
+  private static final class Connection {
+    private final GCConnectionKey key;
+    private final ConcurrentMap<Long, Instant> tracked = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * Submissions not found by the last poll, that are requested one by one
+     * instead, mapped to the time they got dropped from tracking.
+     */
+    private final ConcurrentMap<Long, Instant> unlisted = new ConcurrentHashMap<>();
+    private final Lock pollLock = new ReentrantLock();
+
+    private Connection(GCConnectionKey key) {
+      this.key = key;
+    }
+
+    private boolean isUnlisted(long submissionId, Instant trackingThreshold) {
+      Instant droppedAt = unlisted.get(submissionId);
+      if (droppedAt == null) {
+        return false;
+      }
+      if (droppedAt.isBefore(trackingThreshold)) {
+        unlisted.remove(submissionId, droppedAt);
+        return false;
+      }
+      return true;
+    }
+
+    private @Nullable GCSubmission findFresh(long submissionId, Instant now, Duration maxAge) {
+      Entry entry = entries.get(submissionId);
+      if (entry == null || !now.isBefore(entry.fetchedAt().plus(maxAge))) {
+        return null;
+      }
+      return entry.submission();
+    }
+  }
+}
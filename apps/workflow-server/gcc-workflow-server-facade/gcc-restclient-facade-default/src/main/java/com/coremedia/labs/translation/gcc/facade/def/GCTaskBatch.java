@@ -0,0 +1,152 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import com.google.errorprone.annotations.FormatMethod;
+import com.google.errorprone.annotations.FormatString;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongConsumer;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Runs a request for each task of a batch of tasks, such as confirmations,
+ * and collects the outcome per task.
+ * <p>
+ * Other than failing on the first failed request, all requests of the batch
+ * are sent. Thus, only the tasks that failed need to be processed again on
+ * the next run.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class GCTaskBatch {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  private GCTaskBatch() {
+    // Utility class
+  }
+
+  /**
+   * Runs the given request for all given tasks. For a parallelism of
+   * {@code 1}, requests are sent one after another from the calling thread.
+   * Otherwise, requests are sent concurrently, bounded by the given
+   * parallelism.
+   *
+   * @param taskIds          IDs of the tasks to process
+   * @param parallelism      maximum number of concurrent requests
+   * @param threadNamePrefix prefix for names of threads sending concurrent
+   *                         requests
+   * @param request          request to send for each task ID; signals failure
+   *                         by throwing a {@code RuntimeException}
+   * @return outcome per task
+   * @throws GCFacadeCommunicationException if interrupted while waiting for
+   *                                        concurrent requests to finish
+   */
+  static Outcome run(Collection<Long> taskIds, int parallelism, String threadNamePrefix, LongConsumer request) {
+    SortedMap<Long, RuntimeException> failures = new ConcurrentSkipListMap<>();
+    SortedSet<Long> succeeded = new ConcurrentSkipListSet<>();
+    if (parallelism <= 1 || taskIds.size() <= 1) {
+      taskIds.forEach(taskId -> runSingle(taskId, request, succeeded, failures));
+      return new Outcome(succeeded, failures);
+    }
+    LOG.debug("Processing {} tasks with parallelism {}.", taskIds.size(), parallelism);
+    ExecutorService executor = Executors.newFixedThreadPool(
+      Math.min(parallelism, taskIds.size()),
+      Thread.ofVirtual().name(threadNamePrefix, 0L).factory()
+    );
+    try {
+      List<Future<?>> futures = new ArrayList<>(taskIds.size());
+      taskIds.forEach(taskId -> futures.add(executor.submit(() -> runSingle(taskId, request, succeeded, failures))));
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GCFacadeCommunicationException(e, "Interrupted while processing tasks %s.", taskIds);
+    } catch (ExecutionException e) {
+      // runSingle catches RuntimeExceptions; thus, this is an unexpected error.
+      throw new GCFacadeCommunicationException(Objects.requireNonNullElse(e.getCause(), e), "Failed to process tasks %s.", taskIds);
+    } finally {
+      executor.shutdownNow();
+      executor.close();
+    }
+    return new Outcome(succeeded, failures);
+  }
+
+  private static void runSingle(long taskId,
+                                LongConsumer request,
+                                Set<Long> succeeded,
+                                Map<Long, RuntimeException> failures) {
+    try {
+      request.accept(taskId);
+      succeeded.add(taskId);
+    } catch (RuntimeException e) {
+      LOG.debug("Request failed for task {}.", taskId, e);
+      failures.put(taskId, e);
+    }
+  }
+
+  /**
+   * Outcome of processing a batch of tasks.
+   *
+   * @param succeeded IDs of tasks processed successfully, in ascending order
+   * @param failures  failures by ID of tasks that failed to be processed, in
+   *                  ascending order of task IDs
+   */
+  record Outcome(SortedSet<Long> succeeded, SortedMap<Long, RuntimeException> failures) {
+    Outcome {
+      succeeded = Collections.unmodifiableSortedSet(new TreeSet<>(succeeded));
+      failures = Collections.unmodifiableSortedMap(new TreeMap<>(failures));
+    }
+
+    /**
+     * Signals, if all tasks have been processed successfully.
+     *
+     * @return {@code true} if no task failed
+     */
+    boolean isSuccess() {
+      return failures.isEmpty();
+    }
+
+    /**
+     * Throws an exception if any task failed. The failure of the task with
+     * the lowest ID is the cause of the exception, further failures are
+     * added as suppressed exceptions.
+     *
+     * @param message message format
+     * @param args    arguments for the message
+     * @throws GCFacadeCommunicationException if any task failed
+     */
+    @FormatMethod
+    void throwOnFailure(@FormatString String message, @Nullable Object... args) {
+      if (isSuccess()) {
+        return;
+      }
+      List<RuntimeException> causes = new ArrayList<>(failures.values());
+      GCFacadeCommunicationException exception = new GCFacadeCommunicationException(causes.getFirst(), message, args);
+      causes.stream().skip(1L).forEach(exception::addSuppressed);
+      throw exception;
+    }
+  }
+}
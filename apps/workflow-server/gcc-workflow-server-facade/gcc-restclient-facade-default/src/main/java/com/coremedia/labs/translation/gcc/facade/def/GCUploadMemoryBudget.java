@@ -0,0 +1,213 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import com.google.common.annotations.VisibleForTesting;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Process-wide budget of heap memory, large uploads to GCC may occupy at
+ * the same time.
+ * <p>
+ * The GCC REST client requires the contents to upload as one byte array.
+ * Thus, each upload holds the complete file in memory until GCC received
+ * it. For large XLIFF files, like for translating whole sites, concurrently
+ * running workflow actions multiply the heap required. This budget bounds
+ * the memory occupied by uploads larger than {@code inMemoryThreshold}:
+ * Such uploads reserve their size from the budget before reading the
+ * contents and release it once the upload is done. Uploads that would
+ * exceed the budget wait for others to finish. If they would have to wait
+ * longer than {@code maxWait}, they fail fast with a
+ * {@link GCFacadeCommunicationException}, so that the workflow retries them
+ * later instead of blocking its thread.
+ * <p>
+ * Uploads up to the threshold are not restricted. A single upload larger
+ * than the budget is permitted, as long as no other large upload is in
+ * progress.
+ * <p>
+ * Uploads of unknown size are copied to a temporary file by the facade
+ * first, so that they reserve their actual size.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class GCUploadMemoryBudget {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  /**
+   * Default size in bytes, up to which uploads are not restricted.
+   */
+  static final long DEFAULT_IN_MEMORY_THRESHOLD = 16L * 1024L * 1024L;
+
+  /**
+   * Default maximum time to wait for the budget, before failing fast.
+   */
+  static final Duration DEFAULT_MAX_WAIT = Duration.ofMinutes(1L);
+
+  private static final GCUploadMemoryBudget INSTANCE = new GCUploadMemoryBudget();
+
+  private final Object monitor = new Object();
+  private long reservedBytes;
+  private final LongAdder reservations = new LongAdder();
+  private final LongAdder delayed = new LongAdder();
+  private final LongAdder rejected = new LongAdder();
+
+  @VisibleForTesting
+  GCUploadMemoryBudget() {
+  }
+
+  /**
+   * Returns the process-wide memory budget instance.
+   *
+   * @return memory budget instance
+   */
+  static GCUploadMemoryBudget getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Reserves the given number of bytes, if required by the given limits.
+   * The reservation must be closed, once the upload is done.
+   *
+   * @param fileName name of the file to upload; for logging purpose only
+   * @param size     size of the file in bytes; negative, if unknown
+   * @param limits   limits to apply
+   * @return reservation to close after the upload
+   * @throws GCFacadeCommunicationException if the upload would need to wait
+   *                                        longer than the maximum wait time,
+   *                                        or if interrupted while waiting
+   */
+  Reservation reserve(String fileName, long size, Limits limits) {
+    if (!limits.isEnabled() || size <= limits.inMemoryThreshold()) {
+      return Reservation.NONE;
+    }
+    long deadline = System.nanoTime() + limits.maxWait().toNanos();
+    synchronized (monitor) {
+      boolean waited = false;
+      while (reservedBytes > 0L && reservedBytes + size > limits.budget()) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0L) {
+          rejected.increment();
+          throw new GCFacadeCommunicationException(
+            "Upload of %s (%d bytes) postponed: Memory budget of %d bytes for uploads exhausted (reserved: %d bytes).",
+            fileName, size, limits.budget(), reservedBytes);
+        }
+        if (!waited) {
+          delayed.increment();
+          waited = true;
+          LOG.debug("Upload of {} ({} bytes) waits for memory budget (budget: {} bytes, reserved: {} bytes).", fileName, size, limits.budget(), reservedBytes);
+        }
+        try {
+          TimeUnit.NANOSECONDS.timedWait(monitor, remaining);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new GCFacadeCommunicationException(e, "Interrupted while waiting for memory budget to upload %s.", fileName);
+        }
+      }
+      reservedBytes += size;
+      reservations.increment();
+    }
+    return new BudgetReservation(size);
+  }
+
+  /**
+   * Statistics of the memory budget, to monitor upload contention.
+   *
+   * @return statistics
+   */
+  Stats stats() {
+    synchronized (monitor) {
+      return new Stats(reservations.sum(), delayed.sum(), rejected.sum(), reservedBytes);
+    }
+  }
+
+  private void release(long size) {
+    synchronized (monitor) {
+      reservedBytes -= size;
+      monitor.notifyAll();
+    }
+  }
+
+  /**
+   * Reserved memory for one upload.
+   */
+  @FunctionalInterface
+  interface Reservation extends AutoCloseable {
+    /**
+     * Reservation, that does not occupy any budget.
+     */
+    Reservation NONE = () -> {
+    };
+
+    /**
+     * Releases the reserved memory.
+     */
+    @Override
+    void close();
+  }
+
+  /**
+   * Reservation that releases its size once.
+   */
+  private final class BudgetReservation implements Reservation {
+    private final long size;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private BudgetReservation(long size) {
+      this.size = size;
+    }
+
+    @Override
+    public void close() {
+      if (closed.compareAndSet(false, true)) {
+        release(size);
+      }
+    }
+  }
+
+  /**
+   * Limits to apply to uploads.
+   *
+   * @param inMemoryThreshold size in bytes, up to which uploads are not
+   *                          restricted
+   * @param budget            bytes, all larger uploads may occupy at the
+   *                          same time; non-positive values disable the
+   *                          budget
+   * @param maxWait           maximum time to wait for the budget
+   */
+  record Limits(long inMemoryThreshold, long budget, Duration maxWait) {
+    /**
+     * Limits, that do not restrict uploads.
+     */
+    static final Limits DISABLED = new Limits(DEFAULT_IN_MEMORY_THRESHOLD, 0L, DEFAULT_MAX_WAIT);
+
+    Limits {
+      requireNonNull(maxWait);
+    }
+
+    boolean isEnabled() {
+      return budget > 0L;
+    }
+  }
+
+  /**
+   * Statistics of the memory budget.
+   *
+   * @param reservations  number of uploads, that reserved memory
+   * @param delayed       number of uploads, that had to wait for memory
+   * @param rejected      number of uploads, that failed due to exceeding
+   *                      the maximum wait time
+   * @param reservedBytes bytes currently reserved
+   */
+  record Stats(long reservations, long delayed, long rejected, long reservedBytes) {
+  }
+}
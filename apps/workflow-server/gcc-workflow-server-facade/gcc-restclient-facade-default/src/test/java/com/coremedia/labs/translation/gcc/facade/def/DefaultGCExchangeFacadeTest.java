@@ -5,7 +5,9 @@ import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
 import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
 import com.coremedia.labs.translation.gcc.facade.GCFacadeIOException;
 import com.coremedia.labs.translation.gcc.facade.GCFacadeSubmissionNotFoundException;
+import com.coremedia.labs.translation.gcc.facade.GCFacadeUnavailableException;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionModel;
+import com.coremedia.labs.translation.gcc.facade.GCSubmissionSnapshot;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionState;
 import com.coremedia.labs.translation.gcc.facade.GCTaskModel;
 import com.coremedia.labs.translation.gcc.facade.config.CharacterReplacementStrategy;
@@ -24,6 +26,7 @@ import org.gs4tr.gcc.restclient.model.GCTask;
 import org.gs4tr.gcc.restclient.model.Status;
 import org.gs4tr.gcc.restclient.model.SubmissionStatus;
 import org.gs4tr.gcc.restclient.model.TaskStatus;
+import org.gs4tr.gcc.restclient.operation.ConnectorsConfig.ConnectorsConfigResponseData;
 import org.gs4tr.gcc.restclient.operation.SubmissionSubmit;
 import org.gs4tr.gcc.restclient.operation.Submissions;
 import org.gs4tr.gcc.restclient.operation.Tasks;
@@ -48,11 +51,13 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -64,6 +69,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
 
@@ -75,9 +83,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -164,6 +174,69 @@ class DefaultGCExchangeFacadeTest {
       assertions.assertThat(actualRequest.getSourceLocale()).isEqualTo(expectedSourceLocale.toLanguageTag());
       assertions.assertAll();
     }
+
+    /**
+     * Facades may live long, such as during a long running download. Thus,
+     * the file type must not be resolved once per facade, but via the shared
+     * connector metadata cache.
+     */
+    @Test
+    @DisplayName("Should resolve file type on every upload.")
+    void shouldResolveFileTypeOnEveryUpload() {
+      Map<String, @Nullable Object> config = new HashMap<>(requiredConfig);
+      config.put(GCConfigProperty.KEY_CONNECTOR_CACHE_TTL, 0);
+      ConnectorsConfigResponseData connectorsConfig = Mockito.mock(ConnectorsConfigResponseData.class);
+      when(connectorsConfig.getFileTypes()).thenReturn(List.of("xliff"), List.of("xliff2"));
+      when(gcExchange.getConnectorsConfig()).thenReturn(connectorsConfig);
+      when(gcExchange.uploadContent(any())).thenReturn("1234-5678");
+      ArgumentCaptor<UploadFileRequest> uploadFileRequestCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+
+      GCExchangeFacade facade = new MockDefaultGCExchangeFacade(config, gcExchange);
+      facade.uploadContent("first", new ByteArrayResource(new byte[]{(byte) 42}), Locale.US);
+      facade.uploadContent("second", new ByteArrayResource(new byte[]{(byte) 42}), Locale.US);
+
+      verify(gcExchange, times(2)).uploadContent(uploadFileRequestCaptor.capture());
+      assertThat(uploadFileRequestCaptor.getAllValues())
+        .extracting(UploadFileRequest::getFileType)
+        .containsExactly("xliff", "xliff2");
+    }
+
+    @Test
+    @DisplayName("Should read contents, even if length differs from expected length.")
+    void shouldReadContentsOfAnyLength() throws IOException {
+      byte[] contents = {1, 2, 3, 4};
+
+      assertThat(DefaultGCExchangeFacade.readContent(new ByteArrayInputStream(contents), 4L)).isEqualTo(contents);
+      assertThat(DefaultGCExchangeFacade.readContent(new ByteArrayInputStream(contents), -1L)).isEqualTo(contents);
+      assertThat(DefaultGCExchangeFacade.readContent(new ByteArrayInputStream(contents), 2L)).isEqualTo(contents);
+      assertThat(DefaultGCExchangeFacade.readContent(new ByteArrayInputStream(contents), 8L)).isEqualTo(contents);
+    }
+
+    /**
+     * The size of resources, that can only be read as stream, is unknown
+     * upfront. They must not bypass the memory budget.
+     */
+    @Test
+    @DisplayName("Should upload resources of unknown length, if memory budget is enabled.")
+    void shouldUploadResourcesOfUnknownLengthWithMemoryBudget() {
+      Map<String, @Nullable Object> config = new HashMap<>(requiredConfig);
+      config.put(GCConfigProperty.KEY_UPLOAD, Map.of(
+        GCConfigProperty.KEY_IN_MEMORY_THRESHOLD, 0,
+        GCConfigProperty.KEY_MEMORY_BUDGET, 1
+      ));
+      ConnectorsConfigResponseData connectorsConfig = Mockito.mock(ConnectorsConfigResponseData.class);
+      when(connectorsConfig.getFileTypes()).thenReturn(List.of("xliff"));
+      when(gcExchange.getConnectorsConfig()).thenReturn(connectorsConfig);
+      when(gcExchange.uploadContent(any())).thenReturn("1234-5678");
+      ArgumentCaptor<UploadFileRequest> uploadFileRequestCaptor = ArgumentCaptor.forClass(UploadFileRequest.class);
+      byte[] contents = {1, 2, 3, 4};
+
+      GCExchangeFacade facade = new MockDefaultGCExchangeFacade(config, gcExchange);
+      facade.uploadContent("stream", new InputStreamResource(new ByteArrayInputStream(contents)), Locale.US);
+
+      verify(gcExchange).uploadContent(uploadFileRequestCaptor.capture());
+      assertThat(uploadFileRequestCaptor.getValue().getContents()).isEqualTo(contents);
+    }
   }
 
   @Test
@@ -195,6 +268,26 @@ class DefaultGCExchangeFacadeTest {
       .hasMessageContaining(expectedFileName);
   }
 
+  /**
+   * Transport failures are signaled as {@link GCFacadeUnavailableException},
+   * which must not be wrapped, so that callers can tell them apart from
+   * failed requests.
+   */
+  @Test
+  @DisplayName("Should not wrap facade exceptions while submitting or cancelling submissions.")
+  void shouldNotWrapFacadeExceptionsOfSubmissions() {
+    UncheckedIOException transportFailure = new UncheckedIOException(new IOException("Connection reset."));
+    when(gcExchange.submitSubmission(any())).thenThrow(transportFailure);
+    when(gcExchange.cancelSubmission(anyLong())).thenThrow(transportFailure);
+
+    GCExchangeFacade facade = new MockDefaultGCExchangeFacade(gcExchange);
+    assertThatThrownBy(() -> facade.submitSubmission(null, null, ZonedDateTime.now(ZoneId.systemDefault()).plusDays(1L),
+      null, null, Locale.US, Map.of("1234-5678", List.of(Locale.GERMANY))))
+      .isInstanceOf(GCFacadeUnavailableException.class);
+    assertThatThrownBy(() -> facade.cancelSubmission(42L))
+      .isInstanceOf(GCFacadeUnavailableException.class);
+  }
+
   @Nested
   @DisplayName("Tests for submitSubmission")
   class SubmitSubmission {
@@ -744,6 +837,106 @@ class DefaultGCExchangeFacadeTest {
           .hasMessageContaining(String.valueOf(expectedTaskId));
       }
     }
+
+    @Nested
+    @DisplayName("Tests for downloading tasks concurrently")
+    class ConcurrentTasks {
+      private static final long expectedSubmissionId = 1234L;
+      private static final int PARALLELISM = 4;
+
+      @Test
+      @DisplayName("Should consume all tasks sequentially in calling thread and confirm them.")
+      void shouldConsumeSequentiallyAndConfirm() {
+        List<GCTask> tasks = List.of(completedTask(1L), completedTask(2L), completedTask(3L));
+        when(tasksListResponse.getTasks()).thenReturn(tasks);
+        for (GCTask task : tasks) {
+          when(gcExchange.downloadTask(eq(task.getTaskId()))).thenAnswer(i -> contentOf(task.getTaskId()));
+          when(gcExchange.confirmTask(eq(task.getTaskId()))).thenReturn(true);
+        }
+        Thread callingThread = Thread.currentThread();
+        Map<Long, String> consumedContents = new HashMap<>();
+        AtomicInteger concurrentConsumers = new AtomicInteger();
+
+        GCExchangeFacade facade = new MockDefaultGCExchangeFacade(parallelConfig(), gcExchange);
+        facade.downloadCompletedTasks(expectedSubmissionId, (is, task) -> {
+          assertThat(concurrentConsumers.incrementAndGet()).isOne();
+          assertThat(Thread.currentThread()).isSameAs(callingThread);
+          try {
+            consumedContents.put(task.getTaskId(), new String(ByteStreams.toByteArray(is), StandardCharsets.UTF_8));
+          } catch (IOException e) {
+            throw new RuntimeException(e);
+          }
+          concurrentConsumers.decrementAndGet();
+          return true;
+        });
+
+        assertThat(consumedContents).containsExactlyInAnyOrderEntriesOf(Map.of(
+          1L, "content-1",
+          2L, "content-2",
+          3L, "content-3"
+        ));
+        tasks.forEach(task -> verify(gcExchange).confirmTask(task.getTaskId()));
+      }
+
+      @Test
+      @DisplayName("Should not confirm tasks rejected by consumer.")
+      void shouldNotConfirmRejectedTasks() {
+        List<GCTask> tasks = List.of(completedTask(1L), completedTask(2L));
+        when(tasksListResponse.getTasks()).thenReturn(tasks);
+        for (GCTask task : tasks) {
+          when(gcExchange.downloadTask(eq(task.getTaskId()))).thenAnswer(i -> contentOf(task.getTaskId()));
+        }
+        when(gcExchange.confirmTask(eq(1L))).thenReturn(true);
+
+        GCExchangeFacade facade = new MockDefaultGCExchangeFacade(parallelConfig(), gcExchange);
+        facade.downloadCompletedTasks(expectedSubmissionId, (is, task) -> task.getTaskId() == 1L);
+
+        verify(gcExchange).confirmTask(1L);
+        verify(gcExchange, never()).confirmTask(2L);
+      }
+
+      @Test
+      @DisplayName("Should process remaining tasks on failure and report failed task afterward.")
+      void shouldProcessRemainingTasksOnFailure() {
+        List<GCTask> tasks = List.of(completedTask(1L), completedTask(2L), completedTask(3L));
+        when(tasksListResponse.getTasks()).thenReturn(tasks);
+        when(gcExchange.downloadTask(eq(1L))).thenAnswer(i -> contentOf(1L));
+        when(gcExchange.downloadTask(eq(2L))).thenThrow(RuntimeException.class);
+        when(gcExchange.downloadTask(eq(3L))).thenAnswer(i -> contentOf(3L));
+        when(gcExchange.confirmTask(eq(1L))).thenReturn(true);
+        when(gcExchange.confirmTask(eq(3L))).thenReturn(true);
+
+        GCExchangeFacade facade = new MockDefaultGCExchangeFacade(parallelConfig(), gcExchange);
+        assertThatThrownBy(() -> facade.downloadCompletedTasks(expectedSubmissionId, (is, task) -> true))
+          .isInstanceOf(GCFacadeCommunicationException.class)
+          .hasCauseInstanceOf(RuntimeException.class)
+          .hasMessageContaining("2");
+
+        verify(gcExchange).confirmTask(1L);
+        verify(gcExchange, never()).confirmTask(2L);
+        verify(gcExchange).confirmTask(3L);
+      }
+
+      private Map<String, @Nullable Object> parallelConfig() {
+        Map<String, @Nullable Object> config = new HashMap<>(requiredConfig);
+        config.put(GCConfigProperty.KEY_DOWNLOAD, Map.of(GCConfigProperty.KEY_PARALLELISM, PARALLELISM));
+        return config;
+      }
+
+      private static GCTask completedTask(long taskId) {
+        GCTask task = Mockito.mock(GCTask.class);
+        when(task.getTaskId()).thenReturn(taskId);
+        when(task.getState()).thenReturn(TaskStatus.Completed.text());
+        org.gs4tr.gcc.restclient.model.Locale locale = new org.gs4tr.gcc.restclient.model.Locale();
+        locale.setLocale("de-DE");
+        when(task.getTargetLocale()).thenReturn(locale);
+        return task;
+      }
+
+      private static InputStream contentOf(long taskId) {
+        return new ByteArrayInputStream(("content-" + taskId).getBytes(StandardCharsets.UTF_8));
+      }
+    }
   }
 
   @Nested
@@ -806,6 +999,37 @@ class DefaultGCExchangeFacadeTest {
 
       verify(gcExchange, never()).confirmTaskCancellation(any());
     }
+
+    @Test
+    @DisplayName("Should try to confirm all tasks, even if some fail.")
+    void shouldConfirmAllTasksEvenIfSomeFail() {
+      long submissionId = 42L;
+      GCTask failingTask = Mockito.mock(GCTask.class);
+      long failingTaskId = 22L;
+      long taskId = 21L;
+
+      when(tasksListResponse.getTasks()).thenReturn(List.of(failingTask, gcTask));
+      org.gs4tr.gcc.restclient.model.Locale locale = new org.gs4tr.gcc.restclient.model.Locale();
+      locale.setLocale("de-DE");
+      when(gcTask.getTaskId()).thenReturn(taskId);
+      when(gcTask.getState()).thenReturn(TaskStatus.Cancelled.text());
+      when(gcTask.getTargetLocale()).thenReturn(locale);
+      when(failingTask.getTaskId()).thenReturn(failingTaskId);
+      when(failingTask.getState()).thenReturn(TaskStatus.Cancelled.text());
+      when(failingTask.getTargetLocale()).thenReturn(locale);
+      when(gcExchange.confirmTaskCancellation(eq(failingTaskId))).thenThrow(RuntimeException.class);
+      when(gcExchange.confirmTaskCancellation(eq(taskId))).thenReturn(messageResponse);
+      when(messageResponse.getStatus()).thenReturn(200);
+
+      GCExchangeFacade facade = new MockDefaultGCExchangeFacade(gcExchange);
+      assertThatThrownBy(() -> facade.confirmCancelledTasks(submissionId))
+        .isInstanceOf(GCFacadeCommunicationException.class)
+        .hasCauseInstanceOf(RuntimeException.class)
+        .hasMessageContaining(String.valueOf(failingTaskId));
+
+      verify(gcExchange).confirmTaskCancellation(taskId);
+      verify(gcExchange).confirmTaskCancellation(failingTaskId);
+    }
   }
 
   @Nested
@@ -993,6 +1217,137 @@ class DefaultGCExchangeFacadeTest {
     }
   }
 
+  @Nested
+  @DisplayName("Tests for getSubmissionSnapshot")
+  class GetSubmissionSnapshot {
+    private static final long SUBMISSION_ID = 42L;
+
+    @Mock
+    private GCSubmission submission;
+    @Mock
+    private Submissions.SubmissionsResponseData submissionsResponseData;
+    @Mock
+    private Status submissionState;
+    @Mock
+    private Tasks.TasksResponseData tasksListResponse;
+    @Mock
+    private MessageResponse messageResponse;
+
+    @Test
+    @DisplayName("Should derive state and group tasks from one single traversal.")
+    void shouldDeriveStateAndTasksFromOneTraversal() {
+      when(gcExchange.getSubmissionsList(any())).thenReturn(submissionsResponseData);
+      when(submissionsResponseData.getSubmissions()).thenReturn(singletonList(submission));
+      when(submission.getStatus()).thenReturn(submissionState);
+      when(submissionState.getStatusName()).thenReturn(SubmissionStatus.Started.text());
+      when(submission.getIsCancelled()).thenReturn(Boolean.TRUE);
+      when(gcExchange.getTasksList(any())).thenReturn(tasksListResponse);
+      GCTask completedTask = mockTask(1L, TaskStatus.Completed, "de-DE");
+      GCTask unconfirmedTask = mockTask(2L, TaskStatus.Cancelled, "fr-FR");
+      when(unconfirmedTask.getIsCancelConfirmed()).thenReturn(Boolean.FALSE);
+      GCTask confirmedTask = mockTask(3L, TaskStatus.Cancelled, "it-IT");
+      when(confirmedTask.getIsCancelConfirmed()).thenReturn(Boolean.TRUE);
+      when(tasksListResponse.getTasks()).thenReturn(List.of(completedTask, unconfirmedTask, confirmedTask));
+
+      GCExchangeFacade facade = new MockDefaultGCExchangeFacade(gcExchange);
+      GCSubmissionSnapshot snapshot = facade.getSubmissionSnapshot(SUBMISSION_ID);
+
+      assertThat(snapshot.isTasksIncluded()).isTrue();
+      assertThat(snapshot.getState()).isEqualTo(GCSubmissionState.CANCELLED);
+      assertThat(snapshot.getCompletedTasks()).containsExactly(new GCTaskModel(1L, Locale.GERMANY));
+      assertThat(snapshot.getCompletedLocales()).containsExactly(Locale.GERMANY);
+      assertThat(snapshot.getTasks(TaskStatus.Cancelled)).hasSize(2);
+      assertThat(snapshot.getUnconfirmedCancelledTasks()).containsExactly(new GCTaskModel(2L, Locale.FRANCE));
+      verify(gcExchange, times(1)).getSubmissionsList(any());
+      verify(gcExchange, times(1)).getTasksList(any());
+    }
+
+    @Test
+    @DisplayName("Should download completed tasks from snapshot without retrieving tasks again.")
+    void shouldDownloadFromSnapshot() {
+      long taskId = 21L;
+      GCSubmissionSnapshot snapshot = new GCSubmissionSnapshot(
+        GCSubmissionModel.builder(SUBMISSION_ID).state(GCSubmissionState.COMPLETED).build(),
+        Map.of(TaskStatus.Completed, List.of(new GCTaskModel(taskId, Locale.GERMANY))),
+        List.of()
+      );
+      when(gcExchange.downloadTask(taskId)).thenReturn(new ByteArrayInputStream("Lorem".getBytes(StandardCharsets.UTF_8)));
+
+      GCExchangeFacade facade = new MockDefaultGCExchangeFacade(gcExchange);
+      facade.downloadCompletedTasks(snapshot, (is, task) -> true);
+
+      verify(gcExchange, never()).getTasksList(any());
+      verify(gcExchange).confirmTask(taskId);
+    }
+
+    @Test
+    @DisplayName("Should pass tasks to the consumer concurrently and only confirm accepted tasks.")
+    void shouldConsumeTasksConcurrently() {
+      GCSubmissionSnapshot snapshot = new GCSubmissionSnapshot(
+        GCSubmissionModel.builder(SUBMISSION_ID).state(GCSubmissionState.COMPLETED).build(),
+        Map.of(TaskStatus.Completed, List.of(
+          new GCTaskModel(21L, Locale.GERMANY),
+          new GCTaskModel(22L, Locale.FRANCE),
+          new GCTaskModel(23L, Locale.ITALY)
+        )),
+        List.of()
+      );
+      when(gcExchange.downloadTask(anyLong())).thenAnswer(invocation -> new ByteArrayInputStream("Lorem".getBytes(StandardCharsets.UTF_8)));
+      CountDownLatch allConsuming = new CountDownLatch(3);
+
+      GCExchangeFacade facade = new MockDefaultGCExchangeFacade(gcExchange);
+      assertThatThrownBy(() -> facade.downloadCompletedTasks(snapshot, 3, (is, task) -> {
+        allConsuming.countDown();
+        try {
+          // Only passes, if all tasks are consumed at the same time.
+          assertThat(allConsuming.await(10L, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException(e);
+        }
+        if (task.getTaskId() == 23L) {
+          throw new IllegalStateException("Import failed.");
+        }
+        return task.getTaskId() == 21L;
+      }))
+        .isInstanceOf(GCFacadeCommunicationException.class)
+        .hasMessageContaining("[23]");
+
+      verify(gcExchange).confirmTask(21L);
+      verify(gcExchange, never()).confirmTask(22L);
+      verify(gcExchange, never()).confirmTask(23L);
+    }
+
+    @Test
+    @DisplayName("Should confirm cancelled tasks from snapshot without retrieving tasks again.")
+    void shouldConfirmCancelledTasksFromSnapshot() {
+      long taskId = 21L;
+      GCSubmissionSnapshot snapshot = new GCSubmissionSnapshot(
+        GCSubmissionModel.builder(SUBMISSION_ID).state(GCSubmissionState.CANCELLED).build(),
+        Map.of(TaskStatus.Cancelled, List.of(new GCTaskModel(taskId, Locale.GERMANY))),
+        List.of(new GCTaskModel(taskId, Locale.GERMANY))
+      );
+      when(gcExchange.confirmTaskCancellation(taskId)).thenReturn(messageResponse);
+      when(messageResponse.getStatus()).thenReturn(200);
+
+      GCExchangeFacade facade = new MockDefaultGCExchangeFacade(gcExchange);
+      facade.confirmCancelledTasks(snapshot);
+
+      verify(gcExchange, never()).getTasksList(any());
+      verify(gcExchange).confirmTaskCancellation(taskId);
+    }
+
+    private static GCTask mockTask(long taskId, TaskStatus status, String languageTag) {
+      GCTask task = Mockito.mock(GCTask.class);
+      org.gs4tr.gcc.restclient.model.Locale locale = new org.gs4tr.gcc.restclient.model.Locale();
+      locale.setLocale(languageTag);
+      when(task.getTaskId()).thenReturn(taskId);
+      when(task.getState()).thenReturn(status.text());
+      when(task.getTargetLocale()).thenReturn(locale);
+      return task;
+    }
+  }
+
   enum IsSendSubmitterFixture {
     UNSET() {
       @Override
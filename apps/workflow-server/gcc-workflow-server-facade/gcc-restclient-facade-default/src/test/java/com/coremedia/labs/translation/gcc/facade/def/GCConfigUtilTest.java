@@ -13,6 +13,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.logging.Handler;
@@ -309,6 +310,33 @@ class GCConfigUtilTest {
     }
   }
 
+  @Nested
+  @DisplayName("Tests for durations and data sizes")
+  class DurationsAndDataSizes {
+    @Test
+    @DisplayName("findDuration should read duration from settings")
+    void findDurationShouldReadFromSettings() {
+      Settings settings = new Settings(Map.of(GCConfigProperty.KEY_CONNECTOR_CACHE_TTL, "5m"));
+
+      assertThat(GCConfigUtil.findDuration(settings, GCConfigProperty.KEY_CONNECTOR_CACHE_TTL))
+        .contains(Duration.ofMinutes(5L));
+    }
+
+    @Test
+    @DisplayName("findUploadLimits should read limits from settings")
+    void findUploadLimitsShouldReadFromSettings() {
+      Settings settings = new Settings(Map.of(GCConfigProperty.KEY_UPLOAD, Map.of(
+        GCConfigProperty.KEY_MEMORY_BUDGET, "512MB",
+        GCConfigProperty.KEY_IN_MEMORY_THRESHOLD, "8MB"
+      )));
+
+      assertThat(GCConfigUtil.findUploadLimits(settings))
+        .isEqualTo(new GCUploadMemoryBudget.Limits(8L * 1024L * 1024L, 512L * 1024L * 1024L, GCUploadMemoryBudget.DEFAULT_MAX_WAIT));
+      assertThat(GCConfigUtil.findUploadLimits(Settings.EMPTY))
+        .isEqualTo(GCUploadMemoryBudget.Limits.DISABLED);
+    }
+  }
+
   @Nested
   @DisplayName("Tests for USER_AGENT constant")
   class UserAgent {
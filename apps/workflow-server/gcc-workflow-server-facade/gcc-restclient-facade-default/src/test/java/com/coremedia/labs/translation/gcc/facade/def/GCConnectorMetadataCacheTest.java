@@ -0,0 +1,180 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import org.gs4tr.gcc.restclient.GCConfig;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link GCConnectorMetadataCache}.
+ */
+@NullMarked
+class GCConnectorMetadataCacheTest {
+  private static final Duration TTL = Duration.ofMinutes(10L);
+  private static final GCConfig CONFIG = config("test-api-key");
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+  private final List<Runnable> scheduledRefreshes = new ArrayList<>();
+  private final AtomicInteger loads = new AtomicInteger();
+  private GCConnectorMetadataCache cache;
+
+  @BeforeEach
+  void setUp() {
+    scheduledRefreshes.clear();
+    loads.set(0);
+    cache = new GCConnectorMetadataCache(scheduledRefreshes::add, clock);
+  }
+
+  @Test
+  @DisplayName("Should answer subsequent requests from cache.")
+  void shouldAnswerFromCache() {
+    Supplier<List<String>> loader = loader(List.of("xliff"));
+
+    assertThat(cache.getFileTypes(CONFIG, TTL, loader)).containsExactly("xliff");
+    assertThat(cache.getFileTypes(CONFIG, TTL, loader)).containsExactly("xliff");
+
+    assertThat(loads).hasValue(1);
+    assertThat(cache.stats()).isEqualTo(new GCConnectorMetadataCache.Stats(1L, 1L, 0L, 0L));
+  }
+
+  @Test
+  @DisplayName("Should load again after TTL expired.")
+  void shouldLoadAgainAfterExpiry() {
+    Supplier<Set<String>> loader = () -> {
+      loads.incrementAndGet();
+      return Set.of("key");
+    };
+
+    cache.getConnectorKeys(CONFIG, TTL, loader);
+    clock.advance(TTL);
+    cache.getConnectorKeys(CONFIG, TTL, loader);
+
+    assertThat(loads).hasValue(2);
+    assertThat(cache.stats().misses()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("Should refresh in background when getting close to expiry.")
+  void shouldRefreshAhead() {
+    List<String> firstResult = List.of("xliff");
+    List<String> secondResult = List.of("xliff", "xml");
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<List<String>> loader = () -> calls.getAndIncrement() == 0 ? firstResult : secondResult;
+
+    cache.getFileTypes(CONFIG, TTL, loader);
+    clock.advance(TTL.minusMinutes(1L));
+
+    // Still served from cache, while refresh got scheduled.
+    assertThat(cache.getFileTypes(CONFIG, TTL, loader)).isEqualTo(firstResult);
+    // Only one refresh is scheduled, even on concurrent access.
+    assertThat(cache.getFileTypes(CONFIG, TTL, loader)).isEqualTo(firstResult);
+    assertThat(scheduledRefreshes).hasSize(1);
+
+    scheduledRefreshes.getFirst().run();
+
+    assertThat(cache.getFileTypes(CONFIG, TTL, loader)).isEqualTo(secondResult);
+    assertThat(cache.stats()).isEqualTo(new GCConnectorMetadataCache.Stats(3L, 1L, 1L, 0L));
+  }
+
+  @Test
+  @DisplayName("Should keep entry on failed background refresh.")
+  void shouldKeepEntryOnFailedRefresh() {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<List<String>> loader = () -> {
+      if (calls.getAndIncrement() > 0) {
+        throw new GCFacadeCommunicationException("Failed.");
+      }
+      return List.of("xliff");
+    };
+
+    cache.getFileTypes(CONFIG, TTL, loader);
+    clock.advance(TTL.minusMinutes(1L));
+    cache.getFileTypes(CONFIG, TTL, loader);
+    scheduledRefreshes.getFirst().run();
+
+    assertThat(cache.getFileTypes(CONFIG, TTL, loader)).containsExactly("xliff");
+    assertThat(cache.stats().refreshFailures()).isEqualTo(1L);
+    // Refresh is scheduled again on next access.
+    assertThat(scheduledRefreshes).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("Should not cache failures.")
+  void shouldNotCacheFailures() {
+    Supplier<List<String>> failingLoader = () -> {
+      loads.incrementAndGet();
+      throw new GCFacadeCommunicationException("Failed.");
+    };
+
+    assertThatThrownBy(() -> cache.getFileTypes(CONFIG, TTL, failingLoader))
+      .isInstanceOf(GCFacadeCommunicationException.class);
+    assertThat(cache.getFileTypes(CONFIG, TTL, loader(List.of("xliff")))).containsExactly("xliff");
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Should bypass cache for zero TTL.")
+  void shouldBypassCacheForZeroTtl() {
+    Supplier<List<String>> loader = loader(List.of("xliff"));
+
+    cache.getFileTypes(CONFIG, Duration.ZERO, loader);
+    cache.getFileTypes(CONFIG, Duration.ZERO, loader);
+
+    assertThat(loads).hasValue(2);
+    assertThat(cache.stats()).isEqualTo(new GCConnectorMetadataCache.Stats(0L, 0L, 0L, 0L));
+  }
+
+  @Test
+  @DisplayName("Should not share entries between different API keys.")
+  void shouldNotShareEntriesBetweenApiKeys() {
+    Supplier<List<String>> loader = loader(List.of("xliff"));
+
+    cache.getFileTypes(CONFIG, TTL, loader);
+    cache.getFileTypes(config("other-api-key"), TTL, loader);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Should load connector keys again after invalidation.")
+  void shouldLoadAgainAfterInvalidation() {
+    Supplier<Set<String>> loader = () -> {
+      loads.incrementAndGet();
+      return Set.of("key");
+    };
+
+    cache.getConnectorKeys(CONFIG, TTL, loader);
+    cache.invalidateConnectorKeys(CONFIG);
+    cache.getConnectorKeys(CONFIG, TTL, loader);
+
+    assertThat(loads).hasValue(2);
+  }
+
+  private Supplier<List<String>> loader(List<String> result) {
+    return () -> {
+      loads.incrementAndGet();
+      return result;
+    };
+  }
+
+  private static GCConfig config(String apiKey) {
+    return GCConfig.builder()
+      .apiUrl("https://example.com/api")
+      .apiKey(apiKey)
+      .connectorKey("test-connector-key")
+      .build();
+  }
+}
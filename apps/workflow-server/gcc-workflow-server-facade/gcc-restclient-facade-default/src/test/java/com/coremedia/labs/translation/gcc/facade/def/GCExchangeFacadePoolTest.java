@@ -0,0 +1,241 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
+import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
+import com.coremedia.labs.translation.gcc.facade.GCFacadeConnectorKeyConfigException;
+import com.coremedia.labs.translation.gcc.util.Settings;
+import org.gs4tr.gcc.restclient.GCConfig;
+import org.gs4tr.gcc.restclient.GCExchange;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests {@link GCExchangeFacadePool}.
+ */
+@NullMarked
+class GCExchangeFacadePoolTest {
+  private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10L);
+  private static final Duration MAX_AGE = Duration.ofMinutes(30L);
+  private static final Settings SETTINGS = new Settings(Map.of(
+    GCConfigProperty.KEY_URL, "https://example.com/api",
+    GCConfigProperty.KEY_API_KEY, "test-api-key",
+    GCConfigProperty.KEY_KEY, "test-connector-key"
+  ));
+  private static final GCConfig CONFIG = GCConfig.builder()
+    .apiUrl("https://example.com/api")
+    .apiKey("test-api-key")
+    .connectorKey("test-connector-key")
+    .build();
+
+  private final AtomicInteger createdExchanges = new AtomicInteger();
+  private final List<GCExchange> usedExchanges = new CopyOnWriteArrayList<>();
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+  private GCExchangeFacadePool pool;
+
+  @BeforeEach
+  void setUp() {
+    createdExchanges.set(0);
+    usedExchanges.clear();
+    pool = new GCExchangeFacadePool(facadeFactory(), exchangeFactory(), IDLE_TIMEOUT, MAX_AGE, clock);
+  }
+
+  @Test
+  @DisplayName("Should reuse exchange for equal connection settings, but create a new facade.")
+  void shouldReuseExchangeForEqualSettings() {
+    GCExchangeFacade first = pool.getFacade(SETTINGS);
+    GCExchangeFacade second = pool.getFacade(new Settings(Map.copyOf(SETTINGS.properties())));
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(usedExchanges).hasSize(2).containsOnly(usedExchanges.get(0));
+    assertThat(createdExchanges).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should reuse exchange, if only settings other than connection settings changed.")
+  void shouldReuseExchangeIfOnlyBehaviorChanged() {
+    pool.getFacade(SETTINGS);
+    pool.getFacade(SETTINGS.mergedWith(new Settings(Map.of(GCConfigProperty.KEY_STATUS_POLLING, Map.of(GCConfigProperty.KEY_MAX_AGE, 60)))));
+
+    assertThat(createdExchanges).hasValue(1);
+    assertThat(pool.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should create new exchange when connection settings changed.")
+  void shouldCreateNewExchangeWhenSettingsChanged() {
+    pool.getFacade(SETTINGS);
+    pool.getFacade(SETTINGS.mergedWith(new Settings(Map.of(GCConfigProperty.KEY_KEY, "other-connector-key"))));
+    pool.getFacade(SETTINGS.mergedWith(new Settings(Map.of(GCConfigProperty.KEY_MAX_RETRIES_ON_REQUEST_ERRORS, 3))));
+
+    assertThat(createdExchanges).hasValue(3);
+    assertThat(pool.size()).isEqualTo(3);
+  }
+
+  /**
+   * Creating an exchange requires a round trip to GCC, which must neither
+   * block requests for other settings nor be repeated by concurrent requests
+   * for the same settings.
+   */
+  @Test
+  @DisplayName("Should create exchanges without blocking requests for other settings.")
+  void shouldCreateExchangesConcurrently() throws Exception {
+    Settings otherSettings = SETTINGS.mergedWith(new Settings(Map.of(GCConfigProperty.KEY_KEY, "other-connector-key")));
+    CountDownLatch creating = new CountDownLatch(1);
+    CountDownLatch created = new CountDownLatch(1);
+    AtomicBoolean first = new AtomicBoolean(true);
+    GCExchangeFacadePool blockingPool = new GCExchangeFacadePool(facadeFactory(), config -> {
+      createdExchanges.incrementAndGet();
+      if (first.getAndSet(false)) {
+        creating.countDown();
+        await(created);
+      }
+      return mock(GCExchange.class);
+    }, IDLE_TIMEOUT, MAX_AGE, clock);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<GCExchangeFacade> firstFacade = executor.submit(() -> blockingPool.getFacade(SETTINGS));
+      assertThat(creating.await(10L, TimeUnit.SECONDS)).isTrue();
+      Future<GCExchangeFacade> secondFacade = executor.submit(() -> blockingPool.getFacade(SETTINGS));
+
+      assertThat(blockingPool.getFacade(otherSettings)).isNotNull();
+      assertThat(secondFacade.isDone()).isFalse();
+
+      created.countDown();
+      assertThat(firstFacade.get(10L, TimeUnit.SECONDS)).isNotNull();
+      assertThat(secondFacade.get(10L, TimeUnit.SECONDS)).isNotNull();
+      assertThat(createdExchanges).hasValue(2);
+    } finally {
+      created.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Should evict exchanges after idle timeout.")
+  void shouldEvictIdleExchanges() {
+    pool.getFacade(SETTINGS);
+
+    clock.advance(IDLE_TIMEOUT.minusSeconds(1L));
+    pool.getFacade(SETTINGS);
+
+    // Access above reset the idle period.
+    clock.advance(IDLE_TIMEOUT.minusSeconds(1L));
+    pool.getFacade(SETTINGS);
+    assertThat(createdExchanges).hasValue(1);
+
+    clock.advance(IDLE_TIMEOUT.plusSeconds(1L));
+    pool.getFacade(SETTINGS);
+    assertThat(createdExchanges).hasValue(2);
+    assertThat(pool.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should evict exchanges after maximum age, even if in use.")
+  void shouldEvictExchangesAfterMaxAge() {
+    Duration step = IDLE_TIMEOUT.dividedBy(2L);
+    for (Duration age = Duration.ZERO; age.compareTo(MAX_AGE) < 0; age = age.plus(step)) {
+      pool.getFacade(SETTINGS);
+      clock.advance(step);
+    }
+    assertThat(createdExchanges).hasValue(1);
+
+    clock.advance(Duration.ofSeconds(1L));
+    pool.getFacade(SETTINGS);
+    assertThat(createdExchanges).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Should not pool exchanges failing to be created.")
+  void shouldNotPoolFailedExchanges() {
+    GCExchangeFacadePool failingPool = new GCExchangeFacadePool(facadeFactory(), config -> {
+      createdExchanges.incrementAndGet();
+      throw new IllegalStateException("Connection refused.");
+    }, IDLE_TIMEOUT, MAX_AGE, clock);
+
+    assertThatThrownBy(() -> failingPool.getFacade(SETTINGS))
+      .isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> failingPool.getFacade(SETTINGS))
+      .isInstanceOf(IllegalStateException.class);
+    assertThat(createdExchanges).hasValue(2);
+    assertThat(failingPool.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should evict exchange, if the connector key got rejected.")
+  void shouldEvictExchangeOnRejectedConnectorKey() {
+    AtomicBoolean rejectConnectorKey = new AtomicBoolean();
+    GCExchangeFacadePool rejectingPool = new GCExchangeFacadePool((settings, exchanges) -> {
+      exchanges.apply(CONFIG);
+      if (rejectConnectorKey.get()) {
+        throw new GCFacadeConnectorKeyConfigException("Invalid connector key.");
+      }
+      return mock(GCExchangeFacade.class);
+    }, exchangeFactory(), IDLE_TIMEOUT, MAX_AGE, clock);
+
+    rejectingPool.getFacade(SETTINGS);
+    rejectConnectorKey.set(true);
+    assertThatThrownBy(() -> rejectingPool.getFacade(SETTINGS))
+      .isInstanceOf(GCFacadeConnectorKeyConfigException.class);
+    assertThat(rejectingPool.size()).isZero();
+
+    rejectConnectorKey.set(false);
+    rejectingPool.getFacade(SETTINGS);
+    assertThat(createdExchanges).hasValue(2);
+  }
+
+  @Test
+  @DisplayName("Fingerprint should only depend on connection settings.")
+  void fingerprintShouldOnlyDependOnConnectionSettings() {
+    String fingerprint = GCExchangeFacadePool.fingerprint(SETTINGS);
+
+    assertThat(GCExchangeFacadePool.fingerprint(SETTINGS.mergedWith(new Settings(Map.of("nested", Map.of("a", "1"))))))
+      .isEqualTo(fingerprint);
+    assertThat(GCExchangeFacadePool.fingerprint(SETTINGS.mergedWith(new Settings(Map.of(GCConfigProperty.KEY_API_KEY, "other-api-key")))))
+      .isNotEqualTo(fingerprint);
+    assertThat(fingerprint).doesNotContain("test-api-key");
+  }
+
+  private BiFunction<Settings, Function<GCConfig, GCExchange>, GCExchangeFacade> facadeFactory() {
+    return (settings, exchanges) -> {
+      usedExchanges.add(exchanges.apply(CONFIG));
+      return mock(GCExchangeFacade.class);
+    };
+  }
+
+  private Function<GCConfig, GCExchange> exchangeFactory() {
+    return config -> {
+      createdExchanges.incrementAndGet();
+      return mock(GCExchange.class);
+    };
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(10L, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link GCRateLimiter}.
+ */
+@NullMarked
+class GCRateLimiterTest {
+  private static final GCConnectionKey KEY = new GCConnectionKey("https://example.com/api", "test-connector-key", "hash");
+  private static final GCRateLimiter.Limits LIMITS = new GCRateLimiter.Limits(2, 2, Duration.ofMinutes(1L));
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+  private final List<Duration> sleeps = new ArrayList<>();
+  private GCRateLimiter rateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    sleeps.clear();
+    // Sleeping only advances the clock.
+    rateLimiter = new GCRateLimiter(clock, duration -> {
+      sleeps.add(duration);
+      clock.advance(duration);
+    });
+  }
+
+  @Test
+  @DisplayName("Should permit burst immediately and delay further requests.")
+  void shouldDelayRequestsExceedingBurst() {
+    for (int i = 0; i < 4; i++) {
+      call(LIMITS);
+    }
+
+    assertThat(sleeps).containsExactly(Duration.ofMillis(500L), Duration.ofMillis(500L));
+    assertThat(rateLimiter.stats())
+      .isEqualTo(new GCRateLimiter.Stats(4L, 2L, 0L, 0, Duration.ofSeconds(1L)));
+  }
+
+  @Test
+  @DisplayName("Should refill tokens over time.")
+  void shouldRefillTokens() {
+    call(LIMITS);
+    call(LIMITS);
+    clock.advance(Duration.ofSeconds(1L));
+    call(LIMITS);
+    call(LIMITS);
+
+    assertThat(sleeps).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should fail fast if request would wait longer than maximum wait time.")
+  void shouldRejectIfWaitExceedsMaximum() {
+    GCRateLimiter.Limits limits = new GCRateLimiter.Limits(1, 1, Duration.ZERO);
+
+    call(limits);
+
+    assertThatThrownBy(() -> call(limits))
+      .isInstanceOf(GCFacadeCommunicationException.class);
+    assertThat(rateLimiter.stats().rejected()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("Should not limit, if disabled.")
+  void shouldNotLimitIfDisabled() {
+    for (int i = 0; i < 10; i++) {
+      call(GCRateLimiter.Limits.DISABLED);
+    }
+
+    assertThat(sleeps).isEmpty();
+    assertThat(rateLimiter.stats().permits()).isZero();
+  }
+
+  /**
+   * Sends a request through the rate limiter.
+   */
+  private String call(GCRateLimiter.Limits limits) {
+    return rateLimiter.call(KEY, limits, () -> "response");
+  }
+}
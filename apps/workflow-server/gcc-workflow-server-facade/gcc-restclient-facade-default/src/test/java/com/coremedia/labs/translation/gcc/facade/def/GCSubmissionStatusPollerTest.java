@@ -0,0 +1,240 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import com.coremedia.labs.translation.gcc.facade.GCSubmissionModel;
+import com.coremedia.labs.translation.gcc.facade.GCSubmissionSnapshot;
+import org.gs4tr.gcc.restclient.GCConfig;
+import org.gs4tr.gcc.restclient.model.GCSubmission;
+import org.gs4tr.gcc.restclient.operation.Submissions;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests {@link GCSubmissionStatusPoller}.
+ */
+@NullMarked
+class GCSubmissionStatusPollerTest {
+  private static final Duration MAX_AGE = Duration.ofMinutes(1L);
+  private static final int MAX_PAGES = 10;
+  private static final Duration TASKS_MAX_AGE = Duration.ofSeconds(30L);
+  private static final GCConfig CONFIG = GCConfig.builder()
+    .apiUrl("https://example.com/api")
+    .apiKey("test-api-key")
+    .connectorKey("test-connector-key")
+    .build();
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+  private final List<Long> requestedPages = new ArrayList<>();
+  private final AtomicInteger loads = new AtomicInteger();
+  private GCSubmissionStatusPoller poller;
+
+  @BeforeEach
+  void setUp() {
+    requestedPages.clear();
+    loads.set(0);
+    poller = new GCSubmissionStatusPoller(Duration.ofHours(1L), clock);
+  }
+
+  @Test
+  @DisplayName("Should answer requests for all tracked submissions from one poll.")
+  void shouldAnswerTrackedSubmissionsFromOnePoll() {
+    GCSubmission first = submission(1L);
+    GCSubmission second = submission(2L);
+    GCSubmissionStatusPoller.SubmissionLister lister = lister(List.of(List.of(first, second)));
+
+    assertThat(poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader())).isSameAs(first);
+    // Second submission not tracked yet: triggers another poll.
+    assertThat(poller.getSubmission(CONFIG, 2L, MAX_AGE, MAX_PAGES, lister, loader())).isSameAs(second);
+
+    clock.advance(MAX_AGE.minusSeconds(1L));
+    assertThat(poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader())).isNotNull();
+    assertThat(poller.getSubmission(CONFIG, 2L, MAX_AGE, MAX_PAGES, lister, loader())).isNotNull();
+
+    assertThat(requestedPages).containsExactly(1L, 1L);
+    assertThat(loads).hasValue(0);
+    assertThat(poller.stats()).isEqualTo(new GCSubmissionStatusPoller.Stats(2L, 2L, 2L, 0L));
+  }
+
+  @Test
+  @DisplayName("Should poll again once entries exceed their maximum age.")
+  void shouldPollAgainAfterMaxAge() {
+    GCSubmissionStatusPoller.SubmissionLister lister = lister(List.of(List.of(submission(1L))));
+
+    poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader());
+    clock.advance(MAX_AGE);
+    poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader());
+
+    assertThat(requestedPages).containsExactly(1L, 1L);
+  }
+
+  @Test
+  @DisplayName("Should stop paging once all tracked submissions have been found.")
+  void shouldStopPagingOnceAllFound() {
+    GCSubmissionStatusPoller.SubmissionLister lister = lister(List.of(
+      List.of(submission(3L)),
+      List.of(submission(1L)),
+      List.of(submission(2L))
+    ));
+
+    poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader());
+
+    assertThat(requestedPages).containsExactly(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("Should request submission directly if not found by polling.")
+  void shouldFallBackToLoaderIfNotFound() {
+    GCSubmissionStatusPoller.SubmissionLister lister = lister(List.of(List.of(submission(2L))));
+
+    assertThat(poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader())).isNotNull();
+
+    assertThat(loads).hasValue(1);
+    assertThat(poller.stats().fallbackRequests()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("Should stop paging after maximum number of pages and stop tracking submissions not found.")
+  void shouldBoundPagingAndDropUnlistedSubmissions() {
+    GCSubmissionStatusPoller.SubmissionLister lister = lister(List.of(
+      List.of(submission(3L)),
+      List.of(submission(4L)),
+      List.of(submission(1L))
+    ));
+
+    assertThat(poller.getSubmission(CONFIG, 1L, MAX_AGE, 2, lister, loader())).isNotNull();
+    assertThat(requestedPages).containsExactly(1L, 2L);
+    assertThat(loads).hasValue(1);
+
+    clock.advance(MAX_AGE);
+    assertThat(poller.getSubmission(CONFIG, 1L, MAX_AGE, 2, lister, loader())).isNotNull();
+    assertThat(requestedPages)
+      .describedAs("Submissions not found shall not trigger paging again.")
+      .containsExactly(1L, 2L);
+    assertThat(loads).hasValue(2);
+
+    clock.advance(Duration.ofHours(1L));
+    poller.getSubmission(CONFIG, 1L, MAX_AGE, 2, lister, loader());
+    assertThat(requestedPages)
+      .describedAs("Submissions not found shall be tracked again after the tracking timeout.")
+      .containsExactly(1L, 2L, 1L, 2L);
+  }
+
+  @Test
+  @DisplayName("Should provide snapshot only while the cached submission is unchanged.")
+  void shouldProvideSnapshotWhileSubmissionUnchanged() {
+    GCSubmission first = submission(1L);
+    GCSubmissionStatusPoller.SubmissionLister lister = lister(List.of(List.of(first)));
+    GCSubmissionSnapshot snapshot = GCSubmissionSnapshot.withoutTasks(GCSubmissionModel.builder(1L).build());
+
+    GCSubmission submission = requireNonNull(poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader()));
+    assertThat(poller.findSnapshot(CONFIG, 1L, submission, TASKS_MAX_AGE)).isNull();
+    poller.putSnapshot(CONFIG, 1L, submission, snapshot);
+    assertThat(poller.findSnapshot(CONFIG, 1L, submission, TASKS_MAX_AGE)).isSameAs(snapshot);
+
+    poller.invalidate(CONFIG, 1L);
+    assertThat(poller.findSnapshot(CONFIG, 1L, submission, TASKS_MAX_AGE))
+      .describedAs("Invalidation shall remove the snapshot.")
+      .isNull();
+
+    submission = requireNonNull(poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader()));
+    poller.putSnapshot(CONFIG, 1L, submission, snapshot);
+    clock.advance(MAX_AGE);
+    GCSubmission polledAgain = requireNonNull(poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister(List.of(List.of(submission(1L)))), loader()));
+    assertThat(poller.findSnapshot(CONFIG, 1L, polledAgain, TASKS_MAX_AGE))
+      .describedAs("Polling again shall remove the snapshot.")
+      .isNull();
+  }
+
+  @Test
+  @DisplayName("Should not provide snapshot older than its maximum age, even if the submission is unchanged.")
+  void shouldNotProvideSnapshotOlderThanMaxAge() {
+    GCSubmissionStatusPoller.SubmissionLister lister = lister(List.of(List.of(submission(1L))));
+    GCSubmissionSnapshot snapshot = GCSubmissionSnapshot.withoutTasks(GCSubmissionModel.builder(1L).build());
+
+    GCSubmission submission = requireNonNull(poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader()));
+    poller.putSnapshot(CONFIG, 1L, submission, snapshot);
+    assertThat(poller.findSnapshot(CONFIG, 1L, submission, Duration.ZERO))
+      .describedAs("Zero maximum age shall bypass the snapshot.")
+      .isNull();
+    clock.advance(TASKS_MAX_AGE);
+
+    assertThat(poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader()))
+      .describedAs("Submission shall still be cached.")
+      .isSameAs(submission);
+    assertThat(poller.findSnapshot(CONFIG, 1L, submission, TASKS_MAX_AGE)).isNull();
+  }
+
+  @Test
+  @DisplayName("Should request submission directly if polling fails.")
+  void shouldFallBackToLoaderIfPollingFails() {
+    GCSubmissionStatusPoller.SubmissionLister lister = pageNumber -> {
+      throw new GCFacadeCommunicationException("Failed.");
+    };
+
+    assertThat(poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader())).isNotNull();
+
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should poll again after invalidation.")
+  void shouldPollAgainAfterInvalidation() {
+    GCSubmissionStatusPoller.SubmissionLister lister = lister(List.of(List.of(submission(1L))));
+
+    poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader());
+    poller.invalidate(CONFIG, 1L);
+    poller.getSubmission(CONFIG, 1L, MAX_AGE, MAX_PAGES, lister, loader());
+
+    assertThat(requestedPages).containsExactly(1L, 1L);
+  }
+
+  @Test
+  @DisplayName("Should bypass polling for zero maximum age.")
+  void shouldBypassForZeroMaxAge() {
+    GCSubmissionStatusPoller.SubmissionLister lister = lister(List.of(List.of(submission(1L))));
+
+    poller.getSubmission(CONFIG, 1L, Duration.ZERO, MAX_PAGES, lister, loader());
+    poller.getSubmission(CONFIG, 1L, Duration.ZERO, MAX_PAGES, lister, loader());
+
+    assertThat(requestedPages).isEmpty();
+    assertThat(loads).hasValue(2);
+  }
+
+  private GCSubmissionStatusPoller.SubmissionLister lister(List<List<GCSubmission>> pages) {
+    return pageNumber -> {
+      requestedPages.add(pageNumber);
+      Submissions.SubmissionsResponseData response = mock(Submissions.SubmissionsResponseData.class);
+      when(response.getSubmissions()).thenReturn(pages.get((int) pageNumber - 1));
+      when(response.getTotalResultPagesCount()).thenReturn((long) pages.size());
+      return response;
+    };
+  }
+
+  private LongFunction<@Nullable GCSubmission> loader() {
+    return submissionId -> {
+      loads.incrementAndGet();
+      return submission(submissionId);
+    };
+  }
+
+  private static GCSubmission submission(long submissionId) {
+    GCSubmission submission = mock(GCSubmission.class);
+    when(submission.getSubmissionId()).thenReturn(submissionId);
+    return submission;
+  }
+}
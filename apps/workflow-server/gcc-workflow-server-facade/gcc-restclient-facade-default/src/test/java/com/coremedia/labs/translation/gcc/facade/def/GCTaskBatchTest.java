@@ -0,0 +1,91 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link GCTaskBatch}.
+ */
+@NullMarked
+class GCTaskBatchTest {
+  private static final List<Long> TASK_IDS = List.of(3L, 1L, 2L, 4L);
+
+  @ParameterizedTest(name = "[{index}] parallelism: {0}")
+  @DisplayName("Should process all tasks and report outcome per task.")
+  @ValueSource(ints = {1, 2, 16})
+  void shouldProcessAllTasks(int parallelism) {
+    Set<Long> processed = ConcurrentHashMap.newKeySet();
+
+    GCTaskBatch.Outcome outcome = GCTaskBatch.run(TASK_IDS, parallelism, "test-", taskId -> {
+      processed.add(taskId);
+      if (taskId % 2 == 0) {
+        throw new IllegalStateException("Failed: " + taskId);
+      }
+    });
+
+    assertThat(processed).containsExactlyInAnyOrderElementsOf(TASK_IDS);
+    assertThat(outcome.succeeded()).containsExactly(1L, 3L);
+    assertThat(outcome.failures()).containsOnlyKeys(2L, 4L);
+    assertThat(outcome.isSuccess()).isFalse();
+  }
+
+  @ParameterizedTest(name = "[{index}] parallelism: {0}")
+  @DisplayName("Should not run more requests concurrently than configured.")
+  @ValueSource(ints = {1, 2, 3})
+  void shouldRespectParallelism(int parallelism) {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    GCTaskBatch.run(List.of(1L, 2L, 3L, 4L, 5L, 6L), parallelism, "test-", taskId -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(10L);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      running.decrementAndGet();
+    });
+
+    assertThat(maxRunning.get()).isBetween(1, parallelism);
+  }
+
+  @ParameterizedTest(name = "[{index}] parallelism: {0}")
+  @DisplayName("Should signal failures with first failure as cause.")
+  @ValueSource(ints = {1, 4})
+  void shouldSignalFailures(int parallelism) {
+    GCTaskBatch.Outcome outcome = GCTaskBatch.run(TASK_IDS, parallelism, "test-", taskId -> {
+      if (taskId % 2 == 0) {
+        throw new IllegalStateException("Failed: " + taskId);
+      }
+    });
+
+    assertThatThrownBy(() -> outcome.throwOnFailure("Failed tasks: %s", outcome.failures().keySet()))
+      .isInstanceOf(GCFacadeCommunicationException.class)
+      .hasMessageContaining("[2, 4]")
+      .hasCauseInstanceOf(IllegalStateException.class)
+      .hasRootCauseMessage("Failed: 2")
+      .satisfies(e -> assertThat(e.getSuppressed()).hasSize(1));
+  }
+
+  @ParameterizedTest(name = "[{index}] parallelism: {0}")
+  @DisplayName("Should not signal anything on success.")
+  @ValueSource(ints = {1, 4})
+  void shouldNotSignalOnSuccess(int parallelism) {
+    GCTaskBatch.Outcome outcome = GCTaskBatch.run(TASK_IDS, parallelism, "test-", taskId -> {
+    });
+
+    assertThat(outcome.isSuccess()).isTrue();
+    outcome.throwOnFailure("Unexpected failure.");
+  }
+}
@@ -0,0 +1,94 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link GCUploadMemoryBudget}.
+ */
+@NullMarked
+class GCUploadMemoryBudgetTest {
+  private static final GCUploadMemoryBudget.Limits LIMITS = new GCUploadMemoryBudget.Limits(10L, 100L, Duration.ZERO);
+
+  private final GCUploadMemoryBudget budget = new GCUploadMemoryBudget();
+
+  @Test
+  @DisplayName("Should not restrict uploads up to the in-memory threshold.")
+  void shouldNotRestrictSmallUploads() {
+    try (GCUploadMemoryBudget.Reservation ignored = budget.reserve("large.xliff", 100L, LIMITS)) {
+      try (GCUploadMemoryBudget.Reservation small = budget.reserve("small.xliff", 10L, LIMITS)) {
+        assertThat(small).isSameAs(GCUploadMemoryBudget.Reservation.NONE);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Should release reserved memory once closed.")
+  void shouldReleaseReservation() {
+    try (GCUploadMemoryBudget.Reservation ignored = budget.reserve("first.xliff", 60L, LIMITS)) {
+      assertThat(budget.stats().reservedBytes()).isEqualTo(60L);
+    }
+    try (GCUploadMemoryBudget.Reservation ignored = budget.reserve("second.xliff", 60L, LIMITS)) {
+      assertThat(budget.stats().reservedBytes()).isEqualTo(60L);
+    }
+
+    assertThat(budget.stats()).isEqualTo(new GCUploadMemoryBudget.Stats(2L, 0L, 0L, 0L));
+  }
+
+  @Test
+  @DisplayName("Should fail fast if budget is exhausted longer than maximum wait time.")
+  void shouldRejectIfBudgetExhausted() {
+    try (GCUploadMemoryBudget.Reservation ignored = budget.reserve("first.xliff", 60L, LIMITS)) {
+      assertThatThrownBy(() -> budget.reserve("second.xliff", 60L, LIMITS))
+        .isInstanceOf(GCFacadeCommunicationException.class)
+        .hasMessageContaining("second.xliff");
+    }
+
+    assertThat(budget.stats().rejected()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("Should permit a single upload exceeding the budget.")
+  void shouldPermitSingleOversizedUpload() {
+    try (GCUploadMemoryBudget.Reservation ignored = budget.reserve("huge.xliff", 1000L, LIMITS)) {
+      assertThat(budget.stats().reservedBytes()).isEqualTo(1000L);
+    }
+  }
+
+  @Test
+  @DisplayName("Should wait for other uploads to release memory.")
+  void shouldWaitForRelease() throws InterruptedException {
+    GCUploadMemoryBudget.Limits limits = new GCUploadMemoryBudget.Limits(10L, 100L, Duration.ofMinutes(1L));
+    GCUploadMemoryBudget.Reservation first = budget.reserve("first.xliff", 60L, limits);
+    Thread releaser = new Thread(() -> {
+      try {
+        Thread.sleep(100L);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      first.close();
+    });
+    releaser.start();
+
+    try (GCUploadMemoryBudget.Reservation ignored = budget.reserve("second.xliff", 60L, limits)) {
+      assertThat(budget.stats().reservedBytes()).isEqualTo(60L);
+    }
+    releaser.join();
+
+    assertThat(budget.stats().delayed()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("Should not restrict uploads, if disabled.")
+  void shouldNotRestrictIfDisabled() {
+    assertThat(budget.reserve("huge.xliff", Long.MAX_VALUE, GCUploadMemoryBudget.Limits.DISABLED))
+      .isSameAs(GCUploadMemoryBudget.Reservation.NONE);
+  }
+}
@@ -0,0 +1,40 @@
+package com.coremedia.labs.translation.gcc.facade.def;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Clock for testing purpose, that only advances on request.
+ */
+@NullMarked
+final class MutableClock extends Clock {
+  private volatile Instant instant;
+
+  MutableClock(Instant instant) {
+    this.instant = instant;
+  }
+
+  void advance(Duration duration) {
+    instant = instant.plus(duration);
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return ZoneOffset.UTC;
+  }
+
+  @Override
+  public Clock withZone(ZoneId zone) {
+    return this;
+  }
+
+  @Override
+  public Instant instant() {
+    return instant;
+  }
+}
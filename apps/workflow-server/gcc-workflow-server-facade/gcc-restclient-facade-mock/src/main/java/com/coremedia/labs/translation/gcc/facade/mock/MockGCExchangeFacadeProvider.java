@@ -1,5 +1,7 @@
 package com.coremedia.labs.translation.gcc.facade.mock;
 
+import com.coremedia.labs.translation.gcc.facade.GCCircuitBreaker;
+import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
 import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
 import com.coremedia.labs.translation.gcc.facade.GCExchangeFacadeProvider;
 import com.coremedia.labs.translation.gcc.util.Settings;
@@ -20,6 +22,10 @@ public class MockGCExchangeFacadeProvider implements GCExchangeFacadeProvider {
 
   @Override
   public GCExchangeFacade getFacade(Settings settings) {
-    return new MockedGCExchangeFacade(fromGlobalLinkConfig(settings));
+    // Facades connecting to the same (mocked) URL share one circuit.
+    String endpoint = settings.at(GCConfigProperty.KEY_URL)
+      .map(String::valueOf)
+      .orElse(TYPE_TOKEN);
+    return new MockedGCExchangeFacade(fromGlobalLinkConfig(settings), GCCircuitBreaker.Config.fromGlobalLinkConfig(settings), endpoint);
   }
 }
@@ -1,7 +1,9 @@
 package com.coremedia.labs.translation.gcc.facade.mock;
 
+import com.coremedia.labs.translation.gcc.facade.GCCircuitBreaker;
 import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
 import com.coremedia.labs.translation.gcc.facade.GCExchangeFacadeSessionProvider;
+import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionModel;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionState;
 import com.coremedia.labs.translation.gcc.facade.GCTaskModel;
@@ -25,6 +27,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
 
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.util.stream.Collectors.toList;
@@ -49,9 +52,26 @@ public final class MockedGCExchangeFacade implements GCExchangeFacade {
    */
   private static final SubmissionStore submissionStore = SubmissionStore.getInstance();
   private final MockSettings mockSettings;
+  private final GCCircuitBreaker.Config circuitBreakerConfig;
+  private final String endpoint;
 
   public MockedGCExchangeFacade(MockSettings mockSettings) {
+    this(mockSettings, GCCircuitBreaker.Config.DISABLED, MockGCExchangeFacadeProvider.TYPE_TOKEN);
+  }
+
+  /**
+   * Constructor, guarding the simulated requests to GCC by the shared
+   * circuit breaker.
+   *
+   * @param mockSettings         settings of the mock
+   * @param circuitBreakerConfig configuration of the circuit breaker
+   * @param endpoint             endpoint to share the circuit for
+   * @since 2512.1.0-1
+   */
+  public MockedGCExchangeFacade(MockSettings mockSettings, GCCircuitBreaker.Config circuitBreakerConfig, String endpoint) {
     this.mockSettings = mockSettings;
+    this.circuitBreakerConfig = circuitBreakerConfig;
+    this.endpoint = endpoint;
     // By intention may adapt the settings also within the submission store
     // on each new instance creation of the facade. While this is not meant
     // to update the settings for existing/running submissions and tasks,
@@ -70,7 +90,7 @@ public final class MockedGCExchangeFacade implements GCExchangeFacade {
 
   @Override
   public String uploadContent(String fileName, Resource resource, @Nullable Locale sourceLocale) {
-    mockSettings.scenario().upload().startUpload();
+    runSimulatingOutageTimeout(() -> mockSettings.scenario().upload().startUpload());
     return contentStore.addContent(resource);
   }
 
@@ -90,7 +110,7 @@ public final class MockedGCExchangeFacade implements GCExchangeFacade {
   @Override
   public int cancelSubmission(long submissionId) {
 
-    Optional<Integer> mockHttpResponse = mockSettings.scenario().cancellation().startCancellation();
+    Optional<Integer> mockHttpResponse = simulatingOutageTimeout(() -> mockSettings.scenario().cancellation().startCancellation());
 
     if (mockHttpResponse.isPresent()) {
       return mockHttpResponse.get();
@@ -117,7 +137,7 @@ public final class MockedGCExchangeFacade implements GCExchangeFacade {
 
   private void downloadTask(Task task, BiPredicate<? super InputStream, ? super GCTaskModel> taskDataConsumer) {
 
-    mockSettings.scenario().download().startDownload();
+    runSimulatingOutageTimeout(() -> mockSettings.scenario().download().startDownload());
 
     boolean success = false;
     String untranslatedContent = task.getContent();
@@ -135,6 +155,44 @@ public final class MockedGCExchangeFacade implements GCExchangeFacade {
     }
   }
 
+  private void runSimulatingOutageTimeout(Runnable interceptor) {
+    simulatingOutageTimeout(() -> {
+      interceptor.run();
+      return null;
+    });
+  }
+
+  /**
+   * Calls the given interceptor as simulated request to GCC, guarded by the
+   * circuit breaker. If it simulates an outage, blocks the calling thread
+   * for the configured outage timeout before failing, just as a request to
+   * an unavailable GCC would.
+   *
+   * @param interceptor interceptor of the scenario
+   * @param <T>         type of the result
+   * @return result of the interceptor
+   */
+  private <T extends @Nullable Object> T simulatingOutageTimeout(Supplier<T> interceptor) {
+    return GCCircuitBreaker.getInstance().call(endpoint, circuitBreakerConfig, () -> simulatingUnguardedOutageTimeout(interceptor));
+  }
+
+  private <T extends @Nullable Object> T simulatingUnguardedOutageTimeout(Supplier<T> interceptor) {
+    try {
+      return interceptor.get();
+    } catch (GCFacadeCommunicationException e) {
+      long timeoutMillis = mockSettings.outageTimeout().toMillis();
+      if (timeoutMillis > 0L) {
+        LOG.debug("Simulating connection timeout of {} ms.", timeoutMillis);
+        try {
+          Thread.sleep(timeoutMillis);
+        } catch (InterruptedException ie) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      throw e;
+    }
+  }
+
   @Override
   public void confirmCancelledTasks(long submissionId) {
     Collection<Task> cancelledTasks = submissionStore.getCancelledTasks(submissionId);
@@ -1,6 +1,6 @@
 package com.coremedia.labs.translation.gcc.facade.mock.scenarios;
 
-import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import com.coremedia.labs.translation.gcc.facade.GCFacadeUnavailableException;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionModel;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionState;
 import org.jspecify.annotations.NullMarked;
@@ -11,6 +11,11 @@ import java.util.Set;
 /**
  * A scenario that simulates a cancellation attempt resulting in a communication error.
  * <p>
+ * To simulate connection timeouts, configure
+ * {@code mock.outageTimeoutMillis}. Combined with the circuit breaker
+ * ({@code circuitBreaker.failureThreshold}), subsequent requests fail fast
+ * once the circuit opened.
+ * <p>
  * <strong>Identifier:</strong> {@value #ID}
  *
  * @since 2506.0.1-1
@@ -66,6 +71,6 @@ public class GccOutageOnCancellationScenario implements Scenario, CancellationIn
    */
   @Override
   public Optional<Integer> startCancellation() {
-    throw new GCFacadeCommunicationException("Exception to test cancel communication errors with translation service.");
+    throw new GCFacadeUnavailableException("Exception to test cancel communication errors with translation service.");
   }
 }
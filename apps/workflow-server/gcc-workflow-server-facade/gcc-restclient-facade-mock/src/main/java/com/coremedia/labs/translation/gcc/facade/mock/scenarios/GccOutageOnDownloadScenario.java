@@ -1,15 +1,20 @@
 package com.coremedia.labs.translation.gcc.facade.mock.scenarios;
 
-import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import com.coremedia.labs.translation.gcc.facade.GCFacadeUnavailableException;
 import org.jspecify.annotations.NullMarked;
 
 /**
  * A scenario that simulates an outage of the GCC service during the download.
  * <p>
- * This scenario throws a {@link GCFacadeCommunicationException} when the
+ * This scenario throws a {@link GCFacadeUnavailableException} when the
  * download is started. This can be used to test error handling in the workflow
  * when the GCC service is not reachable.
  * <p>
+ * To simulate connection timeouts, configure
+ * {@code mock.outageTimeoutMillis}. Combined with the circuit breaker
+ * ({@code circuitBreaker.failureThreshold}), subsequent requests fail fast
+ * once the circuit opened.
+ * <p>
  * <strong>Identifier:</strong> {@value #ID}
  *
  * @since 2506.0.1-1
@@ -27,12 +32,12 @@ public class GccOutageOnDownloadScenario implements Scenario, DownloadIntercepto
   }
 
   /**
-   * Simulates an outage by throwing a {@link GCFacadeCommunicationException}.
+   * Simulates an outage by throwing a {@link GCFacadeUnavailableException}.
    *
-   * @throws GCFacadeCommunicationException always thrown to simulate the outage
+   * @throws GCFacadeUnavailableException always thrown to simulate the outage
    */
   @Override
   public void startDownload() {
-    throw new GCFacadeCommunicationException("Exception to test download communication errors with translation service.");
+    throw new GCFacadeUnavailableException("Exception to test download communication errors with translation service.");
   }
 }
@@ -1,11 +1,16 @@
 package com.coremedia.labs.translation.gcc.facade.mock.scenarios;
 
-import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import com.coremedia.labs.translation.gcc.facade.GCFacadeUnavailableException;
 import org.jspecify.annotations.NullMarked;
 
 /**
  * A scenario that simulates an outage of the GCC service during the upload.
  * <p>
+ * To simulate connection timeouts, configure
+ * {@code mock.outageTimeoutMillis}. Combined with the circuit breaker
+ * ({@code circuitBreaker.failureThreshold}), subsequent requests fail fast
+ * once the circuit opened.
+ * <p>
  * <strong>Identifier:</strong> {@value #ID}
  *
  * @since 2506.0.1-1
@@ -23,12 +28,12 @@ public class GccOutageOnUploadScenario implements Scenario, UploadInterceptor {
   }
 
   /**
-   * Simulates an outage by throwing a {@link GCFacadeCommunicationException}.
+   * Simulates an outage by throwing a {@link GCFacadeUnavailableException}.
    *
-   * @throws GCFacadeCommunicationException always thrown to simulate the outage
+   * @throws GCFacadeUnavailableException always thrown to simulate the outage
    */
   @Override
   public void startUpload() {
-    throw new GCFacadeCommunicationException("Exception to test upload communication errors with translation service.");
+    throw new GCFacadeUnavailableException("Exception to test upload communication errors with translation service.");
   }
 }
@@ -7,6 +7,7 @@ import com.coremedia.labs.translation.gcc.util.Settings;
 import org.jspecify.annotations.NullMarked;
 import org.slf4j.Logger;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 
@@ -20,7 +21,8 @@ import static org.slf4j.LoggerFactory.getLogger;
 public record MockSettings(
   long stateChangeDelaySeconds,
   int stateChangeDelayOffsetPercentage,
-  Scenario scenario
+  Scenario scenario,
+  Duration outageTimeout
 ) {
   private static final Logger LOG = getLogger(lookup().lookupClass());
 
@@ -32,7 +34,8 @@ public record MockSettings(
   public static final MockSettings EMPTY = new MockSettings(
     DEFAULT_STATE_CHANGE_DELAY_SECONDS,
     DEFAULT_STATE_CHANGE_DELAY_OFFSET_PERCENTAGE,
-    NoOperationScenario.INSTANCE
+    NoOperationScenario.INSTANCE,
+    Duration.ZERO
   );
 
   /**
@@ -77,11 +80,26 @@ public record MockSettings(
   // Planned to replace some of existing mocking strategies, like to
   // simulate errors.
   public static final String SCENARIO = "scenario";
+  /**
+   * Time in milliseconds, simulated outages block the calling thread,
+   * before failing. Simulates connection timeouts, as they occur during
+   * real outages of GCC. Defaults to {@code 0}, thus, failing immediately.
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String CONFIG_OUTAGE_TIMEOUT_MILLIS = "outageTimeoutMillis";
 
   public MockSettings {
     if (stateChangeDelayOffsetPercentage < 0 || stateChangeDelayOffsetPercentage > 100) {
       throw new IllegalArgumentException("Offset Percentage must be between 0 and 100.");
     }
+    if (outageTimeout.isNegative()) {
+      throw new IllegalArgumentException("Outage timeout must not be negative.");
+    }
+  }
+
+  public MockSettings(long stateChangeDelaySeconds, int stateChangeDelayOffsetPercentage, Scenario scenario) {
+    this(stateChangeDelaySeconds, stateChangeDelayOffsetPercentage, scenario, Duration.ZERO);
   }
 
   // jspecify-reference-checker: Fails to deal with instanceof pattern variable. Suppressed.
@@ -107,6 +125,7 @@ public record MockSettings(
     long stateChangeDelaySeconds = DEFAULT_STATE_CHANGE_DELAY_SECONDS;
     int stateChangeDelayOffsetPercentage = DEFAULT_STATE_CHANGE_DELAY_OFFSET_PERCENTAGE;
     Scenario scenario = NoOperationScenario.INSTANCE;
+    Duration outageTimeout = Duration.ZERO;
 
     Object stateChangeDelaySecondsObject = config.get(CONFIG_STATE_CHANGE_DELAY_SECONDS);
     if (stateChangeDelaySecondsObject == null) {
@@ -130,10 +149,16 @@ public record MockSettings(
       LOG.info("Active scenario: {} ({})", scenario.id(), scenario.getClass().getName());
     }
 
+    Object outageTimeoutMillisObject = config.get(CONFIG_OUTAGE_TIMEOUT_MILLIS);
+    if (outageTimeoutMillisObject instanceof Number number) {
+      outageTimeout = Duration.ofMillis(Math.max(0L, number.longValue()));
+    }
+
     MockSettings mockSettings = new MockSettings(
       stateChangeDelaySeconds,
       stateChangeDelayOffsetPercentage,
-      scenario
+      scenario,
+      outageTimeout
     );
     LOG.debug("Parsed mock settings: {}", mockSettings);
     return mockSettings;
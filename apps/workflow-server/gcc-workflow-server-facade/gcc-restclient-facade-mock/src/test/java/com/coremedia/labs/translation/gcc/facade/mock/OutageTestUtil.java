@@ -0,0 +1,82 @@
+package com.coremedia.labs.translation.gcc.facade.mock;
+
+import com.coremedia.labs.translation.gcc.facade.DefaultGCExchangeFacadeSessionProvider;
+import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
+import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
+import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import com.coremedia.labs.translation.gcc.facade.mock.settings.MockSettings;
+import com.coremedia.labs.translation.gcc.util.Settings;
+import org.assertj.core.api.ThrowableAssert;
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Utilities to test the behavior of facades during simulated outages.
+ */
+@NullMarked
+public enum OutageTestUtil {
+  ;
+
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+  private static final Duration OUTAGE_TIMEOUT = Duration.ofMillis(250L);
+  private static final int FAILURE_THRESHOLD = 2;
+  private static final int ATTEMPTS = 10;
+
+  /**
+   * Opens a session with the mocked facade, where the outage simulated by
+   * the given scenario blocks for some connection timeout and where the
+   * circuit breaker is enabled. Each test name gets its own circuit.
+   *
+   * @param testName   name of the test, to separate circuits
+   * @param scenarioId scenario to simulate
+   * @return facade
+   */
+  public static GCExchangeFacade openCircuitBreakingSession(String testName, String scenarioId) {
+    return DefaultGCExchangeFacadeSessionProvider.defaultFactory().openSession(new Settings(Map.of(
+      GCConfigProperty.KEY_TYPE, MockGCExchangeFacadeProvider.TYPE_TOKEN,
+      GCConfigProperty.KEY_URL, "mock://%s".formatted(testName),
+      MockSettings.CONFIG_MOCK, Map.of(
+        MockSettings.CONFIG_STATE_CHANGE_DELAY_SECONDS, 2L,
+        MockSettings.SCENARIO, scenarioId,
+        MockSettings.CONFIG_OUTAGE_TIMEOUT_MILLIS, OUTAGE_TIMEOUT.toMillis()
+      ),
+      GCConfigProperty.KEY_CIRCUIT_BREAKER, Map.of(
+        GCConfigProperty.KEY_FAILURE_THRESHOLD, FAILURE_THRESHOLD,
+        GCConfigProperty.KEY_OPEN_DURATION, "1h"
+      )
+    )));
+  }
+
+  /**
+   * Repeats the given request during an outage and asserts, that only the
+   * requests up to the failure threshold block the calling thread for the
+   * connection timeout, while all others fail fast. Thus, the time threads
+   * are occupied stays flat, no matter how many requests are sent.
+   *
+   * @param request request affected by the outage
+   */
+  public static void assertThreadOccupancyStaysFlat(ThrowableAssert.ThrowingCallable request) {
+    List<Duration> occupancies = new ArrayList<>();
+    for (int i = 0; i < ATTEMPTS; i++) {
+      long start = System.nanoTime();
+      assertThatThrownBy(request).isInstanceOf(GCFacadeCommunicationException.class);
+      occupancies.add(Duration.ofNanos(System.nanoTime() - start));
+    }
+    LOG.info("Thread occupancy per request during outage: {}", occupancies);
+
+    assertThat(occupancies.subList(0, FAILURE_THRESHOLD))
+      .allSatisfy(occupancy -> assertThat(occupancy).isGreaterThanOrEqualTo(OUTAGE_TIMEOUT));
+    assertThat(occupancies.subList(FAILURE_THRESHOLD, ATTEMPTS))
+      .allSatisfy(occupancy -> assertThat(occupancy).isLessThan(OUTAGE_TIMEOUT));
+  }
+}
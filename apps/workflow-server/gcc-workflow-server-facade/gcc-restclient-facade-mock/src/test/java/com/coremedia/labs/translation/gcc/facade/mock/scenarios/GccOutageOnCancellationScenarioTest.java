@@ -16,6 +16,8 @@ import java.time.ZonedDateTime;
 import java.util.Locale;
 import java.util.Map;
 
+import static com.coremedia.labs.translation.gcc.facade.mock.OutageTestUtil.assertThreadOccupancyStaysFlat;
+import static com.coremedia.labs.translation.gcc.facade.mock.OutageTestUtil.openCircuitBreakingSession;
 import static com.coremedia.labs.translation.gcc.facade.mock.SubmissionTestUtil.xliffResource;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -48,4 +50,27 @@ class GccOutageOnCancellationScenarioTest {
         .isInstanceOf(GCFacadeCommunicationException.class);
     }
   }
+
+  @Nested
+  class CircuitBreakerBehavior {
+    @Test
+    void shouldFailFastOnCancellationOnceCircuitIsOpen(TestInfo testInfo) {
+      String testName = testInfo.getDisplayName();
+
+      Resource xliffResource = xliffResource();
+
+      GCExchangeFacade facade = openCircuitBreakingSession(testName, GccOutageOnCancellationScenario.ID);
+
+      String fileId = facade.uploadContent(testName, xliffResource, Locale.US);
+      long submissionId = facade.submitSubmission(
+        testName,
+        null,
+        ZonedDateTime.of(LocalDateTime.now(ZoneId.systemDefault()).plusHours(2L), ZoneId.systemDefault()),
+        null,
+        "admin",
+        Locale.US, singletonMap(fileId, singletonList(Locale.ROOT)));
+
+      assertThreadOccupancyStaysFlat(() -> facade.cancelSubmission(submissionId));
+    }
+  }
 }
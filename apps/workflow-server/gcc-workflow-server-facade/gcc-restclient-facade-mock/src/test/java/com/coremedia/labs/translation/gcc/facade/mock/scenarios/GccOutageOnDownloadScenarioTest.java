@@ -20,6 +20,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.function.BiPredicate;
 
+import static com.coremedia.labs.translation.gcc.facade.mock.OutageTestUtil.assertThreadOccupancyStaysFlat;
+import static com.coremedia.labs.translation.gcc.facade.mock.OutageTestUtil.openCircuitBreakingSession;
 import static com.coremedia.labs.translation.gcc.facade.mock.SubmissionTestUtil.assertSubmissionReachesState;
 import static com.coremedia.labs.translation.gcc.facade.mock.SubmissionTestUtil.xliffResource;
 import static java.util.Collections.singletonList;
@@ -59,6 +61,31 @@ class GccOutageOnDownloadScenarioTest {
     }
   }
 
+  @Nested
+  class CircuitBreakerBehavior {
+    @Test
+    void shouldFailFastOnDownloadOnceCircuitIsOpen(TestInfo testInfo) {
+      String testName = testInfo.getDisplayName();
+
+      Resource xliffResource = xliffResource();
+
+      GCExchangeFacade facade = openCircuitBreakingSession(testName, GccOutageOnDownloadScenario.ID);
+
+      String fileId = facade.uploadContent(testName, xliffResource, Locale.US);
+      long submissionId = facade.submitSubmission(
+        testName,
+        null,
+        ZonedDateTime.of(LocalDateTime.now(ZoneId.systemDefault()).plusHours(2L), ZoneId.systemDefault()),
+        null,
+        "admin",
+        Locale.US, singletonMap(fileId, singletonList(Locale.ROOT)));
+
+      assertSubmissionReachesState(facade, submissionId, GCSubmissionState.COMPLETED);
+
+      assertThreadOccupancyStaysFlat(() -> facade.downloadCompletedTasks(submissionId, new TrueTaskDataConsumer()));
+    }
+  }
+
   private static class TrueTaskDataConsumer implements BiPredicate<InputStream, GCTaskModel> {
     @Override
     public boolean test(InputStream inputStream, GCTaskModel task) {
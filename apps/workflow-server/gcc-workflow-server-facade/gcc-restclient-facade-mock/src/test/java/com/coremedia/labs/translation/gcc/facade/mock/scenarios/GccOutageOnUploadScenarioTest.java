@@ -13,6 +13,8 @@ import org.springframework.core.io.Resource;
 import java.util.Locale;
 import java.util.Map;
 
+import static com.coremedia.labs.translation.gcc.facade.mock.OutageTestUtil.assertThreadOccupancyStaysFlat;
+import static com.coremedia.labs.translation.gcc.facade.mock.OutageTestUtil.openCircuitBreakingSession;
 import static com.coremedia.labs.translation.gcc.facade.mock.SubmissionTestUtil.xliffResource;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -38,4 +40,18 @@ class GccOutageOnUploadScenarioTest {
     }
   }
 
+  @Nested
+  class CircuitBreakerBehavior {
+    @Test
+    void shouldFailFastOnUploadOnceCircuitIsOpen(TestInfo testInfo) {
+      String testName = testInfo.getDisplayName();
+
+      Resource xliffResource = xliffResource();
+
+      GCExchangeFacade facade = openCircuitBreakingSession(testName, GccOutageOnUploadScenario.ID);
+
+      assertThreadOccupancyStaysFlat(() -> facade.uploadContent(testName, xliffResource, Locale.US));
+    }
+  }
+
 }
@@ -0,0 +1,335 @@
+package com.coremedia.labs.translation.gcc.facade;
+
+import com.coremedia.labs.translation.gcc.util.Settings;
+import com.coremedia.labs.translation.gcc.util.SettingsParser;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Circuit breaker for requests to GCC, shared by all facades connecting
+ * to the same endpoint.
+ * <p>
+ * During an outage of GCC, each request would otherwise wait for its own
+ * connection timeout, blocking the calling thread. Instead, the circuit
+ * opens after a configured number of consecutive failures, that is
+ * {@link GCFacadeUnavailableException}s or responses signaling a server
+ * error. While open, requests fail immediately with a
+ * {@link GCFacadeUnavailableException}, so that callers handle them just
+ * as any other communication error. Once the open duration elapsed, the
+ * circuit becomes half-open and lets exactly one request pass as probe: if
+ * it succeeds, the circuit closes again; if it fails, the circuit opens for
+ * another open duration.
+ * <p>
+ * Any other exception, like a rejection by the rate limit or a failure to
+ * process the response, signals, that GCC responded, thus, neither counts
+ * as failure nor as success. For this reason, each single request to GCC
+ * should be guarded on its own, rather than operations consisting of
+ * several requests and local processing.
+ *
+ * @see GCConfigProperty#KEY_CIRCUIT_BREAKER
+ * @since 2512.1.0-1
+ */
+@NullMarked
+public final class GCCircuitBreaker {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  private static final GCCircuitBreaker INSTANCE = new GCCircuitBreaker(Clock.systemUTC());
+
+  private final Clock clock;
+  private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong opened = new AtomicLong();
+  private final AtomicLong probes = new AtomicLong();
+
+  /**
+   * Constructor, meant for testing purpose only.
+   *
+   * @param clock clock to determine when to probe again
+   */
+  GCCircuitBreaker(Clock clock) {
+    this.clock = clock;
+  }
+
+  /**
+   * Provides the process-wide instance.
+   *
+   * @return shared circuit breaker
+   */
+  public static GCCircuitBreaker getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Performs the given request, guarded by the circuit of the given
+   * endpoint.
+   *
+   * @param endpoint identifier of the endpoint, the request is sent to
+   * @param config   configuration of the circuit breaker
+   * @param request  the request to perform
+   * @param <T>      type of the response
+   * @return response of the request
+   * @throws GCFacadeUnavailableException if the circuit is open or if GCC
+   *                                      is unavailable
+   */
+  public <T extends @Nullable Object> T call(String endpoint, Config config, Supplier<T> request) {
+    return call(endpoint, config, request, response -> false);
+  }
+
+  /**
+   * Performs the given request, guarded by the circuit of the given
+   * endpoint. Responses matching the given predicate count as failure, for
+   * example, if they signal a server error.
+   *
+   * @param endpoint  identifier of the endpoint, the request is sent to
+   * @param config    configuration of the circuit breaker
+   * @param request   the request to perform
+   * @param isFailure signals, if the response counts as failure
+   * @param <T>       type of the response
+   * @return response of the request, even if counted as failure
+   * @throws GCFacadeUnavailableException if the circuit is open or if GCC
+   *                                      is unavailable
+   */
+  public <T extends @Nullable Object> T call(String endpoint, Config config, Supplier<T> request, Predicate<? super T> isFailure) {
+    if (!config.isEnabled()) {
+      return request.get();
+    }
+    Circuit circuit = circuits.computeIfAbsent(endpoint, Circuit::new);
+    boolean probe = circuit.acquire(config);
+    try {
+      T result = request.get();
+      if (isFailure.test(result)) {
+        circuit.onFailure(config, probe);
+      } else {
+        circuit.onSuccess();
+      }
+      return result;
+    } catch (GCFacadeUnavailableException e) {
+      circuit.onFailure(config, probe);
+      throw e;
+    } catch (RuntimeException | Error e) {
+      circuit.onOtherOutcome(probe);
+      throw e;
+    }
+  }
+
+  /**
+   * Performs the given request, guarded by the circuit of the given
+   * endpoint.
+   *
+   * @param endpoint identifier of the endpoint, the request is sent to
+   * @param config   configuration of the circuit breaker
+   * @param request  the request to perform
+   * @throws GCFacadeUnavailableException if the circuit is open or if GCC
+   *                                      is unavailable
+   * @see #call(String, Config, Supplier)
+   */
+  public void run(String endpoint, Config config, Runnable request) {
+    call(endpoint, config, () -> {
+      request.run();
+      return null;
+    });
+  }
+
+  /**
+   * Current state of the circuit for the given endpoint.
+   *
+   * @param endpoint identifier of the endpoint
+   * @return state of the circuit; {@link State#CLOSED} for unknown endpoints
+   */
+  public State getState(String endpoint) {
+    Circuit circuit = circuits.get(endpoint);
+    return circuit == null ? State.CLOSED : circuit.getState();
+  }
+
+  /**
+   * Statistics of all circuits, to monitor outages.
+   *
+   * @return statistics
+   */
+  public Stats stats() {
+    return new Stats(rejected.get(), opened.get(), probes.get());
+  }
+
+  /**
+   * Closes all circuits and resets the statistics.
+   */
+  public void clear() {
+    circuits.clear();
+    rejected.set(0L);
+    opened.set(0L);
+    probes.set(0L);
+  }
+
+  /**
+   * States of a circuit.
+   */
+  public enum State {
+    /**
+     * Requests pass.
+     */
+    CLOSED,
+    /**
+     * Requests fail fast.
+     */
+    OPEN,
+    /**
+     * One request passes as probe, others fail fast.
+     */
+    HALF_OPEN
+  }
+
+  /**
+   * Statistics of the circuit breaker.
+   *
+   * @param rejected number of requests, that failed fast
+   * @param opened   number of times, a circuit opened
+   * @param probes   number of requests, that passed as probe
+   */
+  public record Stats(long rejected, long opened, long probes) {
+  }
+
+  /**
+   * Configuration of the circuit breaker.
+   *
+   * @param failureThreshold number of consecutive failures,
+   *                         after which the circuit opens; non-positive
+   *                         values disable the circuit breaker
+   * @param openDuration     time, the circuit stays open before probing
+   */
+  public record Config(int failureThreshold, Duration openDuration) {
+    /**
+     * Default time, the circuit stays open before probing.
+     */
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofMinutes(1L);
+    /**
+     * Configuration, that disables the circuit breaker.
+     */
+    public static final Config DISABLED = new Config(0, DEFAULT_OPEN_DURATION);
+
+    public Config {
+      Objects.requireNonNull(openDuration);
+      if (openDuration.isNegative()) {
+        throw new IllegalArgumentException("Open duration must not be negative: %s".formatted(openDuration));
+      }
+    }
+
+    public boolean isEnabled() {
+      return failureThreshold > 0;
+    }
+
+    /**
+     * Determines the configuration within
+     * {@link GCConfigProperty#KEY_CIRCUIT_BREAKER}. Missing, unparsable, or
+     * non-positive failure thresholds disable the circuit breaker. The open
+     * duration defaults to {@link #DEFAULT_OPEN_DURATION}.
+     *
+     * @param config the {@code globalLink} configuration
+     * @return configuration to apply
+     */
+    public static Config fromGlobalLinkConfig(Settings config) {
+      int failureThreshold = SettingsParser.findInteger(config, GCConfigProperty.KEY_CIRCUIT_BREAKER, GCConfigProperty.KEY_FAILURE_THRESHOLD)
+        .orElse(0);
+      if (failureThreshold <= 0) {
+        return DISABLED;
+      }
+      Duration openDuration = SettingsParser.findDuration(config, GCConfigProperty.KEY_CIRCUIT_BREAKER, GCConfigProperty.KEY_OPEN_DURATION)
+        .filter(value -> !value.isNegative())
+        .orElse(DEFAULT_OPEN_DURATION);
+      return new Config(failureThreshold, openDuration);
+    }
+  }
+
+  /**
+   * State machine of one endpoint.
+   */
+  private final class Circuit {
+    private final String endpoint;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openUntil = Instant.MIN;
+    private boolean probeInFlight;
+
+    private Circuit(String endpoint) {
+      this.endpoint = endpoint;
+    }
+
+    private synchronized State getState() {
+      return state;
+    }
+
+    /**
+     * Acquires permission to send a request.
+     *
+     * @return {@code true}, if the request is the probe of a half-open
+     * circuit; {@code false} otherwise
+     * @throws GCFacadeUnavailableException if the request must fail fast
+     */
+    private synchronized boolean acquire(Config config) {
+      if (state == State.CLOSED) {
+        return false;
+      }
+      if (state == State.OPEN && clock.instant().isBefore(openUntil)) {
+        rejected.incrementAndGet();
+        throw new GCFacadeUnavailableException(
+          "Circuit for GCC endpoint %s is open after %d consecutive failures. Failing fast until %s.",
+          endpoint, consecutiveFailures, openUntil);
+      }
+      if (probeInFlight) {
+        rejected.incrementAndGet();
+        throw new GCFacadeUnavailableException(
+          "Circuit for GCC endpoint %s is half-open. Failing fast while probing for availability.",
+          endpoint);
+      }
+      state = State.HALF_OPEN;
+      probeInFlight = true;
+      probes.incrementAndGet();
+      LOG.info("Circuit for GCC endpoint {} is half-open. Probing for availability (open duration: {}).", endpoint, config.openDuration());
+      return true;
+    }
+
+    private synchronized void onSuccess() {
+      if (state != State.CLOSED) {
+        LOG.info("Circuit for GCC endpoint {} closed. GCC is available again.", endpoint);
+      }
+      state = State.CLOSED;
+      consecutiveFailures = 0;
+      probeInFlight = false;
+    }
+
+    private synchronized void onFailure(Config config, boolean probe) {
+      if (state == State.OPEN) {
+        // Late failure of a request sent before the circuit opened.
+        return;
+      }
+      consecutiveFailures++;
+      if (probe || consecutiveFailures >= config.failureThreshold()) {
+        state = State.OPEN;
+        openUntil = clock.instant().plus(config.openDuration());
+        probeInFlight = false;
+        opened.incrementAndGet();
+        LOG.warn("Circuit for GCC endpoint {} opened after {} consecutive failures. Failing fast until {}.", endpoint, consecutiveFailures, openUntil);
+      }
+    }
+
+    private synchronized void onOtherOutcome(boolean probe) {
+      if (probe) {
+        // Allow the next request to probe.
+        probeInFlight = false;
+      }
+    }
+  }
+}
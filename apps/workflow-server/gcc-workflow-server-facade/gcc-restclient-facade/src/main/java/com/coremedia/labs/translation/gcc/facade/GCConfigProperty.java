@@ -67,6 +67,445 @@ public final class GCConfigProperty {
    */
   public static final String KEY_FILE_TYPE = "fileType";
 
+  /**
+   * Time to live of cached connector metadata, such as the connector keys
+   * available in GCC and the file types supported by the connector. Cached
+   * entries are shared among all facades connecting to the same API URL with
+   * the same connector key.
+   * <p>
+   * Numbers are interpreted as seconds. Alternatively, a unit may be given,
+   * like {@code 10m}. A value of {@code 0} disables the cache. Defaults to
+   * ten minutes.
+   * <p>
+   * <strong>Type</strong>: {@code Integer} or {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_CONNECTOR_CACHE_TTL = "connectorCacheTtl";
+
+  /**
+   * Behavioral configuration for downloading translation results.
+   * <p>
+   * <strong>Type</strong>: {@code Struct}
+   *
+   * @see #KEY_PARALLELISM
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_DOWNLOAD = "download";
+
+  /**
+   * Behavioral configuration for importing downloaded translation results
+   * into the content repository.
+   * <p>
+   * <strong>Type</strong>: {@code Struct}
+   *
+   * @see #KEY_PARALLELISM
+   * @see #KEY_CHECKPOINT_DIRECTORY
+   * @see #KEY_MAX_AGE
+   * @see #KEY_FILES_PER_CHUNK
+   * @see #KEY_PRE_VALIDATION
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_IMPORT = "import";
+
+  /**
+   * Directory on local disk of the Workflow Server, to record successfully
+   * imported tasks in, used within {@link #KEY_IMPORT}. If the Workflow
+   * Server stops after importing a task, but before confirming it, the
+   * import is skipped on the next download, as long as the downloaded XLIFF
+   * did not change. Checkpoints are removed after {@link #KEY_MAX_AGE},
+   * defaulting to seven days. If unset (the default), no checkpoints are
+   * recorded.
+   * <p>
+   * <strong>Type</strong>: {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_CHECKPOINT_DIRECTORY = "checkpointDirectory";
+
+  /**
+   * Maximum number of {@code <file>} elements of a downloaded XLIFF to import
+   * at once, used within {@link #KEY_IMPORT}. If set, XLIFF is split into
+   * chunks of this many files while parsing it as stream, and the chunks
+   * are imported one after another. Thus, memory required by the import is
+   * bounded by the size of a chunk rather than the size of the XLIFF. If
+   * unset or {@code 0} (the default), XLIFF is imported at once.
+   * <p>
+   * <strong>Type</strong>: {@code Integer}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_FILES_PER_CHUNK = "filesPerChunk";
+
+  /**
+   * Signals, if downloaded XLIFF shall be validated before importing it,
+   * used within {@link #KEY_IMPORT}. Validation parses the XLIFF as stream,
+   * checks its basic structure and that the content items to import into
+   * exist. XLIFF failing validation is rejected without running the import,
+   * reporting corresponding import issues. Defaults to {@code false}.
+   * Does not apply, if XLIFF is imported while streaming it.
+   * <p>
+   * <strong>Type</strong>: {@code Boolean}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_PRE_VALIDATION = "preValidation";
+
+  /**
+   * Behavioral configuration for receiving status notifications of
+   * submissions and tasks sent by GlobalLink. On a notification, workflows
+   * waiting for the next download of the submission are woken up, rather
+   * than waiting for their retry delay to expire. Polling remains as
+   * fallback. Only read from Spring properties of the Workflow Server.
+   * <p>
+   * <strong>Type</strong>: {@code Struct}
+   *
+   * @see #KEY_PORT
+   * @see #KEY_PATH
+   * @see #KEY_SECRET
+   * @see #KEY_BIND_ADDRESS
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_NOTIFICATIONS = "notifications";
+
+  /**
+   * Port of the Workflow Server to receive notifications at, used within
+   * {@link #KEY_NOTIFICATIONS}. If unset (the default), no notifications are
+   * received. Requires {@link #KEY_SECRET}.
+   * <p>
+   * <strong>Type</strong>: {@code Integer}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_PORT = "port";
+
+  /**
+   * Path to receive notifications at, used within
+   * {@link #KEY_NOTIFICATIONS}. Defaults to {@code /gcc/notifications}.
+   * <p>
+   * <strong>Type</strong>: {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_PATH = "path";
+
+  /**
+   * Secret, that notifications must provide in header
+   * {@code X-GCC-Notification-Secret}, used within
+   * {@link #KEY_NOTIFICATIONS}. Required, if {@link #KEY_PORT} is set.
+   * <p>
+   * <strong>Type</strong>: {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_SECRET = "secret";
+
+  /**
+   * Address of the Workflow Server to receive notifications at, used within
+   * {@link #KEY_NOTIFICATIONS}. Defaults to the loopback address, so that
+   * notifications must be forwarded by a reverse proxy, unless configured
+   * otherwise, for example, {@code 0.0.0.0} for all addresses.
+   * <p>
+   * <strong>Type</strong>: {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_BIND_ADDRESS = "bindAddress";
+
+  /**
+   * Behavioral configuration for uploading contents, such as XLIFF files.
+   * <p>
+   * <strong>Type</strong>: {@code Struct}
+   *
+   * @see #KEY_IN_MEMORY_THRESHOLD
+   * @see #KEY_MEMORY_BUDGET
+   * @see #KEY_MAX_WAIT
+   * @see #KEY_PARALLELISM
+   * @see #KEY_MAX_ITEMS_PER_FILE
+   * @see #KEY_MAX_WORDS_PER_FILE
+   * @see #KEY_MAX_BYTES_PER_FILE
+   * @see #KEY_REUSE_WITHIN
+   * @see #KEY_DEDUPLICATE
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_UPLOAD = "upload";
+
+  /**
+   * Size up to which XLIFF files to upload are held in memory without
+   * restriction, used within {@link #KEY_UPLOAD}. XLIFF exported up to this
+   * size is uploaded directly from memory, larger exports are spilled to a
+   * temporary file. Uploads larger than this size are restricted by
+   * {@link #KEY_MEMORY_BUDGET}. A value of {@code 0} writes any export to a
+   * temporary file. Numbers are interpreted as bytes. Alternatively, a unit
+   * may be given, like {@code 16MB}. Defaults to {@code 16MB}.
+   * <p>
+   * <strong>Type</strong>: {@code Integer} or {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_IN_MEMORY_THRESHOLD = "inMemoryThreshold";
+
+  /**
+   * Memory, all uploads larger than {@link #KEY_IN_MEMORY_THRESHOLD} may
+   * occupy at the same time, used within {@link #KEY_UPLOAD}. Further large
+   * uploads wait, until memory is released. Numbers are interpreted as
+   * bytes. Alternatively, a unit may be given, like {@code 512MB}. A value
+   * of {@code 0} (the default) disables the budget.
+   * <p>
+   * <strong>Type</strong>: {@code Integer} or {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_MEMORY_BUDGET = "memoryBudget";
+
+  /**
+   * Maximum number of translation items (contents) per XLIFF file, used
+   * within {@link #KEY_UPLOAD}. Target locales with more items are split
+   * into several files within the same submission. A value of {@code 0}
+   * (the default) disables this limit.
+   * <p>
+   * <strong>Type</strong>: {@code Integer}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_MAX_ITEMS_PER_FILE = "maxItemsPerFile";
+
+  /**
+   * Maximum estimated number of words to translate per XLIFF file, used
+   * within {@link #KEY_UPLOAD}. Target locales with more words are split
+   * into several files within the same submission. A value of {@code 0}
+   * (the default) disables this limit.
+   * <p>
+   * <strong>Type</strong>: {@code Integer}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_MAX_WORDS_PER_FILE = "maxWordsPerFile";
+
+  /**
+   * Maximum size of an XLIFF file, used within {@link #KEY_UPLOAD}. Target
+   * locales exceeding this size are split into several files within the same
+   * submission. Numbers are interpreted as bytes. Alternatively, a unit may
+   * be given, like {@code 10MB}. A value of {@code 0} (the default) disables
+   * this limit.
+   * <p>
+   * <strong>Type</strong>: {@code Integer} or {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_MAX_BYTES_PER_FILE = "maxBytesPerFile";
+
+  /**
+   * Time, within which XLIFF files uploaded by a failed attempt to send a
+   * translation request are reused by a retry, instead of uploading them
+   * again, used within {@link #KEY_UPLOAD}. Files are only reused, if their
+   * content did not change. Numbers are interpreted as seconds.
+   * Alternatively, a unit may be given, like {@code 1h}. A value of
+   * {@code 0} (the default) disables reusing uploaded files.
+   * <p>
+   * <strong>Type</strong>: {@code Integer} or {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_REUSE_WITHIN = "reuseWithin";
+
+  /**
+   * Signals, if XLIFF files of different target locales, that only differ in
+   * their target language and in the references to their target contents,
+   * are uploaded only once and submitted for all these target locales, used
+   * within {@link #KEY_UPLOAD}. The downloaded translation is imported into
+   * the derived contents of the task's target locale. Thus, the setting must
+   * stay enabled, until all translation requests sent with it are
+   * completed. Defaults to {@code false}.
+   * <p>
+   * <strong>Type</strong>: {@code Boolean} or {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_DEDUPLICATE = "deduplicate";
+
+  /**
+   * Behavioral configuration for confirming tasks, such as confirming the
+   * delivery of completed tasks or confirming the cancellation of tasks.
+   * <p>
+   * <strong>Type</strong>: {@code Struct}
+   *
+   * @see #KEY_PARALLELISM
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_CONFIRMATION = "confirmation";
+
+  /**
+   * Number of requests to GCC to run concurrently. Used within structs, such
+   * as {@link #KEY_UPLOAD}, {@link #KEY_DOWNLOAD}, and
+   * {@link #KEY_CONFIRMATION}. Values greater
+   * than {@code 1} enable concurrent processing, bounded by an upper limit to
+   * protect GCC from too many concurrent requests. Defaults to {@code 1},
+   * thus, sequential processing.
+   * <p>
+   * Within {@link #KEY_IMPORT}, this is the number of tasks to download and
+   * import concurrently, each within its own session of the content
+   * repository.
+   * <p>
+   * <strong>Type</strong>: {@code Integer}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_PARALLELISM = "parallelism";
+
+  /**
+   * Behavioral configuration for polling the state of submissions. If
+   * enabled, the states of all submissions currently polled for by workflows
+   * are retrieved in a few paged list requests to GCC, and shared among all
+   * facades connecting to the same API URL with the same connector key.
+   * <p>
+   * <strong>Type</strong>: {@code Struct}
+   *
+   * @see #KEY_MAX_AGE
+   * @see #KEY_PAGE_SIZE
+   * @see #KEY_MAX_PAGES
+   * @see #KEY_TASKS_MAX_AGE
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_STATUS_POLLING = "statusPolling";
+
+  /**
+   * Maximum age of cached data. Used within structs, such as
+   * {@link #KEY_STATUS_POLLING} and {@link #KEY_IMPORT}. Numbers are
+   * interpreted as seconds. Alternatively, a unit may be given, like
+   * {@code 1m}. A value of {@code 0} disables caching.
+   * <p>
+   * <strong>Type</strong>: {@code Integer} or {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_MAX_AGE = "maxAge";
+
+  /**
+   * Number of results to request per page for paged requests to GCC. Used
+   * within structs, such as {@link #KEY_STATUS_POLLING}.
+   * <p>
+   * <strong>Type</strong>: {@code Integer}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_PAGE_SIZE = "pageSize";
+
+  /**
+   * Maximum number of pages to request per poll, used within
+   * {@link #KEY_STATUS_POLLING}. Submissions not found within these pages are
+   * requested one by one.
+   * <p>
+   * <strong>Type</strong>: {@code Integer}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_MAX_PAGES = "maxPages";
+
+  /**
+   * Maximum age of the cached tasks of a polled submission, used within
+   * {@link #KEY_STATUS_POLLING}. As long as the cached tasks are younger, and
+   * the submission did not get polled again, its tasks are not listed again.
+   * GCC provides no indicator for changed tasks, thus, tasks may change
+   * unnoticed within this time. Numbers are interpreted as seconds.
+   * Alternatively, a unit may be given, like {@code 1m}. A value of
+   * {@code 0} (the default) lists the tasks on each request.
+   * <p>
+   * <strong>Type</strong>: {@code Integer} or {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_TASKS_MAX_AGE = "tasksMaxAge";
+
+  /**
+   * Behavioral configuration for limiting the rate of requests to GCC. If
+   * enabled, requests of all facades connecting to the same API URL with the
+   * same connector key share one limit. The limit is applied on the client
+   * side only; configure it to stay below the quota granted by GCC.
+   * <p>
+   * <strong>Type</strong>: {@code Struct}
+   *
+   * @see #KEY_REQUESTS_PER_SECOND
+   * @see #KEY_BURST
+   * @see #KEY_MAX_WAIT
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_RATE_LIMIT = "rateLimit";
+
+  /**
+   * Sustained number of requests per second, used within
+   * {@link #KEY_RATE_LIMIT}. A value of {@code 0} (the default) disables
+   * rate limiting.
+   * <p>
+   * <strong>Type</strong>: {@code Integer}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_REQUESTS_PER_SECOND = "requestsPerSecond";
+
+  /**
+   * Number of requests, that may be sent at once, before requests get
+   * delayed, used within {@link #KEY_RATE_LIMIT}. Defaults to the number of
+   * requests per second.
+   * <p>
+   * <strong>Type</strong>: {@code Integer}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_BURST = "burst";
+
+  /**
+   * Maximum time to wait, used within structs, such as
+   * {@link #KEY_RATE_LIMIT} and {@link #KEY_UPLOAD}. Requests that would
+   * need to wait longer fail and are retried by the workflow later. Numbers
+   * are interpreted as seconds. Alternatively, a unit may be given, like
+   * {@code 1m}.
+   * <p>
+   * <strong>Type</strong>: {@code Integer} or {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_MAX_WAIT = "maxWait";
+
+  /**
+   * Behavioral configuration for failing fast during outages of GCC. If
+   * enabled, all requests to the same API URL share one circuit, which
+   * opens after a number of consecutive requests, that could not reach GCC
+   * or that failed with a server error ({@code 5xx}). While open, requests
+   * fail immediately. Once the open duration elapsed, one single request
+   * probes, if GCC is available again.
+   * <p>
+   * <strong>Type</strong>: {@code Struct}
+   *
+   * @see #KEY_FAILURE_THRESHOLD
+   * @see #KEY_OPEN_DURATION
+   * @see GCCircuitBreaker
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_CIRCUIT_BREAKER = "circuitBreaker";
+
+  /**
+   * Number of consecutive requests, that could not reach GCC or that failed
+   * with a server error, after which the circuit opens, used within {@link #KEY_CIRCUIT_BREAKER}. A value of {@code 0}
+   * (the default) disables the circuit breaker.
+   * <p>
+   * <strong>Type</strong>: {@code Integer}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_FAILURE_THRESHOLD = "failureThreshold";
+
+  /**
+   * Time, the circuit stays open before probing again, used within
+   * {@link #KEY_CIRCUIT_BREAKER}. Numbers are interpreted as seconds.
+   * Alternatively, a unit may be given, like {@code 1m}.
+   * <p>
+   * <strong>Type</strong>: {@code Integer} or {@code String}
+   *
+   * @since 2512.1.0-1
+   */
+  public static final String KEY_OPEN_DURATION = "openDuration";
+
   /**
    * Type of facade to instantiate. Optional key. Will default to
    * {@link #VALUE_TYPE_DEFAULT}.
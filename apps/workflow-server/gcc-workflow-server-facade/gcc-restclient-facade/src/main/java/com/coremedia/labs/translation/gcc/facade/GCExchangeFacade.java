@@ -20,6 +20,9 @@ import java.util.function.BiPredicate;
  *
  * @implSpec Implementations of this interface must be stateless, as they are
  * recreated several times during the lifecycle of the translation workflow.
+ * They must also be thread-safe, as providers may pool facades and share them
+ * between concurrently running workflow actions, as long as the settings they
+ * have been created with do not change.
  */
 @NullMarked
 public interface GCExchangeFacade {
@@ -117,6 +120,52 @@ public interface GCExchangeFacade {
    */
   void downloadCompletedTasks(long submissionId, BiPredicate<? super InputStream, ? super GCTaskModel> taskDataConsumer);
 
+  /**
+   * Downloads all completed tasks contained in the given snapshot. Other
+   * than {@link #downloadCompletedTasks(long, BiPredicate)}, the completed
+   * tasks are not retrieved again, if the snapshot includes the tasks.
+   * Contracts for the {@code taskDataConsumer} are the same.
+   *
+   * @implSpec The default implementation ignores the tasks of the snapshot
+   * and delegates to {@link #downloadCompletedTasks(long, BiPredicate)}.
+   *
+   * @param snapshot         snapshot of the submission to download completed task data of
+   * @param taskDataConsumer consumer for the input data
+   * @throws GCFacadeCommunicationException if completed tasks could not be downloaded or the {@code taskDataConsumer} threw an exception
+   * @see #getSubmissionSnapshot(long)
+   * @since 2512.1.0-1
+   */
+  default void downloadCompletedTasks(GCSubmissionSnapshot snapshot, BiPredicate<? super InputStream, ? super GCTaskModel> taskDataConsumer) {
+    downloadCompletedTasks(snapshot.getSubmissionId(), taskDataConsumer);
+  }
+
+  /**
+   * Downloads all completed tasks contained in the given snapshot, like
+   * {@link #downloadCompletedTasks(GCSubmissionSnapshot, BiPredicate)}, but
+   * may call the {@code taskDataConsumer} concurrently for up to the given
+   * number of tasks. Thus, the {@code taskDataConsumer} must be thread-safe.
+   * Contracts for the {@code taskDataConsumer} are the same: Each task is
+   * confirmed only, once the consumer accepted that very task.
+   * <p>
+   * Failures of single tasks do not stop processing the other tasks. They
+   * are reported once all tasks have been processed.
+   *
+   * @implSpec The default implementation ignores the parallelism and
+   * delegates to {@link #downloadCompletedTasks(GCSubmissionSnapshot, BiPredicate)}.
+   *
+   * @param snapshot            snapshot of the submission to download completed task data of
+   * @param consumerParallelism maximum number of tasks to pass to the {@code taskDataConsumer} concurrently;
+   *                            {@code 1} for sequential processing
+   * @param taskDataConsumer    thread-safe consumer for the input data
+   * @throws GCFacadeCommunicationException if completed tasks could not be downloaded or the {@code taskDataConsumer} threw an exception
+   * @since 2512.1.0-1
+   */
+  default void downloadCompletedTasks(GCSubmissionSnapshot snapshot,
+                                      int consumerParallelism,
+                                      BiPredicate<? super InputStream, ? super GCTaskModel> taskDataConsumer) {
+    downloadCompletedTasks(snapshot, taskDataConsumer);
+  }
+
   /**
    * Confirms the download of all completed tasks without actually downloading their data. This method basically
    * ignores the result of completed translations.
@@ -141,6 +190,24 @@ public interface GCExchangeFacade {
    */
   void confirmCancelledTasks(long submissionId);
 
+  /**
+   * Confirm all canceled tasks contained in the given snapshot, whose
+   * cancellation has not been confirmed yet. Other than
+   * {@link #confirmCancelledTasks(long)}, the canceled tasks are not
+   * retrieved again, if the snapshot includes the tasks.
+   *
+   * @implSpec The default implementation ignores the tasks of the snapshot
+   * and delegates to {@link #confirmCancelledTasks(long)}.
+   *
+   * @param snapshot snapshot of the submission
+   * @throws GCFacadeCommunicationException if canceled tasks could not be confirmed
+   * @see #getSubmissionSnapshot(long)
+   * @since 2512.1.0-1
+   */
+  default void confirmCancelledTasks(GCSubmissionSnapshot snapshot) {
+    confirmCancelledTasks(snapshot.getSubmissionId());
+  }
+
   /**
    * Get the submission model which contains information like its state
    *
@@ -149,4 +216,24 @@ public interface GCExchangeFacade {
    * @throws GCFacadeSubmissionNotFoundException if the submission could not be retrieved
    */
   GCSubmissionModel getSubmission(long submissionId);
+
+  /**
+   * Get an immutable snapshot of the submission along with all its tasks
+   * grouped by their state. Prefer this method over
+   * {@link #getSubmission(long)}, if you need to process the tasks
+   * afterward, as the tasks are retrieved only once for deriving the
+   * submission state and for processing them.
+   *
+   * @implSpec The default implementation provides a snapshot without tasks
+   * based on {@link #getSubmission(long)}.
+   *
+   * @param submissionId ID of the submission
+   * @return snapshot of the submission
+   * @throws GCFacadeSubmissionNotFoundException if the submission could not be retrieved
+   * @throws GCFacadeCommunicationException      if the tasks could not be retrieved
+   * @since 2512.1.0-1
+   */
+  default GCSubmissionSnapshot getSubmissionSnapshot(long submissionId) {
+    return GCSubmissionSnapshot.withoutTasks(getSubmission(submissionId));
+  }
 }
@@ -0,0 +1,47 @@
+package com.coremedia.labs.translation.gcc.facade;
+
+import com.google.errorprone.annotations.FormatMethod;
+import com.google.errorprone.annotations.FormatString;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Serial;
+
+/**
+ * Signals, that GCC is unavailable: a request could not be transported to
+ * GCC, GCC responded with a server error ({@code 5xx}), or the
+ * {@link GCCircuitBreaker} rejected the request, as GCC was unavailable
+ * before.
+ * <p>
+ * Unlike other {@link GCFacadeCommunicationException}s, only this one counts
+ * as failure of the circuit breaker.
+ *
+ * @since 2512.1.0-1
+ */
+@SuppressWarnings("unused")
+@NullMarked
+public class GCFacadeUnavailableException extends GCFacadeCommunicationException {
+  @Serial
+  private static final long serialVersionUID = 3371622694409181563L;
+
+  public GCFacadeUnavailableException() {
+  }
+
+  @FormatMethod
+  public GCFacadeUnavailableException(@FormatString String message, @Nullable Object... args) {
+    super(message, args);
+  }
+
+  @FormatMethod
+  public GCFacadeUnavailableException(Throwable cause, @FormatString String message, @Nullable Object... args) {
+    super(cause, message, args);
+  }
+
+  public GCFacadeUnavailableException(Throwable cause) {
+    super(cause);
+  }
+
+  protected GCFacadeUnavailableException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+    super(message, cause, enableSuppression, writableStackTrace);
+  }
+}
@@ -0,0 +1,201 @@
+package com.coremedia.labs.translation.gcc.facade;
+
+import org.gs4tr.gcc.restclient.model.TaskStatus;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static java.lang.invoke.MethodHandles.lookup;
+
+/**
+ * Immutable snapshot of a submission along with all its tasks, grouped by
+ * their state.
+ * <p>
+ * A snapshot is retrieved via
+ * {@link GCExchangeFacade#getSubmissionSnapshot(long)} and allows deriving
+ * the submission state, the completed tasks, and the tasks awaiting
+ * confirmation of their cancellation from one single traversal of the
+ * tasks. Pass it to {@link GCExchangeFacade#downloadCompletedTasks(GCSubmissionSnapshot, java.util.function.BiPredicate)}
+ * or {@link GCExchangeFacade#confirmCancelledTasks(GCSubmissionSnapshot)}
+ * to process the tasks without retrieving them again.
+ * <p>
+ * Facades that do not support retrieving the tasks along with the
+ * submission provide snapshots without tasks, signaled by
+ * {@link #isTasksIncluded()}.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+public final class GCSubmissionSnapshot {
+  /**
+   * Task states, where translation is not in progress anymore.
+   */
+  private static final Set<TaskStatus> FINISHED_TASK_STATES =
+    Collections.unmodifiableSet(EnumSet.of(TaskStatus.Completed, TaskStatus.Delivered, TaskStatus.Cancelled));
+
+  private final GCSubmissionModel submission;
+  private final Map<TaskStatus, Set<GCTaskModel>> tasksByStatus;
+  private final Set<GCTaskModel> unconfirmedCancelledTasks;
+  private final boolean tasksIncluded;
+
+  /**
+   * Create a snapshot including the tasks of the submission.
+   *
+   * @param submission                submission
+   * @param tasksByStatus             all tasks of the submission grouped by
+   *                                  their state
+   * @param unconfirmedCancelledTasks canceled tasks, whose cancellation has
+   *                                  not been confirmed yet
+   */
+  public GCSubmissionSnapshot(GCSubmissionModel submission,
+                              Map<TaskStatus, ? extends Collection<GCTaskModel>> tasksByStatus,
+                              Collection<GCTaskModel> unconfirmedCancelledTasks) {
+    this(submission, tasksByStatus, unconfirmedCancelledTasks, true);
+  }
+
+  private GCSubmissionSnapshot(GCSubmissionModel submission,
+                               Map<TaskStatus, ? extends Collection<GCTaskModel>> tasksByStatus,
+                               Collection<GCTaskModel> unconfirmedCancelledTasks,
+                               boolean tasksIncluded) {
+    this.submission = Objects.requireNonNull(submission);
+    Map<TaskStatus, Set<GCTaskModel>> copy = new EnumMap<>(TaskStatus.class);
+    tasksByStatus.forEach((status, tasks) -> {
+      if (!tasks.isEmpty()) {
+        copy.put(status, Set.copyOf(tasks));
+      }
+    });
+    this.tasksByStatus = Collections.unmodifiableMap(copy);
+    this.unconfirmedCancelledTasks = Set.copyOf(unconfirmedCancelledTasks);
+    this.tasksIncluded = tasksIncluded;
+  }
+
+  /**
+   * Create a snapshot, which only contains the submission, but not its
+   * tasks.
+   *
+   * @param submission submission
+   * @return snapshot without tasks
+   */
+  public static GCSubmissionSnapshot withoutTasks(GCSubmissionModel submission) {
+    return new GCSubmissionSnapshot(submission, Map.of(), Set.of(), false);
+  }
+
+  public GCSubmissionModel getSubmission() {
+    return submission;
+  }
+
+  public long getSubmissionId() {
+    return submission.getSubmissionId();
+  }
+
+  public GCSubmissionState getState() {
+    return submission.getState();
+  }
+
+  /**
+   * Signals, if the tasks of the submission are part of this snapshot. If
+   * not, all task related getters return empty results.
+   *
+   * @return {@code true} if tasks are included; {@code false} otherwise
+   */
+  public boolean isTasksIncluded() {
+    return tasksIncluded;
+  }
+
+  /**
+   * All tasks of the submission grouped by their state. States without
+   * tasks are not contained.
+   *
+   * @return unmodifiable map of tasks by state
+   */
+  public Map<TaskStatus, Set<GCTaskModel>> getTasksByStatus() {
+    return tasksByStatus;
+  }
+
+  /**
+   * Tasks of the submission in the given state.
+   *
+   * @param status task state
+   * @return unmodifiable set of tasks; empty, if there are none
+   */
+  public Set<GCTaskModel> getTasks(TaskStatus status) {
+    return tasksByStatus.getOrDefault(status, Set.of());
+  }
+
+  /**
+   * Tasks, whose translation is completed, but has not been delivered yet.
+   *
+   * @return unmodifiable set of completed tasks
+   */
+  public Set<GCTaskModel> getCompletedTasks() {
+    return getTasks(TaskStatus.Completed);
+  }
+
+  /**
+   * Locales of the tasks, whose translation is completed, but has not been
+   * delivered yet.
+   *
+   * @return unmodifiable set of locales
+   */
+  public Set<Locale> getCompletedLocales() {
+    return getCompletedTasks().stream()
+      .map(GCTaskModel::getTaskLocale)
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Locales of the tasks, whose translation is still in progress, thus,
+   * tasks neither completed, delivered nor canceled.
+   *
+   * @return unmodifiable set of locales
+   */
+  public Set<Locale> getOutstandingLocales() {
+    return tasksByStatus.entrySet().stream()
+      .filter(e -> !FINISHED_TASK_STATES.contains(e.getKey()))
+      .flatMap(e -> e.getValue().stream())
+      .map(GCTaskModel::getTaskLocale)
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
+  /**
+   * Canceled tasks, whose cancellation has not been confirmed yet.
+   *
+   * @return unmodifiable set of tasks
+   */
+  public Set<GCTaskModel> getUnconfirmedCancelledTasks() {
+    return unconfirmedCancelledTasks;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof GCSubmissionSnapshot that)) {
+      return false;
+    }
+    return tasksIncluded == that.tasksIncluded && submission.equals(that.submission) && tasksByStatus.equals(that.tasksByStatus) && unconfirmedCancelledTasks.equals(that.unconfirmedCancelledTasks);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(submission, tasksByStatus, unconfirmedCancelledTasks, tasksIncluded);
+  }
+
+  @Override
+  public String toString() {
+    return "%s[submission=%s, state=%s, tasksByStatus=%s, unconfirmedCancelledTasks=%s, tasksIncluded=%s]".formatted(
+      lookup().lookupClass().getSimpleName(),
+      submission,
+      submission.getState(),
+      tasksByStatus,
+      unconfirmedCancelledTasks,
+      tasksIncluded
+    );
+  }
+}
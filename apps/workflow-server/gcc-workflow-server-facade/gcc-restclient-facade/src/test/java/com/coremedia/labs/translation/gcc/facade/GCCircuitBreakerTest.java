@@ -0,0 +1,218 @@
+package com.coremedia.labs.translation.gcc.facade;
+
+import com.coremedia.labs.translation.gcc.util.Settings;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link GCCircuitBreaker}.
+ */
+@NullMarked
+class GCCircuitBreakerTest {
+  private static final String ENDPOINT = "default:https://example.com/api";
+  private static final GCCircuitBreaker.Config CONFIG = new GCCircuitBreaker.Config(2, Duration.ofMinutes(1L));
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+  private final AtomicInteger requests = new AtomicInteger();
+  private GCCircuitBreaker circuitBreaker;
+
+  @BeforeEach
+  void setUp() {
+    requests.set(0);
+    circuitBreaker = new GCCircuitBreaker(clock);
+  }
+
+  @Test
+  @DisplayName("Should open after consecutive failures and fail fast without sending requests.")
+  void shouldOpenAfterConsecutiveFailures() {
+    failTimes(2);
+
+    assertThat(circuitBreaker.getState(ENDPOINT)).isEqualTo(GCCircuitBreaker.State.OPEN);
+    assertThatThrownBy(() -> circuitBreaker.call(ENDPOINT, CONFIG, this::succeed))
+      .isInstanceOf(GCFacadeUnavailableException.class);
+    assertThat(requests).hasValue(2);
+    assertThat(circuitBreaker.stats()).isEqualTo(new GCCircuitBreaker.Stats(1L, 1L, 0L));
+  }
+
+  @Test
+  @DisplayName("Should reset failure count on success.")
+  void shouldResetFailuresOnSuccess() {
+    failTimes(1);
+    circuitBreaker.call(ENDPOINT, CONFIG, this::succeed);
+    failTimes(1);
+
+    assertThat(circuitBreaker.getState(ENDPOINT)).isEqualTo(GCCircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("Should close after successful probe once open duration elapsed.")
+  void shouldCloseAfterSuccessfulProbe() {
+    failTimes(2);
+    clock.advance(CONFIG.openDuration());
+
+    assertThat(circuitBreaker.call(ENDPOINT, CONFIG, this::succeed)).isEqualTo("response");
+
+    assertThat(circuitBreaker.getState(ENDPOINT)).isEqualTo(GCCircuitBreaker.State.CLOSED);
+    assertThat(circuitBreaker.stats().probes()).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("Should open again after failed probe.")
+  void shouldOpenAgainAfterFailedProbe() {
+    failTimes(2);
+    clock.advance(CONFIG.openDuration());
+
+    failTimes(1);
+
+    assertThat(circuitBreaker.getState(ENDPOINT)).isEqualTo(GCCircuitBreaker.State.OPEN);
+    assertThat(circuitBreaker.stats().opened()).isEqualTo(2L);
+  }
+
+  @Test
+  @DisplayName("Should let only one request probe while half-open.")
+  void shouldLetOnlyOneRequestProbe() {
+    failTimes(2);
+    clock.advance(CONFIG.openDuration());
+
+    String response = circuitBreaker.call(ENDPOINT, CONFIG, () -> {
+      assertThat(circuitBreaker.getState(ENDPOINT)).isEqualTo(GCCircuitBreaker.State.HALF_OPEN);
+      assertThatThrownBy(() -> circuitBreaker.call(ENDPOINT, CONFIG, this::succeed))
+        .isInstanceOf(GCFacadeUnavailableException.class);
+      return succeed();
+    });
+
+    assertThat(response).isEqualTo("response");
+    assertThat(requests).hasValue(3);
+  }
+
+  @Test
+  @DisplayName("Should neither count other exceptions as failure nor block probing.")
+  void shouldIgnoreOtherExceptions() {
+    failTimes(1);
+    assertThatThrownBy(() -> circuitBreaker.call(ENDPOINT, CONFIG, () -> {
+      throw new GCFacadeSubmissionNotFoundException("Not found.");
+    })).isInstanceOf(GCFacadeSubmissionNotFoundException.class);
+
+    assertThat(circuitBreaker.getState(ENDPOINT)).isEqualTo(GCCircuitBreaker.State.CLOSED);
+  }
+
+  /**
+   * Communication exceptions, that are not caused by GCC being unavailable,
+   * like rejections by the rate limit or failures to process a response,
+   * must not open the circuit.
+   */
+  @Test
+  @DisplayName("Should not count communication exceptions other than unavailability as failure.")
+  void shouldIgnoreOtherCommunicationExceptions() {
+    for (int i = 0; i < 5; i++) {
+      assertThatThrownBy(() -> circuitBreaker.call(ENDPOINT, CONFIG, () -> {
+        throw new GCFacadeCommunicationException("Rate limit exceeded.");
+      })).isInstanceOf(GCFacadeCommunicationException.class);
+    }
+
+    assertThat(circuitBreaker.getState(ENDPOINT)).isEqualTo(GCCircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("Should count responses signaling a server error as failure.")
+  void shouldCountFailedResponses() {
+    for (int i = 0; i < 2; i++) {
+      assertThat(circuitBreaker.call(ENDPOINT, CONFIG, () -> 503, status -> status >= 500)).isEqualTo(503);
+    }
+
+    assertThat(circuitBreaker.getState(ENDPOINT)).isEqualTo(GCCircuitBreaker.State.OPEN);
+  }
+
+  @Test
+  @DisplayName("Should share circuits per endpoint only.")
+  void shouldSeparateEndpoints() {
+    failTimes(2);
+
+    assertThat(circuitBreaker.call("default:https://other.example.com/api", CONFIG, this::succeed)).isEqualTo("response");
+  }
+
+  @Test
+  @DisplayName("Should not guard requests, if disabled.")
+  void shouldNotGuardIfDisabled() {
+    for (int i = 0; i < 5; i++) {
+      assertThatThrownBy(() -> circuitBreaker.call(ENDPOINT, GCCircuitBreaker.Config.DISABLED, this::fail))
+        .isInstanceOf(GCFacadeCommunicationException.class);
+    }
+
+    assertThat(requests).hasValue(5);
+    assertThat(circuitBreaker.getState(ENDPOINT)).isEqualTo(GCCircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  @DisplayName("Should parse configuration from settings.")
+  void shouldParseConfig() {
+    Settings settings = new Settings(Map.<String, Object>of(
+      GCConfigProperty.KEY_CIRCUIT_BREAKER, Map.of(
+        GCConfigProperty.KEY_FAILURE_THRESHOLD, "3",
+        GCConfigProperty.KEY_OPEN_DURATION, "2m"
+      )
+    ));
+
+    assertThat(GCCircuitBreaker.Config.fromGlobalLinkConfig(settings))
+      .isEqualTo(new GCCircuitBreaker.Config(3, Duration.ofMinutes(2L)));
+    assertThat(GCCircuitBreaker.Config.fromGlobalLinkConfig(Settings.EMPTY))
+      .isEqualTo(GCCircuitBreaker.Config.DISABLED);
+  }
+
+  private void failTimes(int times) {
+    for (int i = 0; i < times; i++) {
+      assertThatThrownBy(() -> circuitBreaker.call(ENDPOINT, CONFIG, this::fail))
+        .isInstanceOf(GCFacadeCommunicationException.class);
+    }
+  }
+
+  private String succeed() {
+    requests.incrementAndGet();
+    return "response";
+  }
+
+  private String fail() {
+    requests.incrementAndGet();
+    throw new GCFacadeUnavailableException("Connection timed out.");
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    private void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
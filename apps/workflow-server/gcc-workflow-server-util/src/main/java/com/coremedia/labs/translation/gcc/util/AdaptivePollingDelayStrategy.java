@@ -0,0 +1,107 @@
+package com.coremedia.labs.translation.gcc.util;
+
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Polling delay strategy, that backs off while a submission is far from
+ * completion and polls more frequently as delivery approaches.
+ * <p>
+ * The base delay is multiplied by a factor, determined as follows:
+ * <ol>
+ * <li><strong>Idle submissions:</strong> If the submission state did not
+ * change for longer than {@code idleThreshold}, the factor grows linearly
+ * with the idle time (twice the threshold results in factor 2), up to
+ * {@code maxBackoffFactor}.</li>
+ * <li><strong>Approaching delivery:</strong> If the due date is within
+ * {@code approachWindow} (or passed already), or if some, but not all
+ * target locales have been completed, the factor is limited to
+ * {@code approachFactor}.</li>
+ * <li><strong>Errors:</strong> The factor is increased by the recent error
+ * rate, up to doubling the delay if all recent requests failed, to relieve
+ * GlobalLink while it has problems.</li>
+ * </ol>
+ * The resulting delay is saturated to the bounds of {@link RetryDelay}.
+ *
+ * @param idleThreshold    time without state change, after which to back
+ *                         off
+ * @param maxBackoffFactor maximum factor to apply for backing off
+ * @param approachWindow   time before the due date, from which on to poll
+ *                         more frequently
+ * @param approachFactor   factor to apply at most, when delivery approaches
+ * @since 2512.1.0-1
+ */
+@NullMarked
+public record AdaptivePollingDelayStrategy(Duration idleThreshold,
+                                           double maxBackoffFactor,
+                                           Duration approachWindow,
+                                           double approachFactor) implements PollingDelayStrategy {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  /**
+   * Strategy with default parameters: Backing off after six hours without
+   * state change up to four times the base delay, and polling twice as
+   * often within one day before the due date.
+   */
+  public static final AdaptivePollingDelayStrategy DEFAULT =
+    new AdaptivePollingDelayStrategy(Duration.ofHours(6L), 4.0d, Duration.ofDays(1L), 0.5d);
+
+  /**
+   * Compact constructor.
+   *
+   * @throws IllegalArgumentException if durations are not positive, if the
+   *                                  maximum backoff factor is less than
+   *                                  {@code 1.0}, or if the approach factor
+   *                                  is not within {@code (0.0, 1.0]}
+   */
+  public AdaptivePollingDelayStrategy {
+    requireNonNull(idleThreshold, "idleThreshold must not be null");
+    requireNonNull(approachWindow, "approachWindow must not be null");
+    if (idleThreshold.isNegative() || idleThreshold.isZero()) {
+      throw new IllegalArgumentException("idleThreshold must be positive: %s".formatted(idleThreshold));
+    }
+    if (approachWindow.isNegative() || approachWindow.isZero()) {
+      throw new IllegalArgumentException("approachWindow must be positive: %s".formatted(approachWindow));
+    }
+    // Negated range checks, to also reject NaN.
+    if (!(maxBackoffFactor >= 1.0d)) {
+      throw new IllegalArgumentException("maxBackoffFactor must be greater than or equal to 1.0: %s".formatted(maxBackoffFactor));
+    }
+    if (!(approachFactor > 0.0d && approachFactor <= 1.0d)) {
+      throw new IllegalArgumentException("approachFactor must be within (0.0, 1.0]: %s".formatted(approachFactor));
+    }
+  }
+
+  @Override
+  public RetryDelay nextDelay(RetryDelay baseDelay, PollingContext context) {
+    double factor = backoffFactor(context);
+    if (isDeliveryApproaching(context)) {
+      factor = Math.min(factor, approachFactor);
+    }
+    factor *= 1.0d + context.errorRate();
+    RetryDelay result = RetryDelay.saturatedOf(Duration.ofNanos(Math.round(baseDelay.value().toNanos() * factor)));
+    LOG.debug("Adapted polling delay from {} to {} (factor {}) for {}.", baseDelay, result, factor, context);
+    return result;
+  }
+
+  private double backoffFactor(PollingContext context) {
+    Duration sinceLastStateChange = context.sinceLastStateChange();
+    if (sinceLastStateChange == null || sinceLastStateChange.compareTo(idleThreshold) <= 0) {
+      return 1.0d;
+    }
+    double idleRatio = (double) sinceLastStateChange.toSeconds() / idleThreshold.toSeconds();
+    return Math.min(idleRatio, maxBackoffFactor);
+  }
+
+  private boolean isDeliveryApproaching(PollingContext context) {
+    Duration untilDueDate = context.untilDueDate();
+    return context.isPartiallyCompleted()
+      || untilDueDate != null && untilDueDate.compareTo(approachWindow) <= 0;
+  }
+}
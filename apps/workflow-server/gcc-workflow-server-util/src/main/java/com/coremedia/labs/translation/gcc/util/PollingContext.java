@@ -0,0 +1,59 @@
+package com.coremedia.labs.translation.gcc.util;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Information about the progress of a submission, that assists a
+ * {@link PollingDelayStrategy} to decide, when to poll the state of the
+ * submission next time.
+ *
+ * @param sinceLastStateChange time passed since the last observed change of
+ *                             the submission state; {@code null} if unknown
+ * @param untilDueDate         time left until the due date of the submission;
+ *                             negative, if the due date passed already;
+ *                             {@code null} if unknown
+ * @param completedLocales     number of target locales, whose translation
+ *                             has been completed
+ * @param outstandingLocales   number of target locales, whose translation
+ *                             is still in progress; {@code 0} if unknown
+ * @param errorRate            recent rate of failed requests to GlobalLink,
+ *                             from {@code 0.0} (no failures) to {@code 1.0}
+ *                             (all requests failed)
+ * @since 2512.1.0-1
+ */
+@NullMarked
+public record PollingContext(@Nullable Duration sinceLastStateChange,
+                             @Nullable Duration untilDueDate,
+                             int completedLocales,
+                             int outstandingLocales,
+                             double errorRate) {
+  /**
+   * Context, that does not provide any information.
+   */
+  public static final PollingContext UNKNOWN = new PollingContext(null, null, 0, 0, 0.0d);
+
+  /**
+   * Compact constructor. Saturates the error rate to be within
+   * {@code [0.0, 1.0]} and counts of locales to be non-negative.
+   */
+  public PollingContext {
+    // Negated check, to also map NaN to 0.0.
+    errorRate = !(errorRate > 0.0d) ? 0.0d : Math.min(errorRate, 1.0d);
+    completedLocales = Math.max(0, completedLocales);
+    outstandingLocales = Math.max(0, outstandingLocales);
+  }
+
+  /**
+   * Signals, if some, but not all target locales have been completed. This
+   * typically indicates, that the delivery of the remaining locales is
+   * approaching.
+   *
+   * @return {@code true} if translation is partially completed
+   */
+  public boolean isPartiallyCompleted() {
+    return completedLocales > 0 && outstandingLocales > 0;
+  }
+}
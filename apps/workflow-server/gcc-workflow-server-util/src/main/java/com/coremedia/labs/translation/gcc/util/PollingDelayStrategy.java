@@ -0,0 +1,64 @@
+package com.coremedia.labs.translation.gcc.util;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Strategy to determine the delay until the state of a submission is polled
+ * next time.
+ * <p>
+ * Strategies adapt a base delay, typically configured by administrators,
+ * based on the progress of the submission, as provided by the
+ * {@link PollingContext}. Results are always within the bounds of
+ * {@link RetryDelay}.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+@FunctionalInterface
+public interface PollingDelayStrategy {
+  /**
+   * Name of the strategy, that always applies the base delay.
+   */
+  String NAME_FIXED = "fixed";
+
+  /**
+   * Name of the strategy, that adapts the delay to the progress of the
+   * submission.
+   *
+   * @see AdaptivePollingDelayStrategy
+   */
+  String NAME_ADAPTIVE = "adaptive";
+
+  /**
+   * Strategy, that always applies the base delay.
+   */
+  PollingDelayStrategy FIXED = (baseDelay, context) -> baseDelay;
+
+  /**
+   * Determines the delay until the next poll.
+   *
+   * @param baseDelay base delay to adapt
+   * @param context   information about the progress of the submission
+   * @return delay until the next poll
+   */
+  RetryDelay nextDelay(RetryDelay baseDelay, PollingContext context);
+
+  /**
+   * Tries to determine one of the built-in strategies by its name, ignoring
+   * case.
+   *
+   * @param name name of the strategy, such as {@link #NAME_FIXED} or
+   *             {@link #NAME_ADAPTIVE}
+   * @return strategy; empty, if no strategy of the given name exists
+   */
+  static Optional<PollingDelayStrategy> findByName(Object name) {
+    return switch (String.valueOf(name).trim().toLowerCase(Locale.ROOT)) {
+      case NAME_FIXED -> Optional.of(FIXED);
+      case NAME_ADAPTIVE -> Optional.of(AdaptivePollingDelayStrategy.DEFAULT);
+      default -> Optional.empty();
+    };
+  }
+}
@@ -0,0 +1,236 @@
+package com.coremedia.labs.translation.gcc.util;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.springframework.format.annotation.DurationFormat;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.format.datetime.standard.DurationFormatterUtils.detectAndParse;
+
+/**
+ * Parses typed values from {@link Settings}, so that all settings share the
+ * same representations:
+ * <ul>
+ *   <li><strong>Booleans</strong> are given as {@link Boolean} or as string
+ *   {@code true} or {@code false}, ignoring case.</li>
+ *   <li><strong>Integers</strong> are given as {@link Integer} or as string
+ *   like {@code 42}.</li>
+ *   <li><strong>Longs</strong> are given as {@link Integer}, {@link Long},
+ *   or as string like {@code 42}.</li>
+ *   <li><strong>Data sizes</strong> are given as number of bytes or as string
+ *   with optional unit like {@code 16MB}.</li>
+ *   <li><strong>Durations</strong> are given as {@link Duration}, as number
+ *   of seconds, or as string with optional unit like {@code 10m} or in
+ *   ISO-8601 format like {@code PT10M}.</li>
+ * </ul>
+ * Strings are trimmed before parsing. The {@code find} methods log a warning
+ * for values, that cannot be parsed, and ignore them.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+public final class SettingsParser {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  // static utility class
+  private SettingsParser() {
+  }
+
+  /**
+   * Finds a boolean at the given path.
+   *
+   * @param settings   the settings to search in
+   * @param key        the key to search for
+   * @param nestedKeys optional keys to search for within nested structs
+   * @return the boolean; empty, if not found or not parsable
+   */
+  public static Optional<Boolean> findBoolean(Settings settings, String key, String... nestedKeys) {
+    return find(settings, "a boolean", SettingsParser::parseBoolean, key, nestedKeys);
+  }
+
+  /**
+   * Finds an integer at the given path.
+   *
+   * @param settings   the settings to search in
+   * @param key        the key to search for
+   * @param nestedKeys optional keys to search for within nested structs
+   * @return the integer; empty, if not found or not parsable
+   */
+  public static Optional<Integer> findInteger(Settings settings, String key, String... nestedKeys) {
+    return find(settings, "an integer", SettingsParser::parseInteger, key, nestedKeys);
+  }
+
+  /**
+   * Finds a long at the given path.
+   *
+   * @param settings   the settings to search in
+   * @param key        the key to search for
+   * @param nestedKeys optional keys to search for within nested structs
+   * @return the long; empty, if not found or not parsable
+   */
+  public static Optional<Long> findLong(Settings settings, String key, String... nestedKeys) {
+    return find(settings, "a number", SettingsParser::parseLong, key, nestedKeys);
+  }
+
+  /**
+   * Finds a data size in bytes at the given path.
+   *
+   * @param settings   the settings to search in
+   * @param key        the key to search for
+   * @param nestedKeys optional keys to search for within nested structs
+   * @return the number of bytes; empty, if not found or not parsable
+   */
+  public static Optional<Long> findDataSize(Settings settings, String key, String... nestedKeys) {
+    return find(settings, "a data size", SettingsParser::parseDataSize, key, nestedKeys);
+  }
+
+  /**
+   * Finds a duration at the given path.
+   *
+   * @param settings   the settings to search in
+   * @param key        the key to search for
+   * @param nestedKeys optional keys to search for within nested structs
+   * @return the duration; empty, if not found or not parsable
+   */
+  public static Optional<Duration> findDuration(Settings settings, String key, String... nestedKeys) {
+    return find(settings, "a duration", SettingsParser::parseDuration, key, nestedKeys);
+  }
+
+  /**
+   * Parses a boolean. Unlike {@link Boolean#parseBoolean(String)}, strings
+   * other than {@code true} and {@code false} are not parsable, so that
+   * typos are not silently taken as {@code false}. Any type other than
+   * {@link Boolean} or {@link String} is not parsable.
+   *
+   * @param value the value to parse; may be {@code null}
+   * @return the boolean, or {@code null} if not parsable
+   */
+  public static @Nullable Boolean parseBoolean(@Nullable Object value) {
+    return switch (value) {
+      case Boolean booleanValue -> booleanValue;
+      case String stringValue -> {
+        String trimmed = stringValue.trim();
+        if ("true".equalsIgnoreCase(trimmed)) {
+          yield true;
+        }
+        yield "false".equalsIgnoreCase(trimmed) ? false : null;
+      }
+      case null, default -> null;
+    };
+  }
+
+  /**
+   * Parses an integer. Any type other than {@link Integer} or
+   * {@link String} is not parsable.
+   *
+   * @param value the value to parse; may be {@code null}
+   * @return the integer, or {@code null} if not parsable
+   */
+  public static @Nullable Integer parseInteger(@Nullable Object value) {
+    return switch (value) {
+      case Integer intValue -> intValue;
+      case String stringValue -> {
+        try {
+          yield Integer.parseInt(stringValue.trim());
+        } catch (NumberFormatException e) {
+          yield null;
+        }
+      }
+      case null, default -> null;
+    };
+  }
+
+  /**
+   * Parses a long. Any type other than {@link Integer}, {@link Long} or
+   * {@link String} is not parsable.
+   *
+   * @param value the value to parse; may be {@code null}
+   * @return the long, or {@code null} if not parsable
+   */
+  public static @Nullable Long parseLong(@Nullable Object value) {
+    return switch (value) {
+      case Integer intValue -> intValue.longValue();
+      case Long longValue -> longValue;
+      case String stringValue -> {
+        try {
+          yield Long.parseLong(stringValue.trim());
+        } catch (NumberFormatException e) {
+          yield null;
+        }
+      }
+      case null, default -> null;
+    };
+  }
+
+  /**
+   * Parses a data size in bytes. Numbers are interpreted as bytes. Any
+   * other value is parsed from its string representation.
+   *
+   * @param value the value to parse; may be {@code null}
+   * @return the number of bytes, or {@code null} if not parsable
+   */
+  public static @Nullable Long parseDataSize(@Nullable Object value) {
+    return switch (value) {
+      case null -> null;
+      case Number number -> number.longValue();
+      default -> {
+        try {
+          yield DataSize.parse(String.valueOf(value).trim()).toBytes();
+        } catch (IllegalArgumentException e) {
+          yield null;
+        }
+      }
+    };
+  }
+
+  /**
+   * Parses a duration. Numbers are interpreted as seconds. Any other value
+   * is parsed from its string representation.
+   *
+   * @param value the value to parse; may be {@code null}
+   * @return the duration, or {@code null} if not parsable
+   */
+  public static @Nullable Duration parseDuration(@Nullable Object value) {
+    return switch (value) {
+      case null -> null;
+      case Duration duration -> duration;
+      case Number number -> Duration.ofSeconds(number.longValue());
+      default -> {
+        try {
+          yield detectAndParse(String.valueOf(value).trim(), DurationFormat.Unit.SECONDS);
+        } catch (IllegalArgumentException e) {
+          yield null;
+        }
+      }
+    };
+  }
+
+  private static <T> Optional<T> find(Settings settings,
+                                      String description,
+                                      Function<Object, @Nullable T> parser,
+                                      String key,
+                                      String... nestedKeys) {
+    return settings.at(key, nestedKeys)
+      .map(value -> {
+        @Nullable T parsed = parser.apply(value);
+        if (parsed == null) {
+          LOG.warn("Ignoring setting '{}'. Not {}: {}", path(key, nestedKeys), description, value);
+        }
+        return parsed;
+      });
+  }
+
+  private static String path(String key, String... nestedKeys) {
+    return Stream.concat(Stream.of(key), Stream.of(nestedKeys))
+      .collect(Collectors.joining("."));
+  }
+}
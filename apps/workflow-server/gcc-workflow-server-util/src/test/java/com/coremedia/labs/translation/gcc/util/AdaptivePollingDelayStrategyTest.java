@@ -0,0 +1,85 @@
+package com.coremedia.labs.translation.gcc.util;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@NullMarked
+class AdaptivePollingDelayStrategyTest {
+  private static final RetryDelay BASE_DELAY = new RetryDelay(Duration.ofMinutes(30L));
+
+  @ParameterizedTest(name = "[{index}] {arguments}")
+  @CsvSource(useHeadersInDisplayName = true, nullValues = "null", delimiter = '|', textBlock = """
+    sinceLastStateChange | untilDueDate | completed | outstanding | errorRate | expectedMinutes | comment
+    null                 | null         | 0         | 0           | 0.0       | 30              | Should keep base delay without information.
+    PT1H                 | P7D          | 0         | 2           | 0.0       | 30              | Should keep base delay for recent state change.
+    PT12H                | P7D          | 0         | 2           | 0.0       | 60              | Should back off for idle submissions.
+    P7D                  | P30D         | 0         | 2           | 0.0       | 120             | Should limit backoff to maximum factor.
+    PT12H                | PT12H        | 0         | 2           | 0.0       | 15              | Should poll more frequently close to due date.
+    PT12H                | -PT1H        | 0         | 2           | 0.0       | 15              | Should poll more frequently after due date.
+    PT12H                | P7D          | 1         | 1           | 0.0       | 15              | Should poll more frequently for partial completion.
+    null                 | null         | 0         | 0           | 1.0       | 60              | Should back off on errors.
+    null                 | null         | 0         | 0           | 0.5       | 45              | Should back off proportionally to error rate.
+    """)
+  void shouldAdaptDelay(@Nullable Duration sinceLastStateChange,
+                        @Nullable Duration untilDueDate,
+                        int completed,
+                        int outstanding,
+                        double errorRate,
+                        long expectedMinutes) {
+    PollingContext context = new PollingContext(sinceLastStateChange, untilDueDate, completed, outstanding, errorRate);
+
+    RetryDelay actual = AdaptivePollingDelayStrategy.DEFAULT.nextDelay(BASE_DELAY, context);
+
+    assertThat(actual.value()).isEqualTo(Duration.ofMinutes(expectedMinutes));
+  }
+
+  @Test
+  void shouldSaturateToRetryDelayBounds() {
+    PollingContext idleWithErrors = new PollingContext(Duration.ofDays(30L), null, 0, 1, 1.0d);
+    PollingContext dueNow = new PollingContext(null, Duration.ZERO, 0, 1, 0.0d);
+
+    assertThat(AdaptivePollingDelayStrategy.DEFAULT.nextDelay(new RetryDelay(Duration.ofHours(12L)), idleWithErrors))
+      .isEqualTo(RetryDelay.MAX_VALUE);
+    assertThat(AdaptivePollingDelayStrategy.DEFAULT.nextDelay(RetryDelay.MIN_VALUE, dueNow))
+      .isEqualTo(RetryDelay.MIN_VALUE);
+  }
+
+  @Test
+  void shouldRejectInvalidParameters() {
+    Duration valid = Duration.ofHours(1L);
+
+    assertThatThrownBy(() -> new AdaptivePollingDelayStrategy(Duration.ZERO, 2.0d, valid, 0.5d))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptivePollingDelayStrategy(valid, 0.5d, valid, 0.5d))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptivePollingDelayStrategy(valid, 2.0d, valid, 0.0d))
+      .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new AdaptivePollingDelayStrategy(valid, 2.0d, valid, Double.NaN))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @ParameterizedTest(name = "[{index}] {arguments}")
+  @CsvSource(useHeadersInDisplayName = true, delimiter = '|', textBlock = """
+    name       | expectedAdaptive | comment
+    fixed      | false            | Should find fixed strategy.
+    ' Adaptive ' | true           | Should find adaptive strategy ignoring case and whitespace.
+    """)
+  void shouldFindStrategyByName(String name, boolean expectedAdaptive) {
+    PollingDelayStrategy expected = expectedAdaptive ? AdaptivePollingDelayStrategy.DEFAULT : PollingDelayStrategy.FIXED;
+
+    assertThat(PollingDelayStrategy.findByName(name)).contains(expected);
+  }
+
+  @Test
+  void shouldNotFindUnknownStrategy() {
+    assertThat(PollingDelayStrategy.findByName("lorem")).isEmpty();
+  }
+}
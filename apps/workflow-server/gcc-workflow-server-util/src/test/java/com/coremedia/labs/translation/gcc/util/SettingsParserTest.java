@@ -0,0 +1,159 @@
+package com.coremedia.labs.translation.gcc.util;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link SettingsParser}.
+ */
+@NullMarked
+class SettingsParserTest {
+  @Nested
+  @DisplayName("Tests for booleans")
+  class Booleans {
+    @Test
+    @DisplayName("Should parse booleans from booleans and trimmed strings ignoring case only")
+    void shouldParseBooleans() {
+      assertThat(SettingsParser.parseBoolean(true)).isTrue();
+      assertThat(SettingsParser.parseBoolean(" TRUE ")).isTrue();
+      assertThat(SettingsParser.parseBoolean("false")).isFalse();
+      assertThat(SettingsParser.parseBoolean(null)).isNull();
+      assertThat(SettingsParser.parseBoolean("yes")).isNull();
+      assertThat(SettingsParser.parseBoolean("")).isNull();
+      assertThat(SettingsParser.parseBoolean(1)).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("Tests for integers and longs")
+  class Numbers {
+    @Test
+    @DisplayName("Should parse integers from integers and trimmed strings only")
+    void shouldParseIntegers() {
+      assertThat(SettingsParser.parseInteger(42)).isEqualTo(42);
+      assertThat(SettingsParser.parseInteger(" 42 ")).isEqualTo(42);
+      assertThat(SettingsParser.parseInteger(null)).isNull();
+      assertThat(SettingsParser.parseInteger(42L)).isNull();
+      assertThat(SettingsParser.parseInteger(42.5)).isNull();
+      assertThat(SettingsParser.parseInteger("4.2")).isNull();
+      assertThat(SettingsParser.parseInteger(String.valueOf((long) Integer.MAX_VALUE + 1L))).isNull();
+    }
+
+    @Test
+    @DisplayName("Should parse longs from integers, longs and trimmed strings only")
+    void shouldParseLongs() {
+      assertThat(SettingsParser.parseLong(42)).isEqualTo(42L);
+      assertThat(SettingsParser.parseLong(42L)).isEqualTo(42L);
+      assertThat(SettingsParser.parseLong(" 5000000000 ")).isEqualTo(5_000_000_000L);
+      assertThat(SettingsParser.parseLong(null)).isNull();
+      assertThat(SettingsParser.parseLong(42.5)).isNull();
+      assertThat(SettingsParser.parseLong("many")).isNull();
+    }
+  }
+
+  @Nested
+  @DisplayName("Tests for durations")
+  class Durations {
+    @ParameterizedTest
+    @DisplayName("Should parse supported representations")
+    @MethodSource("validDurations")
+    void shouldParseSupportedRepresentations(Object input, Duration expected) {
+      assertThat(SettingsParser.parseDuration(input)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Should return null for unparsable strings")
+    @ValueSource(strings = {"", "abc", "10 minutes"})
+    void shouldReturnNullForUnparsableStrings(String input) {
+      assertThat(SettingsParser.parseDuration(input)).isNull();
+    }
+
+    static Stream<Arguments> validDurations() {
+      return Stream.of(
+        Arguments.of(0, Duration.ZERO),
+        Arguments.of(90, Duration.ofSeconds(90L)),
+        Arguments.of(90L, Duration.ofSeconds(90L)),
+        Arguments.of("90", Duration.ofSeconds(90L)),
+        Arguments.of(" 10m ", Duration.ofMinutes(10L)),
+        Arguments.of("500ms", Duration.ofMillis(500L)),
+        Arguments.of("1h", Duration.ofHours(1L)),
+        Arguments.of("PT15M", Duration.ofMinutes(15L)),
+        Arguments.of(Duration.ofDays(1L), Duration.ofDays(1L))
+      );
+    }
+  }
+
+  @Nested
+  @DisplayName("Tests for data sizes")
+  class DataSizes {
+    @ParameterizedTest
+    @DisplayName("Should parse supported representations")
+    @MethodSource("validDataSizes")
+    void shouldParseSupportedRepresentations(Object input, long expected) {
+      assertThat(SettingsParser.parseDataSize(input)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @DisplayName("Should return null for unparsable strings")
+    @ValueSource(strings = {"", "abc", "10 megabytes"})
+    void shouldReturnNullForUnparsableStrings(String input) {
+      assertThat(SettingsParser.parseDataSize(input)).isNull();
+    }
+
+    static Stream<Arguments> validDataSizes() {
+      return Stream.of(
+        Arguments.of(0, 0L),
+        Arguments.of(1024L, 1024L),
+        Arguments.of("2048", 2048L),
+        Arguments.of(" 16MB ", 16L * 1024L * 1024L),
+        Arguments.of("1GB", 1024L * 1024L * 1024L)
+      );
+    }
+  }
+
+  @Nested
+  @DisplayName("Tests for finding values")
+  class Find {
+    private final Settings settings = new Settings(Map.of(
+      "top", "42",
+      "flag", "true",
+      "struct", Map.of(
+        "duration", "2m",
+        "size", "1KB",
+        "invalid", "many"
+      )
+    ));
+
+    @Test
+    @DisplayName("Should find values at nested paths")
+    void shouldFindNestedValues() {
+      assertThat(SettingsParser.findBoolean(settings, "flag")).contains(true);
+      assertThat(SettingsParser.findInteger(settings, "top")).contains(42);
+      assertThat(SettingsParser.findLong(settings, "top")).contains(42L);
+      assertThat(SettingsParser.findDuration(settings, "struct", "duration")).contains(Duration.ofMinutes(2L));
+      assertThat(SettingsParser.findDataSize(settings, "struct", "size")).contains(1024L);
+    }
+
+    @Test
+    @DisplayName("Should ignore missing and unparsable values")
+    void shouldIgnoreMissingAndUnparsableValues() {
+      assertThat(SettingsParser.findInteger(settings, "missing")).isEmpty();
+      assertThat(SettingsParser.findBoolean(settings, "struct", "invalid")).isEmpty();
+      assertThat(SettingsParser.findInteger(settings, "struct", "invalid")).isEmpty();
+      assertThat(SettingsParser.findDuration(settings, "struct", "invalid")).isEmpty();
+      assertThat(SettingsParser.findDataSize(settings, "struct", "invalid")).isEmpty();
+    }
+  }
+}
@@ -5,6 +5,7 @@ import com.coremedia.cap.workflow.Process;
 import com.coremedia.cap.workflow.Task;
 import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionModel;
+import com.coremedia.labs.translation.gcc.facade.GCSubmissionSnapshot;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionState;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -141,7 +142,10 @@ public class CancelTranslationGlobalLinkAction extends
     // Ignore Submission Error State: As we are trying to cancel the submission,
     // we don't care about the error state. At least for observed scenarios,
     // canceling an errored submission is the only way to get out of the error state.
-    GCSubmissionModel submission = facade.getSubmission(submissionId);
+    // The snapshot contains the tasks, so that canceled tasks can be confirmed
+    // without retrieving them again.
+    GCSubmissionSnapshot snapshot = facade.getSubmissionSnapshot(submissionId);
+    GCSubmissionModel submission = snapshot.getSubmission();
     GCSubmissionState submissionState = submission.getState();
     boolean cancelled = params.cancelled;
 
@@ -174,7 +178,8 @@ public class CancelTranslationGlobalLinkAction extends
     // not yet canceled -> cancel
     if (!cancelled && submissionState != CANCELLED) {
       result.cancelled = cancel(facade, submissionId, issues);
-      result.submissionState = facade.getSubmission(submissionId).getState();
+      snapshot = facade.getSubmissionSnapshot(submissionId);
+      result.submissionState = snapshot.getState();
       if (result.cancelled) {
         LOG.info("Canceled submission {} (PD ID {}) with completed locales {} and new state {}.",
                 submission.getSubmissionId(), submission.getPdSubmissionIds(),
@@ -185,7 +190,7 @@ public class CancelTranslationGlobalLinkAction extends
 
     // canceled but not yet confirmed -> confirm
     if (result.submissionState == CANCELLED) {
-      facade.confirmCancelledTasks(submissionId);
+      facade.confirmCancelledTasks(snapshot);
       result.submissionState = facade.getSubmission(submissionId).getState();
     }
   }
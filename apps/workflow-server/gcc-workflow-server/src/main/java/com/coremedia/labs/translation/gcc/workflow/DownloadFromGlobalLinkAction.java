@@ -2,50 +2,75 @@ package com.coremedia.labs.translation.gcc.workflow;
 
 import com.coremedia.cap.common.Blob;
 import com.coremedia.cap.content.Content;
+import com.coremedia.cap.content.ContentObject;
+import com.coremedia.cap.content.ContentRepository;
+import com.coremedia.cap.multisite.SitesService;
 import com.coremedia.cap.translate.xliff.CapXliffImportException;
 import com.coremedia.cap.translate.xliff.XliffImportResultCode;
 import com.coremedia.cap.translate.xliff.XliffImportResultItem;
 import com.coremedia.cap.translate.xliff.XliffImporter;
 import com.coremedia.cap.workflow.Process;
 import com.coremedia.cap.workflow.Task;
+import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
 import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
 import com.coremedia.labs.translation.gcc.facade.GCFacadeException;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionModel;
+import com.coremedia.labs.translation.gcc.facade.GCSubmissionSnapshot;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionState;
 import com.coremedia.labs.translation.gcc.facade.GCTaskModel;
+import com.coremedia.labs.translation.gcc.util.PollingContext;
+import com.coremedia.labs.translation.gcc.util.PollingDelayStrategy;
 import com.coremedia.labs.translation.gcc.util.RetryDelay;
 import com.coremedia.labs.translation.gcc.util.Settings;
-import com.coremedia.labs.translation.gcc.util.Zipper;
+import com.coremedia.labs.translation.gcc.util.SettingsParser;
 import com.coremedia.translate.workflow.AsRobotUser;
 import com.google.common.annotations.VisibleForTesting;
 import jakarta.activation.MimeType;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.apache.commons.io.input.TeeInputStream;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintWriter;
+import java.io.OutputStream;
 import java.io.Serial;
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
 
 import static com.coremedia.cap.translate.xliff.XliffImportResultCode.DUPLICATE_NAME;
 import static com.coremedia.cap.translate.xliff.XliffImportResultCode.EMPTY_TRANSUNIT_TARGET;
@@ -56,7 +81,6 @@ import static com.coremedia.cap.translate.xliff.XliffImportResultCode.INVALID_LO
 import static com.coremedia.cap.translate.xliff.XliffImportResultCode.SUCCESS;
 import static com.coremedia.labs.translation.gcc.facade.GCSubmissionState.CANCELLED;
 import static com.coremedia.labs.translation.gcc.facade.GCSubmissionState.TRANSLATE;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -97,6 +121,64 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
    * done.
    */
   private static final String GCC_RETRY_DELAY_SETTINGS_KEY = "downloadTranslationRetryDelay";
+  /**
+   * Strategy to adapt the normal retry delay to the progress of the
+   * submission, either {@value PollingDelayStrategy#NAME_FIXED} (default) or
+   * {@value PollingDelayStrategy#NAME_ADAPTIVE}.
+   *
+   * @see #getPollingDelayStrategy(Settings)
+   * @since 2512.1.0-1
+   */
+  private static final String GCC_POLLING_STRATEGY_SETTINGS_KEY = "downloadTranslationPollingStrategy";
+  /**
+   * If set, downloaded XLIFF is imported while it is downloaded, instead of
+   * writing it to a temporary file first. A copy is held in memory up to the
+   * given size and spilled to a temporary file beyond. The copy is only
+   * stored along with the workflow, if the import reports issues. Numbers are
+   * interpreted as bytes. Alternatively, a unit may be given, like
+   * {@code 4MB}.
+   *
+   * @see XliffExportBuffer
+   * @since 2512.1.0-1
+   */
+  private static final String GCC_IMPORT_IN_MEMORY_THRESHOLD_SETTINGS_KEY = "downloadTranslationInMemoryThreshold";
+
+  /**
+   * Compression level from {@code 0} (no compression) to {@code 9} (best
+   * compression) of the ZIP archive, that holds XLIFF files with import
+   * issues, along with the issue details. Defaults to the default level of
+   * the deflate algorithm.
+   *
+   * @see XliffResultArchive
+   * @since 2512.1.0-1
+   */
+  private static final String GCC_RESULT_COMPRESSION_LEVEL_SETTINGS_KEY = "downloadTranslationResultCompressionLevel";
+
+  /**
+   * Upper bound for the number of tasks to import concurrently, as each
+   * concurrent import occupies a session of the content repository.
+   */
+  private static final int MAX_IMPORT_PARALLELISM = 8;
+
+  /**
+   * Default time after which import checkpoints are removed.
+   */
+  private static final Duration DEFAULT_IMPORT_CHECKPOINT_MAX_AGE = Duration.ofDays(7L);
+
+  /**
+   * States, after which the workflow no longer downloads the submission.
+   */
+  private static final EnumSet<GCSubmissionState> FINISHED_STATES = EnumSet.of(
+    GCSubmissionState.DELIVERED,
+    GCSubmissionState.REDELIVERED,
+    GCSubmissionState.CANCELLATION_CONFIRMED
+  );
+
+  /**
+   * Query for content items, that may be imported into, used by the
+   * pre-validation of downloaded XLIFF.
+   */
+  private static final String EXISTING_CONTENT_QUERY = "NOT isDeleted";
 
   private static final String WORKING_DIR_PREFIX = "cmsgccwf";
   // Corresponds to Studio's "Upload Files" magic name functionality
@@ -131,6 +213,9 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
   private @Nullable String xliffResultVariable;
   private @Nullable String completedLocalesVariable;
   private @Nullable String cancellationAllowedVariable;
+  private @Nullable String globalLinkDueDateVariable;
+  private @Nullable String globalLinkSubmissionStatusChangedVariable;
+  private @Nullable String wakeUpRequestedVariable;
 
   // --- construct and configure ----------------------------------------------------------------------
 
@@ -205,6 +290,47 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
   }
 
 
+  /**
+   * Sets the name of the Date process variable that holds the due date of the
+   * submission. Optional; if set, polling may be adapted to the due date.
+   *
+   * @param globalLinkDueDateVariable date workflow variable name
+   * @since 2512.1.0-1
+   */
+  @SuppressWarnings("unused") // set from workflow definition
+  public void setGlobalLinkDueDateVariable(String globalLinkDueDateVariable) {
+    this.globalLinkDueDateVariable = globalLinkDueDateVariable;
+  }
+
+  /**
+   * Sets the name of the Date process variable that holds the time, when a
+   * change of the GlobalLink submission status has been observed last.
+   * Optional; if set, polling may be adapted to the time passed since then.
+   *
+   * @param globalLinkSubmissionStatusChangedVariable date workflow variable name
+   * @since 2512.1.0-1
+   */
+  @SuppressWarnings("unused") // set from workflow definition
+  public void setGlobalLinkSubmissionStatusChangedVariable(String globalLinkSubmissionStatusChangedVariable) {
+    this.globalLinkSubmissionStatusChangedVariable = globalLinkSubmissionStatusChangedVariable;
+  }
+
+  /**
+   * Sets the name of the Boolean process variable, that is set to
+   * {@code true} on a status notification sent by GlobalLink for the
+   * submission. Optional; if set, and referenced by the guard of the task, a
+   * notification triggers the next download right away, rather than waiting
+   * for the retry delay to expire. Reset on each execution.
+   *
+   * @param wakeUpRequestedVariable boolean workflow variable name
+   * @see GCNotificationReceiver
+   * @since 2512.1.0-1
+   */
+  @SuppressWarnings("unused") // set from workflow definition
+  public void setWakeUpRequestedVariable(String wakeUpRequestedVariable) {
+    this.wakeUpRequestedVariable = wakeUpRequestedVariable;
+  }
+
   // --- GlobalLinkAction interface ----------------------------------------------------------------------
 
   @Override
@@ -218,6 +344,9 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
 
     //Reset xliffResultVariable in order to just provide actual result
     process.set(xliffResultVariable, null);
+    if (wakeUpRequestedVariable != null) {
+      process.set(wakeUpRequestedVariable, false);
+    }
     String submissionId = process.getString(globalLinkSubmissionIdVariable);
 
     Set<Locale> completedLocales = process.getStrings(completedLocalesVariable).stream()
@@ -226,13 +355,28 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
 
     boolean cancellationAllowed = process.getBoolean(cancellationAllowedVariable);
 
-    return new Parameters(parseSubmissionId(submissionId, task.getId()), completedLocales, cancellationAllowed);
+    // Optional information to adapt the polling delay to.
+    String previousStatus = globalLinkSubmissionStatusVariable == null ? null : process.getString(globalLinkSubmissionStatusVariable);
+    Instant statusChangedAt = globalLinkSubmissionStatusChangedVariable == null ? null : toInstant(process.getDate(globalLinkSubmissionStatusChangedVariable));
+    Instant dueDate = globalLinkDueDateVariable == null ? null : toInstant(process.getDate(globalLinkDueDateVariable));
+
+    return new Parameters(parseSubmissionId(submissionId, task.getId()), completedLocales, cancellationAllowed,
+      previousStatus, statusChangedAt, dueDate);
   }
 
   @Override
   void doExecuteGlobalLinkAction(Parameters params,
                                  Consumer<? super Result> resultConsumer,
                                  GCExchangeFacade facade, Map<String, List<@Nullable Content>> issues) {
+    doExecuteGlobalLinkAction(params, resultConsumer, facade, Settings.EMPTY, issues);
+  }
+
+  @Override
+  void doExecuteGlobalLinkAction(Parameters params,
+                                 Consumer<? super Result> resultConsumer,
+                                 GCExchangeFacade facade,
+                                 Settings settings,
+                                 Map<String, List<@Nullable Content>> issues) {
     long submissionId = params.submissionId;
 
     // We need to share xliff files between #doExecuteGlobalLinkAction and #doStoreResult.
@@ -240,12 +384,27 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
     // directly, but write them into this temp directory and put the
     // temp directory in the result.
     Result result = new Result(prepareWorkingDir());
+    result.submissionId = submissionId;
+    result.connectorKey = settings.at(GCConfigProperty.KEY_KEY).map(String::valueOf).orElse("");
     result.completedLocales = params.completedLocales;
     result.cancellationAllowed = params.cancellationAllowed;
+    result.statusChangedAt = params.statusChangedAt;
+    result.dueDate = params.dueDate;
+    result.importInMemoryThreshold = getImportInMemoryThreshold(settings);
+    result.importParallelism = getImportParallelism(settings);
+    result.importCheckpoint = getImportCheckpoint(settings);
+    result.importFilesPerChunk = getImportFilesPerChunk(settings);
+    result.importPreValidation = isImportPreValidationEnabled(settings);
+    result.importRemapTargets = SendToGlobalLinkAction.isUploadDeduplicationEnabled(settings);
+    result.resultCompressionLevel = getResultCompressionLevel(settings);
 
     try {
       resultConsumer.accept(result);
       doExecuteGlobalLinkAction(facade, submissionId, result, issues);
+      if (result.globalLinkStatus != null
+        && (result.statusChangedAt == null || !result.globalLinkStatus.name().equals(params.previousStatus))) {
+        result.statusChangedAt = Instant.now();
+      }
     } catch (GCFacadeException | GlobalLinkWorkflowException e) {
       throw e; // do not delete the working directory, it's needed and deleted in #doStoreResult
     } catch (RuntimeException e) {
@@ -260,18 +419,28 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
     //in case we came from 'HandleDownloadTranslationError' we need to correctly set the "cancellationAllowed" variable first.
     disableCancelWhenCompletedLocalesExist(result);
 
-    GCSubmissionModel submission = facade.getSubmission(submissionId);
+    // Derive state, completed tasks, and canceled tasks from one snapshot,
+    // so that tasks are not retrieved several times per poll.
+    GCSubmissionSnapshot snapshot = facade.getSubmissionSnapshot(submissionId);
+    GCSubmissionModel submission = snapshot.getSubmission();
     result.globalLinkStatus = submission.getState();
     result.pdSubmissionIds = submission.getPdSubmissionIds();
+    result.outstandingLocales = snapshot.getOutstandingLocales().size();
 
+    boolean tasksProcessed;
     if (submission.getState() == CANCELLED) {
-      facade.confirmCancelledTasks(submissionId);
+      facade.confirmCancelledTasks(snapshot);
+      tasksProcessed = !snapshot.isTasksIncluded() || !snapshot.getUnconfirmedCancelledTasks().isEmpty();
       LOG.info("Confirmed cancellation of submission {} (PD ID {}) initiated by GlobalLink.", submissionId, submission.getPdSubmissionIds());
     } else if (submission.isError()) {
       issues.put(GlobalLinkWorkflowErrorCodes.SUBMISSION_ERROR, List.of());
+      tasksProcessed = false;
     } else {
-      facade.downloadCompletedTasks(submissionId,
+      // Tasks of one submission target different locales, thus, different
+      // derived sites. Hence, they may be imported independently.
+      facade.downloadCompletedTasks(snapshot, result.importParallelism,
         (inputStream, task) -> importXliffFile(inputStream, task, result.completedLocales, issues, result));
+      tasksProcessed = !snapshot.isTasksIncluded() || !snapshot.getCompletedTasks().isEmpty();
       LOG.info("Checked for an update of submission {} (PD ID {}) in state {} with completed locales [{}].",
         submissionId, submission.getPdSubmissionIds(), submission.getState(),
         result.completedLocales.stream().map(Locale::toLanguageTag).collect(Collectors.toList()));
@@ -279,8 +448,11 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
       disableCancelWhenCompletedLocalesExist(result);
     }
 
-    // retrieve potentially updated submission after confirming cancellation or download completed task
-    submission = facade.getSubmission(submissionId);
+    // retrieve potentially updated submission after confirming cancellation or download completed task;
+    // if no tasks got processed, the state of the snapshot is still up to date
+    if (tasksProcessed) {
+      submission = facade.getSubmission(submissionId);
+    }
     if (LOG.isDebugEnabled()) {
       String verboseSubmissionState = switch (submission.getState()) {
         case REDELIVERED, DELIVERED, CANCELLATION_CONFIRMED -> "completed";
@@ -297,17 +469,34 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
                                        Settings settings,
                                        Optional<Result> extendedResult,
                                        Map<String, List<@Nullable Content>> issues) {
-    Optional<RetryDelay> initialRetryDelay = findRetryDelay(settings, GCC_EARLY_RETRY_DELAY_SETTINGS_KEY);
-    // When to return the original delay at this early check phase:
-    //   - If there is no extra retry delay, we return the original one
-    //     unmodified.
-    //   - If there are any issues, we assume, that we should stick to the
-    //     default delay.
-    if (initialRetryDelay.isEmpty() || !issues.isEmpty()) {
+    // If there are any issues, we assume, that we should stick to the
+    // default delay.
+    if (!issues.isEmpty()) {
       return originalRetryDelay;
     }
 
-    boolean increasedPollingFrequency = extendedResult
+    // The early retry delay only applies in an early phase of the submission,
+    // if configured. Otherwise, the polling delay strategy adapts the normal
+    // delay to the progress, independent of the early retry delay.
+    Optional<RetryDelay> initialRetryDelay = findRetryDelay(settings, GCC_EARLY_RETRY_DELAY_SETTINGS_KEY);
+    if (initialRetryDelay.isPresent() && isEarlyPhase(extendedResult)) {
+      return initialRetryDelay.get();
+    }
+
+    return adaptDelayToProgress(originalRetryDelay, settings, extendedResult);
+  }
+
+  /**
+   * Signals, if the submission is in an early phase, in which to poll with
+   * the early retry delay, as editors may wait for PD submission IDs.
+   *
+   * @param extendedResult result of the action, if available
+   * @return {@code true}, if the submission is in an early phase or its
+   * state is unknown
+   */
+  @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+  private static boolean isEarlyPhase(Optional<Result> extendedResult) {
+    return extendedResult
       .map(result -> {
         if (EARLY_PRE_TRANSLATE_STATES.contains(result.globalLinkStatus)) {
           // Even if we already have (some) PD Submission IDs, more may be added
@@ -323,12 +512,181 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
         // frequency.
         return result.pdSubmissionIds == null || result.pdSubmissionIds.isEmpty();
       }).orElse(true);
+  }
 
-    if (increasedPollingFrequency) {
-      return initialRetryDelay.get();
+  /**
+   * Adapts the normal retry delay to the progress of the submission, using
+   * the {@link #getPollingDelayStrategy(Settings) polling delay strategy}.
+   *
+   * @param originalRetryDelay original (default/general) retry delay
+   * @param settings           settings to read the strategy from
+   * @param extendedResult     result of the action, if available
+   * @return adapted (or unchanged) retry delay
+   */
+  @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+  private RetryDelay adaptDelayToProgress(RetryDelay originalRetryDelay,
+                                          Settings settings,
+                                          Optional<Result> extendedResult) {
+    PollingContext context = extendedResult
+      .map(result -> toPollingContext(result, Instant.now()))
+      .orElseGet(() -> new PollingContext(null, null, 0, 0, GlobalLinkErrorRate.getInstance().get()));
+    return getPollingDelayStrategy(settings).nextDelay(originalRetryDelay, context);
+  }
+
+  /**
+   * Provides the strategy to adapt the normal retry delay to the progress of
+   * the submission. The strategy is selected by name via setting
+   * {@value #GCC_POLLING_STRATEGY_SETTINGS_KEY}, falling back to
+   * {@link PollingDelayStrategy#FIXED} if unset or unknown.
+   * <p>
+   * Projects may override this method to provide a custom strategy.
+   *
+   * @param settings settings to read the strategy name from
+   * @return polling delay strategy
+   * @since 2512.1.0-1
+   */
+  protected PollingDelayStrategy getPollingDelayStrategy(Settings settings) {
+    return settings.at(GCC_POLLING_STRATEGY_SETTINGS_KEY)
+      .map(name -> PollingDelayStrategy.findByName(name).orElseGet(() -> {
+        LOG.warn("Unknown polling strategy '{}' at setting {}. Falling back to '{}'.",
+          name, GCC_POLLING_STRATEGY_SETTINGS_KEY, PollingDelayStrategy.NAME_FIXED);
+        return PollingDelayStrategy.FIXED;
+      }))
+      .orElse(PollingDelayStrategy.FIXED);
+  }
+
+  /**
+   * Size up to which a copy of the imported XLIFF is held in memory, as
+   * configured by setting {@value #GCC_IMPORT_IN_MEMORY_THRESHOLD_SETTINGS_KEY}.
+   *
+   * @param settings settings to read the threshold from
+   * @return threshold in bytes; {@code null}, if unset or invalid, to write
+   * any XLIFF to a temporary file before importing it
+   */
+  @VisibleForTesting
+  static @Nullable Long getImportInMemoryThreshold(Settings settings) {
+    return SettingsParser.findDataSize(settings, GCC_IMPORT_IN_MEMORY_THRESHOLD_SETTINGS_KEY)
+      .filter(threshold -> threshold >= 0L)
+      .orElse(null);
+  }
+
+  /**
+   * Number of completed tasks to download and import concurrently, as
+   * configured by {@link GCConfigProperty#KEY_PARALLELISM} within
+   * {@link GCConfigProperty#KEY_IMPORT}. Each concurrent import runs as
+   * robot user within its own session from the
+   * {@link #getCapSessionPool() session pool}. Values are saturated to be
+   * within {@code 1} and {@value #MAX_IMPORT_PARALLELISM}.
+   *
+   * @param settings settings to read the parallelism from
+   * @return parallelism to apply; {@code 1}, if unset or invalid
+   */
+  @VisibleForTesting
+  static int getImportParallelism(Settings settings) {
+    return SettingsParser.findInteger(settings, GCConfigProperty.KEY_IMPORT, GCConfigProperty.KEY_PARALLELISM)
+      .map(parallelism -> Math.clamp(parallelism, 1, MAX_IMPORT_PARALLELISM))
+      .orElse(1);
+  }
+
+  /**
+   * Checkpoints of successfully imported tasks, stored in the directory
+   * configured by {@link GCConfigProperty#KEY_CHECKPOINT_DIRECTORY} within
+   * {@link GCConfigProperty#KEY_IMPORT}. Checkpoints are removed after
+   * {@link GCConfigProperty#KEY_MAX_AGE}.
+   *
+   * @param settings settings to read the configuration from
+   * @return checkpoints; {@code null}, if no directory is configured
+   */
+  @VisibleForTesting
+  static @Nullable XliffImportCheckpoint getImportCheckpoint(Settings settings) {
+    Optional<Path> directory = settings.at(GCConfigProperty.KEY_IMPORT, GCConfigProperty.KEY_CHECKPOINT_DIRECTORY)
+      .map(v -> String.valueOf(v).trim())
+      .filter(v -> !v.isEmpty())
+      .map(v -> {
+        try {
+          return Path.of(v);
+        } catch (InvalidPathException e) {
+          LOG.warn("Ignoring setting '{}.{}'. Not a path: {}", GCConfigProperty.KEY_IMPORT, GCConfigProperty.KEY_CHECKPOINT_DIRECTORY, v);
+          return null;
+        }
+      });
+    if (directory.isEmpty()) {
+      return null;
     }
+    Duration maxAge = SettingsParser.findDuration(settings, GCConfigProperty.KEY_IMPORT, GCConfigProperty.KEY_MAX_AGE)
+      .filter(Duration::isPositive)
+      .orElse(DEFAULT_IMPORT_CHECKPOINT_MAX_AGE);
+    return new XliffImportCheckpoint(directory.get(), maxAge, Clock.systemUTC());
+  }
+
+  /**
+   * Maximum number of {@code <file>} elements of an XLIFF to import at once,
+   * as configured by {@link GCConfigProperty#KEY_FILES_PER_CHUNK} within
+   * {@link GCConfigProperty#KEY_IMPORT}.
+   *
+   * @param settings settings to read the number of files from
+   * @return number of files per chunk; {@code 0}, if unset or invalid, which
+   * disables splitting XLIFF into chunks
+   */
+  @VisibleForTesting
+  static int getImportFilesPerChunk(Settings settings) {
+    return SettingsParser.findInteger(settings, GCConfigProperty.KEY_IMPORT, GCConfigProperty.KEY_FILES_PER_CHUNK)
+      .filter(filesPerChunk -> {
+        if (filesPerChunk < 0) {
+          LOG.warn("Ignoring setting '{}.{}'. Must not be negative: {}", GCConfigProperty.KEY_IMPORT, GCConfigProperty.KEY_FILES_PER_CHUNK, filesPerChunk);
+          return false;
+        }
+        return true;
+      })
+      .orElse(0);
+  }
+
+  /**
+   * Signals, if downloaded XLIFF shall be validated before importing it, as
+   * configured by {@link GCConfigProperty#KEY_PRE_VALIDATION} within
+   * {@link GCConfigProperty#KEY_IMPORT}.
+   *
+   * @param settings settings to read the flag from
+   * @return {@code true}, if enabled; {@code false} (the default) otherwise
+   * @see XliffPreValidation
+   */
+  @VisibleForTesting
+  static boolean isImportPreValidationEnabled(Settings settings) {
+    return SettingsParser.findBoolean(settings, GCConfigProperty.KEY_IMPORT, GCConfigProperty.KEY_PRE_VALIDATION)
+      .orElse(false);
+  }
+
+  /**
+   * Compression level of the archive of XLIFF files with import issues, as
+   * configured by setting {@value #GCC_RESULT_COMPRESSION_LEVEL_SETTINGS_KEY}.
+   *
+   * @param settings settings to read the compression level from
+   * @return compression level; {@link Deflater#DEFAULT_COMPRESSION}, if
+   * unset or invalid
+   */
+  @VisibleForTesting
+  static int getResultCompressionLevel(Settings settings) {
+    return SettingsParser.findInteger(settings, GCC_RESULT_COMPRESSION_LEVEL_SETTINGS_KEY)
+      .filter(level -> {
+        boolean valid = level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION;
+        if (!valid) {
+          LOG.warn("Ignoring setting '{}'. Not a compression level from {} to {}: {}",
+            GCC_RESULT_COMPRESSION_LEVEL_SETTINGS_KEY, Deflater.NO_COMPRESSION, Deflater.BEST_COMPRESSION, level);
+        }
+        return valid;
+      })
+      .orElse(Deflater.DEFAULT_COMPRESSION);
+  }
 
-    return originalRetryDelay;
+  @VisibleForTesting
+  static PollingContext toPollingContext(Result result, Instant now) {
+    return new PollingContext(
+      result.statusChangedAt == null ? null : Duration.between(result.statusChangedAt, now),
+      result.dueDate == null ? null : Duration.between(now, result.dueDate),
+      result.completedLocales.size(),
+      result.outstandingLocales,
+      GlobalLinkErrorRate.getInstance().get()
+    );
   }
 
   @Override
@@ -355,6 +713,11 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
 
       process.set(cancellationAllowedVariable, result.cancellationAllowed);
 
+      if (globalLinkSubmissionStatusChangedVariable != null && result.statusChangedAt != null) {
+        process.set(globalLinkSubmissionStatusChangedVariable, toCalendar(result.statusChangedAt));
+      }
+
+      registerForWakeUp(process, result);
       return null;
     } finally {
       forceDelete(result.workingDir);
@@ -363,6 +726,25 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
 
   // --- Internal ----------------------------------------------------------------------
 
+  /**
+   * If GlobalLink notifications are received, registers the process to be
+   * woken up on the next notification for its submission, unless the
+   * submission is finished.
+   */
+  private void registerForWakeUp(Process process, Result result) {
+    @Nullable String variable = wakeUpRequestedVariable;
+    @Nullable GCNotificationReceiver receiver = getSpringContext().getBeanProvider(GCNotificationReceiver.class).getIfAvailable();
+    if (variable == null || receiver == null || !receiver.isRunning()) {
+      return;
+    }
+    DownloadTranslationWakeUp wakeUp = DownloadTranslationWakeUp.getInstance();
+    if (result.globalLinkStatus != null && FINISHED_STATES.contains(result.globalLinkStatus)) {
+      wakeUp.unregister(result.connectorKey, result.submissionId);
+    } else {
+      wakeUp.register(result.connectorKey, result.submissionId, process, getConnection(), variable);
+    }
+  }
+
   private @Nullable Blob updateXliffsZip(Result result) {
     try {
       File newXliffsZipFile = zipXliffs(result);
@@ -377,63 +759,33 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
 
   @VisibleForTesting
   static @Nullable File zipXliffs(Result result) throws IOException {
+    File[] xliffFiles = new File(result.workingDir, NEWXLIFFS).listFiles(File::isFile);
+    if ((xliffFiles == null || xliffFiles.length == 0) && result.resultItems.isEmpty()) {
+      return null;
+    }
 
-    File xliffResultDir = new File(result.workingDir, "result" + System.currentTimeMillis());
-
-    String issueDetailsFileName = "xliff_issue_details";
-    moveFiles(result.workingDir, NEWXLIFFS, xliffResultDir, issueDetailsFileName);
-
-    addIssueDetails(xliffResultDir, result.resultItems, issueDetailsFileName);
-
+    // Single pass: Entries are written straight into the archive, without
+    // arranging them in a directory first.
     File newXliffsZipFile = new File(result.workingDir, "newxliffs-" + System.currentTimeMillis() + ".zip");
-    return zipIfNotEmpty(newXliffsZipFile, xliffResultDir);
-  }
-
-  private static void addIssueDetails(File xliffResultDir, @Nullable Map<Long, List<XliffImportResultItem>> resultItems, String issueDetailsFileName) throws IOException {
-    if (resultItems != null && !resultItems.isEmpty()) {
-      for (Map.Entry<Long, List<XliffImportResultItem>> longListEntry : resultItems.entrySet()) {
-        File itemsDir = new File(xliffResultDir, issueDetailsFileName);
-        File itemsFile = new File(itemsDir, longListEntry.getKey() + "-issuedetails.txt");
-
-        ensureDir(itemsDir);
-        try (PrintWriter pw = new PrintWriter(itemsFile, UTF_8)) {
-          for (XliffImportResultItem item : longListEntry.getValue()) {
-            pw.println(item);
-          }
+    try (XliffResultArchive archive = new XliffResultArchive(
+      new BufferedOutputStream(new FileOutputStream(newXliffsZipFile)), result.resultCompressionLevel)) {
+      if (xliffFiles != null) {
+        for (File xliffFile : xliffFiles) {
+          archive.addXliff(xliffFile.toPath());
         }
       }
-    }
-  }
-
-  private static @Nullable File zipIfNotEmpty(File zipFile, File srcDir) {
-    String[] files = srcDir.list();
-    if (files == null || files.length == 0) {
-      return null;
-    }
-    Zipper.zip(zipFile.getAbsolutePath(), srcDir, null);
-    return zipFile;
-  }
-
-  private static void moveFiles(File srcDir, String srcSubDirName, File targetDir, String targetSubDirName) throws IOException {
-    srcDir = new File(srcDir, srcSubDirName);
-    targetDir = new File(targetDir, targetSubDirName);
-    File[] files = srcDir.listFiles();
-    if (files != null && files.length > 0) {
-      ensureDir(targetDir);
-      for (File file : files) {
-        Files.move(file.toPath(), new File(targetDir, file.getName()).toPath(), StandardCopyOption.REPLACE_EXISTING);
+      for (Map.Entry<Long, List<XliffImportResultItem>> issueItems : result.resultItems.entrySet()) {
+        archive.addIssueDetails(issueItems.getKey(), issueItems.getValue());
       }
     }
-  }
-
-  private static void ensureDir(File targetDir) throws IOException {
-    if (!targetDir.exists() && !targetDir.mkdirs()) {
-      throw new IOException("Cannot create directory " + targetDir.getAbsolutePath());
-    }
+    return newXliffsZipFile;
   }
 
   /**
    * Handler for importing XLIFF from given input stream.
+   * <p>
+   * May be called concurrently for different tasks. Thus, any shared state
+   * is only modified while holding the lock of the given result.
    *
    * @param inputStream                input stream to import from
    * @param xliffImportIssueToContents map to add issues from XLIFF import, which maps error codes to affected contents
@@ -447,50 +799,365 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
                                   Map<String, List<@Nullable Content>> xliffImportIssueToContents,
                                   Result result) {
 
-    completedLocales.add(task.getTaskLocale());
-    // Mind some data which we possibly need later in #storeResult
-    // Save the xliff in a tmp file
+    synchronized (result) {
+      completedLocales.add(task.getTaskLocale());
+    }
     File xliffFile = new File(new File(result.workingDir, NEWXLIFFS), task.getTaskId() + "." + XLIFF_FILE_EXTENSION);
-    writeXliffTmpFile(inputStream, xliffFile);
-
+    XliffImporter importer = getXliffImporter();
+    @Nullable Long inMemoryThreshold = result.importInMemoryThreshold;
+    @Nullable XliffImportCheckpoint checkpoint = result.importCheckpoint;
+    boolean chunked = result.importFilesPerChunk > 0;
+    @Nullable MessageDigest digest = checkpoint == null ? null : XliffContentHash.newDigest();
+    InputStream xliffStream = digest == null ? inputStream : new DigestInputStream(inputStream, digest);
+    @Nullable String hash = null;
     List<XliffImportResultItem> resultItems;
-    XliffImporter importer = getSpringContext().getBean(XliffImporter.class);
-    try (InputStream xliffStream = new FileInputStream(xliffFile); AsRobotUser asRobotUser = getAsRobotUser()) {
-      resultItems = asRobotUser.call(() -> importer.importXliff(xliffStream));
+    boolean incomplete = false;
+    try {
+      boolean checkpointed = checkpoint != null && digest != null && checkpoint.contains(task.getTaskId());
+      if (!checkpointed && !chunked && !result.importRemapTargets && inMemoryThreshold != null) {
+        resultItems = importXliffStreaming(importer, xliffStream, xliffFile, inMemoryThreshold);
+      } else {
+        // Mind some data which we possibly need later in #storeResult
+        // Save the xliff in a tmp file
+        writeXliffTmpFile(xliffStream, xliffFile);
+        if (checkpointed) {
+          // Possibly imported before: Compare the hash of the complete download.
+          hash = HexFormat.of().formatHex(requireNonNull(digest).digest());
+          if (requireNonNull(checkpoint).isImported(task.getTaskId(), hash)) {
+            LOG.info("XLIFF of task {} has already been imported. Skipping import, only confirming the task.", task.getTaskId());
+            forceDelete(xliffFile);
+            return true;
+          }
+          // Redelivered with different content: Import again.
+        }
+        if (result.importRemapTargets && !remapTargets(xliffFile, task, xliffImportIssueToContents, result)) {
+          return false;
+        }
+        if (result.importPreValidation && !preValidate(xliffFile, task.getTaskId(), xliffImportIssueToContents, result)) {
+          return false;
+        }
+        if (chunked) {
+          ChunkedImport chunkedImport = importXliffInChunks(importer, xliffFile, task.getTaskId(), result);
+          resultItems = chunkedImport.resultItems();
+          incomplete = !chunkedImport.complete();
+        } else {
+          resultItems = importXliffFromFile(importer, xliffFile);
+        }
+      }
     } catch (CapXliffImportException e) {
       LOG.warn("Failed to import XLIFF", e);
-      xliffImportIssueToContents.put(FAILED.toString(), Collections.emptyList());
+      synchronized (result) {
+        xliffImportIssueToContents.put(FAILED.toString(), Collections.emptyList());
+      }
       return false;
-    } catch (IOException e) {
-      // Kind of "Cannot happen".
-      throw new IllegalStateException("Cannot read temp file " + xliffFile.getAbsolutePath() + ", which we have written just before!", e);
     }
 
     List<XliffImportResultItem> errorResultItems = resultItems.stream()
       .filter(item -> !IGNORED_XLIFF_IMPORT_RESULT_CODES.contains(item.getCode()))
       .collect(Collectors.toList());
 
-    if (errorResultItems.isEmpty()) {
+    if (errorResultItems.isEmpty() && !incomplete) {
       // Nothing to record, everything fine.
-      forceDelete(xliffFile);
+      if (checkpoint != null && digest != null) {
+        recordCheckpoint(checkpoint, task.getTaskId(), hash, xliffStream, digest);
+      }
+      if (xliffFile.exists()) {
+        forceDelete(xliffFile);
+      }
       return true;
     }
 
-    for (XliffImportResultItem errorResultItem : errorResultItems) {
-      String xliffImportFailureCode = errorResultItem.getCode().toString();
-      // XLIFF Error Codes are too generic, like for being displayed in the UI.
-      // Adding some context, to provide better means of localization and to
-      // avoid confusion with other error codes in the system.
-      String contextualizedFailureCode = "XLIFF_IMPORT_RESULT_%s".formatted(xliffImportFailureCode);
-      xliffImportIssueToContents.computeIfAbsent(contextualizedFailureCode, k -> new ArrayList<>())
-        .add(errorResultItem.getContent());
+    synchronized (result) {
+      if (incomplete) {
+        // Parts of the XLIFF did not get imported.
+        xliffImportIssueToContents.computeIfAbsent(FAILED.toString(), k -> new ArrayList<>());
+      }
+      for (XliffImportResultItem errorResultItem : errorResultItems) {
+        String xliffImportFailureCode = errorResultItem.getCode().toString();
+        // XLIFF Error Codes are too generic, like for being displayed in the UI.
+        // Adding some context, to provide better means of localization and to
+        // avoid confusion with other error codes in the system.
+        String contextualizedFailureCode = "XLIFF_IMPORT_RESULT_%s".formatted(xliffImportFailureCode);
+        xliffImportIssueToContents.computeIfAbsent(contextualizedFailureCode, k -> new ArrayList<>())
+          .add(errorResultItem.getContent());
+      }
+
+      //store each errorList under its taskID, so it can be referenced correctly later
+      if (!errorResultItems.isEmpty()) {
+        result.resultItems.put(task.getTaskId(), errorResultItems);
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Maps the target contents of the XLIFF in the given file to the target
+   * locale of the task, as the XLIFF may have been uploaded once for several
+   * target locales. If mapping fails, the problem is recorded as issue, and
+   * the file is kept for analysis.
+   *
+   * @return {@code true}, if the XLIFF may be imported
+   * @see XliffTargetRemapper
+   */
+  private boolean remapTargets(File xliffFile,
+                               GCTaskModel task,
+                               Map<String, List<@Nullable Content>> xliffImportIssueToContents,
+                               Result result) {
+    File remappedFile = new File(xliffFile.getParentFile(), xliffFile.getName() + ".remapped");
+    int remapped;
+    try (InputStream xliffStream = new BufferedInputStream(new FileInputStream(xliffFile));
+         OutputStream remappedStream = new BufferedOutputStream(new FileOutputStream(remappedFile))) {
+      remapped = XliffTargetRemapper.remap(xliffStream, remappedStream, task.getTaskLocale(), this::findTargetVariant);
+    } catch (IOException e) {
+      forceDelete(remappedFile);
+      LOG.warn("Cannot map XLIFF of task {} to target locale {}. Keeping it at {} for analysis.",
+        task.getTaskId(), task.getTaskLocale().toLanguageTag(), xliffFile.getAbsolutePath(), e);
+      synchronized (result) {
+        xliffImportIssueToContents.computeIfAbsent(FAILED.toString(), k -> new ArrayList<>());
+      }
+      return false;
+    }
+    try {
+      if (remapped == 0) {
+        forceDelete(remappedFile);
+      } else {
+        Files.move(remappedFile.toPath(), xliffFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        LOG.debug("Mapped {} files of XLIFF of task {} to target locale {}.", remapped, task.getTaskId(), task.getTaskLocale().toLanguageTag());
+      }
+    } catch (IOException e) {
+      // Kind of "Cannot happen".
+      throw new IllegalStateException("Cannot replace temp file " + xliffFile.getAbsolutePath() + ", which we have written just before!", e);
+    }
+    return true;
+  }
+
+  /**
+   * Finds the variant of the given target content in the given target
+   * locale, that is, the content derived from the same master for that
+   * locale.
+   */
+  private Optional<String> findTargetVariant(String targetId, Locale targetLocale) {
+    @Nullable Content target = getContentRepository().getContent(targetId);
+    if (target == null || target.isDestroyed()) {
+      return Optional.empty();
     }
+    SitesService sitesService = getSitesService();
+    return sitesService.getContentSiteAspect(target).getVariants().stream()
+      .filter(variant -> targetLocale.equals(preferSiteLocale(sitesService.getSiteAspect(variant))))
+      .map(ContentObject::getId)
+      .findFirst();
+  }
 
-    //store each errorList under its taskID, so it can be referenced correctly later
-    result.resultItems.put(task.getTaskId(), errorResultItems);
+  /**
+   * Validates the XLIFF in the given file before importing it. If rejected,
+   * the problem is recorded as issue, as the import would, and the file is
+   * kept for analysis.
+   *
+   * @return {@code true}, if the XLIFF may be imported
+   */
+  private boolean preValidate(File xliffFile,
+                              long taskId,
+                              Map<String, List<@Nullable Content>> xliffImportIssueToContents,
+                              Result result) {
+    Optional<XliffPreValidation.Rejection> rejection;
+    try (InputStream xliffStream = new BufferedInputStream(new FileInputStream(xliffFile))) {
+      rejection = XliffPreValidation.validate(xliffStream, this::findMissingContents);
+    } catch (IOException e) {
+      // Kind of "Cannot happen".
+      throw new IllegalStateException("Cannot read temp file " + xliffFile.getAbsolutePath() + ", which we have written just before!", e);
+    }
+    if (rejection.isEmpty()) {
+      return true;
+    }
+    XliffPreValidation.Rejection r = rejection.get();
+    LOG.warn("Rejecting XLIFF of task {} without import: {} ({}). Keeping it at {} for analysis.",
+      taskId, r.reason(), r.code(), xliffFile.getAbsolutePath());
+    synchronized (result) {
+      xliffImportIssueToContents.computeIfAbsent("XLIFF_IMPORT_RESULT_%s".formatted(r.code()), k -> new ArrayList<>());
+    }
     return false;
   }
 
+  /**
+   * Determines the referenced content items, that do not exist or are
+   * deleted. Called once per XLIFF with all referenced content IDs, after
+   * parsing it. All content items are checked by one query, rather than
+   * requesting the state of each content item on its own.
+   */
+  private Set<String> findMissingContents(Set<String> contentIds) {
+    ContentRepository repository = getContentRepository();
+    List<Content> candidates = contentIds.stream()
+      .map(repository::getContent)
+      .filter(Objects::nonNull)
+      .toList();
+    Set<String> existing = repository.getQueryService().getContentsFulfilling(candidates, EXISTING_CONTENT_QUERY).stream()
+      .map(Content::getId)
+      .collect(Collectors.toSet());
+    return contentIds.stream()
+      .filter(id -> !existing.contains(id))
+      .collect(Collectors.toCollection(LinkedHashSet::new));
+  }
+
+  @VisibleForTesting
+  ContentRepository getContentRepository() {
+    return getConnection().getContentRepository();
+  }
+
+  private List<XliffImportResultItem> importXliffFromFile(XliffImporter importer, File xliffFile) {
+    try (InputStream xliffStream = new FileInputStream(xliffFile); AsRobotUser asRobotUser = getAsRobotUser()) {
+      return asRobotUser.call(() -> importer.importXliff(xliffStream));
+    } catch (IOException e) {
+      // Kind of "Cannot happen".
+      throw new IllegalStateException("Cannot read temp file " + xliffFile.getAbsolutePath() + ", which we have written just before!", e);
+    }
+  }
+
+  /**
+   * Imports the XLIFF from the given file in chunks of
+   * {@code <file>} elements, so that the importer only needs to hold one
+   * chunk in memory at a time. Chunks, that fail to import or report
+   * issues, are kept next to the given file for analysis, while the file
+   * itself is removed, once it got split successfully. If any chunk fails to
+   * import, the import is reported as incomplete after all chunks got
+   * imported, along with the result items of the other chunks.
+   * <p>
+   * If the XLIFF cannot be split, for example, as it is not well-formed, it
+   * is imported at once instead, so that the importer reports the problem
+   * as usual. If splitting fails after some chunks got imported, these are
+   * not imported again: Their result items are kept, the import is reported
+   * as incomplete, and the file is kept for analysis.
+   */
+  private ChunkedImport importXliffInChunks(XliffImporter importer,
+                                                          File xliffFile,
+                                                          long taskId,
+                                                          Result result) {
+    @Nullable Long inMemoryThreshold = result.importInMemoryThreshold;
+    XliffFileSplitter splitter = new XliffFileSplitter(
+      result.importFilesPerChunk,
+      inMemoryThreshold == null ? 0L : inMemoryThreshold,
+      WORKING_DIR_PREFIX
+    );
+    List<XliffImportResultItem> resultItems = new ArrayList<>();
+    List<CapXliffImportException> failures = new ArrayList<>();
+    List<File> chunkFiles = new ArrayList<>();
+    AtomicInteger importedChunks = new AtomicInteger();
+    int chunks;
+    try (InputStream xliffStream = new BufferedInputStream(new FileInputStream(xliffFile))) {
+      chunks = splitter.split(xliffStream, (index, chunk) -> {
+        importedChunks.incrementAndGet();
+        List<XliffImportResultItem> chunkResultItems = List.of();
+        @Nullable CapXliffImportException failure = null;
+        try (InputStream chunkStream = chunk.getInputStream(); AsRobotUser asRobotUser = getAsRobotUser()) {
+          chunkResultItems = asRobotUser.call(() -> importer.importXliff(chunkStream));
+        } catch (CapXliffImportException e) {
+          failure = e;
+          failures.add(e);
+        }
+        resultItems.addAll(chunkResultItems);
+        if (failure != null || hasIssues(chunkResultItems)) {
+          File chunkFile = new File(xliffFile.getParentFile(), taskId + "-" + index + "." + XLIFF_FILE_EXTENSION);
+          try (InputStream chunkStream = chunk.getInputStream()) {
+            writeXliffTmpFile(chunkStream, chunkFile);
+          }
+          chunkFiles.add(chunkFile);
+        }
+      });
+    } catch (IOException e) {
+      if (importedChunks.get() == 0) {
+        LOG.warn("Failed to split XLIFF of task {} into chunks. Importing it at once.", taskId, e);
+        chunkFiles.forEach(DownloadFromGlobalLinkAction::forceDelete);
+        return new ChunkedImport(importXliffFromFile(importer, xliffFile), true);
+      }
+      LOG.warn("Failed to split XLIFF of task {} after {} chunks. Reporting the remainder as failed, keeping the XLIFF at {} for analysis.",
+        taskId, importedChunks.get(), xliffFile.getAbsolutePath(), e);
+      failures.forEach(failure -> LOG.warn("Failed to import chunk of XLIFF of task {}.", taskId, failure));
+      return new ChunkedImport(resultItems, false);
+    }
+    LOG.debug("Imported XLIFF of task {} in {} chunks of up to {} files.", taskId, chunks, result.importFilesPerChunk);
+    forceDelete(xliffFile);
+    failures.forEach(failure -> LOG.warn("Failed to import chunk of XLIFF of task {}.", taskId, failure));
+    return new ChunkedImport(resultItems, failures.isEmpty());
+  }
+
+  /**
+   * Result of importing XLIFF in chunks.
+   *
+   * @param resultItems result items of all imported chunks
+   * @param complete    {@code false}, if any part of the XLIFF failed to
+   *                    import
+   */
+  private record ChunkedImport(List<XliffImportResultItem> resultItems, boolean complete) {
+  }
+
+  /**
+   * Imports the XLIFF while reading it from the download, keeping a copy
+   * aside. Only if the import fails or reports any issues, the copy is
+   * written to the given file for analysis.
+   */
+  private List<XliffImportResultItem> importXliffStreaming(XliffImporter importer,
+                                                           InputStream inputStream,
+                                                           File xliffFile,
+                                                           long inMemoryThreshold) {
+    try (XliffExportBuffer xliffCopy = new XliffExportBuffer(inMemoryThreshold, WORKING_DIR_PREFIX, "." + XLIFF_FILE_EXTENSION)) {
+      List<XliffImportResultItem> resultItems = List.of();
+      @Nullable CapXliffImportException failure = null;
+      try (OutputStream copyStream = xliffCopy.outputStream()) {
+        // The download stream is owned by the facade and must stay open, so
+        // that the copy can be completed, even if the importer closes it.
+        InputStream xliffStream = new TeeInputStream(CloseShieldInputStream.wrap(inputStream), copyStream);
+        try (AsRobotUser asRobotUser = getAsRobotUser()) {
+          resultItems = asRobotUser.call(() -> importer.importXliff(xliffStream));
+        } catch (CapXliffImportException e) {
+          failure = e;
+        }
+        if (failure != null || hasIssues(resultItems)) {
+          // The importer may have stopped reading early. Complete the copy.
+          inputStream.transferTo(copyStream);
+        }
+      }
+      if (failure != null || hasIssues(resultItems)) {
+        try (InputStream copy = xliffCopy.toResource().getInputStream()) {
+          writeXliffTmpFile(copy, xliffFile);
+        }
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      return resultItems;
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Cannot copy xliff stream to file " + xliffFile.getAbsolutePath(), e);
+    }
+  }
+
+  /**
+   * Records the checkpoint of a successfully imported XLIFF. Unless already
+   * known, the hash is taken from the digest of the downloaded stream, which
+   * is read to its end first, in case the import stopped reading early.
+   */
+  private static void recordCheckpoint(XliffImportCheckpoint checkpoint,
+                                       long taskId,
+                                       @Nullable String hash,
+                                       InputStream xliffStream,
+                                       MessageDigest digest) {
+    try {
+      if (hash == null) {
+        xliffStream.transferTo(OutputStream.nullOutputStream());
+      }
+      checkpoint.imported(taskId, hash == null ? HexFormat.of().formatHex(digest.digest()) : hash);
+    } catch (IOException e) {
+      LOG.warn("Cannot determine hash of imported XLIFF of task {}. Skipping import checkpoint.", taskId, e);
+    }
+  }
+
+  private static boolean hasIssues(List<XliffImportResultItem> resultItems) {
+    return resultItems.stream().anyMatch(item -> !IGNORED_XLIFF_IMPORT_RESULT_CODES.contains(item.getCode()));
+  }
+
+  @VisibleForTesting
+  XliffImporter getXliffImporter() {
+    return getSpringContext().getBean(XliffImporter.class);
+  }
+
   @VisibleForTesting
   AsRobotUser getAsRobotUser() {
     return new AsRobotUser(getConnection(), getSpringContext(), getCapSessionPool());
@@ -525,6 +1192,16 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
     }
   }
 
+  private static @Nullable Instant toInstant(@Nullable Calendar calendar) {
+    return calendar == null ? null : calendar.toInstant();
+  }
+
+  private static Calendar toCalendar(Instant instant) {
+    Calendar calendar = Calendar.getInstance();
+    calendar.setTimeInMillis(instant.toEpochMilli());
+    return calendar;
+  }
+
   private static void disableCancelWhenCompletedLocalesExist(Result result) {
     if (!result.completedLocales.isEmpty()) {
       result.cancellationAllowed = false;
@@ -536,11 +1213,26 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
     private final long submissionId;
     private final Set<Locale> completedLocales;
     private final boolean cancellationAllowed;
+    private final @Nullable String previousStatus;
+    private final @Nullable Instant statusChangedAt;
+    private final @Nullable Instant dueDate;
 
     Parameters(long submissionId, Set<Locale> completedLocales, boolean cancellationAllowed) {
+      this(submissionId, completedLocales, cancellationAllowed, null, null, null);
+    }
+
+    Parameters(long submissionId,
+               Set<Locale> completedLocales,
+               boolean cancellationAllowed,
+               @Nullable String previousStatus,
+               @Nullable Instant statusChangedAt,
+               @Nullable Instant dueDate) {
       this.submissionId = submissionId;
       this.completedLocales = completedLocales;
       this.cancellationAllowed = cancellationAllowed;
+      this.previousStatus = previousStatus;
+      this.statusChangedAt = statusChangedAt;
+      this.dueDate = dueDate;
     }
 
   }
@@ -550,13 +1242,26 @@ public class DownloadFromGlobalLinkAction extends GlobalLinkAction<DownloadFromG
     final File workingDir;
 
 
-    // Set during xliff import callback
+    // Set during xliff import callback; guarded by the result itself, as
+    // tasks may be imported concurrently
     final Map<Long, List<XliffImportResultItem>> resultItems = new HashMap<>();
 
+    private long submissionId;
+    private String connectorKey = "";
     private @Nullable GCSubmissionState globalLinkStatus;
     private @Nullable List<String> pdSubmissionIds;
     private Set<Locale> completedLocales = Set.of();
     private boolean cancellationAllowed;
+    private int outstandingLocales;
+    private @Nullable Instant statusChangedAt;
+    private @Nullable Instant dueDate;
+    private @Nullable Long importInMemoryThreshold;
+    private int importParallelism = 1;
+    private @Nullable XliffImportCheckpoint importCheckpoint;
+    private int importFilesPerChunk;
+    private boolean importPreValidation;
+    private boolean importRemapTargets;
+    private int resultCompressionLevel = Deflater.DEFAULT_COMPRESSION;
 
     Result(File workingDir) {
       this.workingDir = workingDir;
@@ -0,0 +1,244 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.cap.common.CapConnection;
+import com.coremedia.cap.common.CapException;
+import com.coremedia.cap.workflow.Process;
+import com.google.common.annotations.VisibleForTesting;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Process-wide registry of workflow processes waiting for the next download
+ * of their submission, so that they can be woken up once GlobalLink notifies
+ * about a status change, rather than waiting for their retry delay to
+ * expire.
+ * <p>
+ * Processes are registered by {@link DownloadFromGlobalLinkAction} after each
+ * download, that did not finish the submission. Waking up sets a
+ * {@code Boolean} process variable to {@code true}, that is part of the guard
+ * of the download task, just as Studio sets {@code cancelRequested} to
+ * trigger the download task before its timer expired. The download action
+ * resets the variable on its next execution.
+ * <p>
+ * Registrations are keyed by the connection to GlobalLink, identified by
+ * its connector key, and the submission ID, as submission IDs are only
+ * unique within one GlobalLink instance. Notifications, that do not name
+ * the connection, wake up the processes waiting for the submission on any
+ * connection.
+ * <p>
+ * Registrations only hold the ID of the process and expire after
+ * {@link #DEFAULT_MAX_AGE}, so that processes, that got aborted or deleted
+ * without finishing their submission, are dropped eventually. Expired
+ * registrations are evicted lazily: on wake-up, and by a sweep during
+ * registration at most once per {@link #SWEEP_INTERVAL}. Their number is
+ * bounded by {@link #DEFAULT_MAX_SIZE}. Once reached, further processes are
+ * not registered, but wait for their timer. As the registry is held in
+ * memory only, processes are not known after a restart of the Workflow
+ * Server until their next download, which is then triggered by their timer
+ * as before.
+ *
+ * @see GCNotificationReceiver
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class DownloadTranslationWakeUp {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  /**
+   * Time after which a registration expires, if not renewed by the next
+   * download of the submission.
+   */
+  @VisibleForTesting
+  static final Duration DEFAULT_MAX_AGE = Duration.ofDays(1L);
+
+  /**
+   * Maximum number of registrations.
+   */
+  @VisibleForTesting
+  static final int DEFAULT_MAX_SIZE = 10_000;
+
+  /**
+   * Minimum time between two sweeps for expired registrations.
+   */
+  private static final Duration SWEEP_INTERVAL = Duration.ofMinutes(10L);
+
+  private static final DownloadTranslationWakeUp INSTANCE =
+    new DownloadTranslationWakeUp(DEFAULT_MAX_AGE, DEFAULT_MAX_SIZE, Clock.systemUTC());
+
+  private final Map<Key, Registration> registrations = new ConcurrentHashMap<>();
+  private final Duration maxAge;
+  private final int maxSize;
+  private final Clock clock;
+  private volatile Instant nextSweep = Instant.MIN;
+
+  @VisibleForTesting
+  DownloadTranslationWakeUp(Duration maxAge, int maxSize, Clock clock) {
+    this.maxAge = requireNonNull(maxAge);
+    this.maxSize = maxSize;
+    this.clock = requireNonNull(clock);
+  }
+
+  /**
+   * Returns the process-wide instance.
+   *
+   * @return wake-up instance
+   */
+  static DownloadTranslationWakeUp getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Registers the process as waiting for the next download of the given
+   * submission. Renews any previous registration for the submission.
+   *
+   * @param connection      connector key of the connection, the submission
+   *                        belongs to
+   * @param submissionId    ID of the submission
+   * @param processId       ID of the process to wake up
+   * @param processResolver resolves the process by its ID on wake-up;
+   *                        returns {@code null}, if the process does not
+   *                        exist anymore
+   * @param variable        name of the {@code Boolean} variable to set
+   *                        for waking up the process
+   */
+  void register(String connection,
+                long submissionId,
+                String processId,
+                Function<String, @Nullable Process> processResolver,
+                String variable) {
+    Key key = new Key(connection, submissionId);
+    Instant now = clock.instant();
+    if (!now.isBefore(nextSweep)) {
+      sweep(now);
+    }
+    if (registrations.size() >= maxSize && !registrations.containsKey(key)) {
+      LOG.debug("Not registering process {} for wake-up on submission {}: Maximum of {} registrations reached.",
+        processId, submissionId, maxSize);
+      return;
+    }
+    registrations.put(key,
+      new Registration(requireNonNull(processId), requireNonNull(processResolver), requireNonNull(variable), now.plus(maxAge)));
+  }
+
+  /**
+   * Registers the process as waiting for the next download of the given
+   * submission, resolving the process by the given connection on wake-up.
+   *
+   * @param connection    connector key of the connection, the submission
+   *                      belongs to
+   * @param submissionId  ID of the submission
+   * @param process       process to wake up
+   * @param capConnection connection to resolve the process by on wake-up
+   * @param variable      name of the {@code Boolean} variable to set for
+   *                      waking up the process
+   */
+  void register(String connection, long submissionId, Process process, CapConnection capConnection, String variable) {
+    register(connection, submissionId, process.getId(), id -> capConnection.getWorkflowRepository().getProcess(id), variable);
+  }
+
+  /**
+   * Unregisters any process waiting for the given submission, for example,
+   * as the submission is finished.
+   *
+   * @param connection   connector key of the connection, the submission
+   *                     belongs to
+   * @param submissionId ID of the submission
+   */
+  void unregister(String connection, long submissionId) {
+    registrations.remove(new Key(connection, submissionId));
+  }
+
+  /**
+   * Number of current registrations, including expired ones not evicted yet.
+   *
+   * @return number of registrations
+   */
+  @VisibleForTesting
+  int size() {
+    return registrations.size();
+  }
+
+  /**
+   * Wakes up the processes waiting for the given submission, if any.
+   * Failures are logged only, as the timer of the process still triggers the
+   * next download eventually.
+   *
+   * @param connection   connector key of the connection, the submission
+   *                     belongs to; {@code null}, if unknown, to wake up
+   *                     processes waiting for the submission on any
+   *                     connection
+   * @param submissionId ID of the submission
+   * @return {@code true}, if a waiting process got woken up
+   */
+  boolean wakeUp(@Nullable String connection, long submissionId) {
+    if (connection != null) {
+      return wakeUp(new Key(connection, submissionId));
+    }
+    List<Key> keys = registrations.keySet().stream()
+      .filter(key -> key.submissionId() == submissionId)
+      .toList();
+    boolean wokenUp = false;
+    for (Key key : keys) {
+      wokenUp |= wakeUp(key);
+    }
+    if (keys.isEmpty()) {
+      LOG.debug("No process waiting for submission {}. Ignoring notification.", submissionId);
+    }
+    return wokenUp;
+  }
+
+  private boolean wakeUp(Key key) {
+    long submissionId = key.submissionId();
+    @Nullable Registration registration = registrations.remove(key);
+    if (registration == null || registration.isExpired(clock.instant())) {
+      LOG.debug("No process waiting for submission {}. Ignoring notification.", submissionId);
+      return false;
+    }
+    String processId = registration.processId();
+    try {
+      @Nullable Process process = registration.processResolver().apply(processId);
+      if (process == null || process.isDestroyed()) {
+        LOG.debug("Process {} waiting for submission {} does not exist anymore. Ignoring notification.", processId, submissionId);
+        return false;
+      }
+      process.set(registration.variable(), true);
+      LOG.debug("Woke up process {} to download submission {}.", processId, submissionId);
+      return true;
+    } catch (CapException | IllegalStateException e) {
+      // For example, if the process got completed or aborted meanwhile.
+      LOG.debug("Failed to wake up process {} to download submission {}. Waiting for its timer to expire.",
+        processId, submissionId, e);
+      return false;
+    }
+  }
+
+  private void sweep(Instant now) {
+    nextSweep = now.plus(SWEEP_INTERVAL);
+    registrations.values().removeIf(registration -> registration.isExpired(now));
+  }
+
+  private record Key(String connection, long submissionId) {
+  }
+
+  private record Registration(String processId,
+                              Function<String, @Nullable Process> processResolver,
+                              String variable,
+                              Instant expiresAt) {
+    boolean isExpired(Instant now) {
+      return !now.isBefore(expiresAt);
+    }
+  }
+}
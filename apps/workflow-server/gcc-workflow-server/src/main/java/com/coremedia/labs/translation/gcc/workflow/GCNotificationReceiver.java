@@ -0,0 +1,305 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
+import com.coremedia.labs.translation.gcc.util.Settings;
+import com.coremedia.labs.translation.gcc.util.SettingsParser;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.security.MessageDigest;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * HTTP endpoint on the Workflow Server, that receives status notifications
+ * of submissions and tasks sent by GlobalLink, and passes the IDs of the
+ * affected submissions to a listener.
+ * <p>
+ * The receiver is only started, if a port is configured by
+ * {@link GCConfigProperty#KEY_PORT} within
+ * {@link GCConfigProperty#KEY_NOTIFICATIONS}. It accepts {@code POST}
+ * requests at {@link GCConfigProperty#KEY_PATH}, whose body is a JSON object
+ * or an array of JSON objects, each referencing a submission by
+ * {@code submission_id} or {@code submissionId}. The connection may be named
+ * by its connector key in {@code connector_key} or {@code connectorKey}, as
+ * submission IDs are only unique within one GlobalLink instance. Any further
+ * properties, like task IDs or states, are ignored, as the notification only triggers the next
+ * download, which retrieves the current state from GlobalLink anyway.
+ * <p>
+ * Requests must provide the secret configured by
+ * {@link GCConfigProperty#KEY_SECRET} in header {@value #SECRET_HEADER}. The
+ * receiver is not started without secret. It listens at the loopback address,
+ * unless configured otherwise by {@link GCConfigProperty#KEY_BIND_ADDRESS}.
+ *
+ * @see DownloadTranslationWakeUp
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class GCNotificationReceiver implements SmartLifecycle {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  /**
+   * Request header to provide the configured secret in.
+   */
+  static final String SECRET_HEADER = "X-GCC-Notification-Secret";
+
+  /**
+   * Default path to receive notifications at.
+   */
+  static final String DEFAULT_PATH = "/gcc/notifications";
+
+  private static final String POST = "POST";
+  private static final List<String> SUBMISSION_ID_KEYS = List.of("submission_id", "submissionId");
+  private static final List<String> CONNECTOR_KEY_KEYS = List.of("connector_key", "connectorKey");
+  private static final int MAX_BODY_SIZE = 64 * 1024;
+
+  private final @Nullable Integer port;
+  private final @Nullable String bindAddress;
+  private final String path;
+  private final @Nullable String secret;
+  private final Listener listener;
+  private @Nullable HttpServer server;
+  private @Nullable ExecutorService executor;
+
+  /**
+   * Constructor.
+   *
+   * @param settings settings to read the configuration from
+   * @param listener listener to pass submission IDs to; called once per
+   *                 referenced submission and request
+   */
+  GCNotificationReceiver(Settings settings, Listener listener) {
+    port = getConfiguredPort(settings);
+    path = settings.at(GCConfigProperty.KEY_NOTIFICATIONS, GCConfigProperty.KEY_PATH)
+      .map(String::valueOf)
+      .map(String::trim)
+      .filter(p -> p.startsWith("/"))
+      .orElse(DEFAULT_PATH);
+    secret = settings.at(GCConfigProperty.KEY_NOTIFICATIONS, GCConfigProperty.KEY_SECRET)
+      .map(String::valueOf)
+      .filter(s -> !s.isBlank())
+      .orElse(null);
+    bindAddress = settings.at(GCConfigProperty.KEY_NOTIFICATIONS, GCConfigProperty.KEY_BIND_ADDRESS)
+      .map(String::valueOf)
+      .map(String::trim)
+      .filter(a -> !a.isEmpty())
+      .orElse(null);
+    this.listener = requireNonNull(listener);
+  }
+
+  @VisibleForTesting
+  static @Nullable Integer getConfiguredPort(Settings settings) {
+    return SettingsParser.findInteger(settings, GCConfigProperty.KEY_NOTIFICATIONS, GCConfigProperty.KEY_PORT)
+      .filter(p -> {
+        boolean valid = p >= 0 && p <= 0xFFFF;
+        if (!valid) {
+          LOG.warn("Ignoring setting '{}.{}'. Not a port: {}", GCConfigProperty.KEY_NOTIFICATIONS, GCConfigProperty.KEY_PORT, p);
+        }
+        return valid;
+      })
+      .orElse(null);
+  }
+
+  @Override
+  public synchronized void start() {
+    if (port == null || server != null) {
+      return;
+    }
+    if (secret == null) {
+      // Not fatal: Workflows still poll for status changes.
+      LOG.error("Not receiving GlobalLink notifications at port {}: Setting '{}.{}' is required. Relying on polling.",
+        port, GCConfigProperty.KEY_NOTIFICATIONS, GCConfigProperty.KEY_SECRET);
+      return;
+    }
+    try {
+      HttpServer httpServer = HttpServer.create(new InetSocketAddress(getBindAddress(), port), 0);
+      executor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("gcc-notifications").daemon().factory());
+      httpServer.setExecutor(executor);
+      httpServer.createContext(path, this::handle);
+      httpServer.start();
+      server = httpServer;
+      LOG.info("Receiving GlobalLink notifications at {} and path {}.", httpServer.getAddress(), path);
+    } catch (IOException e) {
+      if (executor != null) {
+        executor.shutdownNow();
+        executor = null;
+      }
+      // Not fatal: Workflows still poll for status changes.
+      LOG.error("Failed to start receiving GlobalLink notifications at port {}. Relying on polling.", port, e);
+    }
+  }
+
+  private InetAddress getBindAddress() throws UnknownHostException {
+    return bindAddress == null ? InetAddress.getLoopbackAddress() : InetAddress.getByName(bindAddress);
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (server != null) {
+      server.stop(0);
+      server = null;
+    }
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  @Override
+  public synchronized boolean isRunning() {
+    return server != null;
+  }
+
+  /**
+   * Address, the receiver listens at, whose port differs from the configured
+   * one, if configured to {@code 0}.
+   *
+   * @return address; {@code null}, if not running
+   */
+  synchronized @Nullable InetSocketAddress getAddress() {
+    return server == null ? null : server.getAddress();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!POST.equals(exchange.getRequestMethod())) {
+        exchange.getResponseHeaders().add("Allow", POST);
+        exchange.sendResponseHeaders(HttpURLConnection.HTTP_BAD_METHOD, -1L);
+        return;
+      }
+      if (!isAuthorized(exchange.getRequestHeaders().getFirst(SECRET_HEADER))) {
+        LOG.warn("Rejecting GlobalLink notification from {}: Missing or wrong secret.", exchange.getRemoteAddress());
+        exchange.sendResponseHeaders(HttpURLConnection.HTTP_UNAUTHORIZED, -1L);
+        return;
+      }
+      Set<Notification> notifications;
+      try (InputStream body = exchange.getRequestBody()) {
+        notifications = parseNotifications(new String(body.readNBytes(MAX_BODY_SIZE), UTF_8));
+      }
+      if (notifications.isEmpty()) {
+        LOG.debug("Rejecting GlobalLink notification from {}: No submission referenced.", exchange.getRemoteAddress());
+        exchange.sendResponseHeaders(HttpURLConnection.HTTP_BAD_REQUEST, -1L);
+        return;
+      }
+      // Respond first, so that GlobalLink does not wait for waking up workflows.
+      exchange.sendResponseHeaders(HttpURLConnection.HTTP_ACCEPTED, -1L);
+      for (Notification notification : notifications) {
+        notifyListener(notification);
+      }
+    }
+  }
+
+  private void notifyListener(Notification notification) {
+    long submissionId = notification.submissionId();
+    LOG.debug("Received GlobalLink notification for submission {} (connector key: {}).", submissionId, notification.connectorKey());
+    try {
+      listener.submissionChanged(notification.connectorKey(), submissionId);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to handle GlobalLink notification for submission {}. Relying on polling.", submissionId, e);
+    }
+  }
+
+  private boolean isAuthorized(@Nullable String providedSecret) {
+    @Nullable String expectedSecret = secret;
+    return expectedSecret != null && providedSecret != null && MessageDigest.isEqual(expectedSecret.getBytes(UTF_8), providedSecret.getBytes(UTF_8));
+  }
+
+  @VisibleForTesting
+  static Set<Notification> parseNotifications(String body) {
+    Set<Notification> result = new LinkedHashSet<>();
+    try {
+      JsonElement json = JsonParser.parseString(body);
+      if (json.isJsonArray()) {
+        json.getAsJsonArray().forEach(element -> parseNotification(element).ifPresent(result::add));
+      } else {
+        parseNotification(json).ifPresent(result::add);
+      }
+    } catch (JsonParseException e) {
+      LOG.debug("Ignoring GlobalLink notification, that is no valid JSON: {}", body, e);
+    }
+    return result;
+  }
+
+  private static Optional<Notification> parseNotification(JsonElement element) {
+    if (!element.isJsonObject()) {
+      return Optional.empty();
+    }
+    JsonObject object = element.getAsJsonObject();
+    @Nullable String connectorKey = parseConnectorKey(object);
+    return parseSubmissionId(object).map(submissionId -> new Notification(connectorKey, submissionId));
+  }
+
+  private static @Nullable String parseConnectorKey(JsonObject object) {
+    for (String key : CONNECTOR_KEY_KEYS) {
+      @Nullable JsonElement value = object.get(key);
+      if (value != null && value.isJsonPrimitive() && !value.getAsString().isBlank()) {
+        return value.getAsString().trim();
+      }
+    }
+    return null;
+  }
+
+  private static Optional<Long> parseSubmissionId(JsonObject object) {
+    for (String key : SUBMISSION_ID_KEYS) {
+      @Nullable JsonElement value = object.get(key);
+      if (value != null && value.isJsonPrimitive()) {
+        try {
+          return Optional.of(Long.parseLong(value.getAsString().trim()));
+        } catch (NumberFormatException e) {
+          LOG.debug("Ignoring invalid submission ID in GlobalLink notification: {}", value);
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Submission referenced by a notification.
+   *
+   * @param connectorKey connector key of the connection, the submission
+   *                     belongs to; {@code null}, if not named
+   * @param submissionId ID of the submission
+   */
+  record Notification(@Nullable String connectorKey, long submissionId) {
+  }
+
+  /**
+   * Listener for the submissions referenced by notifications.
+   */
+  @FunctionalInterface
+  interface Listener {
+    /**
+     * Notifies about a status change of the given submission.
+     *
+     * @param connectorKey connector key of the connection, the submission
+     *                     belongs to; {@code null}, if not named by the
+     *                     notification
+     * @param submissionId ID of the submission
+     */
+    void submissionChanged(@Nullable String connectorKey, long submissionId);
+  }
+}
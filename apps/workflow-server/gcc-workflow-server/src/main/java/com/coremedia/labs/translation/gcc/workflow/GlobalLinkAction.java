@@ -53,6 +53,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -401,8 +402,10 @@ abstract class GlobalLinkAction<P extends @Nullable Object, R> extends SpringAwa
 
       // call subclass implementation and store the result as result.extendedResult
       Consumer<R> resultConsumer = r -> result.extendedResult = Optional.of(r);
-      doExecuteGlobalLinkAction(parameters.extendedParameters, resultConsumer, gccSession, issues);
+      doExecuteGlobalLinkAction(parameters.extendedParameters, resultConsumer, gccSession, settings, issues);
+      GlobalLinkErrorRate.getInstance().recordSuccess();
     } catch (GCFacadeCommunicationException e) {
+      GlobalLinkErrorRate.getInstance().recordFailure();
       // automatically retry upon communication errors until configured maximum of retries has been reached
       // but do not retry automatically if #doExecuteGlobalLinkAction returned additional issues
       return getResultForGCCConnectionError(e, result, issues, parameters,
@@ -574,6 +577,32 @@ abstract class GlobalLinkAction<P extends @Nullable Object, R> extends SpringAwa
                                           GCExchangeFacade facade,
                                           Map<String, List<@Nullable Content>> issues);
 
+  /**
+   * Executes the action just as {@link #doExecuteGlobalLinkAction(Object, Consumer, GCExchangeFacade, Map)}, but
+   * with access to the effective settings, merged from the Spring context, the global and the site-specific
+   * settings.
+   *
+   * <p>The default implementation ignores the settings and delegates to
+   * {@link #doExecuteGlobalLinkAction(Object, Consumer, GCExchangeFacade, Map)}. Subclasses override this
+   * method if their behavior is configurable.
+   *
+   * @param params         parameters returned by {@link #doExtractParameters(Task)}
+   * @param resultConsumer consumer that takes the result of the execution
+   * @param facade         the facade to communicate with GlobalLink
+   * @param settings       the effective settings
+   * @param issues         map to add issues to that occurred during action execution
+   * @throws GCFacadeException           if an error was raised by the given facade
+   * @throws GlobalLinkWorkflowException if some other error occurred
+   * @since 2512.1.0-1
+   */
+  void doExecuteGlobalLinkAction(P params,
+                                 Consumer<? super R> resultConsumer,
+                                 GCExchangeFacade facade,
+                                 Settings settings,
+                                 Map<String, List<@Nullable Content>> issues) {
+    doExecuteGlobalLinkAction(params, resultConsumer, facade, issues);
+  }
+
   /**
    * Receives the result from {@link #doExecuteGlobalLinkAction(Object, Consumer, GCExchangeFacade, Map)} if that
    * method passed a result to its consumer argument. This method may store the result in workflow variables.
@@ -613,6 +642,18 @@ abstract class GlobalLinkAction<P extends @Nullable Object, R> extends SpringAwa
     }
   }
 
+  /**
+   * Determines the locale of a content object, preferring the locale of its
+   * site, if it belongs to any.
+   */
+  static Locale preferSiteLocale(ContentObjectSiteAspect aspect) {
+    Site site = aspect.getSite();
+    if (site == null) {
+      return aspect.getLocale();
+    }
+    return site.getLocale();
+  }
+
   static MimeType mimeType(String mimeTypeString) {
     try {
       return new MimeType(mimeTypeString);
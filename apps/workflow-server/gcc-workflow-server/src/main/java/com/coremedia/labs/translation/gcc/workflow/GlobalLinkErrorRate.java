@@ -0,0 +1,74 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Process-wide, exponentially weighted rate of communication errors with
+ * GlobalLink, as observed by the GlobalLink workflow actions.
+ * <p>
+ * Each outcome of an action contributes with a weight of
+ * {@link #DEFAULT_SMOOTHING_FACTOR}, so that older outcomes fade out over
+ * time. The rate serves as input for adapting polling delays, so that
+ * workflows back off while GlobalLink has problems.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class GlobalLinkErrorRate {
+  /**
+   * Weight of the most recent outcome.
+   */
+  @VisibleForTesting
+  static final double DEFAULT_SMOOTHING_FACTOR = 0.1d;
+
+  private static final GlobalLinkErrorRate INSTANCE = new GlobalLinkErrorRate(DEFAULT_SMOOTHING_FACTOR);
+
+  private final double smoothingFactor;
+  private double rate;
+
+  @VisibleForTesting
+  GlobalLinkErrorRate(double smoothingFactor) {
+    if (!(smoothingFactor > 0.0d && smoothingFactor <= 1.0d)) {
+      throw new IllegalArgumentException("smoothingFactor must be within (0.0, 1.0]: %s".formatted(smoothingFactor));
+    }
+    this.smoothingFactor = smoothingFactor;
+  }
+
+  /**
+   * Returns the process-wide instance.
+   *
+   * @return error rate instance
+   */
+  static GlobalLinkErrorRate getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Records a successful communication with GlobalLink.
+   */
+  void recordSuccess() {
+    record(0.0d);
+  }
+
+  /**
+   * Records a failed communication with GlobalLink.
+   */
+  void recordFailure() {
+    record(1.0d);
+  }
+
+  /**
+   * Returns the current error rate.
+   *
+   * @return error rate from {@code 0.0} (no recent failures) to {@code 1.0}
+   * (all recent requests failed)
+   */
+  synchronized double get() {
+    return rate;
+  }
+
+  private synchronized void record(double outcome) {
+    rate += smoothingFactor * (outcome - rate);
+  }
+}
@@ -3,14 +3,16 @@ package com.coremedia.labs.translation.gcc.workflow;
 import com.coremedia.cap.content.Content;
 import com.coremedia.cap.content.ContentObject;
 import com.coremedia.cap.multisite.ContentObjectSiteAspect;
-import com.coremedia.cap.multisite.Site;
 import com.coremedia.cap.multisite.SitesService;
 import com.coremedia.cap.translate.xliff.XliffExporter;
 import com.coremedia.cap.user.User;
 import com.coremedia.cap.workflow.Process;
 import com.coremedia.cap.workflow.Task;
+import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
 import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
 import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import com.coremedia.labs.translation.gcc.util.Settings;
+import com.coremedia.labs.translation.gcc.util.SettingsParser;
 import com.coremedia.translate.item.ContentToTranslateItemTransformer;
 import com.coremedia.translate.item.TranslateItem;
 import com.google.common.collect.ImmutableMap;
@@ -18,22 +20,35 @@ import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.FileSystemResource;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Serial;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -44,6 +59,7 @@ import static com.coremedia.labs.translation.gcc.workflow.GlobalLinkWorkflowErro
 import static com.coremedia.translate.item.TransformStrategy.ITEM_PER_TARGET;
 import static java.lang.invoke.MethodHandles.lookup;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Requests a translation from GlobalLink by opening a submission with uploaded XLIFF for translatable
@@ -57,6 +73,28 @@ public class SendToGlobalLinkAction extends GlobalLinkAction<SendToGlobalLinkAct
   private static final long serialVersionUID = 7530762957907324426L;
 
   private static final String GCC_RETRY_DELAY_SETTINGS_KEY = "sendTranslationRequestRetryDelay";
+  /**
+   * Default size up to which exported XLIFF is held in memory. Matches the
+   * default of {@link GCConfigProperty#KEY_IN_MEMORY_THRESHOLD}, up to which
+   * uploads are not restricted by the upload memory budget.
+   */
+  private static final long DEFAULT_EXPORT_IN_MEMORY_THRESHOLD = 16L * 1024L * 1024L;
+
+  /**
+   * Signals, if translation items are transformed per target locale, once
+   * the locale is exported, instead of transforming all derived contents
+   * upfront. Defaults to {@code false}.
+   *
+   * @see TranslateItemsByLocale
+   * @since 2512.1.0-1
+   */
+  private static final String GCC_TRANSFORM_PER_LOCALE_SETTINGS_KEY = "sendTranslationRequestTransformPerLocale";
+
+  /**
+   * Upper bound for the number of target locales to export and upload
+   * concurrently, to protect GCC from too many concurrent requests.
+   */
+  private static final int MAX_UPLOAD_PARALLELISM = 16;
 
   private @Nullable String derivedContentsVariable;
   private @Nullable String subjectVariable;
@@ -180,6 +218,15 @@ public class SendToGlobalLinkAction extends GlobalLinkAction<SendToGlobalLinkAct
                                  Consumer<? super String> resultConsumer,
                                  GCExchangeFacade facade,
                                  Map<String, List<@Nullable Content>> issues) {
+    doExecuteGlobalLinkAction(params, resultConsumer, facade, Settings.EMPTY, issues);
+  }
+
+  @Override
+  void doExecuteGlobalLinkAction(Parameters params,
+                                 Consumer<? super String> resultConsumer,
+                                 GCExchangeFacade facade,
+                                 Settings settings,
+                                 Map<String, List<@Nullable Content>> issues) {
     Collection<Content> derivedContents = params.derivedContents;
     Collection<ContentObject> masterContentObjects = params.masterContentObjects;
     if (derivedContents.isEmpty() || masterContentObjects.isEmpty()) {
@@ -187,46 +234,126 @@ public class SendToGlobalLinkAction extends GlobalLinkAction<SendToGlobalLinkAct
       return;
     }
 
-    Function<ContentObjectSiteAspect, Locale> localeMapper = SendToGlobalLinkAction::preferSiteLocale;
-    Map<Locale, List<TranslateItem>> translationItemsByLocale
-            = getTranslationItemsByLocale(masterContentObjects, derivedContents, localeMapper);
+    Function<ContentObjectSiteAspect, Locale> localeMapper = GlobalLinkAction::preferSiteLocale;
+    Map<Locale, List<TranslateItem>> translationItemsByLocale = isTransformPerLocaleEnabled(settings)
+            ? getLazyTranslationItemsByLocale(masterContentObjects, derivedContents, localeMapper)
+            : getTranslationItemsByLocale(masterContentObjects, derivedContents, localeMapper);
     Locale firstMasterLocale = findFirstMasterLocale(masterContentObjects, localeMapper)
             .orElseThrow(() -> new IllegalStateException("Unable to identify master locale."));
 
     String submitterName = params.submitter != null ? params.submitter.getName() : null;
     String submissionId = submitSubmission(facade, params.subject, params.comment, firstMasterLocale,
-            translationItemsByLocale, params.dueDate, params.workflow, submitterName);
+            translationItemsByLocale, params.dueDate, params.workflow, submitterName, settings);
     resultConsumer.accept(submissionId);
   }
 
   // --- Internal ----------------------------------------------------------------------
 
-  @SuppressWarnings("NestedTryStatement")
-  private Path exportToXliff(Locale sourceLocale, Map.Entry<Locale, List<TranslateItem>> entry) {
-    XliffExporter xliffExporter = getSpringContext().getBean(XliffExporter.class);
-    String targetLanguageTag = entry.getKey().toLanguageTag();
+  /**
+   * Exports the XLIFF for the translation items of one target locale into as
+   * many files, as required by the chunk policy. Each file is passed to the
+   * given consumer as soon as it is exported, along with its file name. The
+   * consumer is responsible for closing the buffer once uploaded.
+   */
+  private void exportChunks(Locale sourceLocale,
+                            Map.Entry<Locale, List<TranslateItem>> entry,
+                            ExportOptions options,
+                            BiConsumer<String, XliffExportBuffer> consumer) {
+    // Only access the items once, as they may be transformed on access.
     List<TranslateItem> items = entry.getValue();
+    if (items.isEmpty()) {
+      return;
+    }
+    String baseName = sourceLocale.toLanguageTag() + '2' + entry.getKey().toLanguageTag();
+    int[] chunks = {0};
+    Consumer<XliffExportBuffer> namingConsumer = xliff -> {
+      int chunk = ++chunks[0];
+      consumer.accept(chunk == 1 ? baseName + ".xliff" : baseName + '_' + chunk + ".xliff", xliff);
+    };
+    for (List<TranslateItem> partition : options.chunkPolicy().partition(items)) {
+      exportChunk(sourceLocale, entry.getKey(), partition, options, namingConsumer);
+    }
+  }
 
-    Path xliffPath;
-    try {
-      xliffPath = Files.createTempFile(lookup().lookupClass().getSimpleName(),
-              '.' + sourceLocale.toLanguageTag() + '2' + targetLanguageTag + ".xliff").toAbsolutePath();
-
-      try (Writer xliffWriter = Files.newBufferedWriter(xliffPath, StandardCharsets.UTF_8)) {
-        xliffExporter.exportXliff(
-                items,
-                xliffWriter,
-                xliffExportOptions()
-                        .option(EMPTY_IGNORE)
-                        .option(TARGET_SOURCE)
-                        .build());
+  /**
+   * Exports the given items into one file. If the file exceeds the chunk
+   * policy, the items are split in halves, which are exported again.
+   */
+  private void exportChunk(Locale sourceLocale,
+                           Locale targetLocale,
+                           List<TranslateItem> items,
+                           ExportOptions options,
+                           Consumer<XliffExportBuffer> consumer) {
+    XliffExportBuffer xliff = exportToXliff(sourceLocale, targetLocale, items, options.inMemoryThreshold());
+    long words = SubmissionSizing.Size.WORDS_NOT_COUNTED;
+    if (options.chunkPolicy().limitsWords()) {
+      try {
+        // Streams the export once more, which is cheap compared to exporting it.
+        words = XliffWordCount.of(xliff.toResource());
+      } catch (IOException e) {
+        xliff.close();
+        throw new GlobalLinkWorkflowException(XLIFF_EXPORT_FAILURE, "Failed to read exported XLIFF", e, targetLocale.toLanguageTag());
       }
-      LOG.debug("Exported XLIFF to: '{}'", xliffPath);
+    }
+    if (items.size() <= 1 || !options.chunkPolicy().isExceededBy(xliff.size(), words)) {
+      options.sizing().add(targetLocale, items.size(), xliff.size(), words);
+      consumer.accept(xliff);
+      return;
+    }
+    xliff.close();
+    LOG.debug("Splitting XLIFF for {} with {} translation items, exceeding {}.", targetLocale.toLanguageTag(), items.size(), options.chunkPolicy());
+    int half = items.size() / 2;
+    exportChunk(sourceLocale, targetLocale, items.subList(0, half), options, consumer);
+    exportChunk(sourceLocale, targetLocale, items.subList(half, items.size()), options, consumer);
+  }
+
+  /**
+   * Exports the XLIFF for the given items into a buffer, that holds small
+   * exports in memory and spills large exports to a temporary file. The
+   * caller is responsible for closing the buffer once uploaded.
+   */
+  private XliffExportBuffer exportToXliff(Locale sourceLocale,
+                                          Locale targetLocale,
+                                          List<TranslateItem> items,
+                                          long inMemoryThreshold) {
+    XliffExporter xliffExporter = getSpringContext().getBean(XliffExporter.class);
+    String targetLanguageTag = targetLocale.toLanguageTag();
+
+    XliffExportBuffer buffer = new XliffExportBuffer(inMemoryThreshold, lookup().lookupClass().getSimpleName(),
+            '.' + sourceLocale.toLanguageTag() + '2' + targetLanguageTag + ".xliff");
+    try (Writer xliffWriter = new BufferedWriter(new OutputStreamWriter(buffer.outputStream(), StandardCharsets.UTF_8))) {
+      xliffExporter.exportXliff(
+              items,
+              xliffWriter,
+              xliffExportOptions()
+                      .option(EMPTY_IGNORE)
+                      .option(TARGET_SOURCE)
+                      .build());
     } catch (IOException e) {
+      buffer.close();
       throw new GlobalLinkWorkflowException(XLIFF_EXPORT_FAILURE, "Failed to export XLIFF", e, targetLanguageTag);
+    } catch (RuntimeException e) {
+      buffer.close();
+      throw e;
     }
+    LOG.debug("Exported XLIFF for {} ({} bytes, {}).", targetLanguageTag, buffer.size(),
+            buffer.isSpilled() ? "spilled to disk" : "in memory");
+    return buffer;
+  }
 
-    return xliffPath;
+  /**
+   * Size up to which exported XLIFF is held in memory and uploaded directly,
+   * as configured by {@link GCConfigProperty#KEY_IN_MEMORY_THRESHOLD} within
+   * {@link GCConfigProperty#KEY_UPLOAD}. Larger exports are spilled to a
+   * temporary file.
+   *
+   * @param settings settings to read the threshold from
+   * @return threshold in bytes; {@code 16MB}, if unset or invalid
+   */
+  static long getExportInMemoryThreshold(Settings settings) {
+    return SettingsParser.findDataSize(settings, GCConfigProperty.KEY_UPLOAD, GCConfigProperty.KEY_IN_MEMORY_THRESHOLD)
+      .filter(threshold -> threshold >= 0L)
+      .orElse(DEFAULT_EXPORT_IN_MEMORY_THRESHOLD);
   }
 
   private Optional<Locale> findFirstMasterLocale(Collection<ContentObject> masterObjects, Function<ContentObjectSiteAspect, Locale> localeMapper) {
@@ -238,6 +365,8 @@ public class SendToGlobalLinkAction extends GlobalLinkAction<SendToGlobalLinkAct
                                                                        Collection<Content> derivedContents,
                                                                        Function<ContentObjectSiteAspect, Locale> localeMapper) {
     ContentToTranslateItemTransformer transformer = getSpringContext().getBean(ContentToTranslateItemTransformer.class);
+    // Sorted by target locale, so that uploads and the resulting file IDs are
+    // in deterministic order.
     return transformer
             .transform(
                     masterContentObjects,
@@ -245,7 +374,50 @@ public class SendToGlobalLinkAction extends GlobalLinkAction<SendToGlobalLinkAct
                     localeMapper,
                     ITEM_PER_TARGET
             )
-            .collect(groupingBy(TranslateItem::getSingleTargetLocale));
+            .collect(groupingBy(TranslateItem::getSingleTargetLocale,
+                    () -> new TreeMap<>(Comparator.comparing(Locale::toLanguageTag)),
+                    toList()));
+  }
+
+  /**
+   * Groups the derived contents by target locale, and only transforms the
+   * contents of a target locale to translation items, once the items of that
+   * locale are requested. Thus, the items of all target locales are never
+   * held in memory at once.
+   */
+  private Map<Locale, List<TranslateItem>> getLazyTranslationItemsByLocale(Collection<ContentObject> masterContentObjects,
+                                                                           Collection<Content> derivedContents,
+                                                                           Function<ContentObjectSiteAspect, Locale> localeMapper) {
+    ContentToTranslateItemTransformer transformer = getSpringContext().getBean(ContentToTranslateItemTransformer.class);
+    SitesService sitesService = getSitesService();
+    // Sorted by target locale, just as the eagerly transformed items.
+    Map<Locale, List<Content>> derivedContentsByLocale = derivedContents.stream()
+            .collect(groupingBy(content -> localeMapper.apply(sitesService.getSiteAspect(content)),
+                    () -> new TreeMap<>(Comparator.comparing(Locale::toLanguageTag)),
+                    toList()));
+    return new TranslateItemsByLocale(derivedContentsByLocale, (targetLocale, contents) -> {
+      LOG.debug("Transforming {} derived contents for {} to translation items.", contents.size(), targetLocale.toLanguageTag());
+      return transformer
+              .transform(
+                      masterContentObjects,
+                      contents,
+                      localeMapper,
+                      ITEM_PER_TARGET
+              )
+              .toList();
+    });
+  }
+
+  /**
+   * Signals, if translation items shall be transformed per target locale, as
+   * configured by setting {@value #GCC_TRANSFORM_PER_LOCALE_SETTINGS_KEY}.
+   *
+   * @param settings settings to read the flag from
+   * @return {@code true}, if enabled; {@code false} (the default) otherwise
+   */
+  static boolean isTransformPerLocaleEnabled(Settings settings) {
+    return SettingsParser.findBoolean(settings, GCC_TRANSFORM_PER_LOCALE_SETTINGS_KEY)
+      .orElse(false);
   }
 
   /**
@@ -266,50 +438,332 @@ public class SendToGlobalLinkAction extends GlobalLinkAction<SendToGlobalLinkAct
                                     Locale sourceLocale,
                                     Map<Locale, List<TranslateItem>> translationItemsByLocale,
                                     ZonedDateTime dueDate, @Nullable String workflow, @Nullable String submitter) {
+    return submitSubmission(facade, subject, comment, sourceLocale, translationItemsByLocale, dueDate, workflow,
+            submitter, Settings.EMPTY);
+  }
 
-    Map<String, List<Locale>> xliffFileIds = uploadContents(facade, sourceLocale, translationItemsByLocale);
+  /**
+   * Create a submission for the given translation items and return its unique identifier.
+   *
+   * @param facade                   the facade to communicate with GlobalLink
+   * @param subject                  subject, will be part of the submission name
+   * @param comment                  comment, will be the instructions of the submission
+   * @param sourceLocale             locale of master site
+   * @param translationItemsByLocale translation items grouped by target locale
+   * @param dueDate                  date that will be sent as 'dueDate' parameter
+   * @param workflow                 workflow to be used for the translation, if not the default
+   * @param submitter                username of the submitter
+   * @param settings                 settings to configure exporting and uploading XLIFF
+   * @return the result that contains the ID of the created submission, or an error result
+   * @throws GCFacadeCommunicationException if submitting the submission failed
+   * @since 2512.1.0-1
+   */
+  protected String submitSubmission(GCExchangeFacade facade, String subject, @Nullable String comment,
+                                    Locale sourceLocale,
+                                    Map<Locale, List<TranslateItem>> translationItemsByLocale,
+                                    ZonedDateTime dueDate, @Nullable String workflow, @Nullable String submitter,
+                                    Settings settings) {
 
-    long submissionId = facade.submitSubmission(subject, comment, dueDate, workflow, submitter, sourceLocale, xliffFileIds);
+    XliffUploadJournal.Session journal = XliffUploadJournal.getInstance()
+            .openSession(getConnectionIdentifier(settings), getUploadReuseDuration(settings));
+    SubmissionSizing sizing = new SubmissionSizing();
+    Map<String, List<Locale>> xliffFileIds;
+    try {
+      xliffFileIds = uploadContents(facade, sourceLocale, translationItemsByLocale, settings, journal, sizing);
+    } catch (RuntimeException e) {
+      journal.keepAll();
+      throw e;
+    }
+
+    LOG.debug("Requesting submission for {} files to GCC: {}.", xliffFileIds.size(), sizing.total());
+    long submissionId;
+    try {
+      submissionId = facade.submitSubmission(subject, comment, dueDate, workflow, submitter, sourceLocale, xliffFileIds);
+    } catch (RuntimeException e) {
+      journal.keepUploaded();
+      throw e;
+    }
 
     LOG.info("Submitted submission with the internal id {} for {} files to GCC.", submissionId, xliffFileIds.size());
+    sizing.publish(submissionId);
     return String.valueOf(submissionId);
   }
 
-  private Map<String, List<Locale>> uploadContents(GCExchangeFacade gccSession, Locale sourceLocale, Map<Locale, List<TranslateItem>> translationItemsByLocale) {
-    ImmutableMap.Builder<String, List<Locale>> builder = ImmutableMap.builder();
-    for (Map.Entry<Locale, List<TranslateItem>> entry : translationItemsByLocale.entrySet()) {
-      String targetLocale = entry.getKey().toLanguageTag();
-      Path xliffPath = exportToXliff(sourceLocale, entry);
-      String fileName = sourceLocale.toLanguageTag() + '2' + targetLocale + ".xliff";
-      try {
-        String fileId = gccSession.uploadContent(fileName, new FileSystemResource(xliffPath), sourceLocale);
-        builder.put(fileId, Collections.singletonList(entry.getKey()));
-        LOG.debug(
-                "submitSubmission/Upload: Succeeded for {} translation items, target locale {}. Uploaded as fileId {} to GCC.",
-                entry.getValue().size(),
-                targetLocale,
-                fileId);
-      } finally {
-        tryDeleteIfExists(xliffPath);
+  private Map<String, List<Locale>> uploadContents(GCExchangeFacade gccSession,
+                                                  Locale sourceLocale,
+                                                  Map<Locale, List<TranslateItem>> translationItemsByLocale,
+                                                  Settings settings,
+                                                  XliffUploadJournal.Session journal,
+                                                  SubmissionSizing sizing) {
+    ExportOptions options = new ExportOptions(getExportInMemoryThreshold(settings), XliffChunkPolicy.fromSettings(settings), sizing);
+    int parallelism = getUploadParallelism(settings);
+    List<Map.Entry<Locale, List<TranslateItem>>> entries = List.copyOf(translationItemsByLocale.entrySet());
+    @Nullable ConcurrentMap<String, CompletableFuture<String>> uploadsByContent =
+            entries.size() > 1 && isUploadDeduplicationEnabled(settings) ? new ConcurrentHashMap<>() : null;
+    List<List<String>> fileIdsByLocale = mapConcurrently(entries, parallelism,
+            entry -> uploadContent(gccSession, sourceLocale, entry, options, journal, uploadsByContent));
+
+    // Keep the order of the target locales, regardless of the order the uploads finished.
+    // A file shared by several target locales is submitted once for all of them.
+    Map<String, List<Locale>> targetLocalesByFileId = new LinkedHashMap<>();
+    for (int i = 0; i < entries.size(); i++) {
+      Locale targetLocale = entries.get(i).getKey();
+      for (String fileId : fileIdsByLocale.get(i)) {
+        List<Locale> targetLocales = targetLocalesByFileId.computeIfAbsent(fileId, k -> new ArrayList<>());
+        if (!targetLocales.contains(targetLocale)) {
+          targetLocales.add(targetLocale);
+        }
       }
     }
+    if (uploadsByContent != null && targetLocalesByFileId.size() < fileIdsByLocale.stream().mapToInt(List::size).sum()) {
+      LOG.info("submitSubmission/Upload: Deduplicated XLIFF of {} target locales to {} files.",
+              entries.size(), targetLocalesByFileId.size());
+    }
+    ImmutableMap.Builder<String, List<Locale>> builder = ImmutableMap.builder();
+    targetLocalesByFileId.forEach((fileId, targetLocales) -> builder.put(fileId, List.copyOf(targetLocales)));
     return builder.build();
   }
 
-  private static void tryDeleteIfExists(Path xliffPath) {
+  /**
+   * Exports and uploads the XLIFF of one target locale.
+   * <p>
+   * If deduplicating, files are only uploaded, unless an equal file of
+   * another target locale got uploaded before. Files are equal, if their
+   * locale independent {@link XliffContentHash} matches, that is, if they
+   * only differ in their target language and the references to their target
+   * contents. Then, the file ID of the first upload is shared. When
+   * importing the translation, the references are mapped to the target
+   * contents of the task's target locale again.
+   *
+   * @param uploadsByContent uploads by locale independent hash, to
+   *                         deduplicate uploads with; {@code null} to upload
+   *                         all files
+   */
+  private List<String> uploadContent(GCExchangeFacade gccSession,
+                                     Locale sourceLocale,
+                                     Map.Entry<Locale, List<TranslateItem>> entry,
+                                     ExportOptions options,
+                                     XliffUploadJournal.Session journal,
+                                     @Nullable ConcurrentMap<String, CompletableFuture<String>> uploadsByContent) {
+    Locale targetLocale = entry.getKey();
+    List<String> fileIds = new ArrayList<>();
+    exportChunks(sourceLocale, entry, options, (fileName, xliff) -> {
+      try (xliff) {
+        @Nullable CompletableFuture<String> upload = null;
+        if (uploadsByContent != null) {
+          upload = new CompletableFuture<>();
+          @Nullable CompletableFuture<String> equalUpload = uploadsByContent.putIfAbsent(localeIndependentHash(targetLocale, xliff), upload);
+          if (equalUpload != null) {
+            String fileId = awaitUpload(equalUpload);
+            LOG.info("submitSubmission/Upload: Skipped for {}, target locale {}. Sharing fileId {} with an equal file of another target locale.",
+                    fileName,
+                    targetLocale,
+                    fileId);
+            fileIds.add(fileId);
+            return;
+          }
+        }
+        try {
+          @Nullable String hash = journal.isEnabled() ? contentHash(targetLocale, xliff) : null;
+          String fileId = uploadXliff(gccSession, sourceLocale, fileName, List.of(targetLocale), xliff, hash, journal);
+          if (upload != null) {
+            upload.complete(fileId);
+          }
+          fileIds.add(fileId);
+        } catch (RuntimeException | Error e) {
+          // Release target locales waiting for this upload.
+          if (upload != null) {
+            upload.completeExceptionally(e);
+          }
+          throw e;
+        }
+      }
+    });
+    return fileIds;
+  }
+
+  /**
+   * Waits for the upload of an equal file by another target locale. If that
+   * upload failed, its failure is rethrown.
+   */
+  private static String awaitUpload(CompletableFuture<String> upload) {
+    try {
+      return upload.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new GCFacadeCommunicationException(e, "Failed to upload XLIFF.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GCFacadeCommunicationException(e, "Interrupted while uploading XLIFF.");
+    }
+  }
+
+  private static String uploadXliff(GCExchangeFacade gccSession,
+                                    Locale sourceLocale,
+                                    String fileName,
+                                    List<Locale> targetLocales,
+                                    XliffExportBuffer xliff,
+                                    @Nullable String hash,
+                                    XliffUploadJournal.Session journal) {
+    if (hash != null) {
+      Optional<String> reusedFileId = journal.reuse(fileName, hash);
+      if (reusedFileId.isPresent()) {
+        LOG.info("submitSubmission/Upload: Skipped for {}, target locales {}. Reusing fileId {} uploaded by a previous attempt.",
+                fileName,
+                targetLocales,
+                reusedFileId.get());
+        return reusedFileId.get();
+      }
+    }
+    String fileId = gccSession.uploadContent(fileName, xliff.toResource(), sourceLocale);
+    LOG.debug(
+            "submitSubmission/Upload: Succeeded for {} ({} bytes), target locales {}. Uploaded as fileId {} to GCC.",
+            fileName,
+            xliff.size(),
+            targetLocales,
+            fileId);
+    if (hash != null) {
+      journal.uploaded(fileName, hash, fileId);
+    }
+    return fileId;
+  }
+
+  private static String localeIndependentHash(Locale targetLocale, XliffExportBuffer xliff) {
     try {
-      Files.deleteIfExists(xliffPath);
+      return XliffContentHash.ofLocaleIndependent(xliff.toResource());
     } catch (IOException e) {
-      LOG.error("Failed to delete temporary XLIFF file: '{}'", xliffPath, e);
+      throw new GlobalLinkWorkflowException(XLIFF_EXPORT_FAILURE, "Failed to read exported XLIFF", e, targetLocale.toLanguageTag());
     }
   }
 
-  private static Locale preferSiteLocale(ContentObjectSiteAspect aspect) {
-    Site site = aspect.getSite();
-    if (site == null) {
-      return aspect.getLocale();
+  private static String contentHash(Locale targetLocale, XliffExportBuffer xliff) {
+    try {
+      return XliffContentHash.of(xliff.toResource());
+    } catch (IOException e) {
+      throw new GlobalLinkWorkflowException(XLIFF_EXPORT_FAILURE, "Failed to read exported XLIFF", e, targetLocale.toLanguageTag());
     }
-    return site.getLocale();
+  }
+
+  /**
+   * Applies the given function to all items concurrently, bounded by the
+   * given parallelism. For a parallelism of {@code 1}, or a single item, the
+   * items are processed sequentially in the calling thread.
+   * <p>
+   * Fails fast: Once processing any item fails, pending ones are cancelled
+   * and the failure is rethrown unchanged, so that the submission is not
+   * created at all.
+   *
+   * @return results in the order of the given items
+   */
+  private static <T, R> List<R> mapConcurrently(List<T> items,
+                                                int parallelism,
+                                                Function<? super T, ? extends R> function) {
+    int threads = Math.min(parallelism, items.size());
+    if (threads <= 1) {
+      return items.stream().<R>map(function).toList();
+    }
+    LOG.debug("Exporting and uploading XLIFF for {} target locales with parallelism {}.", items.size(), threads);
+    ExecutorService executor = Executors.newFixedThreadPool(
+            threads,
+            Thread.ofVirtual().name("gcc-upload-", 0L).factory()
+    );
+    CompletionService<R> completionService = new ExecutorCompletionService<>(executor);
+    try {
+      List<Future<R>> futures = new ArrayList<>(items.size());
+      for (T item : items) {
+        futures.add(completionService.submit(() -> function.apply(item)));
+      }
+      for (int i = 0; i < items.size(); i++) {
+        // Rethrows the first failure, regardless of the order of the items.
+        completionService.take().get();
+      }
+      return futures.stream().map(Future::resultNow).toList();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new GCFacadeCommunicationException(e, "Failed to upload XLIFF.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new GCFacadeCommunicationException(e, "Interrupted while uploading XLIFF.");
+    } finally {
+      executor.shutdownNow();
+      executor.close();
+    }
+  }
+
+  /**
+   * Number of target locales to export and upload concurrently, as configured
+   * by {@link GCConfigProperty#KEY_PARALLELISM} within
+   * {@link GCConfigProperty#KEY_UPLOAD}. Values are saturated to be within
+   * {@code 1} and {@value #MAX_UPLOAD_PARALLELISM}.
+   *
+   * @param settings settings to read the parallelism from
+   * @return parallelism to apply; {@code 1}, if unset or invalid
+   */
+  static int getUploadParallelism(Settings settings) {
+    return SettingsParser.findInteger(settings, GCConfigProperty.KEY_UPLOAD, GCConfigProperty.KEY_PARALLELISM)
+      .map(parallelism -> Math.clamp(parallelism, 1, MAX_UPLOAD_PARALLELISM))
+      .orElse(1);
+  }
+
+  /**
+   * Time, within which files uploaded by a failed attempt are reused by a
+   * retry, as configured by {@link GCConfigProperty#KEY_REUSE_WITHIN} within
+   * {@link GCConfigProperty#KEY_UPLOAD}.
+   *
+   * @param settings settings to read the duration from
+   * @return duration; {@link Duration#ZERO} (disabled), if unset or invalid
+   */
+  static Duration getUploadReuseDuration(Settings settings) {
+    return SettingsParser.findDuration(settings, GCConfigProperty.KEY_UPLOAD, GCConfigProperty.KEY_REUSE_WITHIN)
+      .filter(Duration::isPositive)
+      .orElse(Duration.ZERO);
+  }
+
+  /**
+   * Signals, if XLIFF files, that are equal for several target locales, are
+   * uploaded only once, as configured by
+   * {@link GCConfigProperty#KEY_DEDUPLICATE} within
+   * {@link GCConfigProperty#KEY_UPLOAD}.
+   *
+   * @param settings settings to read the flag from
+   * @return {@code true}, if enabled; {@code false} (the default) otherwise
+   */
+  static boolean isUploadDeduplicationEnabled(Settings settings) {
+    return SettingsParser.findBoolean(settings, GCConfigProperty.KEY_UPLOAD, GCConfigProperty.KEY_DEDUPLICATE)
+      .orElse(false);
+  }
+
+  /**
+   * Identifies the GCC connection files are uploaded to, so that file IDs
+   * are never reused for another endpoint or connector.
+   */
+  private static String getConnectionIdentifier(Settings settings) {
+    return settings.at(GCConfigProperty.KEY_URL).map(String::valueOf).orElse("")
+            + ' '
+            + settings.at(GCConfigProperty.KEY_KEY).map(String::valueOf).orElse("");
+  }
+
+  /**
+   * Options to export XLIFF with.
+   *
+   * @param inMemoryThreshold size up to which exported XLIFF is held in memory
+   * @param chunkPolicy       policy to split the XLIFF of one target locale
+   *                          into several files
+   * @param sizing            collects the size of all exported files
+   */
+  private record ExportOptions(long inMemoryThreshold, XliffChunkPolicy chunkPolicy, SubmissionSizing sizing) {
   }
 
   record Parameters(String subject, @Nullable String comment, Collection<Content> derivedContents,
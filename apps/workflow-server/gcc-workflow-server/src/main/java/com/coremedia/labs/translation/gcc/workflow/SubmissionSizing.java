@@ -0,0 +1,113 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Size of an outgoing submission per target locale, collected while the
+ * XLIFF files are exported. As each file is uploaded right after its export,
+ * the size is complete only once all files got uploaded.
+ * <p>
+ * Once the submission is created, its size is logged along with the
+ * submission ID. The size is not published otherwise. Words are only
+ * counted, if the {@link XliffChunkPolicy} limits them, as counting
+ * requires reading each export again.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class SubmissionSizing {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  private final ConcurrentNavigableMap<Locale, Size> sizeByLocale =
+    new ConcurrentSkipListMap<>(Comparator.comparing(Locale::toLanguageTag));
+
+  /**
+   * Adds an exported XLIFF file. Thread-safe, so that target locales may be
+   * exported concurrently.
+   *
+   * @param targetLocale target locale of the file
+   * @param items        number of translation items within the file
+   * @param bytes        size of the file in bytes
+   * @param words        estimated number of words to translate;
+   *                     {@link Size#WORDS_NOT_COUNTED}, if not counted
+   */
+  void add(Locale targetLocale, int items, long bytes, long words) {
+    Size size = new Size(1, items, bytes, words);
+    LOG.debug("Exported XLIFF for {}: {}.", targetLocale.toLanguageTag(), size);
+    sizeByLocale.merge(targetLocale, size, Size::plus);
+  }
+
+  /**
+   * Returns the size per target locale, sorted by target locale.
+   *
+   * @return size per target locale
+   */
+  SortedMap<Locale, Size> byLocale() {
+    return Collections.unmodifiableSortedMap(new TreeMap<>(sizeByLocale));
+  }
+
+  /**
+   * Returns the size of all target locales.
+   *
+   * @return total size
+   */
+  Size total() {
+    return sizeByLocale.values().stream().reduce(Size.EMPTY, Size::plus);
+  }
+
+  /**
+   * Logs the size for the given, successfully created submission.
+   *
+   * @param submissionId ID of the created submission
+   */
+  void publish(long submissionId) {
+    LOG.info("Size of submission {}: {}. Per target locale: {}.", submissionId, total(), sizeByLocale.entrySet().stream()
+      .map(e -> e.getKey().toLanguageTag() + "=[" + e.getValue() + "]")
+      .collect(Collectors.joining(", ")));
+  }
+
+  /**
+   * Size of exported XLIFF.
+   *
+   * @param files number of XLIFF files
+   * @param items number of translation items
+   * @param bytes size in bytes
+   * @param words estimated number of words to translate;
+   *              {@link #WORDS_NOT_COUNTED}, if not counted
+   */
+  record Size(int files, int items, long bytes, long words) {
+    /**
+     * Number of words of files, whose words did not get counted.
+     */
+    static final long WORDS_NOT_COUNTED = -1L;
+
+    static final Size EMPTY = new Size(0, 0, 0L, 0L);
+
+    Size plus(Size other) {
+      // Words stay uncounted, once any file got added without counting them.
+      long sumOfWords = words < 0L || other.words < 0L ? WORDS_NOT_COUNTED : words + other.words;
+      return new Size(files + other.files, items + other.items, bytes + other.bytes, sumOfWords);
+    }
+
+    @Override
+    public String toString() {
+      if (words < 0L) {
+        return "%d files, %d items, %d bytes".formatted(files, items, bytes);
+      }
+      return "%d files, %d items, %d bytes, ~%d words".formatted(files, items, bytes, words);
+    }
+  }
+}
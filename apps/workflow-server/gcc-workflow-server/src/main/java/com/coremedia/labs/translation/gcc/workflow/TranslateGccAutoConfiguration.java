@@ -2,10 +2,12 @@ package com.coremedia.labs.translation.gcc.workflow;
 
 import com.coremedia.cap.translate.xliff.config.XliffExporterConfiguration;
 import com.coremedia.cap.translate.xliff.config.XliffImporterConfiguration;
+import com.coremedia.labs.translation.gcc.util.SettingsSource;
 import com.coremedia.translate.item.TranslateItemConfiguration;
 import com.coremedia.translate.workflow.DefaultTranslationWorkflowDerivedContentsStrategy;
 import com.coremedia.translate.workflow.TranslationWorkflowDerivedContentsStrategy;
 import org.jspecify.annotations.NullMarked;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,6 +39,20 @@ public class TranslateGccAutoConfiguration {
     return globalLinkTranslationWorkflowDerivedContentsStrategy;
   }
 
+  /**
+   * Receiver of status notifications sent by GlobalLink, that wakes up
+   * workflows waiting for the next download of the notified submission.
+   * Only listens for notifications, if configured.
+   *
+   * @param beanFactory bean factory to read the configuration from
+   * @return receiver of notifications
+   * @since 2512.1.0-1
+   */
+  @Bean
+  GCNotificationReceiver gccNotificationReceiver(BeanFactory beanFactory) {
+    return new GCNotificationReceiver(SettingsSource.fromContext(beanFactory), DownloadTranslationWakeUp.getInstance()::wakeUp);
+  }
+
   @SuppressWarnings("ConfigurationProperties")
   @ConfigurationProperties(prefix = "gcc")
   @Bean
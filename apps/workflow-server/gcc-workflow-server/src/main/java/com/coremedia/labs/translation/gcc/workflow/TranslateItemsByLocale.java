@@ -0,0 +1,142 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.cap.content.Content;
+import com.coremedia.translate.item.TranslateItem;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Translation items grouped by target locale, that are only transformed from
+ * the derived contents of a target locale, once the items of that locale are
+ * requested.
+ * <p>
+ * In contrast to transforming all derived contents at once, the items of a
+ * locale are not held in memory, before and after they are processed. Thus,
+ * peak memory is bounded by the items of the locales processed at the same
+ * time.
+ * <p>
+ * Items are not cached: Each access to a value transforms the items of the
+ * corresponding locale again. Consumers should access each value only once.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class TranslateItemsByLocale extends AbstractMap<Locale, List<TranslateItem>> {
+  private final Map<Locale, List<Content>> derivedContentsByLocale;
+  private final BiFunction<? super Locale, ? super List<Content>, List<TranslateItem>> transformer;
+
+  /**
+   * Constructor.
+   *
+   * @param derivedContentsByLocale derived contents grouped by their locale;
+   *                                the iteration order of this map is kept
+   * @param transformer             transforms the derived contents of one
+   *                                target locale to translation items
+   */
+  TranslateItemsByLocale(Map<Locale, List<Content>> derivedContentsByLocale,
+                         BiFunction<? super Locale, ? super List<Content>, List<TranslateItem>> transformer) {
+    this.derivedContentsByLocale = requireNonNull(derivedContentsByLocale);
+    this.transformer = requireNonNull(transformer);
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    return derivedContentsByLocale.containsKey(key);
+  }
+
+  @Override
+  public @Nullable List<TranslateItem> get(@Nullable Object key) {
+    if (key instanceof Locale locale && derivedContentsByLocale.containsKey(locale)) {
+      return transformer.apply(locale, derivedContentsByLocale.get(locale));
+    }
+    return null;
+  }
+
+  @Override
+  public Set<Entry<Locale, List<TranslateItem>>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<Locale, List<TranslateItem>>> iterator() {
+        Iterator<Entry<Locale, List<Content>>> delegate = derivedContentsByLocale.entrySet().iterator();
+        return new Iterator<>() {
+          @Override
+          public boolean hasNext() {
+            return delegate.hasNext();
+          }
+
+          @Override
+          public Entry<Locale, List<TranslateItem>> next() {
+            return new LazyEntry(delegate.next());
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return derivedContentsByLocale.size();
+      }
+    };
+  }
+
+  @Override
+  public String toString() {
+    // Do not transform the items of all locales just for logging.
+    return "%s[locales=%s]".formatted(getClass().getSimpleName(), derivedContentsByLocale.keySet());
+  }
+
+  private final class LazyEntry implements Entry<Locale, List<TranslateItem>> {
+    private final Entry<Locale, List<Content>> derivedContents;
+
+    private LazyEntry(Entry<Locale, List<Content>> derivedContents) {
+      this.derivedContents = derivedContents;
+    }
+
+    @Override
+    public Locale getKey() {
+      return derivedContents.getKey();
+    }
+
+    @Override
+    public List<TranslateItem> getValue() {
+      return transformer.apply(derivedContents.getKey(), derivedContents.getValue());
+    }
+
+    @Override
+    public List<TranslateItem> setValue(List<TranslateItem> value) {
+      throw new UnsupportedOperationException("Translation items are read-only.");
+    }
+
+    /**
+     * Compares the locale and the derived contents, the items are
+     * transformed from, rather than the items, so that comparing entries
+     * does not transform any items.
+     */
+    @Override
+    public boolean equals(@Nullable Object o) {
+      return o instanceof LazyEntry entry
+        && getKey().equals(entry.getKey())
+        && derivedContents.getValue().equals(entry.derivedContents.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return getKey().hashCode() ^ derivedContents.getValue().hashCode();
+    }
+
+    @Override
+    public String toString() {
+      return getKey().toLanguageTag() + "=" + derivedContents.getValue().size() + " derived contents";
+    }
+  }
+}
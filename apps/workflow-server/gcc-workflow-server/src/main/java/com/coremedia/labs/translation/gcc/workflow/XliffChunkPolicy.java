@@ -0,0 +1,95 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
+import com.coremedia.labs.translation.gcc.util.Settings;
+import com.coremedia.labs.translation.gcc.util.SettingsParser;
+import com.google.common.collect.Lists;
+import org.jspecify.annotations.NullMarked;
+
+import java.util.List;
+
+/**
+ * Policy to split the translation items of one target locale into several
+ * XLIFF files, uploaded within the same submission.
+ * <p>
+ * Items are first partitioned by their number. Afterward, each partition is
+ * exported, and, if it exceeds the estimated word count or the byte size,
+ * split in halves and exported again, until it fits or consists of a single
+ * item.
+ *
+ * @param maxItems maximum number of translation items per file; non-positive
+ *                 values disable this limit
+ * @param maxWords maximum estimated number of words per file; non-positive
+ *                 values disable this limit
+ * @param maxBytes maximum size of a file in bytes; non-positive values
+ *                 disable this limit
+ * @see GCConfigProperty#KEY_MAX_ITEMS_PER_FILE
+ * @see GCConfigProperty#KEY_MAX_WORDS_PER_FILE
+ * @see GCConfigProperty#KEY_MAX_BYTES_PER_FILE
+ * @since 2512.1.0-1
+ */
+@NullMarked
+record XliffChunkPolicy(int maxItems, long maxWords, long maxBytes) {
+  /**
+   * Policy, that exports all items of a target locale into one file.
+   */
+  static final XliffChunkPolicy NONE = new XliffChunkPolicy(0, 0L, 0L);
+
+  /**
+   * Determines the policy configured within {@link GCConfigProperty#KEY_UPLOAD}.
+   * Missing or unparsable limits are disabled.
+   *
+   * @param settings settings to read the policy from
+   * @return policy to apply
+   */
+  static XliffChunkPolicy fromSettings(Settings settings) {
+    int maxItems = SettingsParser.findLong(settings, GCConfigProperty.KEY_UPLOAD, GCConfigProperty.KEY_MAX_ITEMS_PER_FILE)
+      .map(v -> (int) Math.min(v, Integer.MAX_VALUE))
+      .orElse(0);
+    long maxWords = SettingsParser.findLong(settings, GCConfigProperty.KEY_UPLOAD, GCConfigProperty.KEY_MAX_WORDS_PER_FILE)
+      .orElse(0L);
+    long maxBytes = SettingsParser.findDataSize(settings, GCConfigProperty.KEY_UPLOAD, GCConfigProperty.KEY_MAX_BYTES_PER_FILE)
+      .orElse(0L);
+    return new XliffChunkPolicy(maxItems, maxWords, maxBytes);
+  }
+
+  boolean isEnabled() {
+    return maxItems > 0 || maxWords > 0L || maxBytes > 0L;
+  }
+
+  /**
+   * Signals, if the policy limits the number of words per file. Only then,
+   * words need to be counted, which requires reading each export again.
+   *
+   * @return {@code true}, if the number of words is limited
+   */
+  boolean limitsWords() {
+    return maxWords > 0L;
+  }
+
+  /**
+   * Partitions the given items by the maximum number of items per file.
+   *
+   * @param items items to partition
+   * @return consecutive partitions of the items
+   */
+  <T> List<List<T>> partition(List<T> items) {
+    if (maxItems <= 0 || items.size() <= maxItems) {
+      return List.of(items);
+    }
+    return Lists.partition(items, maxItems);
+  }
+
+  /**
+   * Signals, if an export of the given size exceeds the word count or byte
+   * size limit.
+   *
+   * @param bytes size of the exported XLIFF in bytes
+   * @param words estimated number of words within the exported XLIFF
+   * @return {@code true}, if the export should be split; {@code false} otherwise
+   * @see XliffWordCount
+   */
+  boolean isExceededBy(long bytes, long words) {
+    return (maxBytes > 0L && bytes > maxBytes) || (maxWords > 0L && words > maxWords);
+  }
+}
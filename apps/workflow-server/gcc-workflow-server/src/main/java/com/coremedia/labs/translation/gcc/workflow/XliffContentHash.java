@@ -0,0 +1,91 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Hash of exported XLIFF, to recognize files already uploaded by a previous
+ * attempt to send the same translation request, or files of different target
+ * locales, that may share one upload.
+ * <p>
+ * Before hashing, the values of all {@code target-language} attributes are
+ * removed. The locale independent hash also removes the references to the
+ * target contents. Any other difference results in different hashes. The
+ * contents are read line by line, so that large exports spilled to disk are
+ * not loaded into memory completely.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class XliffContentHash {
+  private static final String ALGORITHM = "SHA-256";
+  private static final Pattern TARGET_LANGUAGE = Pattern.compile("(target-language\\s*=\\s*)([\"'])[^\"']*\\2");
+  private static final Pattern TARGET_CONTENT = Pattern.compile("([\\w.-]+:target\\s*=\\s*)([\"'])[^\"']*\\2");
+  private static final String ATTRIBUTE_VALUE_REPLACEMENT = "$1$2$2";
+
+  private XliffContentHash() {
+  }
+
+  /**
+   * Calculates the hash of the normalized XLIFF.
+   *
+   * @param xliff exported XLIFF, encoded in UTF-8
+   * @return hash as hex string
+   * @throws IOException if reading the XLIFF failed
+   */
+  static String of(Resource xliff) throws IOException {
+    return hash(xliff, XliffContentHash::normalize);
+  }
+
+  /**
+   * Calculates the hash of the normalized XLIFF, also ignoring the
+   * references to the target contents, given by {@code cmxliff:target}
+   * attributes. XLIFF of different target locales has the same hash, if
+   * exported from the same master contents with the same target texts.
+   *
+   * @param xliff exported XLIFF, encoded in UTF-8
+   * @return hash as hex string
+   * @throws IOException if reading the XLIFF failed
+   */
+  static String ofLocaleIndependent(Resource xliff) throws IOException {
+    return hash(xliff, XliffContentHash::normalizeLocaleIndependent);
+  }
+
+  static String normalize(String line) {
+    return TARGET_LANGUAGE.matcher(line).replaceAll(ATTRIBUTE_VALUE_REPLACEMENT);
+  }
+
+  static String normalizeLocaleIndependent(String line) {
+    return TARGET_CONTENT.matcher(normalize(line)).replaceAll(ATTRIBUTE_VALUE_REPLACEMENT);
+  }
+
+  private static String hash(Resource xliff, UnaryOperator<String> normalizer) throws IOException {
+    MessageDigest digest = newDigest();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(xliff.getInputStream(), UTF_8))) {
+      for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+        digest.update(normalizer.apply(line).getBytes(UTF_8));
+        digest.update((byte) '\n');
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("%s is required to be supported by every Java platform.".formatted(ALGORITHM), e);
+    }
+  }
+}
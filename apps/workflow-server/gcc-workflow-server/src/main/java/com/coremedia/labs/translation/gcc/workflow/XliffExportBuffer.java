@@ -0,0 +1,209 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Buffer for exported XLIFF, to be uploaded to GlobalLink afterward.
+ * <p>
+ * Exported contents are held in memory up to the given threshold. Once
+ * exceeding the threshold, the contents written so far are spilled to a
+ * temporary file, which receives all further contents. Thus, small exports
+ * are uploaded without writing them to and reading them back from disk,
+ * while large exports do not occupy the heap.
+ * <p>
+ * A threshold of {@code 0} spills any non-empty content to disk. Closing the
+ * buffer deletes the temporary file, if any.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class XliffExportBuffer implements Closeable {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  private final long inMemoryThreshold;
+  private final String tempFilePrefix;
+  private final String tempFileSuffix;
+  private @Nullable InMemoryContents memory = new InMemoryContents();
+  private @Nullable Path file;
+  private @Nullable OutputStream fileStream;
+  private long size;
+
+  /**
+   * Constructor.
+   *
+   * @param inMemoryThreshold size in bytes, up to which contents are held in
+   *                          memory
+   * @param tempFilePrefix    prefix of the temporary file, once spilled
+   * @param tempFileSuffix    suffix of the temporary file, once spilled
+   */
+  XliffExportBuffer(long inMemoryThreshold, String tempFilePrefix, String tempFileSuffix) {
+    this.inMemoryThreshold = inMemoryThreshold;
+    this.tempFilePrefix = tempFilePrefix;
+    this.tempFileSuffix = tempFileSuffix;
+  }
+
+  /**
+   * Stream to write the contents to. Closing the stream finishes writing,
+   * but keeps the contents available as {@link #toResource() resource}.
+   *
+   * @return stream to write to
+   */
+  OutputStream outputStream() {
+    return new SpillingOutputStream();
+  }
+
+  /**
+   * Number of bytes written so far.
+   *
+   * @return number of bytes
+   */
+  long size() {
+    return size;
+  }
+
+  /**
+   * Signals, if the contents exceeded the in-memory threshold and got spilled
+   * to disk.
+   *
+   * @return {@code true}, if spilled to disk; {@code false} otherwise
+   */
+  boolean isSpilled() {
+    return file != null;
+  }
+
+  /**
+   * Provides the contents written. Must only be called after the
+   * {@link #outputStream() output stream} got closed. Contents held in memory
+   * are provided without copying them, and all resources share the same
+   * array.
+   *
+   * @return resource to read the contents from
+   */
+  Resource toResource() {
+    Path spilled = file;
+    if (spilled != null) {
+      return new FileSystemResource(spilled);
+    }
+    return new ByteArrayResource(requireNonNull(memory, "Buffer already closed.").contents());
+  }
+
+  /**
+   * Releases the memory and deletes the temporary file, if any.
+   */
+  @Override
+  public void close() {
+    memory = null;
+    closeFileStream();
+    Path spilled = file;
+    if (spilled != null) {
+      try {
+        Files.deleteIfExists(spilled);
+      } catch (IOException e) {
+        LOG.error("Failed to delete temporary XLIFF file: '{}'", spilled, e);
+      }
+    }
+  }
+
+  private OutputStream target(int additionalBytes) throws IOException {
+    OutputStream current = fileStream;
+    if (current != null) {
+      return current;
+    }
+    InMemoryContents inMemory = requireNonNull(memory, "Buffer already closed.");
+    if (size + additionalBytes <= inMemoryThreshold) {
+      return inMemory;
+    }
+    Path spilled = Files.createTempFile(tempFilePrefix, tempFileSuffix).toAbsolutePath();
+    file = spilled;
+    OutputStream spilledStream = new BufferedOutputStream(Files.newOutputStream(spilled));
+    fileStream = spilledStream;
+    inMemory.writeTo(spilledStream);
+    memory = null;
+    LOG.debug("XLIFF export exceeded in-memory threshold of {} bytes. Spilled to: '{}'", inMemoryThreshold, spilled);
+    return spilledStream;
+  }
+
+  private void closeFileStream() {
+    OutputStream current = fileStream;
+    if (current != null) {
+      fileStream = null;
+      try {
+        current.close();
+      } catch (IOException e) {
+        LOG.debug("Failed to close temporary XLIFF file: '{}'", file, e);
+      }
+    }
+  }
+
+  /**
+   * Contents held in memory, providing access to the backing array.
+   */
+  private static final class InMemoryContents extends ByteArrayOutputStream {
+    /**
+     * Provides the backing array. It is trimmed to the contents once, if
+     * larger, instead of copying it on each call like {@link #toByteArray()}.
+     *
+     * @return contents written so far
+     */
+    private byte[] contents() {
+      if (buf.length != count) {
+        buf = Arrays.copyOf(buf, count);
+      }
+      return buf;
+    }
+  }
+
+  /**
+   * Stream, that writes to memory until exceeding the threshold, and to the
+   * temporary file afterward.
+   */
+  private final class SpillingOutputStream extends OutputStream {
+    @Override
+    public void write(int b) throws IOException {
+      target(1).write(b);
+      size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      target(len).write(b, off, len);
+      size += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      OutputStream current = fileStream;
+      if (current != null) {
+        current.flush();
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      OutputStream current = fileStream;
+      if (current != null) {
+        // Keep the file, but release the handle, so that it can be read.
+        fileStream = null;
+        current.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.io.Resource;
+
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Splits XLIFF by its {@code file} elements into several smaller XLIFF
+ * documents, called chunks, that may be imported independently.
+ * <p>
+ * The XLIFF is parsed as stream. Each chunk is written to an
+ * {@link XliffExportBuffer}, passed to the handler once complete, and
+ * released afterward. Thus, memory is bounded by the size of one chunk,
+ * independent of the size of the XLIFF. Each chunk repeats the root
+ * {@code xliff} element including its attributes and namespace declarations.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class XliffFileSplitter {
+  private static final String XLIFF_ELEMENT = "xliff";
+  private static final String ENCODING = "UTF-8";
+
+  private final int filesPerChunk;
+  private final long inMemoryThreshold;
+  private final String tempFilePrefix;
+
+  /**
+   * Constructor.
+   *
+   * @param filesPerChunk     maximum number of {@code file} elements per
+   *                          chunk; at least {@code 1}
+   * @param inMemoryThreshold size in bytes, up to which a chunk is held in
+   *                          memory, before spilling it to disk
+   * @param tempFilePrefix    prefix of temporary files of spilled chunks
+   */
+  XliffFileSplitter(int filesPerChunk, long inMemoryThreshold, String tempFilePrefix) {
+    if (filesPerChunk < 1) {
+      throw new IllegalArgumentException("Files per chunk must be at least 1, but is: " + filesPerChunk);
+    }
+    this.filesPerChunk = filesPerChunk;
+    this.inMemoryThreshold = inMemoryThreshold;
+    this.tempFilePrefix = requireNonNull(tempFilePrefix);
+  }
+
+  /**
+   * Splits the given XLIFF, passing the chunks to the handler in document
+   * order. If splitting fails, chunks passed to the handler before remain
+   * processed.
+   *
+   * @param xliff   XLIFF to split; not closed
+   * @param handler handler for the chunks
+   * @return number of chunks
+   * @throws IOException if reading or parsing the XLIFF, writing a chunk, or
+   *                     handling a chunk failed
+   */
+  int split(InputStream xliff, ChunkHandler handler) throws IOException {
+    try {
+      XMLEventReader reader = newInputFactory().createXMLEventReader(xliff);
+      try {
+        return split(reader, handler);
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("Failed to split XLIFF.", e);
+    }
+  }
+
+  private int split(XMLEventReader reader, ChunkHandler handler) throws XMLStreamException, IOException {
+    @Nullable StartElement root = null;
+    @Nullable Chunk chunk = null;
+    int chunks = 0;
+    int filesInChunk = 0;
+    int depth = 0;
+    try {
+      while (reader.hasNext()) {
+        XMLEvent event = reader.nextEvent();
+        if (root == null) {
+          // Prolog: Skipped, as each chunk gets its own.
+          if (event.isStartElement()) {
+            root = event.asStartElement();
+            if (!XLIFF_ELEMENT.equals(root.getName().getLocalPart())) {
+              throw new IOException("Not an XLIFF document. Unexpected root element: " + root.getName());
+            }
+          }
+          continue;
+        }
+        if (depth == 0 && !event.isStartElement()) {
+          // Whitespace and comments between files, end of root element and
+          // epilog: Skipped, as each chunk gets its own root element.
+          continue;
+        }
+        if (chunk == null) {
+          chunk = new Chunk(root);
+        }
+        chunk.add(event);
+        if (event.isStartElement()) {
+          depth++;
+        } else if (event.isEndElement()) {
+          depth--;
+          if (depth == 0 && ++filesInChunk == filesPerChunk) {
+            chunk.finish(chunks++, handler);
+            chunk = null;
+            filesInChunk = 0;
+          }
+        }
+      }
+      if (chunk != null) {
+        chunk.finish(chunks++, handler);
+        chunk = null;
+      }
+      return chunks;
+    } finally {
+      if (chunk != null) {
+        chunk.buffer.close();
+      }
+    }
+  }
+
+  private static XMLInputFactory newInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  /**
+   * Handler for chunks of XLIFF.
+   */
+  @FunctionalInterface
+  interface ChunkHandler {
+    /**
+     * Handles a chunk. The chunk is only available while handling it.
+     *
+     * @param index index of the chunk, starting at {@code 0}
+     * @param chunk XLIFF document of the chunk, encoded in UTF-8
+     * @throws IOException if handling the chunk failed
+     */
+    void handle(int index, Resource chunk) throws IOException;
+  }
+
+  private final class Chunk {
+    private final XliffExportBuffer buffer = new XliffExportBuffer(inMemoryThreshold, tempFilePrefix, ".xliff");
+    private final OutputStream out = buffer.outputStream();
+    private final XMLEventFactory events = XMLEventFactory.newFactory();
+    private final StartElement root;
+    private final XMLEventWriter writer;
+
+    private Chunk(StartElement root) throws XMLStreamException {
+      this.root = root;
+      writer = XMLOutputFactory.newFactory().createXMLEventWriter(out, ENCODING);
+      writer.add(events.createStartDocument(ENCODING, "1.0"));
+      writer.add(root);
+    }
+
+    private void add(XMLEvent event) throws XMLStreamException {
+      writer.add(event);
+    }
+
+    private void finish(int index, ChunkHandler handler) throws XMLStreamException, IOException {
+      try (buffer) {
+        writer.add(events.createEndElement(root.getName(), root.getNamespaces()));
+        writer.add(events.createEndDocument());
+        writer.close();
+        out.close();
+        handler.handle(index, buffer.toResource());
+      }
+    }
+  }
+}
@@ -0,0 +1,151 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Checkpoints of XLIFF files, that got imported successfully, stored in a
+ * directory on local disk.
+ * <p>
+ * A task is only confirmed at GCC after its XLIFF got imported. If the
+ * Workflow Server stops in between, the next poll downloads the task again.
+ * With a checkpoint of the task ID and the hash of the imported XLIFF, the
+ * import is skipped, and the task is only confirmed. If the hash differs,
+ * for example, because the task got redelivered, the XLIFF is imported
+ * again.
+ * <p>
+ * There is one file per task, named by the task ID and holding the hash.
+ * Files are written atomically, if supported by the file system, and
+ * removed once they are older than the configured maximum age.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class XliffImportCheckpoint {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  private static final String FILE_EXTENSION = ".checkpoint";
+
+  private final Path directory;
+  private final Duration maxAge;
+  private final Clock clock;
+
+  /**
+   * Constructor.
+   *
+   * @param directory directory to store the checkpoints in; created on
+   *                  first checkpoint, if missing
+   * @param maxAge    time after which checkpoints are removed
+   * @param clock     clock to determine the age of checkpoints
+   */
+  XliffImportCheckpoint(Path directory, Duration maxAge, Clock clock) {
+    this.directory = requireNonNull(directory);
+    this.maxAge = requireNonNull(maxAge);
+    this.clock = requireNonNull(clock);
+  }
+
+  /**
+   * Signals, if there is any checkpoint for the given task. Only if there
+   * is, the download of the task needs to be read completely, to compare
+   * its hash before importing it.
+   *
+   * @param taskId ID of the task
+   * @return {@code true}, if there is a checkpoint, that is not expired
+   */
+  boolean contains(long taskId) {
+    return find(taskId).isPresent();
+  }
+
+  /**
+   * Signals, if the given XLIFF has already been imported for the task.
+   *
+   * @param taskId ID of the task
+   * @param hash   hash of the downloaded XLIFF
+   * @return {@code true}, if the XLIFF with the given hash got imported
+   * before for the task
+   */
+  boolean isImported(long taskId, String hash) {
+    return find(taskId).filter(hash::equals).isPresent();
+  }
+
+  /**
+   * Records that the XLIFF with the given hash got imported for the task,
+   * replacing any previous checkpoint of the task. Failing to record the
+   * checkpoint is logged only, as it just causes the XLIFF to be imported
+   * again.
+   *
+   * @param taskId ID of the task
+   * @param hash   hash of the imported XLIFF
+   */
+  void imported(long taskId, String hash) {
+    removeExpired();
+    Path file = file(taskId);
+    try {
+      Files.createDirectories(directory);
+      Path tmpFile = Files.createTempFile(directory, taskId + "-", ".tmp");
+      Files.writeString(tmpFile, hash, UTF_8);
+      try {
+        Files.move(tmpFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      LOG.debug("Recorded import checkpoint of task {} at {}.", taskId, file);
+    } catch (IOException e) {
+      LOG.warn("Failed to record import checkpoint of task {} at {}. Task will be imported again, if downloaded again.", taskId, file, e);
+    }
+  }
+
+  private Optional<String> find(long taskId) {
+    Path file = file(taskId);
+    try {
+      if (!Files.isRegularFile(file) || isExpired(Files.getLastModifiedTime(file))) {
+        return Optional.empty();
+      }
+      return Optional.of(Files.readString(file, UTF_8).trim());
+    } catch (IOException e) {
+      LOG.warn("Failed to read import checkpoint of task {} at {}. Ignoring it.", taskId, file, e);
+      return Optional.empty();
+    }
+  }
+
+  private void removeExpired() {
+    if (!Files.isDirectory(directory)) {
+      return;
+    }
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_EXTENSION)) {
+      for (Path file : files) {
+        if (isExpired(Files.getLastModifiedTime(file))) {
+          Files.deleteIfExists(file);
+        }
+      }
+    } catch (IOException e) {
+      LOG.debug("Failed to remove expired import checkpoints from {}.", directory, e);
+    }
+  }
+
+  private boolean isExpired(FileTime lastModified) {
+    Instant now = clock.instant();
+    return lastModified.toInstant().plus(maxAge).isBefore(now);
+  }
+
+  private Path file(long taskId) {
+    return directory.resolve(taskId + FILE_EXTENSION);
+  }
+}
@@ -0,0 +1,147 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.cap.translate.xliff.XliffImportResultCode;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Cheap validation of downloaded XLIFF before importing it, to reject
+ * malformed or truncated deliveries without setting up the import.
+ * <p>
+ * The XLIFF is parsed as stream, checking that it
+ * <ul>
+ *   <li>is well-formed,</li>
+ *   <li>has an {@code xliff} root element, that only contains
+ *   {@code file} elements,</li>
+ *   <li>references the content to import into by a valid content ID in
+ *   attribute {@code cmxliff:target} of each {@code file}, and</li>
+ *   <li>references only content items, that exist, determined by one lookup
+ *   for all referenced content IDs after parsing.</li>
+ * </ul>
+ * Anything else, like the validity against the XLIFF schema, the
+ * properties referenced, or whether trans-units got translated at all, is
+ * left to the import.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class XliffPreValidation {
+  private static final String CMXLIFF_NAMESPACE = "http://www.coremedia.com/2013/xliff-extensions-1.0";
+  private static final String XLIFF_ELEMENT = "xliff";
+  private static final String FILE_ELEMENT = "file";
+  private static final String TARGET_ATTRIBUTE = "target";
+  private static final Pattern CONTENT_ID = Pattern.compile("coremedia:///cap/content/\\d+");
+
+  private XliffPreValidation() {
+  }
+
+  /**
+   * Validates the given XLIFF.
+   *
+   * @param xliff  XLIFF to validate; not closed
+   * @param lookup lookup for content items referenced by the XLIFF
+   * @return the reason to reject the XLIFF; empty, if the XLIFF may be
+   * imported
+   * @throws IOException if reading the XLIFF failed
+   */
+  static Optional<Rejection> validate(InputStream xliff, ContentLookup lookup) throws IOException {
+    Set<String> contentIds = new LinkedHashSet<>();
+    try {
+      XMLStreamReader reader = newInputFactory().createXMLStreamReader(xliff);
+      try {
+        @Nullable Rejection rejection = parse(reader, contentIds);
+        if (rejection != null) {
+          return Optional.of(rejection);
+        }
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException e) {
+      if (e.getCause() instanceof IOException ioException) {
+        throw ioException;
+      }
+      return Optional.of(new Rejection(XliffImportResultCode.INVALID_XLIFF, "Not well-formed: " + e.getMessage()));
+    }
+    Set<String> missing = lookup.findMissing(contentIds);
+    if (!missing.isEmpty()) {
+      return Optional.of(new Rejection(XliffImportResultCode.DOES_NOT_EXIST, "Missing content: " + missing));
+    }
+    return Optional.empty();
+  }
+
+  private static @Nullable Rejection parse(XMLStreamReader reader, Set<String> contentIds) throws XMLStreamException {
+    int depth = 0;
+    while (reader.hasNext()) {
+      switch (reader.next()) {
+        case XMLStreamReader.START_ELEMENT -> {
+          depth++;
+          String name = reader.getLocalName();
+          if (depth == 1 && !XLIFF_ELEMENT.equals(name)) {
+            return new Rejection(XliffImportResultCode.INVALID_XLIFF, "Unexpected root element: " + reader.getName());
+          }
+          if (depth == 2) {
+            if (!FILE_ELEMENT.equals(name)) {
+              return new Rejection(XliffImportResultCode.INVALID_XLIFF, "Unexpected element within root element: " + reader.getName());
+            }
+            @Nullable String target = reader.getAttributeValue(CMXLIFF_NAMESPACE, TARGET_ATTRIBUTE);
+            if (target == null || !CONTENT_ID.matcher(target).matches()) {
+              return new Rejection(XliffImportResultCode.INVALID_CONTENT_ID, "Invalid target content ID: " + target);
+            }
+            contentIds.add(target);
+          }
+        }
+        case XMLStreamReader.END_ELEMENT -> depth--;
+        default -> {
+          // irrelevant for validation
+        }
+      }
+    }
+    return null;
+  }
+
+  private static XMLInputFactory newInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  /**
+   * Lookup for content items referenced by XLIFF.
+   */
+  @FunctionalInterface
+  interface ContentLookup {
+    /**
+     * Determines the content items, that do not exist.
+     *
+     * @param contentIds IDs of the content items referenced by the XLIFF
+     * @return IDs of the content items, that do not exist
+     */
+    Set<String> findMissing(Set<String> contentIds);
+  }
+
+  /**
+   * Reason to reject XLIFF.
+   *
+   * @param code   result code, as the import would report it
+   * @param reason description of the problem
+   */
+  record Rejection(XliffImportResultCode code, String reason) {
+    Rejection {
+      requireNonNull(code);
+      requireNonNull(reason);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.cap.translate.xliff.XliffImportResultItem;
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * ZIP archive of XLIFF files, that could not be imported completely, along
+ * with the details of the issues per task, as stored in the
+ * {@code translationResultXliff} blob of the workflow.
+ * <p>
+ * Entries are written straight to the given output stream, while they are
+ * added. Thus, neither the XLIFF files need to be moved to a directory
+ * structure resembling the archive nor the issue details need to be written
+ * to disk first.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class XliffResultArchive implements AutoCloseable {
+  /**
+   * Directory within the archive, holding the XLIFF files and the issue
+   * details.
+   */
+  static final String ISSUE_DETAILS_DIR = "xliff_issue_details";
+
+  private final ZipOutputStream zip;
+
+  /**
+   * Constructor.
+   *
+   * @param out              stream to write the archive to; closed along
+   *                         with the archive
+   * @param compressionLevel compression level from {@code 0} to {@code 9},
+   *                         or {@link Deflater#DEFAULT_COMPRESSION}
+   * @throws IllegalArgumentException if the compression level is invalid
+   */
+  XliffResultArchive(OutputStream out, int compressionLevel) {
+    zip = new ZipOutputStream(out, UTF_8);
+    zip.setLevel(compressionLevel);
+  }
+
+  /**
+   * Adds the given XLIFF file.
+   *
+   * @param xliffFile XLIFF file to add, using its file name as entry name
+   * @throws IOException if reading the file or writing the entry failed
+   */
+  void addXliff(Path xliffFile) throws IOException {
+    zip.putNextEntry(new ZipEntry(ISSUE_DETAILS_DIR + "/" + xliffFile.getFileName()));
+    try {
+      Files.copy(xliffFile, zip);
+    } finally {
+      zip.closeEntry();
+    }
+  }
+
+  /**
+   * Adds the details of the issues reported while importing the XLIFF of
+   * the given task, one issue per line.
+   *
+   * @param taskId     ID of the task
+   * @param issueItems issues reported while importing the XLIFF
+   * @throws IOException if writing the entry failed
+   */
+  void addIssueDetails(long taskId, List<XliffImportResultItem> issueItems) throws IOException {
+    zip.putNextEntry(new ZipEntry(ISSUE_DETAILS_DIR + "/" + taskId + "-issuedetails.txt"));
+    try {
+      // Not closed on purpose, as this would close the archive.
+      PrintWriter pw = new PrintWriter(new OutputStreamWriter(zip, UTF_8));
+      for (XliffImportResultItem item : issueItems) {
+        pw.println(item);
+      }
+      if (pw.checkError()) {
+        throw new IOException("Failed to write issue details of task " + taskId);
+      }
+    } finally {
+      zip.closeEntry();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    zip.close();
+  }
+}
@@ -0,0 +1,153 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLEventWriter;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Maps the target contents of downloaded XLIFF to the target locale of the
+ * task, it got delivered for.
+ * <p>
+ * If XLIFF got uploaded once for several target locales (see
+ * {@link com.coremedia.labs.translation.gcc.facade.GCConfigProperty#KEY_DEDUPLICATE}),
+ * its {@code file} elements still reference the target contents of the
+ * target locale it got exported for. For each {@code file} element, whose
+ * {@code target-language} differs from the task's target locale, the
+ * {@code target-language} is replaced by the task's target locale and
+ * {@code cmxliff:target} by the corresponding content of that locale.
+ * Any other {@code file} element is copied unchanged.
+ * <p>
+ * The XLIFF is parsed as stream, so that memory is independent of its size.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class XliffTargetRemapper {
+  private static final String CMXLIFF_NAMESPACE = "http://www.coremedia.com/2013/xliff-extensions-1.0";
+  private static final String FILE_ELEMENT = "file";
+  private static final QName TARGET_LANGUAGE_ATTRIBUTE = new QName("target-language");
+  private static final QName TARGET_ATTRIBUTE = new QName(CMXLIFF_NAMESPACE, "target");
+  private static final String ENCODING = "UTF-8";
+
+  private XliffTargetRemapper() {
+  }
+
+  /**
+   * Copies the given XLIFF, mapping the target contents to the given
+   * target locale.
+   *
+   * @param xliff        XLIFF to map; not closed
+   * @param out          stream to write the mapped XLIFF to, encoded in
+   *                     UTF-8; not closed
+   * @param targetLocale target locale of the task
+   * @param resolver     resolves the content of the target locale for a
+   *                     referenced target content
+   * @return number of mapped {@code file} elements
+   * @throws IOException if reading or writing the XLIFF failed, or if any
+   *                     target content cannot be resolved
+   */
+  static int remap(InputStream xliff, OutputStream out, Locale targetLocale, TargetResolver resolver) throws IOException {
+    try {
+      XMLEventReader reader = newInputFactory().createXMLEventReader(xliff);
+      try {
+        XMLEventWriter writer = XMLOutputFactory.newFactory().createXMLEventWriter(out, ENCODING);
+        int remapped = 0;
+        XMLEventFactory events = XMLEventFactory.newFactory();
+        while (reader.hasNext()) {
+          XMLEvent event = reader.nextEvent();
+          if (event.isStartElement() && FILE_ELEMENT.equals(event.asStartElement().getName().getLocalPart())) {
+            @Nullable StartElement mapped = remap(event.asStartElement(), targetLocale, resolver, events);
+            if (mapped != null) {
+              event = mapped;
+              remapped++;
+            }
+          }
+          writer.add(event);
+        }
+        writer.flush();
+        writer.close();
+        return remapped;
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("Failed to map target contents of XLIFF.", e);
+    }
+  }
+
+  /**
+   * Maps one {@code file} element.
+   *
+   * @return mapped element; {@code null}, if it already matches the target
+   * locale
+   */
+  private static @Nullable StartElement remap(StartElement file,
+                                              Locale targetLocale,
+                                              TargetResolver resolver,
+                                              XMLEventFactory events) throws IOException {
+    @Nullable Attribute targetLanguage = file.getAttributeByName(TARGET_LANGUAGE_ATTRIBUTE);
+    if (targetLanguage == null || Locale.forLanguageTag(targetLanguage.getValue()).equals(targetLocale)) {
+      return null;
+    }
+    @Nullable Attribute target = file.getAttributeByName(TARGET_ATTRIBUTE);
+    if (target == null) {
+      throw new IOException("Missing target content in file element for %s.".formatted(targetLanguage.getValue()));
+    }
+    String mappedTarget = resolver.resolve(target.getValue(), targetLocale)
+      .orElseThrow(() -> new IOException("No content for %s found, that corresponds to %s."
+        .formatted(targetLocale.toLanguageTag(), target.getValue())));
+
+    List<Attribute> attributes = new ArrayList<>();
+    for (Iterator<Attribute> it = file.getAttributes(); it.hasNext(); ) {
+      Attribute attribute = it.next();
+      if (TARGET_LANGUAGE_ATTRIBUTE.equals(attribute.getName())) {
+        attribute = events.createAttribute(attribute.getName(), targetLocale.toLanguageTag());
+      } else if (TARGET_ATTRIBUTE.equals(attribute.getName())) {
+        attribute = events.createAttribute(attribute.getName(), mappedTarget);
+      }
+      attributes.add(attribute);
+    }
+    return events.createStartElement(file.getName(), attributes.iterator(), file.getNamespaces());
+  }
+
+  private static XMLInputFactory newInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+
+  /**
+   * Resolves the content of a target locale.
+   */
+  @FunctionalInterface
+  interface TargetResolver {
+    /**
+     * Resolves the content, that corresponds to the given target content in
+     * the given target locale.
+     *
+     * @param targetId     ID of the referenced target content
+     * @param targetLocale target locale to resolve the content for
+     * @return ID of the content of the target locale; empty, if there is none
+     */
+    Optional<String> resolve(String targetId, Locale targetLocale);
+  }
+}
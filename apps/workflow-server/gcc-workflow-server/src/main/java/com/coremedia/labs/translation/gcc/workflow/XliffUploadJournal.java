@@ -0,0 +1,194 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Process-wide journal of XLIFF files, that got uploaded to GCC, but that are
+ * not part of any submission yet, as sending the translation request failed
+ * afterward.
+ * <p>
+ * A retry of sending the translation request exports the XLIFF again, but may
+ * reuse the file ID of an identical upload, instead of uploading it again.
+ * Files are identified by the connection to GCC, their file name and the hash
+ * of their content. Entries are removed once reused, so that no file is part
+ * of two submissions. If the retry fails again, the entries are returned to
+ * the journal.
+ * <p>
+ * The journal is held in memory only. Thus, after restarting the Workflow
+ * Server, all files are uploaded again.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class XliffUploadJournal {
+  private static final Logger LOG = getLogger(lookup().lookupClass());
+
+  private static final XliffUploadJournal INSTANCE = new XliffUploadJournal(Clock.systemUTC());
+
+  private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+  private final Clock clock;
+
+  @VisibleForTesting
+  XliffUploadJournal(Clock clock) {
+    this.clock = requireNonNull(clock);
+  }
+
+  /**
+   * Returns the process-wide journal instance.
+   *
+   * @return journal instance
+   */
+  static XliffUploadJournal getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Opens a session for one attempt to send a translation request.
+   *
+   * @param connection identifies the connection to GCC, files got uploaded to
+   * @param maxAge     maximum age of uploaded files to reuse; non-positive
+   *                   values disable the journal for this session
+   * @return session
+   */
+  Session openSession(String connection, Duration maxAge) {
+    return new Session(connection, maxAge);
+  }
+
+  @VisibleForTesting
+  int size() {
+    return entries.size();
+  }
+
+  private void record(Key key, Entry entry) {
+    Instant now = clock.instant();
+    entries.values().removeIf(e -> e.isExpired(now));
+    entries.put(key, entry);
+  }
+
+  private Optional<Entry> take(Key key) {
+    @Nullable Entry entry = entries.remove(key);
+    if (entry == null || entry.isExpired(clock.instant())) {
+      return Optional.empty();
+    }
+    return Optional.of(entry);
+  }
+
+  /**
+   * Tracks uploads of one attempt to send a translation request. Thread-safe,
+   * so that files may be uploaded concurrently.
+   */
+  final class Session {
+    private final String connection;
+    private final Duration maxAge;
+    private final List<Journaled> reused = new ArrayList<>();
+    private final List<Journaled> uploaded = new ArrayList<>();
+
+    private Session(String connection, Duration maxAge) {
+      this.connection = requireNonNull(connection);
+      this.maxAge = requireNonNull(maxAge);
+    }
+
+    /**
+     * Signals, if uploads are journaled within this session.
+     *
+     * @return {@code true}, if enabled; {@code false} otherwise
+     */
+    boolean isEnabled() {
+      return maxAge.isPositive();
+    }
+
+    /**
+     * Takes the file ID of a previous upload of the given file from the
+     * journal, if available and not expired yet.
+     *
+     * @param fileName name of the file
+     * @param hash     hash of the file's content
+     * @return file ID to reuse; empty, if the file needs to be uploaded
+     */
+    Optional<String> reuse(String fileName, String hash) {
+      if (!isEnabled()) {
+        return Optional.empty();
+      }
+      Key key = new Key(connection, fileName, hash);
+      Optional<Entry> entry = take(key);
+      entry.ifPresent(e -> {
+        synchronized (this) {
+          reused.add(new Journaled(key, e));
+        }
+      });
+      return entry.map(Entry::fileId);
+    }
+
+    /**
+     * Remembers a file, that got uploaded within this session.
+     *
+     * @param fileName name of the file
+     * @param hash     hash of the file's content
+     * @param fileId   file ID returned by GCC
+     */
+    void uploaded(String fileName, String hash, String fileId) {
+      if (!isEnabled()) {
+        return;
+      }
+      Instant now = clock.instant();
+      synchronized (this) {
+        uploaded.add(new Journaled(new Key(connection, fileName, hash), new Entry(fileId, now.plus(maxAge))));
+      }
+    }
+
+    /**
+     * Returns all files reused or uploaded within this session to the
+     * journal. To be called, if the submission has not been requested, as,
+     * for example, uploading another file failed.
+     */
+    synchronized void keepAll() {
+      keep(reused);
+      keep(uploaded);
+    }
+
+    /**
+     * Returns the files uploaded within this session to the journal. To be
+     * called, if requesting the submission failed. Reused files are
+     * discarded, as they may have caused the failure.
+     */
+    synchronized void keepUploaded() {
+      keep(uploaded);
+    }
+
+    private void keep(List<Journaled> journaled) {
+      if (!journaled.isEmpty()) {
+        LOG.debug("Keeping {} uploaded XLIFF files for reuse by a retry.", journaled.size());
+      }
+      journaled.forEach(j -> record(j.key(), j.entry()));
+      journaled.clear();
+    }
+  }
+
+  private record Key(String connection, String fileName, String hash) {
+  }
+
+  private record Entry(String fileId, Instant expiresAt) {
+    boolean isExpired(Instant now) {
+      return !expiresAt.isAfter(now);
+    }
+  }
+
+  private record Journaled(Key key, Entry entry) {
+  }
+}
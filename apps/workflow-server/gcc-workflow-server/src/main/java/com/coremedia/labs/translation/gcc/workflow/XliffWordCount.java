@@ -0,0 +1,88 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.springframework.core.io.Resource;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Estimates the number of words to translate within exported XLIFF.
+ * <p>
+ * Counts whitespace separated tokens within all {@code source} elements,
+ * including inline elements. The XLIFF is parsed as stream, so that large
+ * exports spilled to disk are not loaded into memory completely.
+ *
+ * @since 2512.1.0-1
+ */
+@NullMarked
+final class XliffWordCount {
+  private static final String SOURCE_ELEMENT = "source";
+
+  private XliffWordCount() {
+  }
+
+  /**
+   * Counts the words within the source elements of the given XLIFF.
+   *
+   * @param xliff exported XLIFF
+   * @return estimated number of words
+   * @throws IOException if reading or parsing the XLIFF failed
+   */
+  static long of(Resource xliff) throws IOException {
+    try (InputStream stream = xliff.getInputStream()) {
+      XMLStreamReader reader = newInputFactory().createXMLStreamReader(stream);
+      try {
+        long words = 0L;
+        int sourceDepth = 0;
+        boolean inWord = false;
+        while (reader.hasNext()) {
+          switch (reader.next()) {
+            case XMLStreamReader.START_ELEMENT -> {
+              if (sourceDepth > 0 || SOURCE_ELEMENT.equals(reader.getLocalName())) {
+                sourceDepth++;
+              }
+            }
+            case XMLStreamReader.END_ELEMENT -> {
+              if (sourceDepth > 0) {
+                sourceDepth--;
+              }
+              inWord = false;
+            }
+            case XMLStreamReader.CHARACTERS, XMLStreamReader.CDATA, XMLStreamReader.SPACE -> {
+              if (sourceDepth > 0) {
+                // Text may be reported in several events; words may span them.
+                char[] text = reader.getTextCharacters();
+                for (int i = reader.getTextStart(), end = i + reader.getTextLength(); i < end; i++) {
+                  boolean whitespace = Character.isWhitespace(text[i]);
+                  if (!whitespace && !inWord) {
+                    words++;
+                  }
+                  inWord = !whitespace;
+                }
+              }
+            }
+            default -> {
+              // irrelevant for counting words
+            }
+          }
+        }
+        return words;
+      } finally {
+        reader.close();
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("Failed to parse XLIFF.", e);
+    }
+  }
+
+  private static XMLInputFactory newInputFactory() {
+    XMLInputFactory factory = XMLInputFactory.newFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+}
@@ -5,11 +5,14 @@ import com.coremedia.cap.content.Content;
 import com.coremedia.cap.content.ContentRepository;
 import com.coremedia.cap.content.Version;
 import com.coremedia.cap.translate.xliff.XliffImportResultItem;
+import com.coremedia.cap.translate.xliff.XliffImporter;
 import com.coremedia.cap.translate.xliff.config.XliffImporterConfiguration;
 import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionModel;
 import com.coremedia.labs.translation.gcc.facade.GCSubmissionState;
 import com.coremedia.labs.translation.gcc.facade.GCTaskModel;
+import com.coremedia.labs.translation.gcc.util.RetryDelay;
+import com.coremedia.labs.translation.gcc.util.Settings;
 import com.coremedia.translate.workflow.AsRobotUser;
 import com.google.common.io.Resources;
 import org.jspecify.annotations.NullMarked;
@@ -19,6 +22,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.stubbing.Answer;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,22 +35,32 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serial;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 
 import static com.coremedia.cap.translate.xliff.XliffImportIssueSeverity.MAJOR;
+import static com.coremedia.cap.translate.xliff.XliffImportResultCode.FAILED;
 import static com.coremedia.cap.translate.xliff.XliffImportResultCode.NO_SUCH_PROPERTY;
 import static com.coremedia.labs.translation.gcc.workflow.SimpleMultiSiteConfiguration.CT_SITE_CONTENT;
 import static com.coremedia.labs.translation.gcc.workflow.SimpleMultiSiteConfiguration.LOCALE_PROPERTY;
@@ -54,6 +68,7 @@ import static com.coremedia.labs.translation.gcc.workflow.SimpleMultiSiteConfigu
 import static com.coremedia.labs.translation.gcc.workflow.SimpleMultiSiteConfiguration.MASTER_VERSION_PROPERTY;
 import static com.google.common.io.Resources.getResource;
 import static java.lang.invoke.MethodHandles.lookup;
+import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -61,6 +76,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.slf4j.LoggerFactory.getLogger;
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_SINGLETON;
 import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_CLASS;
@@ -77,6 +93,11 @@ class DownloadFromGlobalLinkActionTest {
   private static final Pattern REPLACE_TARGET_PATTERN = Pattern.compile("(?<attr>cmxliff:target)=\"(?<value>[^\"]*)\"");
   private static final Pattern REPLACE_ORIGINAL_PATTERN = Pattern.compile("(?<attr>original)=\"(?<value>[^\"]*)\"");
 
+  private static final Settings STREAMING_IMPORT_SETTINGS =
+    new Settings(Map.<String, Object>of("downloadTranslationInMemoryThreshold", 0));
+  private static final Settings PRE_VALIDATION_SETTINGS =
+    new Settings(Map.<String, Object>of("import", Map.of("preValidation", true)));
+
   private final DownloadFromGlobalLinkAction action;
   private final GCExchangeFacade gcExchangeFacade;
 
@@ -123,6 +144,23 @@ class DownloadFromGlobalLinkActionTest {
     assertThat(targetContent.getString("string")).isEqualTo("Lörem Ipsüm");
   }
 
+  @Test
+  void executeXliffDownloadStreaming() {
+    String xliff = readXliff(masterVersion, targetContent);
+
+    mockXliffDownload(gcExchangeFacade, xliff);
+
+    AtomicReference<DownloadFromGlobalLinkAction.@Nullable Result> resultHolder = new AtomicReference<>();
+    action.doExecuteGlobalLinkAction(new DownloadFromGlobalLinkAction.Parameters(1L, new HashSet<>(), false), resultHolder::set,
+      gcExchangeFacade, STREAMING_IMPORT_SETTINGS, new HashMap<>());
+    assertThat(targetContent.getString("string")).isEqualTo("Lörem Ipsüm");
+    assertThat(resultHolder.get())
+      .isNotNull()
+      .satisfies(r -> assertThat(new File(r.workingDir, DownloadFromGlobalLinkAction.NEWXLIFFS))
+        .describedAs("Successfully imported XLIFF shall not be written to disk.")
+        .isEmptyDirectory());
+  }
+
   @Nested
   class SubmissionErrorHandling {
     @Test
@@ -142,6 +180,156 @@ class DownloadFromGlobalLinkActionTest {
     }
   }
 
+  @Test
+  void executeXliffDownloadWithImportParallelism() {
+    String xliff = readXliff(masterVersion, targetContent);
+
+    mockXliffDownload(gcExchangeFacade, xliff);
+
+    AtomicReference<DownloadFromGlobalLinkAction.@Nullable Result> resultHolder = new AtomicReference<>();
+    action.doExecuteGlobalLinkAction(new DownloadFromGlobalLinkAction.Parameters(1L, new HashSet<>(), false), resultHolder::set,
+      gcExchangeFacade, importParallelism(4), new HashMap<>());
+    assertThat(targetContent.getString("string")).isEqualTo("Lörem Ipsüm");
+  }
+
+  @Test
+  void executeXliffDownloadSkipsCheckpointedImport(@TempDir Path checkpointDirectory) {
+    String xliff = readXliff(masterVersion, targetContent);
+    String hash = HexFormat.of().formatHex(XliffContentHash.newDigest().digest(xliff.getBytes(StandardCharsets.UTF_8)));
+    Settings settings = new Settings(Map.<String, Object>of("import", Map.of("checkpointDirectory", checkpointDirectory.toString())));
+    // Like imported before, but the Workflow Server stopped before confirming the task.
+    requireNonNull(DownloadFromGlobalLinkAction.getImportCheckpoint(settings)).imported(1L, hash);
+
+    mockXliffDownload(gcExchangeFacade, xliff);
+
+    action.doExecuteGlobalLinkAction(new DownloadFromGlobalLinkAction.Parameters(1L, new HashSet<>(), false), r -> {
+    }, gcExchangeFacade, settings, new HashMap<>());
+    assertThat(targetContent.getString("string"))
+      .describedAs("Already imported XLIFF shall not be imported again.")
+      .isEmpty();
+  }
+
+  @Test
+  void executeXliffDownloadRecordsCheckpoint(@TempDir Path checkpointDirectory) {
+    String xliff = readXliff(masterVersion, targetContent);
+    String hash = HexFormat.of().formatHex(XliffContentHash.newDigest().digest(xliff.getBytes(StandardCharsets.UTF_8)));
+    Settings settings = new Settings(Map.<String, Object>of("import", Map.of("checkpointDirectory", checkpointDirectory.toString())));
+
+    mockXliffDownload(gcExchangeFacade, xliff);
+
+    action.doExecuteGlobalLinkAction(new DownloadFromGlobalLinkAction.Parameters(1L, new HashSet<>(), false), r -> {
+    }, gcExchangeFacade, settings, new HashMap<>());
+    assertThat(targetContent.getString("string")).isEqualTo("Lörem Ipsüm");
+    assertThat(requireNonNull(DownloadFromGlobalLinkAction.getImportCheckpoint(settings)).isImported(1L, hash)).isTrue();
+  }
+
+  @Test
+  void executeXliffDownloadInChunks() {
+    String xliff = readXliff(masterVersion, targetContent);
+
+    mockXliffDownload(gcExchangeFacade, xliff);
+
+    AtomicReference<DownloadFromGlobalLinkAction.@Nullable Result> resultHolder = new AtomicReference<>();
+    action.doExecuteGlobalLinkAction(new DownloadFromGlobalLinkAction.Parameters(1L, new HashSet<>(), false), resultHolder::set,
+      gcExchangeFacade, new Settings(Map.<String, Object>of("import", Map.of("filesPerChunk", 1))), new HashMap<>());
+    assertThat(targetContent.getString("string")).isEqualTo("Lörem Ipsüm");
+    DownloadFromGlobalLinkAction.Result result = requireNonNull(resultHolder.get());
+    assertThat(new File(result.workingDir, DownloadFromGlobalLinkAction.NEWXLIFFS).list())
+      .describedAs("Successfully imported XLIFF shall not be kept.")
+      .isEmpty();
+  }
+
+  @Test
+  void executeXliffDownloadInChunksKeepsChunksImportedBeforeSplitFailure() {
+    String xliff = readXliff(masterVersion, targetContent);
+    // Malformed after the first file.
+    String truncatedXliff = xliff.substring(0, xliff.indexOf("</file>") + "</file>".length()) + "<file>";
+
+    mockXliffDownload(gcExchangeFacade, truncatedXliff);
+
+    AtomicReference<DownloadFromGlobalLinkAction.@Nullable Result> resultHolder = new AtomicReference<>();
+    Map<String, List<@Nullable Content>> issues = new HashMap<>();
+    action.doExecuteGlobalLinkAction(new DownloadFromGlobalLinkAction.Parameters(1L, new HashSet<>(), false), resultHolder::set,
+      gcExchangeFacade, new Settings(Map.<String, Object>of("import", Map.of("filesPerChunk", 1))), issues);
+    assertThat(targetContent.getString("string"))
+      .describedAs("Chunks imported before the failure shall be kept.")
+      .isEqualTo("Lörem Ipsüm");
+    assertThat(issues).containsKey(FAILED.toString());
+    DownloadFromGlobalLinkAction.Result result = requireNonNull(resultHolder.get());
+    assertThat(new File(new File(result.workingDir, DownloadFromGlobalLinkAction.NEWXLIFFS), "1.xliff"))
+      .describedAs("XLIFF, that failed to split, shall be kept for analysis.")
+      .hasContent(truncatedXliff);
+  }
+
+  @Test
+  void importFilesPerChunkIgnoresInvalidValues() {
+    assertThat(DownloadFromGlobalLinkAction.getImportFilesPerChunk(Settings.EMPTY)).isZero();
+    assertThat(DownloadFromGlobalLinkAction.getImportFilesPerChunk(importFilesPerChunk(10))).isEqualTo(10);
+    assertThat(DownloadFromGlobalLinkAction.getImportFilesPerChunk(importFilesPerChunk("5"))).isEqualTo(5);
+    assertThat(DownloadFromGlobalLinkAction.getImportFilesPerChunk(importFilesPerChunk(-1))).isZero();
+    assertThat(DownloadFromGlobalLinkAction.getImportFilesPerChunk(importFilesPerChunk("many"))).isZero();
+  }
+
+  private static Settings importFilesPerChunk(Object value) {
+    return new Settings(Map.<String, Object>of("import", Map.of("filesPerChunk", value)));
+  }
+
+  @Test
+  void importParallelismIsSaturated() {
+    assertThat(DownloadFromGlobalLinkAction.getImportParallelism(Settings.EMPTY)).isEqualTo(1);
+    assertThat(DownloadFromGlobalLinkAction.getImportParallelism(importParallelism(4))).isEqualTo(4);
+    assertThat(DownloadFromGlobalLinkAction.getImportParallelism(importParallelism("2"))).isEqualTo(2);
+    assertThat(DownloadFromGlobalLinkAction.getImportParallelism(importParallelism(100))).isEqualTo(8);
+    assertThat(DownloadFromGlobalLinkAction.getImportParallelism(importParallelism(0))).isEqualTo(1);
+    assertThat(DownloadFromGlobalLinkAction.getImportParallelism(importParallelism("many"))).isEqualTo(1);
+  }
+
+  private static Settings importParallelism(Object value) {
+    return new Settings(Map.<String, Object>of("import", Map.of("parallelism", value)));
+  }
+
+  @Nested
+  @DisplayName("Tests for adapting the polling delay")
+  class PollingDelay {
+    private static final RetryDelay BASE_DELAY = new RetryDelay(Duration.ofHours(1L));
+
+    /**
+     * The polling delay strategy must apply, even if no early retry delay is
+     * configured.
+     */
+    @Test
+    @DisplayName("Should apply adaptive strategy without early retry delay.")
+    void shouldApplyAdaptiveStrategyWithoutEarlyRetryDelay() {
+      DownloadFromGlobalLinkAction.Result result = downloadWithDueDate(Instant.now().plus(Duration.ofHours(1L)));
+      Settings settings = new Settings(Map.<String, Object>of("downloadTranslationPollingStrategy", "adaptive"));
+
+      RetryDelay delay = action.adaptDelayForGeneralRetry(BASE_DELAY, settings, Optional.of(result), Map.of());
+
+      assertThat(delay)
+        .describedAs("Approaching due date shall increase the polling frequency.")
+        .isLessThan(BASE_DELAY);
+    }
+
+    @Test
+    @DisplayName("Should keep delay with default strategy.")
+    void shouldKeepDelayByDefault() {
+      DownloadFromGlobalLinkAction.Result result = downloadWithDueDate(Instant.now().plus(Duration.ofHours(1L)));
+
+      RetryDelay delay = action.adaptDelayForGeneralRetry(BASE_DELAY, Settings.EMPTY, Optional.of(result), Map.of());
+
+      assertThat(delay).isEqualTo(BASE_DELAY);
+    }
+
+    private DownloadFromGlobalLinkAction.Result downloadWithDueDate(Instant dueDate) {
+      mockXliffDownload(gcExchangeFacade, readXliff(masterVersion, targetContent));
+      AtomicReference<DownloadFromGlobalLinkAction.@Nullable Result> resultHolder = new AtomicReference<>();
+      action.doExecuteGlobalLinkAction(
+        new DownloadFromGlobalLinkAction.Parameters(1L, new HashSet<>(), false, null, null, dueDate),
+        resultHolder::set, gcExchangeFacade, new HashMap<>());
+      return requireNonNull(resultHolder.get());
+    }
+  }
+
   @Nested
   @DisplayName("Tests error handling on XLIFF import.")
   @DirtiesContext(classMode = AFTER_CLASS)
@@ -169,12 +357,119 @@ class DownloadFromGlobalLinkActionTest {
         });
       assertThat(targetContent.getString("string")).isEmpty();
     }
+
+    @Test
+    void preValidationRejectsMissingContent() {
+      String xliff = readXliff(masterVersion.getId(), "coremedia:///cap/content/999998");
+
+      mockXliffDownload(gcExchangeFacade, xliff);
+
+      AtomicReference<DownloadFromGlobalLinkAction.@Nullable Result> resultHolder = new AtomicReference<>();
+      Map<String, List<@Nullable Content>> issues = new HashMap<>();
+      action.doExecuteGlobalLinkAction(new DownloadFromGlobalLinkAction.Parameters(1L, new HashSet<>(), false), resultHolder::set,
+        gcExchangeFacade, PRE_VALIDATION_SETTINGS, issues);
+
+      assertThat(issues).containsKey("XLIFF_IMPORT_RESULT_DOES_NOT_EXIST");
+      assertThat(resultHolder.get())
+        .isNotNull()
+        .satisfies(r -> assertThat(new File(new File(r.workingDir, DownloadFromGlobalLinkAction.NEWXLIFFS), "1.xliff"))
+          .describedAs("Rejected XLIFF shall be kept for analysis.")
+          .hasContent(xliff));
+    }
+
+    @Test
+    void importErrorKeepsStreamedXliff() {
+      String xliff = readXliff(masterVersion, targetContent)
+        .replace("property:string:string", "property:string:nosuchproperty");
+
+      mockXliffDownload(gcExchangeFacade, xliff);
+
+      AtomicReference<DownloadFromGlobalLinkAction.@Nullable Result> resultHolder = new AtomicReference<>();
+      action.doExecuteGlobalLinkAction(new DownloadFromGlobalLinkAction.Parameters(1L, new HashSet<>(), false), resultHolder::set,
+        gcExchangeFacade, STREAMING_IMPORT_SETTINGS, new HashMap<>());
+
+      assertThat(resultHolder.get())
+        .isNotNull()
+        .satisfies(r -> assertThat(new File(new File(r.workingDir, DownloadFromGlobalLinkAction.NEWXLIFFS), "1.xliff"))
+          .describedAs("XLIFF with import issues shall be kept for analysis.")
+          .hasContent(xliff));
+    }
+
+    @Test
+    void importErrorKeepsStreamedXliffIfImporterClosesInput(@Autowired ApplicationContext context) {
+      String xliff = readXliff(masterVersion, targetContent)
+        .replace("property:string:string", "property:string:nosuchproperty");
+      DownloadStream download = new DownloadStream(xliff.getBytes(StandardCharsets.UTF_8));
+      DownloadFromGlobalLinkAction closingAction = new MockedDownloadFromGlobalLinkAction(context, importer -> {
+        XliffImporter closingImporter = spy(importer);
+        doAnswer(invocation -> {
+          try (InputStream ignored = invocation.getArgument(0)) {
+            return invocation.callRealMethod();
+          }
+        }).when(closingImporter).importXliff(any(InputStream.class));
+        return closingImporter;
+      });
+
+      mockXliffDownload(gcExchangeFacade, () -> download);
+
+      AtomicReference<DownloadFromGlobalLinkAction.@Nullable Result> resultHolder = new AtomicReference<>();
+      closingAction.doExecuteGlobalLinkAction(new DownloadFromGlobalLinkAction.Parameters(1L, new HashSet<>(), false), resultHolder::set,
+        gcExchangeFacade, STREAMING_IMPORT_SETTINGS, new HashMap<>());
+
+      assertThat(download.closed)
+        .describedAs("Download stream is owned by the facade and shall not be closed by the importer.")
+        .isFalse();
+      assertThat(resultHolder.get())
+        .isNotNull()
+        .satisfies(r -> assertThat(new File(new File(r.workingDir, DownloadFromGlobalLinkAction.NEWXLIFFS), "1.xliff"))
+          .describedAs("XLIFF with import issues shall be kept completely, even if the importer closed its input.")
+          .hasContent(xliff));
+    }
+  }
+
+  /**
+   * Download stream, that fails to be read once closed, like streams of
+   * HTTP responses.
+   */
+  private static final class DownloadStream extends FilterInputStream {
+    private boolean closed;
+
+    private DownloadStream(byte[] bytes) {
+      super(new ByteArrayInputStream(bytes));
+    }
+
+    @Override
+    public int read() throws IOException {
+      ensureOpen();
+      return super.read();
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      ensureOpen();
+      return super.read(b, off, len);
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+
+    private void ensureOpen() throws IOException {
+      if (closed) {
+        throw new IOException("Stream closed.");
+      }
+    }
   }
 
   private static void mockXliffDownload(GCExchangeFacade gcExchangeFacade, String xliff) {
+    mockXliffDownload(gcExchangeFacade, () -> new ByteArrayInputStream(xliff.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private static void mockXliffDownload(GCExchangeFacade gcExchangeFacade, Supplier<InputStream> download) {
     doAnswer((Answer<Boolean>) invocationOnMock -> {
       BiPredicate<InputStream, GCTaskModel> consumer = invocationOnMock.getArgument(1);
-      ByteArrayInputStream inputStream = new ByteArrayInputStream(xliff.getBytes(StandardCharsets.UTF_8));
+      InputStream inputStream = download.get();
       boolean result = consumer.test(inputStream, new GCTaskModel(1L, Locale.GERMANY));
       LOG.trace("Ignoring irrelevant result of consumer: {}", result);
       return true;
@@ -216,9 +511,16 @@ class DownloadFromGlobalLinkActionTest {
     @Serial
     private static final long serialVersionUID = -4082795575498550151L;
     private final ApplicationContext applicationContext;
+    private final UnaryOperator<XliffImporter> importerDecorator;
 
     private MockedDownloadFromGlobalLinkAction(ApplicationContext applicationContext) {
+      this(applicationContext, UnaryOperator.identity());
+    }
+
+    private MockedDownloadFromGlobalLinkAction(ApplicationContext applicationContext,
+                                               UnaryOperator<XliffImporter> importerDecorator) {
       this.applicationContext = applicationContext;
+      this.importerDecorator = importerDecorator;
     }
 
     @Override
@@ -226,6 +528,16 @@ class DownloadFromGlobalLinkActionTest {
       return applicationContext;
     }
 
+    @Override
+    ContentRepository getContentRepository() {
+      return applicationContext.getBean(ContentRepository.class);
+    }
+
+    @Override
+    XliffImporter getXliffImporter() {
+      return importerDecorator.apply(super.getXliffImporter());
+    }
+
     @Override
     AsRobotUser getAsRobotUser() {
       AsRobotUser asRobotUser = mock(AsRobotUser.class);
@@ -1,6 +1,5 @@
 package com.coremedia.labs.translation.gcc.workflow;
 
-import com.coremedia.labs.translation.gcc.util.Zipper;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.jspecify.annotations.NullMarked;
@@ -12,11 +11,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -92,17 +96,10 @@ class DownloadFromGlobalLinkActionUnitTest {
 
       // Check
       try {
-        File extracted = new File(Zipper.unzip(actual.getAbsolutePath(), null), "xliff_issue_details");
-        try {
-          File[] files = extracted.listFiles();
-          assertNotNull(files);
-          assertEquals(2, files.length);
-          // Check files by well known length, which is sufficiently unique in this test.
-          assertEquals(5L, requireNonNull(extracted.listFiles((dir, name) -> "zipentry2.txt".equals(name)))[0].length());
-          assertEquals(6L, requireNonNull(extracted.listFiles((dir, name) -> "zipentry3.txt".equals(name)))[0].length());
-        } finally {
-          deleteFile(extracted);
-        }
+        // Check files by well known length, which is sufficiently unique in this test.
+        assertEquals(
+          Map.of("xliff_issue_details/zipentry2.txt", 5L, "xliff_issue_details/zipentry3.txt", 6L),
+          zipEntryLengths(actual));
       } finally {
         deleteFile(actual);
       }
@@ -114,6 +111,22 @@ class DownloadFromGlobalLinkActionUnitTest {
 
   // --- internal ---------------------------------------------------
 
+  /**
+   * Reads the length of all file entries of the given zip file.
+   */
+  private static Map<String, Long> zipEntryLengths(File zipFile) throws IOException {
+    Map<String, Long> lengths = new HashMap<>();
+    try (ZipInputStream zipStream = new ZipInputStream(new FileInputStream(zipFile))) {
+      for (ZipEntry entry = zipStream.getNextEntry(); entry != null; entry = zipStream.getNextEntry()) {
+        if (!entry.isDirectory()) {
+          lengths.put(entry.getName(), zipStream.transferTo(OutputStream.nullOutputStream()));
+        }
+        zipStream.closeEntry();
+      }
+    }
+    return lengths;
+  }
+
   private static DownloadFromGlobalLinkAction.Result createResult(File workingDir) {
     return new DownloadFromGlobalLinkAction.Result(workingDir);
   }
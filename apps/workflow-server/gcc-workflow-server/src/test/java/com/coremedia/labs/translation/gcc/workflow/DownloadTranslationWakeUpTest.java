@@ -0,0 +1,201 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.cap.workflow.Process;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathFactory;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests {@link DownloadTranslationWakeUp}.
+ */
+@NullMarked
+class DownloadTranslationWakeUpTest {
+  private static final String WAKE_UP_VARIABLE = "downloadTranslationWakeUpRequested";
+  private static final String WORKFLOW_DEFINITION = "translation-global-link.xml";
+  private static final String CONNECTION = "connector-key";
+
+  @Test
+  @DisplayName("Should request wake-up of the registered process once.")
+  void shouldWakeUpRegisteredProcessOnce() {
+    DownloadTranslationWakeUp wakeUp = newWakeUp(DownloadTranslationWakeUp.DEFAULT_MAX_AGE, DownloadTranslationWakeUp.DEFAULT_MAX_SIZE);
+    Process process = mock(Process.class);
+    wakeUp.register(CONNECTION, 42L, "1", resolver(Map.of("1", process)), WAKE_UP_VARIABLE);
+
+    assertThat(wakeUp.wakeUp(CONNECTION, 42L)).isTrue();
+    verify(process).set(WAKE_UP_VARIABLE, true);
+
+    assertThat(wakeUp.wakeUp(CONNECTION, 42L))
+      .describedAs("Process shall only be woken up again, once registered by its next download.")
+      .isFalse();
+  }
+
+  @Test
+  @DisplayName("Should ignore notifications for unknown or unregistered submissions.")
+  void shouldIgnoreUnknownSubmissions() {
+    DownloadTranslationWakeUp wakeUp = newWakeUp(DownloadTranslationWakeUp.DEFAULT_MAX_AGE, DownloadTranslationWakeUp.DEFAULT_MAX_SIZE);
+    Process process = mock(Process.class);
+    wakeUp.register(CONNECTION, 42L, "1", resolver(Map.of("1", process)), WAKE_UP_VARIABLE);
+    wakeUp.unregister(CONNECTION, 42L);
+
+    assertThat(wakeUp.wakeUp(CONNECTION, 42L)).isFalse();
+    assertThat(wakeUp.wakeUp(CONNECTION, 43L)).isFalse();
+    verify(process, never()).set(anyString(), anyBoolean());
+  }
+
+  @Test
+  @DisplayName("Should ignore processes, that do not exist or are not running anymore.")
+  void shouldIgnoreProcessesNotRunningAnymore() {
+    DownloadTranslationWakeUp wakeUp = newWakeUp(DownloadTranslationWakeUp.DEFAULT_MAX_AGE, DownloadTranslationWakeUp.DEFAULT_MAX_SIZE);
+    Process destroyed = mock(Process.class);
+    when(destroyed.isDestroyed()).thenReturn(true);
+    Process completed = mock(Process.class);
+    doThrow(new IllegalStateException("completed")).when(completed).set(WAKE_UP_VARIABLE, true);
+    wakeUp.register(CONNECTION, 41L, "0", resolver(Map.of()), WAKE_UP_VARIABLE);
+    wakeUp.register(CONNECTION, 42L, "1", resolver(Map.of("1", destroyed)), WAKE_UP_VARIABLE);
+    wakeUp.register(CONNECTION, 43L, "2", resolver(Map.of("2", completed)), WAKE_UP_VARIABLE);
+
+    assertThat(wakeUp.wakeUp(CONNECTION, 41L)).isFalse();
+    assertThat(wakeUp.wakeUp(CONNECTION, 42L)).isFalse();
+    assertThat(wakeUp.wakeUp(CONNECTION, 43L)).isFalse();
+    verify(destroyed, never()).set(anyString(), anyBoolean());
+    assertThat(wakeUp.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should distinguish submissions of different connections.")
+  void shouldDistinguishConnections() {
+    DownloadTranslationWakeUp wakeUp = newWakeUp(DownloadTranslationWakeUp.DEFAULT_MAX_AGE, DownloadTranslationWakeUp.DEFAULT_MAX_SIZE);
+    Process first = mock(Process.class);
+    Process second = mock(Process.class);
+    Process third = mock(Process.class);
+    wakeUp.register(CONNECTION, 42L, "1", resolver(Map.of("1", first)), WAKE_UP_VARIABLE);
+    wakeUp.register("other-connector-key", 42L, "2", resolver(Map.of("2", second)), WAKE_UP_VARIABLE);
+
+    assertThat(wakeUp.wakeUp(CONNECTION, 42L)).isTrue();
+    verify(first).set(WAKE_UP_VARIABLE, true);
+    verify(second, never()).set(anyString(), anyBoolean());
+
+    wakeUp.register(CONNECTION, 42L, "3", resolver(Map.of("3", third)), WAKE_UP_VARIABLE);
+    assertThat(wakeUp.wakeUp(null, 42L))
+      .describedAs("Notifications not naming the connection shall wake up processes of any connection.")
+      .isTrue();
+    verify(second).set(WAKE_UP_VARIABLE, true);
+    verify(third).set(WAKE_UP_VARIABLE, true);
+    assertThat(wakeUp.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should drop expired registrations and bound their number.")
+  void shouldBoundRegistrations() {
+    Process process = mock(Process.class);
+    MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    DownloadTranslationWakeUp expiring = new DownloadTranslationWakeUp(Duration.ofHours(1L), DownloadTranslationWakeUp.DEFAULT_MAX_SIZE, clock);
+    expiring.register(CONNECTION, 42L, "1", resolver(Map.of("1", process)), WAKE_UP_VARIABLE);
+    clock.advance(Duration.ofHours(1L));
+    assertThat(expiring.wakeUp(CONNECTION, 42L)).isFalse();
+
+    DownloadTranslationWakeUp bounded = new DownloadTranslationWakeUp(Duration.ofHours(1L), 2, clock);
+    for (long submissionId = 1L; submissionId <= 5L; submissionId++) {
+      bounded.register(CONNECTION, submissionId, String.valueOf(submissionId), resolver(Map.of()), WAKE_UP_VARIABLE);
+    }
+    assertThat(bounded.size()).isEqualTo(2);
+
+    // Renewing registrations is permitted, while the maximum is reached.
+    bounded.register(CONNECTION, 1L, "1", resolver(Map.of("1", process)), WAKE_UP_VARIABLE);
+    assertThat(bounded.size()).isEqualTo(2);
+
+    // Expired registrations make room for new ones.
+    clock.advance(Duration.ofHours(1L));
+    bounded.register(CONNECTION, 6L, "6", resolver(Map.of("6", process)), WAKE_UP_VARIABLE);
+    assertThat(bounded.size()).isEqualTo(1);
+    assertThat(bounded.wakeUp(CONNECTION, 6L)).isTrue();
+    verify(process).set(WAKE_UP_VARIABLE, true);
+  }
+
+  /**
+   * Waking up relies on the download task being guarded by the variable, just
+   * as it is guarded by {@code cancelRequested}, and on the action resetting
+   * it.
+   */
+  @Test
+  @DisplayName("Workflow definition should trigger the download on wake-up.")
+  void workflowDefinitionShouldGuardDownloadByWakeUpVariable() throws Exception {
+    Document definition;
+    try (InputStream xml = DownloadFromGlobalLinkAction.class.getResourceAsStream(WORKFLOW_DEFINITION)) {
+      assertThat(xml).isNotNull();
+      definition = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(xml);
+    }
+    XPath xPath = XPathFactory.newInstance().newXPath();
+
+    NodeList variables = (NodeList) xPath.evaluate("//Variable[@name='%s' and @type='Boolean']".formatted(WAKE_UP_VARIABLE), definition, XPathConstants.NODESET);
+    assertThat(variables.getLength()).isEqualTo(1);
+
+    NodeList guard = (NodeList) xPath.evaluate("//AutomatedTask[@name='DownloadTranslation']/Guard/Or/Get[@variable='%s']".formatted(WAKE_UP_VARIABLE), definition, XPathConstants.NODESET);
+    assertThat(guard.getLength()).isEqualTo(1);
+
+    Element action = (Element) xPath.evaluate("//AutomatedTask[@name='DownloadTranslation']/Action[@class='%s']".formatted(DownloadFromGlobalLinkAction.class.getName()), definition, XPathConstants.NODE);
+    assertThat(action).isNotNull();
+    assertThat(action.getAttribute("wakeUpRequestedVariable")).isEqualTo(WAKE_UP_VARIABLE);
+  }
+
+  private static DownloadTranslationWakeUp newWakeUp(Duration maxAge, int maxSize) {
+    return new DownloadTranslationWakeUp(maxAge, maxSize, Clock.systemUTC());
+  }
+
+  private static Function<String, @Nullable Process> resolver(Map<String, Process> processes) {
+    return processes::get;
+  }
+
+  private static final class MutableClock extends Clock {
+    private volatile Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    private void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
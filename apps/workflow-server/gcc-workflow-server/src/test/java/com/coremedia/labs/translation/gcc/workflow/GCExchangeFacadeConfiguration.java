@@ -16,6 +16,10 @@ public class GCExchangeFacadeConfiguration {
   @Bean
   public GCExchangeFacade gcExchangeFacade() {
     return Mockito.mock(GCExchangeFacade.class, invocation -> {
+      if (invocation.getMethod().isDefault()) {
+        // Default methods delegate to the abstract ones, which are subject to the mock setup.
+        return invocation.callRealMethod();
+      }
       throw new IllegalStateException("Unexpected method called on GCExchangeFacade Mock. You may require to extend your mock setup. Invocation: " + invocation);
     });
   }
@@ -0,0 +1,171 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.labs.translation.gcc.util.Settings;
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link GCNotificationReceiver}, using a local stand-in for
+ * GlobalLink, that posts notifications.
+ */
+@NullMarked
+class GCNotificationReceiverTest {
+  private static final String SECRET = "s3cr3t";
+
+  private final BlockingQueue<GCNotificationReceiver.Notification> notified = new LinkedBlockingQueue<>();
+  private final GCNotificationReceiver.Listener listener =
+    (connectorKey, submissionId) -> notified.add(notification(connectorKey, submissionId));
+  private @Nullable GCNotificationReceiver receiver;
+
+  @AfterEach
+  void tearDown() {
+    if (receiver != null) {
+      receiver.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("Should not listen for notifications, if no port is configured.")
+  void shouldNotListenWithoutPort() {
+    receiver = new GCNotificationReceiver(Settings.EMPTY, listener);
+    receiver.start();
+
+    assertThat(receiver.isRunning()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should not listen for notifications, if no secret is configured.")
+  void shouldNotListenWithoutSecret() {
+    receiver = new GCNotificationReceiver(notifications(Map.of("port", 0)), listener);
+    receiver.start();
+
+    assertThat(receiver.isRunning()).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should listen at the loopback address, unless configured otherwise.")
+  void shouldListenAtLoopbackAddressByDefault() {
+    receiver = new GCNotificationReceiver(notifications(Map.of("port", 0, "secret", SECRET)), listener);
+    receiver.start();
+
+    assertThat(receiver.getAddress())
+      .satisfies(address -> assertThat(address.getAddress().isLoopbackAddress()).isTrue());
+  }
+
+  @Test
+  @DisplayName("Should pass submission IDs of notifications to the listener.")
+  void shouldPassSubmissionIds() throws Exception {
+    GlobalLinkStandIn globalLink = startReceiver();
+
+    assertThat(globalLink.post("{\"submission_id\": 42, \"task_id\": 7, \"state\": \"Completed\"}", SECRET))
+      .isEqualTo(HttpURLConnection.HTTP_ACCEPTED);
+    assertThat(notified.poll(5L, TimeUnit.SECONDS)).isEqualTo(notification(null, 42L));
+
+    assertThat(globalLink.post("[{\"submissionId\": \"43\"}, {\"submission_id\": 44}]", SECRET))
+      .isEqualTo(HttpURLConnection.HTTP_ACCEPTED);
+    assertThat(notified.poll(5L, TimeUnit.SECONDS)).isEqualTo(notification(null, 43L));
+    assertThat(notified.poll(5L, TimeUnit.SECONDS)).isEqualTo(notification(null, 44L));
+  }
+
+  @Test
+  @DisplayName("Should pass connector keys of notifications to the listener.")
+  void shouldPassConnectorKeys() throws Exception {
+    GlobalLinkStandIn globalLink = startReceiver();
+
+    assertThat(globalLink.post("[{\"submission_id\": 42, \"connector_key\": \"abc\"}, {\"submissionId\": 42, \"connectorKey\": \"xyz\"}]", SECRET))
+      .isEqualTo(HttpURLConnection.HTTP_ACCEPTED);
+    assertThat(notified.poll(5L, TimeUnit.SECONDS)).isEqualTo(notification("abc", 42L));
+    assertThat(notified.poll(5L, TimeUnit.SECONDS)).isEqualTo(notification("xyz", 42L));
+  }
+
+  @Test
+  @DisplayName("Should reject notifications without submission ID.")
+  void shouldRejectNotificationsWithoutSubmissionId() throws Exception {
+    GlobalLinkStandIn globalLink = startReceiver();
+
+    assertThat(globalLink.post("{\"task_id\": 7}", SECRET)).isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+    assertThat(globalLink.post("no json", SECRET)).isEqualTo(HttpURLConnection.HTTP_BAD_REQUEST);
+    assertThat(notified).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should reject notifications with missing or wrong secret.")
+  void shouldRejectNotificationsWithWrongSecret() throws Exception {
+    GlobalLinkStandIn globalLink = startReceiver();
+
+    assertThat(globalLink.post("{\"submission_id\": 42}")).isEqualTo(HttpURLConnection.HTTP_UNAUTHORIZED);
+    assertThat(globalLink.post("{\"submission_id\": 42}", "wrong")).isEqualTo(HttpURLConnection.HTTP_UNAUTHORIZED);
+    assertThat(notified).isEmpty();
+
+    assertThat(globalLink.post("{\"submission_id\": 42}", SECRET)).isEqualTo(HttpURLConnection.HTTP_ACCEPTED);
+    assertThat(notified.poll(5L, TimeUnit.SECONDS)).isEqualTo(notification(null, 42L));
+  }
+
+  @Test
+  @DisplayName("Should ignore invalid ports.")
+  void shouldIgnoreInvalidPorts() {
+    assertThat(GCNotificationReceiver.getConfiguredPort(Settings.EMPTY)).isNull();
+    assertThat(GCNotificationReceiver.getConfiguredPort(notifications(Map.of("port", 8081)))).isEqualTo(8081);
+    assertThat(GCNotificationReceiver.getConfiguredPort(notifications(Map.of("port", "8081")))).isEqualTo(8081);
+    assertThat(GCNotificationReceiver.getConfiguredPort(notifications(Map.of("port", 70_000)))).isNull();
+    assertThat(GCNotificationReceiver.getConfiguredPort(notifications(Map.of("port", "any")))).isNull();
+  }
+
+  private GlobalLinkStandIn startReceiver() throws URISyntaxException {
+    GCNotificationReceiver started = new GCNotificationReceiver(notifications(Map.of("port", 0, "secret", SECRET)), listener);
+    receiver = started;
+    started.start();
+    InetSocketAddress address = started.getAddress();
+    assertThat(address).isNotNull();
+    return new GlobalLinkStandIn(new URI("http", null, address.getAddress().getHostAddress(), address.getPort(),
+      GCNotificationReceiver.DEFAULT_PATH, null, null));
+  }
+
+  private static GCNotificationReceiver.Notification notification(@Nullable String connectorKey, long submissionId) {
+    return new GCNotificationReceiver.Notification(connectorKey, submissionId);
+  }
+
+  private static Settings notifications(Map<String, Object> config) {
+    return new Settings(Map.<String, Object>of("notifications", config));
+  }
+
+  /**
+   * Stand-in for GlobalLink, posting notifications to the receiver.
+   */
+  private record GlobalLinkStandIn(URI uri) {
+    int post(String body) throws IOException, InterruptedException {
+      return post(body, null);
+    }
+
+    int post(String body, @Nullable String secret) throws IOException, InterruptedException {
+      HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body));
+      if (secret != null) {
+        request.header(GCNotificationReceiver.SECRET_HEADER, secret);
+      }
+      try (HttpClient client = HttpClient.newHttpClient()) {
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+      }
+    }
+  }
+}
@@ -8,13 +8,17 @@ import com.coremedia.cap.content.ContentType;
 import com.coremedia.cap.content.Version;
 import com.coremedia.cap.translate.xliff.config.XliffExporterConfiguration;
 import com.coremedia.cap.user.User;
+import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
 import com.coremedia.labs.translation.gcc.facade.GCExchangeFacade;
+import com.coremedia.labs.translation.gcc.facade.GCFacadeCommunicationException;
+import com.coremedia.labs.translation.gcc.util.Settings;
 import com.coremedia.translate.item.TranslateItemConfiguration;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.ByteStreams;
 import org.assertj.core.api.Condition;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.mockito.ArgumentCaptor;
@@ -51,11 +55,14 @@ import static com.coremedia.labs.translation.gcc.workflow.SimpleMultiSiteConfigu
 import static java.util.Collections.singletonList;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_SINGLETON;
 import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER_CLASS;
@@ -67,6 +74,15 @@ import static org.springframework.test.annotation.DirtiesContext.ClassMode.AFTER
 @DirtiesContext(classMode = AFTER_CLASS)
 @NullMarked
 class SendToGlobalLinkActionTest {
+  private static final Settings PARALLEL_UPLOAD_SETTINGS = new Settings(Map.<String, Object>of(
+    GCConfigProperty.KEY_UPLOAD, Map.of(GCConfigProperty.KEY_PARALLELISM, 4)
+  ));
+
+  @AfterEach
+  void tearDown(@Autowired GCExchangeFacade gcExchangeFacade) {
+    // The facade mock is shared among tests.
+    Mockito.clearInvocations(gcExchangeFacade);
+  }
 
   @SuppressWarnings("unchecked")
   @Test
@@ -142,6 +158,195 @@ class SendToGlobalLinkActionTest {
     assertThat(submitterCaptor.getValue()).isEqualTo("admin");
   }
 
+  @SuppressWarnings("unchecked")
+  @Test
+  void startTranslationJobUploadingConcurrently(TestInfo testInfo,
+                                               @Autowired SendToGlobalLinkAction action,
+                                               @Autowired GCExchangeFacade gcExchangeFacade,
+                                               @Autowired CapConnection connection,
+                                               @Autowired User user) {
+    List<Locale> derivedLocales = List.of(Locale.ITALY, Locale.GERMANY, Locale.FRANCE);
+    SendToGlobalLinkAction.Parameters params = createParameters(testInfo, connection, user, derivedLocales);
+
+    Mockito.doAnswer(invocation -> "file-" + invocation.getArgument(0))
+            .when(gcExchangeFacade)
+            .uploadContent(anyString(), any(Resource.class), any(Locale.class));
+    Mockito.doReturn(42L).when(gcExchangeFacade).submitSubmission(anyString(), anyString(), any(ZonedDateTime.class), anyString(), anyString(), any(Locale.class), anyMap());
+
+    action.doExecuteGlobalLinkAction(params, r -> {
+    }, gcExchangeFacade, PARALLEL_UPLOAD_SETTINGS, new HashMap<>());
+
+    ArgumentCaptor<Map<String, List<Locale>>> contentMapCaptor = ArgumentCaptor.forClass(Map.class);
+    Mockito.verify(gcExchangeFacade, Mockito.times(derivedLocales.size())).uploadContent(anyString(), any(Resource.class), eq(Locale.US));
+    Mockito.verify(gcExchangeFacade).submitSubmission(anyString(), anyString(), any(ZonedDateTime.class), anyString(), anyString(), any(Locale.class), contentMapCaptor.capture());
+
+    assertThat(contentMapCaptor.getValue())
+            .describedAs("All files shall be submitted in deterministic order with the correct target locales.")
+            .containsExactly(
+                    entry("file-en-US2de-DE.xliff", List.of(Locale.GERMANY)),
+                    entry("file-en-US2fr-FR.xliff", List.of(Locale.FRANCE)),
+                    entry("file-en-US2it-IT.xliff", List.of(Locale.ITALY))
+            );
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void startTranslationJobTransformingPerLocale(TestInfo testInfo,
+                                                @Autowired SendToGlobalLinkAction action,
+                                                @Autowired GCExchangeFacade gcExchangeFacade,
+                                                @Autowired CapConnection connection,
+                                                @Autowired User user) {
+    List<Locale> derivedLocales = List.of(Locale.ITALY, Locale.GERMANY, Locale.FRANCE);
+    SendToGlobalLinkAction.Parameters params = createParameters(testInfo, connection, user, derivedLocales);
+    Settings settings = new Settings(Map.<String, Object>of("sendTranslationRequestTransformPerLocale", true));
+
+    Mockito.doAnswer(invocation -> "file-" + invocation.getArgument(0))
+            .when(gcExchangeFacade)
+            .uploadContent(anyString(), any(Resource.class), any(Locale.class));
+    Mockito.doReturn(42L).when(gcExchangeFacade).submitSubmission(anyString(), anyString(), any(ZonedDateTime.class), anyString(), anyString(), any(Locale.class), anyMap());
+
+    action.doExecuteGlobalLinkAction(params, r -> {
+    }, gcExchangeFacade, settings, new HashMap<>());
+
+    ArgumentCaptor<Map<String, List<Locale>>> contentMapCaptor = ArgumentCaptor.forClass(Map.class);
+    Mockito.verify(gcExchangeFacade).submitSubmission(anyString(), anyString(), any(ZonedDateTime.class), anyString(), anyString(), any(Locale.class), contentMapCaptor.capture());
+
+    assertThat(contentMapCaptor.getValue())
+            .describedAs("Transforming per locale shall submit the same files as transforming upfront.")
+            .containsExactly(
+                    entry("file-en-US2de-DE.xliff", List.of(Locale.GERMANY)),
+                    entry("file-en-US2fr-FR.xliff", List.of(Locale.FRANCE)),
+                    entry("file-en-US2it-IT.xliff", List.of(Locale.ITALY))
+            );
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void startTranslationJobDeduplicatingUploads(TestInfo testInfo,
+                                               @Autowired SendToGlobalLinkAction action,
+                                               @Autowired GCExchangeFacade gcExchangeFacade,
+                                               @Autowired CapConnection connection,
+                                               @Autowired User user) {
+    SendToGlobalLinkAction.Parameters params = createParameters(testInfo, connection, user, List.of(Locale.GERMANY, Locale.FRANCE));
+    Settings settings = new Settings(Map.<String, Object>of(
+      GCConfigProperty.KEY_UPLOAD, Map.of(GCConfigProperty.KEY_DEDUPLICATE, true)
+    ));
+
+    Mockito.doAnswer(invocation -> "file-" + invocation.getArgument(0))
+            .when(gcExchangeFacade)
+            .uploadContent(anyString(), any(Resource.class), any(Locale.class));
+    Mockito.doReturn(42L).when(gcExchangeFacade).submitSubmission(anyString(), anyString(), any(ZonedDateTime.class), anyString(), anyString(), any(Locale.class), anyMap());
+
+    action.doExecuteGlobalLinkAction(params, r -> {
+    }, gcExchangeFacade, settings, new HashMap<>());
+
+    ArgumentCaptor<Map<String, List<Locale>>> contentMapCaptor = ArgumentCaptor.forClass(Map.class);
+    Mockito.verify(gcExchangeFacade).submitSubmission(anyString(), anyString(), any(ZonedDateTime.class), anyString(), anyString(), any(Locale.class), contentMapCaptor.capture());
+    Mockito.verify(gcExchangeFacade, Mockito.times(1)).uploadContent(anyString(), any(Resource.class), any(Locale.class));
+
+    assertThat(contentMapCaptor.getValue())
+            .describedAs("XLIFF only differing in target language and target contents shall be uploaded once for all target locales.")
+            .containsExactly(
+                    entry("file-en-US2de-DE.xliff", List.of(Locale.GERMANY, Locale.FRANCE))
+            );
+  }
+
+  @Test
+  void startTranslationJobFailsFastOnUploadFailure(TestInfo testInfo,
+                                                   @Autowired SendToGlobalLinkAction action,
+                                                   @Autowired GCExchangeFacade gcExchangeFacade,
+                                                   @Autowired CapConnection connection,
+                                                   @Autowired User user) {
+    SendToGlobalLinkAction.Parameters params = createParameters(testInfo, connection, user, List.of(Locale.GERMANY, Locale.FRANCE));
+
+    Mockito.doAnswer(invocation -> {
+              String fileName = invocation.getArgument(0);
+              if (fileName.contains(Locale.FRANCE.toLanguageTag())) {
+                throw new GCFacadeCommunicationException("Simulated failure for %s.", fileName);
+              }
+              return "file-" + fileName;
+            })
+            .when(gcExchangeFacade)
+            .uploadContent(anyString(), any(Resource.class), any(Locale.class));
+
+    assertThatThrownBy(() -> action.doExecuteGlobalLinkAction(params, r -> {
+    }, gcExchangeFacade, PARALLEL_UPLOAD_SETTINGS, new HashMap<>()))
+            .isInstanceOf(GCFacadeCommunicationException.class)
+            .hasMessageContaining("Simulated failure");
+    Mockito.verify(gcExchangeFacade, never()).submitSubmission(anyString(), anyString(), any(ZonedDateTime.class), anyString(), anyString(), any(Locale.class), anyMap());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  void startTranslationJobReusingUploadsOnRetry(TestInfo testInfo,
+                                                @Autowired SendToGlobalLinkAction action,
+                                                @Autowired GCExchangeFacade gcExchangeFacade,
+                                                @Autowired CapConnection connection,
+                                                @Autowired User user) {
+    SendToGlobalLinkAction.Parameters params = createParameters(testInfo, connection, user, List.of(Locale.GERMANY, Locale.FRANCE));
+    // The journal is process-wide: Use a dedicated connection to isolate from other tests.
+    Settings settings = new Settings(Map.<String, Object>of(
+      GCConfigProperty.KEY_URL, testInfo.getDisplayName(),
+      GCConfigProperty.KEY_UPLOAD, Map.of(GCConfigProperty.KEY_REUSE_WITHIN, "1h")
+    ));
+
+    int[] uploads = {0};
+    Mockito.doAnswer(invocation -> "file-" + ++uploads[0])
+            .when(gcExchangeFacade)
+            .uploadContent(anyString(), any(Resource.class), any(Locale.class));
+    Mockito.doThrow(new GCFacadeCommunicationException("Simulated failure."))
+            .doReturn(42L)
+            .when(gcExchangeFacade)
+            .submitSubmission(anyString(), anyString(), any(ZonedDateTime.class), anyString(), anyString(), any(Locale.class), anyMap());
+
+    assertThatThrownBy(() -> action.doExecuteGlobalLinkAction(params, r -> {
+    }, gcExchangeFacade, settings, new HashMap<>()))
+            .isInstanceOf(GCFacadeCommunicationException.class);
+    AtomicReference<@Nullable String> resultHolder = new AtomicReference<>();
+    action.doExecuteGlobalLinkAction(params, resultHolder::set, gcExchangeFacade, settings, new HashMap<>());
+
+    ArgumentCaptor<Map<String, List<Locale>>> contentMapCaptor = ArgumentCaptor.forClass(Map.class);
+    Mockito.verify(gcExchangeFacade, Mockito.times(2)).uploadContent(anyString(), any(Resource.class), eq(Locale.US));
+    Mockito.verify(gcExchangeFacade, Mockito.times(2)).submitSubmission(anyString(), anyString(), any(ZonedDateTime.class), anyString(), anyString(), any(Locale.class), contentMapCaptor.capture());
+
+    assertThat(resultHolder.get()).isEqualTo("42");
+    assertThat(contentMapCaptor.getValue())
+            .describedAs("The retry shall reuse the files uploaded by the failed attempt.")
+            .containsExactly(
+                    entry("file-1", List.of(Locale.GERMANY)),
+                    entry("file-2", List.of(Locale.FRANCE))
+            );
+  }
+
+  private static SendToGlobalLinkAction.Parameters createParameters(TestInfo testInfo,
+                                                                    CapConnection connection,
+                                                                    User user,
+                                                                    List<Locale> derivedLocales) {
+    ContentType contentType = requireNonNull(connection.getContentRepository().getContentType(CT_SITE_CONTENT), "Required content type not available.");
+    String displayName = testInfo.getDisplayName();
+    Content masterContent = contentType.createByTemplate("/", displayName, "{3} ({1})", ImmutableMap.<String, Object>builder()
+            .put(LOCALE_PROPERTY, Locale.US.toLanguageTag())
+            .put(TRANSLATABLE_STRING_PROPERTY, "Lorem Ipsum")
+            .build()
+    );
+    Version masterVersion = masterContent.checkIn();
+    List<ContentObject> masterContents = singletonList(masterContent);
+    List<Content> derivedContents = derivedLocales.stream()
+            .map(locale -> {
+              Content derivedContent = contentType.createByTemplate("/", displayName, "{3} ({1})", ImmutableMap.<String, Object>builder()
+                      .put(LOCALE_PROPERTY, locale.toLanguageTag())
+                      .put(MASTER_PROPERTY, masterContents)
+                      .put(MASTER_VERSION_PROPERTY, IdHelper.parseVersionId(masterVersion.getId()))
+                      .build()
+              );
+              derivedContent.checkIn();
+              return derivedContent;
+            })
+            .toList();
+    ZonedDateTime dueDate = ZonedDateTime.of(LocalDateTime.now(ZoneId.systemDefault()).plusDays(30L), ZoneId.systemDefault());
+    return new SendToGlobalLinkAction.Parameters(displayName, "Test", derivedContents, masterContents, dueDate, "pseudo translation", user);
+  }
+
   private static Object readXliff(InvocationOnMock invocation, String expectedFileId, @Nullable String[] uploadedXliff) throws IOException {
     Resource resource = invocation.getArgument(1);
     byte[] bytes;
@@ -0,0 +1,42 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Tests {@link SubmissionSizing}.
+ */
+@NullMarked
+class SubmissionSizingTest {
+  @Test
+  @DisplayName("Should sum up the size per target locale.")
+  void shouldSumUpPerLocale() {
+    SubmissionSizing sizing = new SubmissionSizing();
+    sizing.add(Locale.FRANCE, 2, 100L, 10L);
+    sizing.add(Locale.GERMANY, 1, 50L, 5L);
+    sizing.add(Locale.FRANCE, 3, 200L, 20L);
+
+    assertThat(sizing.byLocale()).containsExactly(
+      entry(Locale.GERMANY, new SubmissionSizing.Size(1, 1, 50L, 5L)),
+      entry(Locale.FRANCE, new SubmissionSizing.Size(2, 5, 300L, 30L))
+    );
+    assertThat(sizing.total()).isEqualTo(new SubmissionSizing.Size(3, 6, 350L, 35L));
+  }
+
+  @Test
+  @DisplayName("Should not sum up words, that did not get counted.")
+  void shouldNotSumUpUncountedWords() {
+    SubmissionSizing sizing = new SubmissionSizing();
+    sizing.add(Locale.FRANCE, 2, 100L, SubmissionSizing.Size.WORDS_NOT_COUNTED);
+    sizing.add(Locale.GERMANY, 1, 50L, SubmissionSizing.Size.WORDS_NOT_COUNTED);
+
+    assertThat(sizing.total()).isEqualTo(new SubmissionSizing.Size(2, 3, 150L, SubmissionSizing.Size.WORDS_NOT_COUNTED));
+    assertThat(sizing.total()).hasToString("2 files, 3 items, 150 bytes");
+  }
+}
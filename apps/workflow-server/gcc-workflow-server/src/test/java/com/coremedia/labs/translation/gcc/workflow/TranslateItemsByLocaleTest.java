@@ -0,0 +1,72 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.cap.content.Content;
+import com.coremedia.translate.item.TranslateItem;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests {@link TranslateItemsByLocale}.
+ */
+@NullMarked
+class TranslateItemsByLocaleTest {
+  private final List<Locale> transformed = new ArrayList<>();
+
+  @Test
+  @DisplayName("Should transform the items of a locale only on access.")
+  void shouldTransformOnAccess() {
+    TranslateItemsByLocale items = newItems();
+
+    assertThat(items.keySet()).containsExactly(Locale.GERMANY, Locale.FRANCE);
+    assertThat(items).hasToString("TranslateItemsByLocale[locales=[de_DE, fr_FR]]");
+    assertThat(transformed).isEmpty();
+
+    items.entrySet().forEach(Map.Entry::getValue);
+    assertThat(transformed).containsExactly(Locale.GERMANY, Locale.FRANCE);
+  }
+
+  @Test
+  @DisplayName("Should transform the items of a locale again on each access.")
+  void shouldNotCacheItems() {
+    TranslateItemsByLocale items = newItems();
+
+    assertThat(items.get(Locale.FRANCE)).isEmpty();
+    assertThat(items.get(Locale.FRANCE)).isEmpty();
+    assertThat(items.get(Locale.ITALY)).isNull();
+    assertThat(transformed).containsExactly(Locale.FRANCE, Locale.FRANCE);
+  }
+
+  @Test
+  @DisplayName("Should compare entries without transforming their items.")
+  void shouldCompareEntriesWithoutTransforming() {
+    TranslateItemsByLocale items = newItems();
+    List<Map.Entry<Locale, List<TranslateItem>>> entries = List.copyOf(items.entrySet());
+    List<Map.Entry<Locale, List<TranslateItem>>> otherEntries = List.copyOf(items.entrySet());
+
+    assertThat(entries.getFirst())
+      .isEqualTo(otherEntries.getFirst())
+      .hasSameHashCodeAs(otherEntries.getFirst())
+      .isNotEqualTo(otherEntries.getLast());
+    assertThat(transformed).isEmpty();
+  }
+
+  private TranslateItemsByLocale newItems() {
+    Map<Locale, List<Content>> derivedContents = new LinkedHashMap<>();
+    derivedContents.put(Locale.GERMANY, List.of(mock(Content.class)));
+    derivedContents.put(Locale.FRANCE, List.of(mock(Content.class), mock(Content.class)));
+    return new TranslateItemsByLocale(derivedContents, (locale, contents) -> {
+      transformed.add(locale);
+      return List.of();
+    });
+  }
+}
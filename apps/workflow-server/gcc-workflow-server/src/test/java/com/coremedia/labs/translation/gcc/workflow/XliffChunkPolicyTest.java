@@ -0,0 +1,74 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.labs.translation.gcc.facade.GCConfigProperty;
+import com.coremedia.labs.translation.gcc.util.Settings;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link XliffChunkPolicy}.
+ */
+@NullMarked
+class XliffChunkPolicyTest {
+  @Nested
+  class FromSettings {
+    @Test
+    @DisplayName("Should be disabled by default.")
+    void shouldBeDisabledByDefault() {
+      assertThat(XliffChunkPolicy.fromSettings(Settings.EMPTY))
+        .isEqualTo(XliffChunkPolicy.NONE)
+        .satisfies(policy -> assertThat(policy.isEnabled()).isFalse());
+    }
+
+    @Test
+    @DisplayName("Should parse all limits.")
+    void shouldParseLimits() {
+      Settings settings = new Settings(Map.<String, Object>of(
+        GCConfigProperty.KEY_UPLOAD, Map.of(
+          GCConfigProperty.KEY_MAX_ITEMS_PER_FILE, 100,
+          GCConfigProperty.KEY_MAX_WORDS_PER_FILE, "5000",
+          GCConfigProperty.KEY_MAX_BYTES_PER_FILE, "1KB"
+        )
+      ));
+
+      assertThat(XliffChunkPolicy.fromSettings(settings))
+        .isEqualTo(new XliffChunkPolicy(100, 5000L, 1024L));
+    }
+
+    @Test
+    @DisplayName("Should ignore invalid limits.")
+    void shouldIgnoreInvalidLimits() {
+      Settings settings = new Settings(Map.<String, Object>of(
+        GCConfigProperty.KEY_UPLOAD, Map.of(GCConfigProperty.KEY_MAX_BYTES_PER_FILE, "lorem")
+      ));
+
+      assertThat(XliffChunkPolicy.fromSettings(settings)).isEqualTo(XliffChunkPolicy.NONE);
+    }
+  }
+
+  @Test
+  @DisplayName("Should partition by number of items.")
+  void shouldPartitionByItems() {
+    assertThat(new XliffChunkPolicy(2, 0L, 0L).partition(List.of(1, 2, 3, 4, 5)))
+      .containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+    assertThat(XliffChunkPolicy.NONE.partition(List.of(1, 2, 3)))
+      .containsExactly(List.of(1, 2, 3));
+  }
+
+  @Test
+  @DisplayName("Should signal exceeded word count and byte size.")
+  void shouldDetectExceededLimits() {
+    assertThat(new XliffChunkPolicy(0, 3L, 0L).isExceededBy(100L, 3L)).isFalse();
+    assertThat(new XliffChunkPolicy(0, 2L, 0L).isExceededBy(100L, 3L)).isTrue();
+    assertThat(new XliffChunkPolicy(0, 0L, 100L).isExceededBy(100L, 3L)).isFalse();
+    assertThat(new XliffChunkPolicy(0, 0L, 99L).isExceededBy(100L, 3L)).isTrue();
+    assertThat(XliffChunkPolicy.NONE.isExceededBy(Long.MAX_VALUE, Long.MAX_VALUE)).isFalse();
+  }
+}
@@ -0,0 +1,69 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link XliffContentHash}.
+ */
+@NullMarked
+class XliffContentHashTest {
+  private static final String XLIFF = """
+    <xliff version="1.2" xmlns:cmxliff="http://www.coremedia.com/2013/xliff-extensions-1.0">
+      <file original="coremedia:///cap/version/2/1" source-language="en-US" target-language="%s" datatype="xml"
+            cmxliff:target="%s">
+        <body><trans-unit id="%s"><source>Lorem Ipsum</source></trans-unit></body>
+      </file>
+    </xliff>
+    """;
+
+  @Test
+  @DisplayName("Should ignore the target language.")
+  void shouldIgnoreTargetLanguage() throws IOException {
+    assertThat(XliffContentHash.of(xliff("de-DE", "coremedia:///cap/content/4", "1")))
+      .isEqualTo(XliffContentHash.of(xliff("fr-FR", "coremedia:///cap/content/4", "1")));
+  }
+
+  @Test
+  @DisplayName("Should respect different target contents.")
+  void shouldRespectTargetContents() throws IOException {
+    assertThat(XliffContentHash.of(xliff("de-DE", "coremedia:///cap/content/4", "1")))
+      .isNotEqualTo(XliffContentHash.of(xliff("fr-FR", "coremedia:///cap/content/6", "1")));
+  }
+
+  @Test
+  @DisplayName("Should ignore target language and target contents, if locale independent.")
+  void shouldIgnoreTargetContentsIfLocaleIndependent() throws IOException {
+    assertThat(XliffContentHash.ofLocaleIndependent(xliff("de-DE", "coremedia:///cap/content/4", "1")))
+      .isEqualTo(XliffContentHash.ofLocaleIndependent(xliff("fr-FR", "coremedia:///cap/content/6", "1")))
+      .isNotEqualTo(XliffContentHash.ofLocaleIndependent(xliff("fr-FR", "coremedia:///cap/content/6", "2")));
+  }
+
+  @Test
+  @DisplayName("Should respect any other difference.")
+  void shouldRespectOtherDifferences() throws IOException {
+    assertThat(XliffContentHash.of(xliff("de-DE", "coremedia:///cap/content/4", "1")))
+      .isNotEqualTo(XliffContentHash.of(xliff("de-DE", "coremedia:///cap/content/4", "2")));
+  }
+
+  @Test
+  @DisplayName("Should remove values of target-language attributes only.")
+  void shouldNormalizeTargetLanguageOnly() {
+    assertThat(XliffContentHash.normalize("<file source-language='en' target-language='de'>"))
+      .isEqualTo("<file source-language='en' target-language=''>");
+    assertThat(XliffContentHash.normalizeLocaleIndependent("<file target-language='de' cmxliff:target = \"coremedia:///cap/content/4\">"))
+      .isEqualTo("<file target-language='' cmxliff:target = \"\">");
+  }
+
+  private static Resource xliff(String targetLanguage, String target, String id) {
+    return new ByteArrayResource(XLIFF.formatted(targetLanguage, target, id).getBytes(UTF_8));
+  }
+}
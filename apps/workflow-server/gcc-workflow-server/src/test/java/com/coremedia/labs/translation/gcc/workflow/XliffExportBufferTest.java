@@ -0,0 +1,95 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link XliffExportBuffer}.
+ */
+@NullMarked
+class XliffExportBufferTest {
+  private static final byte[] CONTENT = "<xliff>Lorem Ipsum</xliff>".getBytes(UTF_8);
+
+  @Test
+  @DisplayName("Should hold contents up to the threshold in memory.")
+  void shouldHoldSmallContentsInMemory() throws IOException {
+    try (XliffExportBuffer buffer = new XliffExportBuffer(CONTENT.length, "test", ".xliff")) {
+      try (OutputStream out = buffer.outputStream()) {
+        out.write(CONTENT);
+      }
+
+      assertThat(buffer.isSpilled()).isFalse();
+      assertThat(buffer.size()).isEqualTo(CONTENT.length);
+      Resource resource = buffer.toResource();
+      assertThat(resource).isInstanceOf(ByteArrayResource.class);
+      assertThat(read(resource)).isEqualTo(CONTENT);
+    }
+  }
+
+  @Test
+  @DisplayName("Should provide contents held in memory without copying them on each call.")
+  void shouldShareContentsHeldInMemory() throws IOException {
+    try (XliffExportBuffer buffer = new XliffExportBuffer(CONTENT.length * 2L, "test", ".xliff")) {
+      try (OutputStream out = buffer.outputStream()) {
+        out.write(CONTENT);
+      }
+
+      ByteArrayResource first = (ByteArrayResource) buffer.toResource();
+      ByteArrayResource second = (ByteArrayResource) buffer.toResource();
+      assertThat(first.getByteArray()).isEqualTo(CONTENT);
+      assertThat(second.getByteArray()).isSameAs(first.getByteArray());
+    }
+  }
+
+  @Test
+  @DisplayName("Should spill contents exceeding the threshold to disk and delete them once closed.")
+  void shouldSpillLargeContentsToDisk() throws IOException {
+    Path spilled;
+    try (XliffExportBuffer buffer = new XliffExportBuffer(10L, "test", ".xliff")) {
+      try (OutputStream out = buffer.outputStream()) {
+        out.write(CONTENT, 0, 5);
+        out.write(CONTENT, 5, CONTENT.length - 5);
+      }
+
+      assertThat(buffer.isSpilled()).isTrue();
+      assertThat(buffer.size()).isEqualTo(CONTENT.length);
+      Resource resource = buffer.toResource();
+      assertThat(resource.isFile()).isTrue();
+      assertThat(read(resource)).isEqualTo(CONTENT);
+      spilled = resource.getFile().toPath();
+      assertThat(spilled).exists();
+    }
+
+    assertThat(spilled).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("Should spill any contents to disk for threshold 0.")
+  void shouldSpillAnyContentsForZeroThreshold() throws IOException {
+    try (XliffExportBuffer buffer = new XliffExportBuffer(0L, "test", ".xliff")) {
+      try (OutputStream out = buffer.outputStream()) {
+        out.write(CONTENT[0]);
+      }
+
+      assertThat(buffer.isSpilled()).isTrue();
+      assertThat(read(buffer.toResource())).containsExactly(CONTENT[0]);
+    }
+  }
+
+  private static byte[] read(Resource resource) throws IOException {
+    try (InputStream stream = resource.getInputStream()) {
+      return stream.readAllBytes();
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link XliffFileSplitter}.
+ */
+@NullMarked
+class XliffFileSplitterTest {
+  private static final String XLIFF = """
+    <?xml version="1.0" encoding="UTF-8"?>
+    <xliff xmlns="urn:oasis:names:tc:xliff:document:1.2" version="1.2">
+      <!-- Comment between files. -->
+      <file original="1"><body><trans-unit id="1"><source>A &amp; B</source><target>C &amp; D</target></trans-unit></body></file>
+      <file original="2"><body/></file>
+      <file original="3"><body/></file>
+    </xliff>
+    """;
+
+  @ParameterizedTest(name = "[{index}] In-Memory Threshold: {0}")
+  @DisplayName("Should split XLIFF into well-formed chunks of files, repeating the root element.")
+  @ValueSource(longs = {0L, 1_024L * 1_024L})
+  void shouldSplitByFiles(long inMemoryThreshold) throws IOException {
+    List<String> chunks = split(new XliffFileSplitter(2, inMemoryThreshold, "test"), XLIFF);
+
+    assertThat(chunks).containsExactly(
+      """
+        <?xml version="1.0" encoding="UTF-8"?>\
+        <xliff xmlns="urn:oasis:names:tc:xliff:document:1.2" version="1.2">\
+        <file original="1"><body><trans-unit id="1"><source>A &amp; B</source><target>C &amp; D</target></trans-unit></body></file>\
+        <file original="2"><body></body></file>\
+        </xliff>""",
+      """
+        <?xml version="1.0" encoding="UTF-8"?>\
+        <xliff xmlns="urn:oasis:names:tc:xliff:document:1.2" version="1.2">\
+        <file original="3"><body></body></file>\
+        </xliff>"""
+    );
+  }
+
+  @Test
+  @DisplayName("Should provide no chunk for XLIFF without files.")
+  void shouldProvideNoChunkWithoutFiles() throws IOException {
+    assertThat(split(new XliffFileSplitter(2, 0L, "test"), "<xliff version=\"1.2\"/>")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should fail for XLIFF, that is not well-formed.")
+  void shouldFailForMalformedXliff() {
+    XliffFileSplitter splitter = new XliffFileSplitter(1, 0L, "test");
+    assertThatThrownBy(() -> split(splitter, "<xliff version=\"1.2\"><file></xliff>"))
+      .isInstanceOf(IOException.class);
+  }
+
+  private static List<String> split(XliffFileSplitter splitter, String xliff) throws IOException {
+    List<String> chunks = new ArrayList<>();
+    int count = splitter.split(new ByteArrayInputStream(xliff.getBytes(UTF_8)), (index, chunk) -> {
+      assertThat(index).isEqualTo(chunks.size());
+      try (InputStream chunkStream = chunk.getInputStream()) {
+        chunks.add(new String(chunkStream.readAllBytes(), UTF_8));
+      }
+    });
+    assertThat(count).isEqualTo(chunks.size());
+    return chunks;
+  }
+}
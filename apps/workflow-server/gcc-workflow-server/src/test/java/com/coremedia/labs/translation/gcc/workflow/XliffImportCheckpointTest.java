@@ -0,0 +1,61 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link XliffImportCheckpoint}.
+ */
+@NullMarked
+class XliffImportCheckpointTest {
+  private static final Duration MAX_AGE = Duration.ofHours(1L);
+
+  @TempDir
+  private Path directory;
+
+  @Test
+  @DisplayName("Should remember imported tasks across instances, as long as the hash matches.")
+  void shouldRememberImportedTasks() {
+    new XliffImportCheckpoint(directory.resolve("checkpoints"), MAX_AGE, Clock.systemUTC()).imported(1L, "hash");
+
+    // Like after restarting the Workflow Server.
+    XliffImportCheckpoint checkpoint = new XliffImportCheckpoint(directory.resolve("checkpoints"), MAX_AGE, Clock.systemUTC());
+    assertThat(checkpoint.contains(1L)).isTrue();
+    assertThat(checkpoint.isImported(1L, "hash")).isTrue();
+    assertThat(checkpoint.isImported(1L, "redelivered")).isFalse();
+    assertThat(checkpoint.contains(2L)).isFalse();
+  }
+
+  @Test
+  @DisplayName("Should replace the checkpoint of a task imported again.")
+  void shouldReplaceCheckpoint() {
+    XliffImportCheckpoint checkpoint = new XliffImportCheckpoint(directory, MAX_AGE, Clock.systemUTC());
+    checkpoint.imported(1L, "hash");
+    checkpoint.imported(1L, "redelivered");
+
+    assertThat(checkpoint.isImported(1L, "hash")).isFalse();
+    assertThat(checkpoint.isImported(1L, "redelivered")).isTrue();
+  }
+
+  @Test
+  @DisplayName("Should ignore and remove expired checkpoints.")
+  void shouldIgnoreExpiredCheckpoints() {
+    new XliffImportCheckpoint(directory, MAX_AGE, Clock.systemUTC()).imported(1L, "hash");
+
+    Clock later = Clock.offset(Clock.systemUTC(), MAX_AGE.plusMinutes(1L));
+    XliffImportCheckpoint checkpoint = new XliffImportCheckpoint(directory, MAX_AGE, later);
+    assertThat(checkpoint.contains(1L)).isFalse();
+
+    checkpoint.imported(2L, "hash");
+    assertThat(directory.resolve("1.checkpoint")).doesNotExist();
+    assertThat(directory.resolve("2.checkpoint")).exists();
+  }
+}
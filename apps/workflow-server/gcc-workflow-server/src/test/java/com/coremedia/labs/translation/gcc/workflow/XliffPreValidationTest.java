@@ -0,0 +1,94 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.cap.translate.xliff.XliffImportResultCode;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link XliffPreValidation}.
+ */
+@NullMarked
+class XliffPreValidationTest {
+  private static final String EXISTING_ID = "coremedia:///cap/content/4";
+
+  private static final String XLIFF = """
+    <?xml version="1.0" encoding="UTF-8"?>
+    <xliff xmlns="urn:oasis:names:tc:xliff:document:1.2" version="1.2">
+      <file xmlns:cmxliff="http://www.coremedia.com/2013/xliff-extensions-1.0" original="coremedia:///cap/version/2/1"
+            source-language="en-US" datatype="xml" target-language="de-DE" cmxliff:target="coremedia:///cap/content/4">
+        <body>
+          <group resname="property:string:string">
+            <trans-unit id="0">
+              <source>Lorem Ipsum</source>
+              <target>Lörem Ipsüm</target>
+            </trans-unit>
+          </group>
+        </body>
+      </file>
+    </xliff>
+    """;
+
+  @Test
+  @DisplayName("Should accept valid XLIFF, looking up all referenced content at once.")
+  void shouldAcceptValidXliff() throws IOException {
+    AtomicInteger lookups = new AtomicInteger();
+
+    Optional<XliffPreValidation.Rejection> rejection = validate(XLIFF, contentIds -> {
+      lookups.incrementAndGet();
+      assertThat(contentIds).containsExactly(EXISTING_ID);
+      return Set.of();
+    });
+
+    assertThat(rejection).isEmpty();
+    assertThat(lookups).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Should leave XLIFF without targets to the import.")
+  void shouldAcceptXliffWithoutTargets() throws IOException {
+    assertThat(validate(XLIFF.replace("<target>Lörem Ipsüm</target>", ""), XliffPreValidationTest::findMissing)).isEmpty();
+  }
+
+  @ParameterizedTest(name = "[{index}] {0}")
+  @DisplayName("Should reject XLIFF, that cannot be imported.")
+  @MethodSource
+  void shouldRejectInvalidXliff(String description, String xliff, XliffImportResultCode expectedCode) throws IOException {
+    assertThat(validate(xliff, XliffPreValidationTest::findMissing))
+      .hasValueSatisfying(rejection -> assertThat(rejection.code()).isEqualTo(expectedCode));
+  }
+
+  static Stream<Arguments> shouldRejectInvalidXliff() {
+    return Stream.of(
+      Arguments.of("Truncated", XLIFF.substring(0, XLIFF.indexOf("</body>")), XliffImportResultCode.INVALID_XLIFF),
+      Arguments.of("Unexpected Root", XLIFF.replace("<xliff ", "<html ").replace("</xliff>", "</html>"), XliffImportResultCode.INVALID_XLIFF),
+      Arguments.of("Invalid Element", XLIFF.replace("</xliff>", "<invalid xmlns=\"intentionally\"/></xliff>"), XliffImportResultCode.INVALID_XLIFF),
+      Arguments.of("Invalid Content ID", XLIFF.replace(EXISTING_ID, "invalid:0"), XliffImportResultCode.INVALID_CONTENT_ID),
+      Arguments.of("Missing Content", XLIFF.replace(EXISTING_ID, "coremedia:///cap/content/42"), XliffImportResultCode.DOES_NOT_EXIST)
+    );
+  }
+
+  private static Set<String> findMissing(Set<String> contentIds) {
+    Set<String> missing = new LinkedHashSet<>(contentIds);
+    missing.remove(EXISTING_ID);
+    return missing;
+  }
+
+  private static Optional<XliffPreValidation.Rejection> validate(String xliff, XliffPreValidation.ContentLookup lookup) throws IOException {
+    return XliffPreValidation.validate(new ByteArrayInputStream(xliff.getBytes(UTF_8)), lookup);
+  }
+}
@@ -0,0 +1,63 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import com.coremedia.cap.translate.xliff.XliffImportResultItem;
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Tests {@link XliffResultArchive}.
+ */
+@NullMarked
+class XliffResultArchiveTest {
+  @TempDir
+  private Path directory;
+
+  @ParameterizedTest(name = "[{index}] Compression Level: {0}")
+  @DisplayName("Should write XLIFF files and issue details as entries.")
+  @ValueSource(ints = {Deflater.DEFAULT_COMPRESSION, Deflater.NO_COMPRESSION, Deflater.BEST_COMPRESSION})
+  void shouldWriteEntries(int compressionLevel) throws IOException {
+    Path xliffFile = Files.writeString(directory.resolve("42.xliff"), "<xliff/>", UTF_8);
+    XliffImportResultItem issue = mock(XliffImportResultItem.class, withSettings().name("NO_SUCH_PROPERTY"));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (XliffResultArchive archive = new XliffResultArchive(out, compressionLevel)) {
+      archive.addXliff(xliffFile);
+      archive.addIssueDetails(42L, List.of(issue, issue));
+    }
+
+    assertThat(readEntries(out.toByteArray())).containsExactly(
+      Map.entry("xliff_issue_details/42.xliff", "<xliff/>"),
+      Map.entry("xliff_issue_details/42-issuedetails.txt", "NO_SUCH_PROPERTY%nNO_SUCH_PROPERTY%n".formatted())
+    );
+  }
+
+  private static Map<String, String> readEntries(byte[] zip) throws IOException {
+    Map<String, String> entries = new LinkedHashMap<>();
+    try (ZipInputStream zipStream = new ZipInputStream(new ByteArrayInputStream(zip), UTF_8)) {
+      for (ZipEntry entry = zipStream.getNextEntry(); entry != null; entry = zipStream.getNextEntry()) {
+        entries.put(entry.getName(), new String(zipStream.readAllBytes(), UTF_8));
+      }
+    }
+    return entries;
+  }
+}
@@ -0,0 +1,84 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link XliffTargetRemapper}.
+ */
+@NullMarked
+class XliffTargetRemapperTest {
+  private static final String GERMAN_TARGET = "coremedia:///cap/content/4";
+  private static final String FRENCH_TARGET = "coremedia:///cap/content/6";
+
+  private static final String XLIFF = """
+    <?xml version="1.0" encoding="UTF-8"?>
+    <xliff xmlns="urn:oasis:names:tc:xliff:document:1.2" version="1.2">
+      <file xmlns:cmxliff="http://www.coremedia.com/2013/xliff-extensions-1.0" original="coremedia:///cap/version/2/1"
+            source-language="en-US" datatype="xml" target-language="de-DE" cmxliff:target="coremedia:///cap/content/4">
+        <body>
+          <group resname="property:string:string">
+            <trans-unit id="0">
+              <source>Lorem Ipsum</source>
+              <target>Lörem Ipsüm</target>
+            </trans-unit>
+          </group>
+        </body>
+      </file>
+    </xliff>
+    """;
+
+  private static final XliffTargetRemapper.TargetResolver RESOLVER = (targetId, targetLocale) ->
+    Optional.ofNullable(Map.of(Locale.GERMANY, GERMAN_TARGET, Locale.FRANCE, FRENCH_TARGET).get(targetLocale))
+      .filter(id -> GERMAN_TARGET.equals(targetId));
+
+  @Test
+  @DisplayName("Should map target language and target content to the task's target locale.")
+  void shouldMapToTargetLocale() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    int remapped = XliffTargetRemapper.remap(new ByteArrayInputStream(XLIFF.getBytes(UTF_8)), out, Locale.FRANCE, RESOLVER);
+
+    assertThat(remapped).isEqualTo(1);
+    assertThat(out.toString(UTF_8))
+      .contains("target-language=\"fr-FR\"")
+      .contains("cmxliff:target=\"%s\"".formatted(FRENCH_TARGET))
+      .doesNotContain(GERMAN_TARGET)
+      .contains("<target>Lörem Ipsüm</target>");
+  }
+
+  @Test
+  @DisplayName("Should keep files, that already match the task's target locale.")
+  void shouldKeepMatchingFiles() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    int remapped = XliffTargetRemapper.remap(new ByteArrayInputStream(XLIFF.getBytes(UTF_8)), out, Locale.GERMANY, RESOLVER);
+
+    assertThat(remapped).isZero();
+    assertThat(out.toString(UTF_8))
+      .contains("target-language=\"de-DE\"")
+      .contains("cmxliff:target=\"%s\"".formatted(GERMAN_TARGET));
+  }
+
+  @Test
+  @DisplayName("Should fail, if there is no content for the task's target locale.")
+  void shouldFailForUnresolvableTarget() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    assertThatThrownBy(() -> XliffTargetRemapper.remap(new ByteArrayInputStream(XLIFF.getBytes(UTF_8)), out, Locale.ITALY, RESOLVER))
+      .isInstanceOf(IOException.class)
+      .hasMessageContaining("it-IT");
+  }
+}
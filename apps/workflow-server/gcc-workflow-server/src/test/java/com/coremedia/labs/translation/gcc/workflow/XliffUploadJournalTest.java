@@ -0,0 +1,117 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests {@link XliffUploadJournal}.
+ */
+@NullMarked
+class XliffUploadJournalTest {
+  private static final Duration MAX_AGE = Duration.ofHours(1L);
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+  private final XliffUploadJournal journal = new XliffUploadJournal(clock);
+
+  @Test
+  @DisplayName("Should reuse uploads of a failed attempt once.")
+  void shouldReuseUploadsOnce() {
+    XliffUploadJournal.Session failed = journal.openSession("gcc", MAX_AGE);
+    failed.uploaded("en-US2de-DE.xliff", "hash", "file-1");
+    failed.keepUploaded();
+
+    XliffUploadJournal.Session retry = journal.openSession("gcc", MAX_AGE);
+    assertThat(retry.reuse("en-US2de-DE.xliff", "hash")).contains("file-1");
+    assertThat(journal.openSession("gcc", MAX_AGE).reuse("en-US2de-DE.xliff", "hash"))
+      .describedAs("A file must not be part of two submissions.")
+      .isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should not reuse uploads for changed content or other connections.")
+  void shouldNotReuseMismatchingUploads() {
+    XliffUploadJournal.Session failed = journal.openSession("gcc", MAX_AGE);
+    failed.uploaded("en-US2de-DE.xliff", "hash", "file-1");
+    failed.keepUploaded();
+
+    assertThat(journal.openSession("gcc", MAX_AGE).reuse("en-US2de-DE.xliff", "changed")).isEmpty();
+    assertThat(journal.openSession("other", MAX_AGE).reuse("en-US2de-DE.xliff", "hash")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should not reuse expired uploads.")
+  void shouldNotReuseExpiredUploads() {
+    XliffUploadJournal.Session failed = journal.openSession("gcc", MAX_AGE);
+    failed.uploaded("en-US2de-DE.xliff", "hash", "file-1");
+    failed.keepUploaded();
+
+    clock.advance(MAX_AGE);
+
+    assertThat(journal.openSession("gcc", MAX_AGE).reuse("en-US2de-DE.xliff", "hash")).isEmpty();
+  }
+
+  @Test
+  @DisplayName("Should return reused uploads only, if the submission has not been requested.")
+  void shouldKeepReusedUploadsOnlyIfNotSubmitted() {
+    XliffUploadJournal.Session failed = journal.openSession("gcc", MAX_AGE);
+    failed.uploaded("en-US2de-DE.xliff", "hash", "file-1");
+    failed.keepAll();
+
+    XliffUploadJournal.Session uploadFailed = journal.openSession("gcc", MAX_AGE);
+    assertThat(uploadFailed.reuse("en-US2de-DE.xliff", "hash")).contains("file-1");
+    uploadFailed.keepAll();
+    assertThat(journal.size()).isEqualTo(1);
+
+    XliffUploadJournal.Session submitFailed = journal.openSession("gcc", MAX_AGE);
+    assertThat(submitFailed.reuse("en-US2de-DE.xliff", "hash")).contains("file-1");
+    submitFailed.keepUploaded();
+    assertThat(journal.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should journal nothing, if disabled.")
+  void shouldIgnoreUploadsIfDisabled() {
+    XliffUploadJournal.Session disabled = journal.openSession("gcc", Duration.ZERO);
+    disabled.uploaded("en-US2de-DE.xliff", "hash", "file-1");
+    disabled.keepAll();
+
+    assertThat(disabled.isEnabled()).isFalse();
+    assertThat(journal.size()).isZero();
+  }
+
+  private static final class MutableClock extends Clock {
+    private volatile Instant instant;
+
+    private MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    private void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
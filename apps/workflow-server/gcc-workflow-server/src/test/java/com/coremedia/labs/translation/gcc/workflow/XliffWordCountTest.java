@@ -0,0 +1,42 @@
+package com.coremedia.labs.translation.gcc.workflow;
+
+import org.jspecify.annotations.NullMarked;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests {@link XliffWordCount}.
+ */
+@NullMarked
+class XliffWordCountTest {
+  @Test
+  @DisplayName("Should count words within source elements only.")
+  void shouldCountSourceWords() throws IOException {
+    String xliff = """
+      <xliff version="1.2" xmlns="urn:oasis:names:tc:xliff:document:1.2">
+        <file source-language="en-US" target-language="de-DE" datatype="xml" original="1">
+          <body>
+            <trans-unit id="1"><source>Lorem ipsum <g id="1">dolor</g> sit</source><target>Not counted</target></trans-unit>
+            <trans-unit id="2"><source><![CDATA[amet,  consectetur]]></source></trans-unit>
+          </body>
+        </file>
+      </xliff>
+      """;
+
+    assertThat(XliffWordCount.of(new ByteArrayResource(xliff.getBytes(UTF_8)))).isEqualTo(6L);
+  }
+
+  @Test
+  @DisplayName("Should fail for malformed XLIFF.")
+  void shouldFailForMalformedXliff() {
+    assertThatThrownBy(() -> XliffWordCount.of(new ByteArrayResource("<xliff><source>".getBytes(UTF_8))))
+      .isInstanceOf(IOException.class);
+  }
+}